@@ -2,4 +2,7 @@ CREATE DATABASE jar_analyzer;
 
 CREATE USER 'appuser'@'localhost' IDENTIFIED BY 'password';
 GRANT INSERT, SELECT, DELETE, UPDATE ON jar_analyzer.* TO appuser@'localhost';
-FLUSH PRIVILEGES;
\ No newline at end of file
+FLUSH PRIVILEGES;
+
+-- required only for the bulk_load ingest mode (jar.info.ingest.mode)
+SET GLOBAL local_infile = 1;
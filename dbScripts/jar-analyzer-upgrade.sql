@@ -0,0 +1,86 @@
+-- upgrades a database created with an earlier jar-analyzer-ddl.sql. Sections are in the order the columns and tables
+-- were added, a database is upgraded by running the sections after the last one it already has
+
+-- jar content hash and alias. content_hash is null for jars stored before it was added, such jars are never aliased
+ALTER TABLE jar ADD COLUMN content_hash CHAR(64);
+ALTER TABLE jar ADD COLUMN alias_of_jar_id INT;
+ALTER TABLE jar ADD foreign key (alias_of_jar_id) REFERENCES jar (id);
+
+create index idx_jar_content_hash on jar (content_hash);
+
+-- classes shared across jars by api hash. Classes stored before were not shared, so they get a hash that no class
+-- computes and stay with the jar that stored them
+ALTER TABLE class ADD COLUMN api_hash CHAR(64);
+
+UPDATE class SET api_hash = SHA2(CONCAT('legacy:', id), 256) WHERE api_hash IS NULL;
+
+ALTER TABLE class MODIFY COLUMN api_hash CHAR(64) NOT NULL;
+
+create index idx_qname on class (q_name);
+create index idx_packagename on class (package_name);
+create index idx_api_hash on class (api_hash);
+
+CREATE TABLE jar_class (
+jar_id INT NOT NULL,
+class_id INT NOT NULL,
+PRIMARY KEY (jar_id, class_id),
+foreign key (jar_id) REFERENCES jar (id),
+foreign key (class_id) REFERENCES class (id)
+);
+
+create index idx_jar_class_class_id on jar_class (class_id, jar_id);
+
+INSERT INTO jar_class (jar_id, class_id) SELECT jar_id, id FROM class;
+
+-- packed argument descriptors and thrown class names. Methods stored before are read from the separate tables
+ALTER TABLE method ADD COLUMN argument_type_descriptors TEXT;
+ALTER TABLE method ADD COLUMN thrown_class_names TEXT;
+
+-- method arity. It is null for methods stored before, such methods are not filtered by arity in the query
+ALTER TABLE method ADD COLUMN arity INT;
+
+create index idx_method_class_id_name_arity on method (class_id, name(255), arity);
+
+-- stored classpaths. Classpaths are stored when they are first resolved after the upgrade
+CREATE TABLE classpath (
+id INT NOT NULL AUTO_INCREMENT,
+classpath_hash CHAR(64) NOT NULL,
+java_version VARCHAR(100),
+PRIMARY KEY (id)
+);
+
+create unique index idx_classpath_hash on classpath (classpath_hash);
+
+CREATE TABLE classpath_jar (
+classpath_id INT NOT NULL,
+jar_id INT NOT NULL,
+precedence INT NOT NULL,
+is_internal_dependency BOOL,
+PRIMARY KEY (classpath_id, jar_id),
+foreign key (classpath_id) REFERENCES classpath (id),
+foreign key (jar_id) REFERENCES jar (id)
+);
+
+-- supertype graph loads the super class relations of every class of a classpath
+create index idx_super_class_relation_child_class_id on super_class_relation (child_class_id, precedence);
+
+-- parsed generic signatures. They are null for rows stored before, whose signatures are parsed on read as before
+ALTER TABLE class ADD COLUMN parsed_signature BLOB;
+ALTER TABLE method ADD COLUMN parsed_signature BLOB;
+ALTER TABLE field ADD COLUMN parsed_signature BLOB;
+
+-- inner class relations for each jar. Relations stored before belong to the jar of their class
+ALTER TABLE inner_class_name ADD COLUMN jar_id INT;
+
+UPDATE inner_class_name icn JOIN class c ON (c.id = icn.parent_class_id) SET icn.jar_id = c.jar_id;
+
+ALTER TABLE inner_class_name MODIFY COLUMN jar_id INT NOT NULL;
+ALTER TABLE inner_class_name ADD foreign key (jar_id) REFERENCES jar (id);
+
+create index idx_inner_class_name_jar_id on inner_class_name (jar_id, parent_class_id);
+
+-- api hash is unique, so that writers storing the same class at once share one class row. Writers that ran at once
+-- before may have stored a class twice, the index is only created once such duplicates are removed
+ALTER TABLE class DROP INDEX idx_api_hash;
+
+create unique index idx_api_hash on class (api_hash);
@@ -3,7 +3,6 @@ package ca.concordia.apifinder;
 import ca.concordia.apifinder.artifactextractor.ArtifactExtractor;
 import ca.concordia.apifinder.artifactextractor.ArtifactExtractorResolver;
 import ca.concordia.apifinder.entity.JarInfo;
-import ca.concordia.apifinder.entityExtractor.JarInfoExtractor;
 import ca.concordia.apifinder.models.Artifact;
 import ca.concordia.apifinder.service.JarInfoSaveService;
 import ca.concordia.apifinder.service.JarInfoService;
@@ -108,11 +107,8 @@ public class JarAnalyzer {
                         if (Files.exists(path)) {
                             ZipFile zipFile = new ZipFile(new File(jmodFileLocation));
 
-                            ca.concordia.apifinder.entity.JarInfo jarInfo =
-                                    JarInfoExtractor.getJarInfo(path.getFileName().toString(), "Java",
-                                            String.valueOf(majorJavaVersion), zipFile);
-
-                            jarInfoSaveService.saveJarInfo(jarInfo);
+                            jarInfoSaveService.saveJarInfo(path.getFileName().toString(), "Java",
+                                    String.valueOf(majorJavaVersion), zipFile);
                         }
                     } catch (IOException e) {
                         logger.error("Could not open the JMOD", e);
@@ -125,10 +121,9 @@ public class JarAnalyzer {
                         Path path = Paths.get(jarLocation);
                         if (Files.exists(path)) {
                             JarFile jarFile = new JarFile(new File(jarLocation));
-                            ca.concordia.apifinder.entity.JarInfo jarInfo =
-                                    JarInfoExtractor.getJarInfo(path.getFileName().toString(), "Java", String.valueOf(majorJavaVersion), jarFile);
 
-                            jarInfoSaveService.saveJarInfo(jarInfo);
+                            jarInfoSaveService.saveJarInfo(path.getFileName().toString(), "Java",
+                                    String.valueOf(majorJavaVersion), jarFile);
                         }
                     } catch (Exception e) {
                         logger.error("Could not open the JAR", e);
@@ -147,10 +142,17 @@ public class JarAnalyzer {
             artifactSet.add(artifact);
 
             if (!jarInfoService.isJarExists(jarInfo.getGroupId(), jarInfo.getArtifactId(), jarInfo.getVersion())) {
-                JarInfo jarInfoWithLoadedClassInfo =
-                        JarInfoExtractor.getJarInfo(jarInfo.getGroupId(), jarInfo.getArtifactId(),
-                                jarInfo.getVersion(), jarInfo.getJarFile());
-                jarInfoSaveService.saveJarInfo(jarInfoWithLoadedClassInfo);
+                jarInfo.setContentHash(Utility.getContentHash(jarInfo.getJarFile()));
+
+                int existingJarId = Objects.nonNull(jarInfo.getContentHash())
+                        ? jarInfoService.getJarIdByContentHash(jarInfo.getContentHash())
+                        : 0;
+
+                if (existingJarId > 0) {
+                    jarInfoSaveService.saveJarAlias(jarInfo, existingJarId);
+                } else {
+                    jarInfoSaveService.saveJarInfo(jarInfo, jarInfo.getJarFile());
+                }
             }
         }
     }
@@ -4,6 +4,7 @@ import ca.concordia.apifinder.entity.ClassInfo;
 import ca.concordia.apifinder.entity.FieldInfo;
 import ca.concordia.apifinder.entity.MethodInfo;
 import ca.concordia.apifinder.models.Artifact;
+import ca.concordia.apifinder.models.ClasspathHandle;
 import ca.concordia.apifinder.models.OwningClassInfo;
 import ca.concordia.apifinder.models.typeInfo.NullTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.TypeInfo;
@@ -104,8 +105,8 @@ public class TypeInferenceAPI extends TypeInferenceBase {
                                                  List<String> nonClosingQualifiedClassNameList,
                                                  Boolean isClassInstantiation,
                                                  String... argumentTypes) {
-        List<Integer> internalDependencyJarIdList = new ArrayList<>();
-        List<Integer> jarIdList = jarInfoService.getJarIdList(dependentArtifactSet, javaVersion, internalDependencyJarIdList);
+        ClasspathHandle classpathHandle = jarInfoService.getClasspathHandle(dependentArtifactSet, javaVersion);
+        List<Integer> internalDependencyJarIdList = classpathHandle.getInternalDependencyJarIdList();
 
         AuditInfo auditInfo = new AuditInfo();
 
@@ -141,10 +142,10 @@ public class TypeInferenceAPI extends TypeInferenceBase {
 
             while (!classQNameSet.isEmpty() && qualifiedMethodInfoList.isEmpty()) {
                 qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, numberOfParameters,
-                        jarIdList, classQNameSet, classInfoService, methodInfoService);
+                        classpathHandle, classQNameSet, classInfoService, methodInfoService);
 
                 qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, invokerTypeInfo, isSuperInvoker,
-                        isClassInstantiation, argumentTypeInfoList, numberOfParameters, jarIdList, internalDependencyJarIdList);
+                        isClassInstantiation, argumentTypeInfoList, numberOfParameters, classpathHandle, internalDependencyJarIdList);
 
                 if (!qualifiedMethodInfoList.isEmpty()
                         && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -153,7 +154,7 @@ public class TypeInferenceAPI extends TypeInferenceBase {
                 }
 
                 if (qualifiedMethodInfoList.isEmpty()) {
-                    classQNameSet = getSuperClassQNameSet(classQNameSet, jarIdList, classInfoService);
+                    classQNameSet = getSuperClassQNameSet(classQNameSet, classpathHandle, classInfoService);
                 }
             }
 
@@ -187,13 +188,13 @@ public class TypeInferenceAPI extends TypeInferenceBase {
                 Set<String> classQNameSet = owningClassInfo.getQualifiedClassNameSetInHierarchy().get(i);
 
                 qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, numberOfParameters,
-                        jarIdList, classQNameSet, classInfoService, methodInfoService);
+                        classpathHandle, classQNameSet, classInfoService, methodInfoService);
 
                 boolean isOwningClassAttribute = (i == 0);
                 qualifiedMethodInfoList.forEach(m -> m.setOwningClassAttribute(isOwningClassAttribute));
 
                 qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, null, isSuperInvoker,
-                        isClassInstantiation, argumentTypeInfoList, numberOfParameters, jarIdList, internalDependencyJarIdList);
+                        isClassInstantiation, argumentTypeInfoList, numberOfParameters, classpathHandle, internalDependencyJarIdList);
 
                 if (!qualifiedMethodInfoList.isEmpty()
                         && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -220,10 +221,10 @@ public class TypeInferenceAPI extends TypeInferenceBase {
           STEP 2
          */
         qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, numberOfParameters,
-                jarIdList, importedClassQNameSet, classInfoService, methodInfoService);
+                classpathHandle, importedClassQNameSet, classInfoService, methodInfoService);
 
         qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, invokerTypeInfo, isSuperInvoker,
-                isClassInstantiation, argumentTypeInfoList, numberOfParameters, jarIdList, internalDependencyJarIdList);
+                isClassInstantiation, argumentTypeInfoList, numberOfParameters, classpathHandle, internalDependencyJarIdList);
 
         Set<MethodInfo> deferredQualifiedMethodInfoSet = new LinkedHashSet<>();
 
@@ -240,10 +241,10 @@ public class TypeInferenceAPI extends TypeInferenceBase {
         /*
           STEP 3
          */
-        qualifiedMethodInfoList = getQualifiedMethodInfoListForInnerClass(methodName, numberOfParameters, jarIdList, importedClassQNameSet, methodInfoService);
+        qualifiedMethodInfoList = getQualifiedMethodInfoListForInnerClass(methodName, numberOfParameters, classpathHandle, importedClassQNameSet, methodInfoService);
 
         qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, invokerTypeInfo, isSuperInvoker,
-                isClassInstantiation, argumentTypeInfoList, numberOfParameters, jarIdList, internalDependencyJarIdList);
+                isClassInstantiation, argumentTypeInfoList, numberOfParameters, classpathHandle, internalDependencyJarIdList);
 
         if (!qualifiedMethodInfoList.isEmpty()
                 && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -259,10 +260,10 @@ public class TypeInferenceAPI extends TypeInferenceBase {
           STEP 4
          */
         qualifiedMethodInfoList = getQualifiedMethodInfoListForPackageImport(methodName, numberOfParameters,
-                packageNameList, importedClassQNameSet, jarIdList, classInfoService, methodInfoService);
+                packageNameList, importedClassQNameSet, classpathHandle, classInfoService, methodInfoService);
 
         qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, invokerTypeInfo, isSuperInvoker,
-                isClassInstantiation, argumentTypeInfoList, numberOfParameters, jarIdList, internalDependencyJarIdList);
+                isClassInstantiation, argumentTypeInfoList, numberOfParameters, classpathHandle, internalDependencyJarIdList);
 
         if (!qualifiedMethodInfoList.isEmpty()
                 && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -281,13 +282,13 @@ public class TypeInferenceAPI extends TypeInferenceBase {
         Set<String> classQNameSet = new HashSet<>(importedClassQNameSet);
 
         while (!classQNameSet.isEmpty() && qualifiedMethodInfoList.isEmpty()) {
-            classQNameSet = getSuperClassQNameSet(classQNameSet, jarIdList, classInfoService);
+            classQNameSet = getSuperClassQNameSet(classQNameSet, classpathHandle, classInfoService);
 
-            qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, numberOfParameters, jarIdList,
+            qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, numberOfParameters, classpathHandle,
                     classQNameSet, classInfoService, methodInfoService);
 
             qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, invokerTypeInfo, isSuperInvoker,
-                    isClassInstantiation, argumentTypeInfoList, numberOfParameters, jarIdList, internalDependencyJarIdList);
+                    isClassInstantiation, argumentTypeInfoList, numberOfParameters, classpathHandle, internalDependencyJarIdList);
 
             if (!qualifiedMethodInfoList.isEmpty()
                     && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -325,10 +326,10 @@ public class TypeInferenceAPI extends TypeInferenceBase {
                                                                         String javaVersion,
                                                                         String classQName) {
 
-        List<Integer> jarIdList = jarInfoService.getJarIdList(dependentArtifactSet, javaVersion, null);
+        ClasspathHandle classpathHandle = jarInfoService.getClasspathHandle(dependentArtifactSet, javaVersion);
 
         List<MethodInfo> abstractMethodInfoList =
-                getAbstractMethodInfoListForFunctionalInterface(classQName, jarIdList, methodInfoService, classInfoService);
+                getAbstractMethodInfoListForFunctionalInterface(classQName, classpathHandle, methodInfoService, classInfoService);
 
         if (abstractMethodInfoList.size() != 1) {
             return null;
@@ -346,7 +347,7 @@ public class TypeInferenceAPI extends TypeInferenceBase {
             return Collections.emptyList();
         }
 
-        List<Integer> jarIdList = jarInfoService.getJarIdList(dependentArtifactSet, javaVersion, null);
+        ClasspathHandle classpathHandle = jarInfoService.getClasspathHandle(dependentArtifactSet, javaVersion);
         Set<String> importedClassQNameSet = getImportedQNameSet(importList);
         List<String> packageNameList = getPackageNameList(importList);
 
@@ -361,7 +362,7 @@ public class TypeInferenceAPI extends TypeInferenceBase {
             }
         }
 
-        List<ClassInfo> qualifiedClassInfoList = resolveQClassInfoForClass(typeName, jarIdList, importedClassQNameSet,
+        List<ClassInfo> qualifiedClassInfoList = resolveQClassInfoForClass(typeName, classpathHandle, importedClassQNameSet,
                 packageNameList, classInfoService, owningClassInfo);
 
         qualifiedClassInfoList = filtrationBasedOnPrioritization(typeName, owningClassInfo,
@@ -375,7 +376,7 @@ public class TypeInferenceAPI extends TypeInferenceBase {
                                                    List<String> importList,
                                                    String fieldName,
                                                    OwningClassInfo owningClassInfo) {
-        List<Integer> jarIdList = jarInfoService.getJarIdList(dependentArtifactSet, javaVersion, null);
+        ClasspathHandle classpathHandle = jarInfoService.getClasspathHandle(dependentArtifactSet, javaVersion);
 
         Set<String> importedClassQNameSet = getImportedQNameSet(importList);
         List<String> packageNameList = getPackageNameList(importList);
@@ -385,7 +386,7 @@ public class TypeInferenceAPI extends TypeInferenceBase {
         if (fieldName.contains(".")) {
             if (StringUtils.countMatches(fieldName, ".") >= 1) {
                 String invokerClassName = fieldName.substring(0, fieldName.lastIndexOf("."));
-                invokerClassQName = resolveQNameForClass(invokerClassName, owningClassInfo, jarIdList,
+                invokerClassQName = resolveQNameForClass(invokerClassName, owningClassInfo, classpathHandle,
                         importedClassQNameSet, packageNameList, classInfoService);
 
                 importedClassQNameSet.add(invokerClassQName);
@@ -406,10 +407,10 @@ public class TypeInferenceAPI extends TypeInferenceBase {
             Set<String> invokerQualifiedClassNameSet = new HashSet<>(Collections.singletonList(invokerClassQName));
 
             while (!invokerQualifiedClassNameSet.isEmpty() && qualifiedFieldList.isEmpty()) {
-                qualifiedFieldList = fieldInfoService.getFieldInfoList(invokerQualifiedClassNameSet, jarIdList, fieldName);
+                qualifiedFieldList = fieldInfoService.getFieldInfoList(invokerQualifiedClassNameSet, classpathHandle, fieldName);
 
                 if (qualifiedFieldList.isEmpty()) {
-                    invokerQualifiedClassNameSet = getSuperClassQNameSet(invokerQualifiedClassNameSet, jarIdList, classInfoService);
+                    invokerQualifiedClassNameSet = getSuperClassQNameSet(invokerQualifiedClassNameSet, classpathHandle, classInfoService);
                 }
             }
 
@@ -423,7 +424,7 @@ public class TypeInferenceAPI extends TypeInferenceBase {
          */
         if (Objects.nonNull(owningClassInfo)) {
             for (Set<String> qClassNameSet: owningClassInfo.getQualifiedClassNameSetInHierarchy()) {
-                qualifiedFieldList = getQualifiedFieldInfoList(fieldName, jarIdList, qClassNameSet);
+                qualifiedFieldList = getQualifiedFieldInfoList(fieldName, classpathHandle, qClassNameSet);
 
                 if (!qualifiedFieldList.isEmpty()) {
                     return qualifiedFieldList;
@@ -434,7 +435,7 @@ public class TypeInferenceAPI extends TypeInferenceBase {
         /*
           STEP 2
          */
-        qualifiedFieldList = getQualifiedFieldInfoList(fieldName, jarIdList, importedClassQNameSet);
+        qualifiedFieldList = getQualifiedFieldInfoList(fieldName, classpathHandle, importedClassQNameSet);
 
         if (!qualifiedFieldList.isEmpty()) {
             return qualifiedFieldList;
@@ -443,11 +444,11 @@ public class TypeInferenceAPI extends TypeInferenceBase {
         /*
           STEP 3
          */
-        Set<String> classNameListForPackage = classInfoService.getClassQNameSet(jarIdList, packageNameList);
+        Set<String> classNameListForPackage = classInfoService.getClassQNameSet(classpathHandle, packageNameList);
 
         importedClassQNameSet.addAll(classNameListForPackage);
 
-        qualifiedFieldList = getQualifiedFieldInfoList(fieldName, jarIdList, classNameListForPackage);
+        qualifiedFieldList = getQualifiedFieldInfoList(fieldName, classpathHandle, classNameListForPackage);
 
         if (!qualifiedFieldList.isEmpty()) {
             return qualifiedFieldList;
@@ -459,10 +460,10 @@ public class TypeInferenceAPI extends TypeInferenceBase {
         Set<String> classQNameSet = new HashSet<>(importedClassQNameSet);
 
         while (!classQNameSet.isEmpty() && qualifiedFieldList.isEmpty()) {
-            classQNameSet = classInfoService.getSuperClassQNameSetUsingMemCache(classQNameSet, jarIdList, null);
+            classQNameSet = classInfoService.getSuperClassQNameSetUsingMemCache(classQNameSet, classpathHandle, null);
 
             if (!classQNameSet.isEmpty()) {
-                qualifiedFieldList = getQualifiedFieldInfoList(fieldName, jarIdList, classQNameSet);
+                qualifiedFieldList = getQualifiedFieldInfoList(fieldName, classpathHandle, classQNameSet);
             }
         }
 
@@ -471,14 +472,14 @@ public class TypeInferenceAPI extends TypeInferenceBase {
 
     private static List<MethodInfo> filterByMethodArgumentTypes(List<MethodInfo> methodInfoList,
                                                                 List<TypeInfo> argumentTypeInfoList,
-                                                                List<Integer> jarIdList) {
+                                                                ClasspathHandle classpathHandle) {
         if (!methodInfoList.isEmpty()) {
             methodInfoList = methodInfoList.stream().filter(methodInfo -> {
                 List<TypeInfo> orderedArgumentTypeInfoList = new ArrayList<>(argumentTypeInfoList);
                 List<TypeInfo> orderedMethodArgumentTypeInfoList = new ArrayList<>(methodInfo.getArgumentTypeInfoList());
 
                 return matchMethodArguments(orderedArgumentTypeInfoList, orderedMethodArgumentTypeInfoList,
-                        jarIdList, methodInfoService, classInfoService, methodInfo);
+                        classpathHandle, methodInfoService, classInfoService, methodInfo);
             }).collect(Collectors.toList());
         }
 
@@ -491,14 +492,14 @@ public class TypeInferenceAPI extends TypeInferenceBase {
                                                   Boolean isClassInstantiation,
                                                   List<TypeInfo> argumentTypeInfoList,
                                                   int numberOfParameters,
-                                                  List<Integer> jarIdList,
+                                                  ClasspathHandle classpathHandle,
                                                   List<Integer> internalDependencyJarIdList) {
         if (methodInfoList.isEmpty()) {
             return methodInfoList;
         }
 
         modifyMethodInfoForArray(methodInfoList, invokerTypeInfo);
-        setInternalDependencyProperty(methodInfoList, internalDependencyJarIdList);
+        setInternalDependencyProperty(methodInfoList, internalDependencyJarIdList, classInfoService);
 
         TypeInfo firstArgumentTypeInfo = argumentTypeInfoList.isEmpty() ? null : argumentTypeInfoList.get(0);
         String firstArgumentQualifiedClassName = Objects.nonNull(firstArgumentTypeInfo)
@@ -506,16 +507,16 @@ public class TypeInferenceAPI extends TypeInferenceBase {
                 : null;
 
         reduceArgumentForInnerClassConstructorIfRequired(methodInfoList, firstArgumentQualifiedClassName,
-                numberOfParameters, jarIdList, classInfoService);
+                numberOfParameters, classpathHandle, classInfoService);
 
         if (Objects.nonNull(isClassInstantiation)) {
             methodInfoList = filterBasedOnClassInstantiation(methodInfoList, isClassInstantiation);
         }
 
-        methodInfoList = filterByMethodInvoker(methodInfoList, invokerTypeInfo, isSuperInvoker, jarIdList, classInfoService);
+        methodInfoList = filterByMethodInvoker(methodInfoList, invokerTypeInfo, isSuperInvoker, classpathHandle, classInfoService);
 
         if (!(numberOfParameters > 0 && argumentTypeInfoList.isEmpty())) {
-            methodInfoList = filterByMethodArgumentTypes(methodInfoList, argumentTypeInfoList, jarIdList);
+            methodInfoList = filterByMethodArgumentTypes(methodInfoList, argumentTypeInfoList, classpathHandle);
         }
 
         methodInfoList = filterMethodInfoListBasedOnOwningClass(methodInfoList);
@@ -527,8 +528,8 @@ public class TypeInferenceAPI extends TypeInferenceBase {
         return methodInfoList;
     }
 
-    private static List<FieldInfo> getQualifiedFieldInfoList(String fieldName, List<Integer> jarIdList, Set<String> classQNameSet) {
-        return fieldInfoService.getFieldInfoList(classQNameSet, jarIdList, fieldName);
+    private static List<FieldInfo> getQualifiedFieldInfoList(String fieldName, ClasspathHandle classpathHandle, Set<String> classQNameSet) {
+        return fieldInfoService.getFieldInfoList(classQNameSet, classpathHandle, fieldName);
     }
 
     private static TypeInfo getTypeInfo(Set<Artifact> dependentArtifactSet,
@@ -3,6 +3,7 @@ package ca.concordia.apifinder;
 import ca.concordia.apifinder.entity.ClassInfo;
 import ca.concordia.apifinder.entity.MethodInfo;
 import ca.concordia.apifinder.models.Artifact;
+import ca.concordia.apifinder.models.ClasspathHandle;
 import ca.concordia.apifinder.models.OwningClassInfo;
 import ca.concordia.apifinder.models.typeInfo.ArrayTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.FunctionTypeInfo;
@@ -46,7 +47,7 @@ public abstract class TypeInferenceBase {
     static List<MethodInfo> filterByMethodInvoker(List<MethodInfo> methodInfoList,
                                                   TypeInfo invokerTypeInfo,
                                                   boolean isSuperInvoker,
-                                                  List<Integer> jarIdList,
+                                                  ClasspathHandle classpathHandle,
                                                   ClassInfoService classInfoService) {
         if (!methodInfoList.isEmpty() && Objects.nonNull(invokerTypeInfo)) {
             String invokerClassName = invokerTypeInfo.getQualifiedClassName();
@@ -76,22 +77,18 @@ public abstract class TypeInferenceBase {
                 filteredListByInvokerClassName.addAll(qualifiedMethodInfoList);
 
             } else {
-                Set<String> classNameSet = new HashSet<>();
-                classNameSet.add(invokerClassName);
-
                 String type = isSuperInvoker ? "SUPER_CLASS" : null;
 
+                List<Set<String>> superClassNameLevelList = classInfoService.getSuperClassQNameLevelList(
+                        Collections.singleton(invokerClassName), classpathHandle, type);
+
                 Set<MethodInfo> deferredQualifiedMethodInfoSet = new HashSet<>();
 
                 int distance = 0;
 
-                while (!classNameSet.isEmpty()) {
-                    classNameSet = classInfoService.getSuperClassQNameSetUsingMemCache(classNameSet, jarIdList, type);
-
+                for (Set<String> classNameSet : superClassNameLevelList) {
                     distance++;
 
-                    type = null;
-
                     for (String className : methodInfoClassNameList) {
                         List<MethodInfo> qualifiedMethodInfoList = methodInfoDeclaringClassNameMap.get(className);
 
@@ -127,7 +124,7 @@ public abstract class TypeInferenceBase {
 
     static boolean convertFunctionalTypeInfo(List<TypeInfo> argumentTypeInfoList,
                                              List<TypeInfo> methodArgumentTypeInfoList,
-                                             List<Integer> jarIdList,
+                                             ClasspathHandle classpathHandle,
                                              MethodInfoService methodInfoService,
                                              ClassInfoService classInfoService) {
 
@@ -142,7 +139,7 @@ public abstract class TypeInferenceBase {
 
                 List<MethodInfo> abstractMethodInfoList =
                         getAbstractMethodInfoListForFunctionalInterface(methodArgumentTypeInfo.getQualifiedClassName(),
-                                jarIdList, methodInfoService, classInfoService);
+                                classpathHandle, methodInfoService, classInfoService);
                 ;
 
                 if (abstractMethodInfoList.size() != 1) {
@@ -191,12 +188,12 @@ public abstract class TypeInferenceBase {
 
     static boolean matchMethodArguments(List<TypeInfo> argumentTypeInfoList,
                                         List<TypeInfo> methodArgumentTypeInfoList,
-                                        List<Integer> jarIdList,
+                                        ClasspathHandle classpathHandle,
                                         MethodInfoService methodInfoService,
                                         ClassInfoService classInfoService,
                                         MethodInfo methodInfo) {
 
-        boolean isSuccess = convertFunctionalTypeInfo(argumentTypeInfoList, methodArgumentTypeInfoList, jarIdList,
+        boolean isSuccess = convertFunctionalTypeInfo(argumentTypeInfoList, methodArgumentTypeInfoList, classpathHandle,
                 methodInfoService, classInfoService);
 
         if (!isSuccess) {
@@ -295,7 +292,7 @@ public abstract class TypeInferenceBase {
                 // this check has to be done before `isArrayDimensionMismatch` checking
                 if (methodArgumentTypeClassName.endsWith("[]") && methodInfo.isVarargs()
                         && isVarArgsMatch(methodArgumentTypeClassName,
-                        argumentTypeInfoList.subList(index, argumentTypeInfoList.size()), jarIdList, classInfoService)) {
+                        argumentTypeInfoList.subList(index, argumentTypeInfoList.size()), classpathHandle, classInfoService)) {
 
                     methodInfo.setArgumentMatchingDistance(methodInfo.getArgumentMatchingDistance() + VARARGS_DISTANCE);
                     matchedMethodArgumentTypeInfoList.add(methodArgumentTypeInfo);
@@ -339,26 +336,17 @@ public abstract class TypeInferenceBase {
                     }
                 }
 
-                Set<String> classNameSet = new HashSet<>();
-                classNameSet.add(argumentTypeClassName);
-
-                int distance = 0;
-
-                while (!classNameSet.isEmpty()) {
-                    classNameSet = classInfoService.getSuperClassQNameSetUsingMemCache(classNameSet, jarIdList, null);
+                int distance = classInfoService.getSuperClassDistance(argumentTypeClassName, methodArgumentTypeClassName,
+                        classpathHandle);
 
-                    distance++;
-
-                    if (classNameSet.contains(methodArgumentTypeClassName)) {
-                        if (methodArgumentTypeClassName.equals("java.lang.Object")) {
-                            methodInfo.setArgumentMatchingDistance(methodInfo.getArgumentMatchingDistance() + MAX_SUPER_CLASS_DISTANCE);
-                        } else {
-                            methodInfo.setArgumentMatchingDistance(methodInfo.getArgumentMatchingDistance() + distance);
-                        }
-
-                        matchedMethodArgumentTypeInfoList.add(methodArgumentTypeInfo);
-                        break;
+                if (distance > 0) {
+                    if (methodArgumentTypeClassName.equals("java.lang.Object")) {
+                        methodInfo.setArgumentMatchingDistance(methodInfo.getArgumentMatchingDistance() + MAX_SUPER_CLASS_DISTANCE);
+                    } else {
+                        methodInfo.setArgumentMatchingDistance(methodInfo.getArgumentMatchingDistance() + distance);
                     }
+
+                    matchedMethodArgumentTypeInfoList.add(methodArgumentTypeInfo);
                 }
             }
         }
@@ -385,7 +373,7 @@ public abstract class TypeInferenceBase {
     }
 
     static List<ClassInfo> resolveQClassInfoForClass(String typeClassName,
-                                                     List<Integer> jarIdList,
+                                                     ClasspathHandle classpathHandle,
                                                      Set<String> importedClassQNameSet,
                                                      List<String> packageNameList,
                                                      ClassInfoService classInfoService,
@@ -407,7 +395,7 @@ public abstract class TypeInferenceBase {
                 importedClassQNameSetForSelection.addAll(owningClassInfo.getAvailableQualifiedClassNameSet());
             }
 
-            List<ClassInfo> qualifiedClassInfoList = classInfoService.getClassInfoListUsingInMemoryCache(jarIdList, postProcessedTypeClassName);
+            List<ClassInfo> qualifiedClassInfoList = classInfoService.getClassInfoListUsingInMemoryCache(classpathHandle, postProcessedTypeClassName);
 
             qualifiedClassInfoList = qualifiedClassInfoList.stream().filter(classInfo -> {
                 if (classInfo.isInnerClass()) {
@@ -453,7 +441,7 @@ public abstract class TypeInferenceBase {
 
     static String resolveQNameForClass(String typeClassName,
                                        OwningClassInfo owningClassInfo,
-                                       List<Integer> jarIdList,
+                                       ClasspathHandle classpathHandle,
                                        Set<String> importedClassQNameSet,
                                        List<String> packageNameList,
                                        ClassInfoService classInfoService) {
@@ -463,7 +451,7 @@ public abstract class TypeInferenceBase {
 
         int numberOfArrayDimensions = StringUtils.countMatches(typeClassName, "[]");
 
-        List<ClassInfo> qualifiedClassInfoList = resolveQClassInfoForClass(typeClassName, jarIdList,
+        List<ClassInfo> qualifiedClassInfoList = resolveQClassInfoForClass(typeClassName, classpathHandle,
                 importedClassQNameSet, packageNameList, classInfoService, owningClassInfo);
 
         qualifiedClassInfoList = filtrationBasedOnPrioritization(typeClassName, owningClassInfo,
@@ -584,21 +572,22 @@ public abstract class TypeInferenceBase {
 
     static List<MethodInfo> getQualifiedMethodInfoList(String methodName,
                                                        Integer numberOfParameters,
-                                                       List<Integer> jarIdList,
+                                                       ClasspathHandle classpathHandle,
                                                        Set<String> classQNameSet,
                                                        ClassInfoService classInfoService,
                                                        MethodInfoService methodInfoService) {
-        List<Integer> classInfoIdList = classInfoService.getClassInfoIdList(jarIdList, classQNameSet);
+        List<Integer> classInfoIdList = classInfoService.getClassInfoIdList(classpathHandle, classQNameSet);
 
         if (classInfoIdList.isEmpty()) {
             return new ArrayList<>();
         }
 
-        return getQualifiedMethodInfoList(methodName, numberOfParameters, classInfoIdList, methodInfoService);
+        return getQualifiedMethodInfoList(methodName, numberOfParameters, classpathHandle, classInfoIdList, methodInfoService);
     }
 
     static List<MethodInfo> getQualifiedMethodInfoList(String methodName,
                                                        Integer numberOfParameters,
+                                                       ClasspathHandle classpathHandle,
                                                        List<Integer> classInfoIdList,
                                                        MethodInfoService methodInfoService) {
         String outerClassPrefix = StringUtils.countMatches(methodName, ".") == 1
@@ -609,7 +598,8 @@ public abstract class TypeInferenceBase {
                 ? methodName.substring(methodName.indexOf(".") + 1)
                 : methodName;
 
-        List<MethodInfo> methodInfoList = methodInfoService.getMethodInfoList(classInfoIdList, methodName);
+        List<MethodInfo> methodInfoList =
+                methodInfoService.getMethodInfoList(classpathHandle, classInfoIdList, methodName, numberOfParameters);
 
         return methodInfoList.stream()
                 .filter(methodInfo -> filtrationBasedOnCriteria(numberOfParameters, outerClassPrefix, methodInfo))
@@ -618,7 +608,7 @@ public abstract class TypeInferenceBase {
 
     static List<MethodInfo> getQualifiedMethodInfoListForInnerClass(String methodName,
                                                                     Integer numberOfParameters,
-                                                                    List<Integer> jarIdList,
+                                                                    ClasspathHandle classpathHandle,
                                                                     Set<String> classQNameSet,
                                                                     MethodInfoService methodInfoService) {
 
@@ -630,7 +620,8 @@ public abstract class TypeInferenceBase {
                 ? methodName.substring(methodName.indexOf(".") + 1)
                 : methodName;
 
-        List<MethodInfo> methodInfoList = methodInfoService.getInnerClassMethodInfoList(classQNameSet, jarIdList, methodName);
+        List<MethodInfo> methodInfoList = methodInfoService.getInnerClassMethodInfoList(classQNameSet, classpathHandle,
+                methodName, numberOfParameters);
 
         return methodInfoList.stream()
                 .filter(methodInfo -> filtrationBasedOnCriteria(numberOfParameters, outerClassPrefix, methodInfo))
@@ -642,59 +633,47 @@ public abstract class TypeInferenceBase {
                                                                        Integer numberOfParameters,
                                                                        List<String> packageNameList,
                                                                        Set<String> importedClassQNameSet,
-                                                                       List<Integer> jarIdList,
+                                                                       ClasspathHandle classpathHandle,
                                                                        ClassInfoService classInfoService,
                                                                        MethodInfoService methodInfoService) {
         Set<Integer> clientInfoIdSet = new LinkedHashSet<>();
 
-        clientInfoIdSet.addAll(classInfoService.getClassInfoIdList(jarIdList, importedClassQNameSet));
-        clientInfoIdSet.addAll(classInfoService.getClassInfoIdList(jarIdList, packageNameList));
+        clientInfoIdSet.addAll(classInfoService.getClassInfoIdList(classpathHandle, importedClassQNameSet));
+        clientInfoIdSet.addAll(classInfoService.getClassInfoIdList(classpathHandle, packageNameList));
 
-        return getQualifiedMethodInfoList(methodName, numberOfParameters, new ArrayList<>(clientInfoIdSet), methodInfoService);
+        return getQualifiedMethodInfoList(methodName, numberOfParameters, classpathHandle, new ArrayList<>(clientInfoIdSet),
+                methodInfoService);
     }
 
     static List<MethodInfo> getAbstractMethodInfoListForFunctionalInterface(String qualifiedClassName,
-                                                                            List<Integer> jarIdList,
+                                                                            ClasspathHandle classpathHandle,
                                                                             MethodInfoService methodInfoService,
                                                                             ClassInfoService classInfoService) {
 
         Set<String> classQNameSet = Collections.singleton(qualifiedClassName);
 
         while (!classQNameSet.isEmpty()) {
-            List<MethodInfo> methodInfoList = methodInfoService.getAbstractMethodInfoList(jarIdList, classQNameSet);;
+            List<MethodInfo> methodInfoList = methodInfoService.getAbstractMethodInfoList(classpathHandle, classQNameSet);;
 
             if (!methodInfoList.isEmpty()) {
                 return methodInfoList;
             }
 
-            classQNameSet = classInfoService.getSuperClassQNameSetUsingMemCache(classQNameSet, jarIdList, "INTERFACE");
+            classQNameSet = classInfoService.getSuperClassQNameSetUsingMemCache(classQNameSet, classpathHandle, "INTERFACE");
         }
 
         return Collections.emptyList();
     }
 
     static Map<String, List<String>> getSuperClassQNameMapPerClass(Set<String> classQNameSet,
-                                                                   List<Integer> jarIdList,
+                                                                   ClasspathHandle classpathHandle,
                                                                    ClassInfoService classInfoService) {
 
-        Map<String, List<String>> superClassNameMap = new HashMap<>();
-
-        Map<String, Integer> classIdMap = classInfoService.getClientIdMap(jarIdList, classQNameSet);
-
-        for (String classQName : classQNameSet) {
-            if (classIdMap.containsKey(classQName) && Objects.nonNull(classIdMap.get(classQName))) {
-                Integer classInfoId = classIdMap.get(classQName);
-                List<String> superClassNameList = classInfoService.getSuperClassQNameList(classInfoId, null);
-
-                superClassNameMap.put(classQName, superClassNameList);
-            }
-        }
-
-        return superClassNameMap;
+        return classInfoService.getSuperClassQNameMap(classQNameSet, classpathHandle);
     }
 
     static Set<String> getSuperClassQNameSet(Set<String> classQNameSet,
-                                             List<Integer> jarIdList,
+                                             ClasspathHandle classpathHandle,
                                              ClassInfoService classInfoService) {
 
         if (classQNameSet.isEmpty()) {
@@ -702,7 +681,7 @@ public abstract class TypeInferenceBase {
         }
 
         Set<String> superClassSet = new LinkedHashSet<>();
-        Map<String, List<String>> superClassQNameMap = getSuperClassQNameMapPerClass(classQNameSet, jarIdList,
+        Map<String, List<String>> superClassQNameMap = getSuperClassQNameMapPerClass(classQNameSet, classpathHandle,
                 classInfoService);
 
         for (String classQName : classQNameSet) {
@@ -836,14 +815,27 @@ public abstract class TypeInferenceBase {
         }
     }
 
-    static void setInternalDependencyProperty(List<MethodInfo> methodInfoList, List<Integer> internalDependencyJarIdList) {
+    static void setInternalDependencyProperty(List<MethodInfo> methodInfoList,
+                                              List<Integer> internalDependencyJarIdList,
+                                              ClassInfoService classInfoService) {
+
+        if (Objects.isNull(internalDependencyJarIdList) || internalDependencyJarIdList.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> classInfoIdSet = methodInfoList.stream()
+                .map(MethodInfo::getClassInfo)
+                .filter(Objects::nonNull)
+                .map(ClassInfo::getId)
+                .collect(Collectors.toSet());
+
+        Set<Integer> internalClassInfoIdSet =
+                classInfoService.getMemberClassInfoIdSet(classInfoIdSet, internalDependencyJarIdList);
 
         for (MethodInfo methodInfo: methodInfoList) {
             ClassInfo classInfo = methodInfo.getClassInfo();
 
-            if (Objects.nonNull(classInfo)
-                    && Objects.nonNull(internalDependencyJarIdList)
-                    && internalDependencyJarIdList.contains(classInfo.getJarId())) {
+            if (Objects.nonNull(classInfo) && internalClassInfoIdSet.contains(classInfo.getId())) {
                 classInfo.setInternalDependency(true);
             }
         }
@@ -861,7 +853,7 @@ public abstract class TypeInferenceBase {
     static void reduceArgumentForInnerClassConstructorIfRequired(List<MethodInfo> methodInfoList,
                                                                  String firstArgumentQualifiedClassName,
                                                                  Integer numberOfParameters,
-                                                                 List<Integer> jarIdList,
+                                                                 ClasspathHandle classpathHandle,
                                                                  ClassInfoService classInfoService) {
 
         Set<String> eligibleFirstArgumentClassNameSet = new LinkedHashSet<>();
@@ -870,7 +862,7 @@ public abstract class TypeInferenceBase {
             eligibleFirstArgumentClassNameSet.add(firstArgumentQualifiedClassName);
 
             eligibleFirstArgumentClassNameSet.addAll(
-                    getAllSuperClassSet(Collections.singleton(firstArgumentQualifiedClassName), jarIdList, classInfoService));
+                    getAllSuperClassSet(Collections.singleton(firstArgumentQualifiedClassName), classpathHandle, classInfoService));
 
             eligibleFirstArgumentClassNameSet.remove("java.lang.Object");
         }
@@ -978,13 +970,13 @@ public abstract class TypeInferenceBase {
             return null;
         }
 
-        List<Integer> jarIdList = jarInfoService.getJarIdList(dependentArtifactSet, javaVersion, null);
+        ClasspathHandle classpathHandle = jarInfoService.getClasspathHandle(dependentArtifactSet, javaVersion);
         List<Set<String>> qClassNameSetInHierarchy = new ArrayList<>();
 
         String outerMostClassName = enclosingQualifiedClassNameList.get(enclosingQualifiedClassNameList.size() - 1);
 
         Set<String> innerClassQualifiedNameSet =
-                classInfoService.getInnerClassQualifiedNameSet(Collections.singleton(outerMostClassName), jarIdList);
+                classInfoService.getInnerClassQualifiedNameSet(Collections.singleton(outerMostClassName), classpathHandle);
 
         /*
          * Here conversion is needed. Because inner class inside method can have position
@@ -1011,7 +1003,7 @@ public abstract class TypeInferenceBase {
 
         while (!classQNameSet.isEmpty()) {
             Map<String, List<String>> superClassQNameMap =
-                    getSuperClassQNameMapPerClass(classQNameSet, jarIdList, classInfoService);
+                    getSuperClassQNameMapPerClass(classQNameSet, classpathHandle, classInfoService);
 
             insertSuperClassQNamePreservingDeclarationOrder(superClassQNameMap, classQNameSet,
                     classQNameDeclarationOrderList, parentClassPairList);
@@ -1024,7 +1016,7 @@ public abstract class TypeInferenceBase {
                  * we need to add these inner class in hierarchy.
                  */
                 qClassNameSetInHierarchy.add(getCombinedClassAndInnerClassQualifiedNameSet(classQNameSet,
-                        classInfoService.getInnerClassQualifiedNameSet(classQNameSet, jarIdList)));
+                        classInfoService.getInnerClassQualifiedNameSet(classQNameSet, classpathHandle)));
             }
         }
 
@@ -1110,14 +1102,11 @@ public abstract class TypeInferenceBase {
         return new LinkedHashSet<>(orderedDeferredMethodInfoList);
     }
 
-    private static Set<String> getAllSuperClassSet(Set<String> classSet, List<Integer> jarIdList, ClassInfoService classInfoService) {
+    private static Set<String> getAllSuperClassSet(Set<String> classSet, ClasspathHandle classpathHandle, ClassInfoService classInfoService) {
         Set<String> allSuperClassQualifiedNameSet = new LinkedHashSet<>();
 
-        while (!classSet.isEmpty()) {
-            Set<String> superClassQualifiedNameSet = getSuperClassQNameSet(classSet, jarIdList, classInfoService);
+        for (Set<String> superClassQualifiedNameSet : classInfoService.getSuperClassQNameLevelList(classSet, classpathHandle, null)) {
             allSuperClassQualifiedNameSet.addAll(superClassQualifiedNameSet);
-
-            classSet = new LinkedHashSet<>(superClassQualifiedNameSet);
         }
 
         return allSuperClassQualifiedNameSet;
@@ -1260,7 +1249,7 @@ public abstract class TypeInferenceBase {
 
     private static boolean isVarArgsMatch(String methodArgumentTypeClassName,
                                           List<TypeInfo> varArgsTypeTypeInfoList,
-                                          List<Integer> jarIdList,
+                                          ClasspathHandle classpathHandle,
                                           ClassInfoService classInfoService) {
         String typeClassName = methodArgumentTypeClassName.replaceAll("\\[]$", "");
 
@@ -1295,19 +1284,7 @@ public abstract class TypeInferenceBase {
                 varArgTypeName = PrimitiveTypeUtils.getPrimitiveWrapperClassQName(varArgTypeName);
             }
 
-            Set<String> classNameSet = Collections.singleton(varArgTypeName);
-            boolean matched = false;
-
-            while (!classNameSet.isEmpty()) {
-                classNameSet = classInfoService.getSuperClassQNameSetUsingMemCache(classNameSet, jarIdList, null);
-
-                if (classNameSet.contains(methodArgumentTypeName)) {
-                    matched = true;
-                    break;
-                }
-            }
-
-            return matched;
+            return classInfoService.getSuperClassDistance(varArgTypeName, methodArgumentTypeName, classpathHandle) > 0;
         });
     }
 
@@ -2,6 +2,7 @@ package ca.concordia.apifinder;
 
 import ca.concordia.apifinder.entity.MethodInfo;
 import ca.concordia.apifinder.models.Artifact;
+import ca.concordia.apifinder.models.ClasspathHandle;
 import ca.concordia.apifinder.models.OwningClassInfo;
 import ca.concordia.apifinder.models.typeInfo.NullTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.SimpleTypeInfo;
@@ -86,8 +87,9 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
      * reached, then if no method is found an empty list will be returned.<br>
      */
     private List<MethodInfo> getAllMethods(Criteria criteria) {
-        List<Integer> internalDependencyJarIdList = new ArrayList<>();
-        List<Integer> jarIdList = jarInfoService.getJarIdList(criteria.getDependentArtifactSet(), criteria.getJavaVersion(), internalDependencyJarIdList);
+        ClasspathHandle classpathHandle =
+                jarInfoService.getClasspathHandle(criteria.getDependentArtifactSet(), criteria.getJavaVersion());
+        List<Integer> internalDependencyJarIdList = classpathHandle.getInternalDependencyJarIdList();
         List<String> importList = criteria.getImportList();
         String methodName = criteria.getMethodName();
 
@@ -114,7 +116,7 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
             boolean firstIteration = true;
             while (!classQNameSet.isEmpty() && qualifiedMethodInfoList.isEmpty()) {
                 qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, criteria.getNumberOfParameters(),
-                        jarIdList, classQNameSet, classInfoService, methodInfoService);
+                        classpathHandle, classQNameSet, classInfoService, methodInfoService);
 
                 if (firstIteration && Objects.nonNull(criteria.getOwningClassInfo())
                         && criteria.getOwningClassInfo().getQualifiedClassNameSetInHierarchy().get(0)
@@ -123,8 +125,8 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
                     qualifiedMethodInfoList.forEach(m -> m.setOwningClassAttribute(true));
                 }
 
-                modifyMethodInfoList(qualifiedMethodInfoList, criteria, jarIdList, internalDependencyJarIdList);
-                qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, jarIdList);
+                modifyMethodInfoList(qualifiedMethodInfoList, criteria, classpathHandle, internalDependencyJarIdList);
+                qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, classpathHandle);
 
                 if (!qualifiedMethodInfoList.isEmpty()
                         && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -134,12 +136,12 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
 
                 if (qualifiedMethodInfoList.isEmpty()) {
                     Map<String, List<String>> superClassQNameMap =
-                            getSuperClassQNameMapPerClass(classQNameSet, jarIdList, classInfoService);
+                            getSuperClassQNameMapPerClass(classQNameSet, classpathHandle, classInfoService);
 
                     insertSuperClassQNamePreservingDeclarationOrder(superClassQNameMap, classQNameSet,
                             classQNameDeclarationOrderList, parentClassPairList);
 
-                    classQNameSet = getSuperClassQNameSet(classQNameSet, jarIdList, classInfoService);
+                    classQNameSet = getSuperClassQNameSet(classQNameSet, classpathHandle, classInfoService);
                     firstIteration = false;
                 }
             }
@@ -178,13 +180,13 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
                 Set<String> classQNameSet = criteria.getOwningClassInfo().getQualifiedClassNameSetInHierarchy().get(i);
 
                 qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, criteria.getNumberOfParameters(),
-                        jarIdList, classQNameSet, classInfoService, methodInfoService);
+                        classpathHandle, classQNameSet, classInfoService, methodInfoService);
 
                 boolean isOwningClassAttribute = (i == 0);
                 qualifiedMethodInfoList.forEach(m -> m.setOwningClassAttribute(isOwningClassAttribute));
 
-                modifyMethodInfoList(qualifiedMethodInfoList, criteria, jarIdList, internalDependencyJarIdList);
-                qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, jarIdList);
+                modifyMethodInfoList(qualifiedMethodInfoList, criteria, classpathHandle, internalDependencyJarIdList);
+                qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, classpathHandle);
 
                 if (i != 0
                         && !qualifiedMethodInfoList.isEmpty()
@@ -215,10 +217,10 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
           STEP 2
          */
         qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, criteria.getNumberOfParameters(),
-                jarIdList, importedClassQNameSet, classInfoService, methodInfoService);
+                classpathHandle, importedClassQNameSet, classInfoService, methodInfoService);
 
-        modifyMethodInfoList(qualifiedMethodInfoList, criteria, jarIdList, internalDependencyJarIdList);
-        qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, jarIdList);
+        modifyMethodInfoList(qualifiedMethodInfoList, criteria, classpathHandle, internalDependencyJarIdList);
+        qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, classpathHandle);
 
         Set<MethodInfo> deferredQualifiedMethodInfoSet = new LinkedHashSet<>();
 
@@ -236,10 +238,10 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
           STEP 3
          */
         qualifiedMethodInfoList = getQualifiedMethodInfoListForInnerClass(methodName, criteria.getNumberOfParameters(),
-                jarIdList, importedClassQNameSet, methodInfoService);
+                classpathHandle, importedClassQNameSet, methodInfoService);
 
-        modifyMethodInfoList(qualifiedMethodInfoList, criteria, jarIdList, internalDependencyJarIdList);
-        qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, jarIdList);
+        modifyMethodInfoList(qualifiedMethodInfoList, criteria, classpathHandle, internalDependencyJarIdList);
+        qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, classpathHandle);
 
         if (!qualifiedMethodInfoList.isEmpty()
                 && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -255,10 +257,10 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
           STEP 4
          */
         qualifiedMethodInfoList = getQualifiedMethodInfoListForPackageImport(methodName, criteria.getNumberOfParameters(),
-                packageNameList, importedClassQNameSet, jarIdList, classInfoService, methodInfoService);
+                packageNameList, importedClassQNameSet, classpathHandle, classInfoService, methodInfoService);
 
-        modifyMethodInfoList(qualifiedMethodInfoList, criteria, jarIdList, internalDependencyJarIdList);
-        qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, jarIdList);
+        modifyMethodInfoList(qualifiedMethodInfoList, criteria, classpathHandle, internalDependencyJarIdList);
+        qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, classpathHandle);
 
         if (!qualifiedMethodInfoList.isEmpty()
                 && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -276,13 +278,13 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
         Set<String> classQNameSet = new HashSet<>(importedClassQNameSet);
 
         while (!classQNameSet.isEmpty() && qualifiedMethodInfoList.isEmpty()) {
-            classQNameSet = getSuperClassQNameSet(classQNameSet, jarIdList, classInfoService);
+            classQNameSet = getSuperClassQNameSet(classQNameSet, classpathHandle, classInfoService);
 
-            qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, criteria.getNumberOfParameters(), jarIdList,
+            qualifiedMethodInfoList = getQualifiedMethodInfoList(methodName, criteria.getNumberOfParameters(), classpathHandle,
                     classQNameSet, classInfoService, methodInfoService);
 
-            modifyMethodInfoList(qualifiedMethodInfoList, criteria, jarIdList, internalDependencyJarIdList);
-            qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, jarIdList);
+            modifyMethodInfoList(qualifiedMethodInfoList, criteria, classpathHandle, internalDependencyJarIdList);
+            qualifiedMethodInfoList = filterProcess(qualifiedMethodInfoList, criteria, classpathHandle);
 
             if (!qualifiedMethodInfoList.isEmpty()
                     && qualifiedMethodInfoList.stream().allMatch(MethodInfo::hasDeferredCriteria)) {
@@ -306,7 +308,7 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
 
     public static void reduceByteCodeAddedArgumentsForInnerClassConstructor(List<MethodInfo> methodInfoList,
                                                                             Criteria criteria,
-                                                                            List<Integer> jarIdList,
+                                                                            ClasspathHandle classpathHandle,
                                                                             ClassInfoService classInfoService) {
         if (Objects.nonNull(criteria.getNumberOfParameters())) {
             TypeInfo firstArgumentTypeInfo = criteria.getArgumentTypeInfoWithIndexList().stream()
@@ -320,18 +322,18 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
                     : null;
 
             reduceArgumentForInnerClassConstructorIfRequired(methodInfoList, firstArgumentQualifiedClassName,
-                    criteria.getNumberOfParameters(), jarIdList, classInfoService);
+                    criteria.getNumberOfParameters(), classpathHandle, classInfoService);
         }
     }
 
     public static List<MethodInfo> filterMethodInfoListBasedOnArguments(List<MethodInfo> methodInfoList,
                                                                         Criteria criteria,
-                                                                        List<Integer> jarIdList,
+                                                                        ClasspathHandle classpathHandle,
                                                                         ClassInfoService classInfoService,
                                                                         MethodInfoService methodInfoService) {
         if (Objects.nonNull(criteria.getNumberOfParameters())
                 && !(criteria.getNumberOfParameters() > 0 && criteria.getArgumentTypeInfoWithIndexList().isEmpty())) {
-            methodInfoList = filterByMethodArgumentTypes(methodInfoList, criteria, jarIdList, classInfoService, methodInfoService);
+            methodInfoList = filterByMethodArgumentTypes(methodInfoList, criteria, classpathHandle, classInfoService, methodInfoService);
         }
 
         return methodInfoList;
@@ -339,27 +341,27 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
 
     private void modifyMethodInfoList(List<MethodInfo> methodInfoList,
                                   Criteria criteria,
-                                  List<Integer> jarIdList,
+                                  ClasspathHandle classpathHandle,
                                   List<Integer> internalDependencyJarIdList) {
 
         if (!methodInfoList.isEmpty()) {
             modifyMethodInfoForArray(methodInfoList, criteria.getInvokerTypeInfo());
-            setInternalDependencyProperty(methodInfoList, internalDependencyJarIdList);
-            reduceByteCodeAddedArgumentsForInnerClassConstructor(methodInfoList, criteria, jarIdList, classInfoService);
+            setInternalDependencyProperty(methodInfoList, internalDependencyJarIdList, classInfoService);
+            reduceByteCodeAddedArgumentsForInnerClassConstructor(methodInfoList, criteria, classpathHandle, classInfoService);
         }
     }
 
     private List<MethodInfo> filterProcess(List<MethodInfo> methodInfoList,
                                            Criteria criteria,
-                                           List<Integer> jarIdList) {
+                                           ClasspathHandle classpathHandle) {
         if (methodInfoList.isEmpty()) {
             return methodInfoList;
         }
 
         methodInfoList = filterByMethodInvoker(methodInfoList, criteria.getInvokerTypeInfo(),
-                criteria.isSuperInvoker(), jarIdList, classInfoService);
+                criteria.isSuperInvoker(), classpathHandle, classInfoService);
 
-        methodInfoList = filterMethodInfoListBasedOnArguments(methodInfoList, criteria, jarIdList, classInfoService,
+        methodInfoList = filterMethodInfoListBasedOnArguments(methodInfoList, criteria, classpathHandle, classInfoService,
                 methodInfoService);
 
         if (Objects.nonNull(criteria.isClassInstantiation())) {
@@ -377,7 +379,7 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
 
     private static List<MethodInfo> filterByMethodArgumentTypes(List<MethodInfo> methodInfoList,
                                                                 Criteria criteria,
-                                                                List<Integer> jarIdList,
+                                                                ClasspathHandle classpathHandle,
                                                                 ClassInfoService classInfoService,
                                                                 MethodInfoService methodInfoService) {
         if (!methodInfoList.isEmpty()) {
@@ -388,7 +390,7 @@ public class TypeInferenceFluentAPI extends TypeInferenceBase {
                 List<TypeInfo> argumentTypeInfoList = getOrderedArgumentTypeInfoList(argumentTypeInfoWithIndexList);
                 List<TypeInfo> methodArgumentTypeInfoList = getOrderedMethodArgumentTypeInfoList(argumentTypeInfoWithIndexList, methodInfo);
 
-                return matchMethodArguments(argumentTypeInfoList, methodArgumentTypeInfoList, jarIdList,
+                return matchMethodArguments(argumentTypeInfoList, methodArgumentTypeInfoList, classpathHandle,
                         methodInfoService, classInfoService, methodInfo);
             }).collect(Collectors.toList());
         }
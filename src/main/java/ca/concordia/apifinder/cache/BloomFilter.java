@@ -0,0 +1,107 @@
+package ca.concordia.apifinder.cache;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Set of strings that answers whether a string may be in it, with no false negatives. The filter is sized for the
+ * expected number of strings and false positive probability, a filter of more strings gives more false positives.
+ *
+ * Bits are chosen by double hashing of a 64-bit FNV-1a hash of the characters.
+ *
+ * @author Diptopol
+ * @since 10/18/2026 3:10 AM
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        int insertions = Math.max(1, expectedInsertions);
+        long bitCount = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+
+        this.bits = new long[(int) Math.max(1, (bitCount + 63) / 64)];
+        this.hashCount = Math.max(1, (int) Math.round((double) bits.length * 64 / insertions * Math.log(2)));
+    }
+
+    private BloomFilter(long[] bits, int hashCount) {
+        this.bits = bits;
+        this.hashCount = hashCount;
+    }
+
+    public static BloomFilter read(DataInputStream input) throws IOException {
+        int hashCount = input.readInt();
+        long[] bits = new long[input.readInt()];
+
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = input.readLong();
+        }
+
+        return new BloomFilter(bits, hashCount);
+    }
+
+    public void write(DataOutputStream output) throws IOException {
+        output.writeInt(hashCount);
+        output.writeInt(bits.length);
+
+        for (long word : bits) {
+            output.writeLong(word);
+        }
+    }
+
+    public void put(String value) {
+        long hash = getHash(value);
+        int firstHash = (int) hash;
+        int secondHash = (int) (hash >>> 32);
+        long bitCount = (long) bits.length * 64;
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = ((firstHash + (long) i * secondHash) & Long.MAX_VALUE) % bitCount;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = getHash(value);
+        int firstHash = (int) hash;
+        int secondHash = (int) (hash >>> 32);
+        long bitCount = (long) bits.length * 64;
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = ((firstHash + (long) i * secondHash) & Long.MAX_VALUE) % bitCount;
+
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int getEstimatedSize() {
+        return 32 + bits.length * 8;
+    }
+
+    private static long getHash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+
+        /* FNV-1a mixes the low bits poorly, the finalizer of MurmurHash3 spreads them over both halves */
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+}
@@ -0,0 +1,133 @@
+package ca.concordia.apifinder.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * @author Diptopol
+ * @since 10/17/2026 11:45 PM
+ */
+class CacheMetrics implements CacheMetricsMXBean {
+
+    private final String name;
+
+    private final Supplier<CacheStats> cacheStatsSupplier;
+    private final LongSupplier estimatedSizeSupplier;
+    private final LongSupplier estimatedWeightSupplier;
+
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final long expireAfterAccessMinutes;
+
+    CacheMetrics(String name,
+                 Supplier<CacheStats> cacheStatsSupplier,
+                 LongSupplier estimatedSizeSupplier,
+                 LongSupplier estimatedWeightSupplier,
+                 long maximumSize,
+                 long maximumWeight,
+                 long expireAfterAccessMinutes) {
+
+        this.name = name;
+        this.cacheStatsSupplier = cacheStatsSupplier;
+        this.estimatedSizeSupplier = estimatedSizeSupplier;
+        this.estimatedWeightSupplier = estimatedWeightSupplier;
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.expireAfterAccessMinutes = expireAfterAccessMinutes;
+    }
+
+    static CacheMetrics of(String name, Cache<?, ?> cache, long maximumSize, long maximumWeight,
+                           long expireAfterAccessMinutes) {
+
+        return new CacheMetrics(name, cache::stats, cache::estimatedSize, () -> getEstimatedWeight(cache),
+                maximumSize, maximumWeight, expireAfterAccessMinutes);
+    }
+
+    static long getEstimatedWeight(Cache<?, ?> cache) {
+        OptionalLong weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize())
+                .orElse(OptionalLong.empty());
+
+        return weightedSize.isPresent() ? weightedSize.getAsLong() : cache.estimatedSize();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public long getExpireAfterAccessMinutes() {
+        return expireAfterAccessMinutes;
+    }
+
+    @Override
+    public long getEstimatedSize() {
+        return estimatedSizeSupplier.getAsLong();
+    }
+
+    @Override
+    public long getEstimatedWeight() {
+        return estimatedWeightSupplier.getAsLong();
+    }
+
+    @Override
+    public long getHitCount() {
+        return cacheStatsSupplier.get().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return cacheStatsSupplier.get().missCount();
+    }
+
+    @Override
+    public double getHitRate() {
+        return cacheStatsSupplier.get().hitRate();
+    }
+
+    @Override
+    public double getAverageMissLatencyMillis() {
+        return cacheStatsSupplier.get().averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return cacheStatsSupplier.get().evictionCount();
+    }
+
+    /*
+     * One line of the dump, statistics are read from a single snapshot.
+     */
+    String toDumpLine() {
+        CacheStats cacheStats = cacheStatsSupplier.get();
+
+        return String.format("%-36s %10d %12d %12s %8d %8.2f%% %12d %12d %10d %14.3f",
+                name,
+                getEstimatedSize(),
+                getEstimatedWeight(),
+                maximumWeight > 0 ? maximumWeight + "b" : String.valueOf(maximumSize),
+                expireAfterAccessMinutes,
+                cacheStats.hitRate() * 100,
+                cacheStats.hitCount(),
+                cacheStats.missCount(),
+                cacheStats.evictionCount(),
+                cacheStats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+}
@@ -0,0 +1,50 @@
+package ca.concordia.apifinder.cache;
+
+/**
+ * Statistics of one cache created through {@link CacheRegistry}, registered with the platform MBean server under
+ * {@code ca.concordia.apifinder:type=Cache,name=<cache name>}.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 11:40 PM
+ */
+public interface CacheMetricsMXBean {
+
+    String getName();
+
+    /*
+     * 0 for caches bounded by weight.
+     */
+    long getMaximumSize();
+
+    /*
+     * Estimated bytes a cache bounded by weight may hold, 0 for caches bounded by the number of entries.
+     */
+    long getMaximumWeight();
+
+    /*
+     * 0 when entries do not expire.
+     */
+    long getExpireAfterAccessMinutes();
+
+    long getEstimatedSize();
+
+    /*
+     * Estimated bytes for caches bounded by weight, the number of entries otherwise.
+     */
+    long getEstimatedWeight();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRate();
+
+    /*
+     * Average time in milliseconds spent computing the value of a miss. Only misses computed by the cache are
+     * measured, values put after a miss are not.
+     */
+    double getAverageMissLatencyMillis();
+
+    long getEvictionCount();
+
+}
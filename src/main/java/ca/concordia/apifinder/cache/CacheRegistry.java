@@ -0,0 +1,293 @@
+package ca.concordia.apifinder.cache;
+
+import ca.concordia.apifinder.util.PropertyReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the caches of the project from their configuration and records their statistics. A cache named
+ * {@code <name>} is sized by {@code <name>.cache.size}, or by {@code <name>.cache.maximum.weight.mb} if it is bounded
+ * by the estimated bytes of its entries, and expires entries not accessed for
+ * {@code <name>.cache.expire.after.access.minutes} in config.properties. The defaults of the caller are used for a
+ * missing property. An expiry of 0 keeps entries until they are evicted by size.
+ *
+ * Statistics of each cache are exposed through JMX as {@link CacheMetricsMXBean} and can be dumped as text with
+ * {@link #dump()}.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 11:50 PM
+ */
+public final class CacheRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheRegistry.class);
+
+    private static final String OBJECT_NAME_DOMAIN = "ca.concordia.apifinder";
+
+    private static final String CLASSPATH_SCOPED_CACHE_NAME = "classpath";
+
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private static final Map<String, CacheMetrics> cacheMetricsMap = new ConcurrentSkipListMap<>();
+
+    private static final boolean PERSISTENT_CACHE_ENABLED =
+            Boolean.parseBoolean(PropertyReader.getProperty("persistent.cache.enabled"));
+
+    private static volatile ClasspathScopedCache classpathScopedCache;
+
+    private static volatile PersistentCache persistentCache;
+
+    private static volatile boolean persistentCacheOpened;
+
+    private static volatile NegativeLookupCache negativeLookupCache;
+
+    private static volatile boolean negativeLookupCacheCreated;
+
+    static {
+        registerMBean(OBJECT_NAME_DOMAIN + ":type=CacheRegistry", new Registry());
+    }
+
+    private CacheRegistry() {
+    }
+
+    public static <K, V> Cache<K, V> newCache(String name, long defaultMaximumSize, long defaultExpireAfterAccessMinutes) {
+        return newCache(name, defaultMaximumSize, defaultExpireAfterAccessMinutes, UnaryOperator.identity());
+    }
+
+    /*
+     * The customizer adds options that are not configurable, e.g., weak keys.
+     */
+    public static <K, V> Cache<K, V> newCache(String name, long defaultMaximumSize, long defaultExpireAfterAccessMinutes,
+                                              UnaryOperator<Caffeine<Object, Object>> customizer) {
+
+        long maximumSize = getMaximumSize(name, defaultMaximumSize);
+        long expireAfterAccessMinutes = getLongProperty(name + ".cache.expire.after.access.minutes",
+                defaultExpireAfterAccessMinutes);
+
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats();
+
+        if (expireAfterAccessMinutes > 0) {
+            caffeine.expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES);
+        }
+
+        Cache<K, V> cache = customizer.apply(caffeine).build();
+        register(CacheMetrics.of(name, cache, maximumSize, 0, expireAfterAccessMinutes));
+
+        return cache;
+    }
+
+    /*
+     * Null when the configured size is 0, for caches whose callers skip building values that cannot be kept.
+     */
+    public static <K, V> Cache<K, V> newOptionalCache(String name, long defaultMaximumSize,
+                                                      long defaultExpireAfterAccessMinutes) {
+
+        return getMaximumSize(name, defaultMaximumSize) > 0
+                ? newCache(name, defaultMaximumSize, defaultExpireAfterAccessMinutes)
+                : null;
+    }
+
+    /*
+     * Bounded by the bytes the weigher estimates for its entries, see MemoryEstimator.
+     */
+    public static <K, V> Cache<K, V> newWeightedCache(String name, long defaultMaximumWeightMb,
+                                                      long defaultExpireAfterAccessMinutes,
+                                                      Weigher<? super K, ? super V> weigher) {
+
+        long maximumWeight = getMaximumWeight(name, defaultMaximumWeightMb);
+        long expireAfterAccessMinutes = getLongProperty(name + ".cache.expire.after.access.minutes",
+                defaultExpireAfterAccessMinutes);
+
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .recordStats();
+
+        if (expireAfterAccessMinutes > 0) {
+            caffeine.expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES);
+        }
+
+        Cache<K, V> cache = caffeine.<K, V>weigher(weigher).build();
+        register(CacheMetrics.of(name, cache, 0, maximumWeight, expireAfterAccessMinutes));
+
+        return cache;
+    }
+
+    /*
+     * Null when the configured weight is 0.
+     */
+    public static <K, V> Cache<K, V> newOptionalWeightedCache(String name, long defaultMaximumWeightMb,
+                                                              long defaultExpireAfterAccessMinutes,
+                                                              Weigher<? super K, ? super V> weigher) {
+
+        return getMaximumWeight(name, defaultMaximumWeightMb) > 0
+                ? newWeightedCache(name, defaultMaximumWeightMb, defaultExpireAfterAccessMinutes, weigher)
+                : null;
+    }
+
+    /*
+     * The cache is shared by every service, so the budget is shared by the lookups of every kind on a classpath.
+     */
+    public static ClasspathScopedCache getClasspathScopedCache() {
+        if (Objects.isNull(classpathScopedCache)) {
+            synchronized (CacheRegistry.class) {
+                if (Objects.isNull(classpathScopedCache)) {
+                    classpathScopedCache = newClasspathScopedCache(CLASSPATH_SCOPED_CACHE_NAME, 256, 30);
+                }
+            }
+        }
+
+        return classpathScopedCache;
+    }
+
+    /*
+     * Returns null if the persistent cache is disabled or its directory could not be created, it is not opened again.
+     */
+    public static PersistentCache getPersistentCache() {
+        if (PERSISTENT_CACHE_ENABLED && !persistentCacheOpened) {
+            synchronized (CacheRegistry.class) {
+                if (!persistentCacheOpened) {
+                    persistentCache = newPersistentCache();
+                    persistentCacheOpened = true;
+                }
+            }
+        }
+
+        return persistentCache;
+    }
+
+    /*
+     * Misses of every service are held together, the misses of a scope are dropped when a jar of it is stored. Returns
+     * null if its size is 0.
+     */
+    public static NegativeLookupCache getNegativeLookupCache() {
+        if (!negativeLookupCacheCreated) {
+            synchronized (CacheRegistry.class) {
+                if (!negativeLookupCacheCreated) {
+                    Cache<String, Boolean> missCache = newOptionalCache("negative.lookup", 100000, 10);
+
+                    negativeLookupCache = Objects.nonNull(missCache) ? new NegativeLookupCache(missCache) : null;
+                    negativeLookupCacheCreated = true;
+                }
+            }
+        }
+
+        return negativeLookupCache;
+    }
+
+    public static List<CacheMetricsMXBean> getCacheMetricsList() {
+        return new ArrayList<>(cacheMetricsMap.values());
+    }
+
+    public static CacheMetricsMXBean getCacheMetrics(String name) {
+        return cacheMetricsMap.get(name);
+    }
+
+    public static String dump() {
+        StringBuilder dump = new StringBuilder(String.format("%-36s %10s %12s %12s %8s %9s %12s %12s %10s %14s",
+                "cache", "size", "weight", "maximum", "ttl min", "hit rate", "hits", "misses", "evictions",
+                "avg miss ms"));
+
+        for (CacheMetrics cacheMetrics : cacheMetricsMap.values()) {
+            dump.append(System.lineSeparator()).append(cacheMetrics.toDumpLine());
+        }
+
+        return dump.toString();
+    }
+
+    private static ClasspathScopedCache newClasspathScopedCache(String name, long defaultMaximumWeightMb,
+                                                                long defaultExpireAfterAccessMinutes) {
+
+        long maximumWeight = getMaximumWeight(name, defaultMaximumWeightMb);
+        long expireAfterAccessMinutes = getLongProperty(name + ".cache.expire.after.access.minutes",
+                defaultExpireAfterAccessMinutes);
+
+        ClasspathScopedCache cache = new ClasspathScopedCache(maximumWeight, expireAfterAccessMinutes);
+
+        register(new CacheMetrics(name, cache::getStats, cache::getEstimatedSize, cache::getEstimatedWeight, 0,
+                maximumWeight, expireAfterAccessMinutes));
+
+        return cache;
+    }
+
+    private static PersistentCache newPersistentCache() {
+        Path directory = Path.of(PropertyReader.getProperty("persistent.cache.directory"));
+
+        try {
+            return new PersistentCache(directory,
+                    getLongProperty("persistent.cache.maximum.size.mb", 1024) * BYTES_PER_MB);
+        } catch (IOException e) {
+            logger.error("Could not open the persistent cache {}", directory, e);
+
+            return null;
+        }
+    }
+
+    private static void register(CacheMetrics cacheMetrics) {
+        cacheMetricsMap.put(cacheMetrics.getName(), cacheMetrics);
+        registerMBean(OBJECT_NAME_DOMAIN + ":type=Cache,name=" + ObjectName.quote(cacheMetrics.getName()), cacheMetrics);
+    }
+
+    private static long getMaximumWeight(String name, long defaultMaximumWeightMb) {
+        return getLongProperty(name + ".cache.maximum.weight.mb", defaultMaximumWeightMb) * BYTES_PER_MB;
+    }
+
+    private static long getMaximumSize(String name, long defaultMaximumSize) {
+        return getLongProperty(name + ".cache.size", defaultMaximumSize);
+    }
+
+    private static long getLongProperty(String key, long defaultValue) {
+        String value = PropertyReader.getProperty(key);
+
+        return Objects.nonNull(value) && !value.isBlank() ? Long.parseLong(value.trim()) : defaultValue;
+    }
+
+    /*
+     * A cache created again, e.g., by another class loader, replaces the MBean of the previous one.
+     */
+    private static void registerMBean(String objectName, Object mBean) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(objectName);
+
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+
+            mBeanServer.registerMBean(mBean, name);
+        } catch (JMException e) {
+            logger.warn("Could not register MBean {}", objectName, e);
+        }
+    }
+
+    private static class Registry implements CacheRegistryMXBean {
+
+        @Override
+        public List<String> getCacheNameList() {
+            return new ArrayList<>(cacheMetricsMap.keySet());
+        }
+
+        @Override
+        public String dump() {
+            return CacheRegistry.dump();
+        }
+    }
+
+}
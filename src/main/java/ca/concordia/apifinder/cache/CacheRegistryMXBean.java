@@ -0,0 +1,18 @@
+package ca.concordia.apifinder.cache;
+
+import java.util.List;
+
+/**
+ * Registered with the platform MBean server under {@code ca.concordia.apifinder:type=CacheRegistry}, so the statistics
+ * of every cache can be dumped on demand, e.g., from jconsole.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 11:40 PM
+ */
+public interface CacheRegistryMXBean {
+
+    List<String> getCacheNameList();
+
+    String dump();
+
+}
@@ -0,0 +1,225 @@
+package ca.concordia.apifinder.cache;
+
+import ca.concordia.apifinder.models.ClasspathHandle;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+/**
+ * Entries of lookups on a classpath, bounded by their estimated bytes. Each classpath gets its own segment, so lookups
+ * of one project never evict the entries of another. A memory budget is shared by the segments of the active
+ * classpaths, each segment may hold an equal share of it. A classpath not accessed for the expiry is dropped with its
+ * segment and its share is given to the other classpaths.
+ *
+ * Kinds of entries are stored in regions of the cache, regions of every kind share the segment of a classpath.
+ *
+ * @author Diptopol
+ * @since 10/18/2026 12:40 AM
+ */
+public class ClasspathScopedCache {
+
+    /*
+     * Bytes of a cache entry and its key, added to the estimated bytes of the value.
+     */
+    private static final int ENTRY_SIZE = 96;
+
+    private final long maximumWeight;
+    private final long expireAfterAccessMinutes;
+
+    private final Cache<String, Cache<RegionKey, Object>> segmentCache;
+
+    /*
+     * Statistics of dropped segments, added to the statistics of the active segments.
+     */
+    private final AtomicReference<CacheStats> droppedSegmentStats;
+
+    public ClasspathScopedCache(long maximumWeight, long expireAfterAccessMinutes) {
+        this.maximumWeight = maximumWeight;
+        this.expireAfterAccessMinutes = expireAfterAccessMinutes;
+        this.droppedSegmentStats = new AtomicReference<>(CacheStats.empty());
+
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
+
+        if (expireAfterAccessMinutes > 0) {
+            caffeine.expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES);
+        }
+
+        this.segmentCache = caffeine
+                .<String, Cache<RegionKey, Object>>removalListener((classpath, segment, removalCause) -> {
+                    if (Objects.nonNull(segment)) {
+                        droppedSegmentStats.accumulateAndGet(segment.stats(), CacheStats::plus);
+                    }
+
+                    rebalance();
+                })
+                .build();
+    }
+
+    /*
+     * The weigher estimates the bytes of a value, see MemoryEstimator.
+     */
+    public <K, V> Region<K, V> region(String name, ToIntFunction<? super V> weigher) {
+        return new Region<>(name, weigher);
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getExpireAfterAccessMinutes() {
+        return expireAfterAccessMinutes;
+    }
+
+    /*
+     * Share of the budget a classpath may currently hold.
+     */
+    public long getSegmentMaximumWeight() {
+        return maximumWeight / Math.max(1, segmentCache.asMap().size());
+    }
+
+    public int getActiveClasspathCount() {
+        return segmentCache.asMap().size();
+    }
+
+    public void invalidateAll() {
+        segmentCache.invalidateAll();
+    }
+
+    CacheStats getStats() {
+        CacheStats cacheStats = droppedSegmentStats.get();
+
+        for (Cache<RegionKey, Object> segment : segmentCache.asMap().values()) {
+            cacheStats = cacheStats.plus(segment.stats());
+        }
+
+        return cacheStats;
+    }
+
+    public long getEstimatedSize() {
+        return segmentCache.asMap().values().stream().mapToLong(Cache::estimatedSize).sum();
+    }
+
+    public long getEstimatedWeight() {
+        return segmentCache.asMap().values().stream().mapToLong(CacheMetrics::getEstimatedWeight).sum();
+    }
+
+    private Cache<RegionKey, Object> getSegment(ClasspathHandle classpathHandle) {
+        return segmentCache.getIfPresent(classpathHandle.getCacheKey());
+    }
+
+    /*
+     * Shares of every segment are reduced before the segment of a new classpath gets entries.
+     */
+    private Cache<RegionKey, Object> getOrCreateSegment(ClasspathHandle classpathHandle) {
+        String classpath = classpathHandle.getCacheKey();
+        Cache<RegionKey, Object> segment = segmentCache.getIfPresent(classpath);
+
+        if (Objects.isNull(segment)) {
+            segment = segmentCache.get(classpath, k -> createSegment());
+            rebalance();
+        }
+
+        return segment;
+    }
+
+    private Cache<RegionKey, Object> createSegment() {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumWeight(getSegmentMaximumWeight())
+                .recordStats();
+
+        if (expireAfterAccessMinutes > 0) {
+            caffeine.expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES);
+        }
+
+        return caffeine
+                .<RegionKey, Object>weigher((regionKey, value) -> ENTRY_SIZE + regionKey.region.weigh(value))
+                .build();
+    }
+
+    private void rebalance() {
+        long segmentMaximumWeight = getSegmentMaximumWeight();
+
+        for (Cache<RegionKey, Object> segment : segmentCache.asMap().values()) {
+            segment.policy().eviction().ifPresent(eviction -> eviction.setMaximum(segmentMaximumWeight));
+        }
+    }
+
+    /**
+     * Typed view of the entries of one kind.
+     */
+    public class Region<K, V> {
+
+        private final String name;
+        private final ToIntFunction<? super V> weigher;
+
+        private Region(String name, ToIntFunction<? super V> weigher) {
+            this.name = name;
+            this.weigher = weigher;
+        }
+
+        @SuppressWarnings("unchecked")
+        public V getIfPresent(ClasspathHandle classpathHandle, K key) {
+            Cache<RegionKey, Object> segment = getSegment(classpathHandle);
+
+            return Objects.nonNull(segment) ? (V) segment.getIfPresent(new RegionKey(this, key)) : null;
+        }
+
+        public V getIfPresent(List<Integer> jarIdList, K key) {
+            return getIfPresent(ClasspathHandle.of(jarIdList), key);
+        }
+
+        public void put(ClasspathHandle classpathHandle, K key, V value) {
+            getOrCreateSegment(classpathHandle).put(new RegionKey(this, key), value);
+        }
+
+        public void put(List<Integer> jarIdList, K key, V value) {
+            put(ClasspathHandle.of(jarIdList), key, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        private int weigh(Object value) {
+            return weigher.applyAsInt((V) value);
+        }
+    }
+
+    /*
+     * Regions are compared by name, so a region created again by another service instance finds the same entries.
+     */
+    private static class RegionKey {
+
+        private final Region<?, ?> region;
+        private final Object key;
+
+        private RegionKey(Region<?, ?> region, Object key) {
+            this.region = region;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            RegionKey regionKey = (RegionKey) o;
+
+            return region.name.equals(regionKey.region.name) && key.equals(regionKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * region.name.hashCode() + key.hashCode();
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+package ca.concordia.apifinder.cache;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.FieldInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import ca.concordia.apifinder.models.typeInfo.ArrayTypeInfo;
+import ca.concordia.apifinder.models.typeInfo.FormalTypeParameterInfo;
+import ca.concordia.apifinder.models.typeInfo.ParameterizedTypeInfo;
+import ca.concordia.apifinder.models.typeInfo.TypeInfo;
+import ca.concordia.apifinder.models.typeInfo.VarargTypeInfo;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Estimated retained bytes of cached entities, used as weights of caches bounded by memory. Estimates assume a 64-bit
+ * JVM with compressed references and compact strings. Strings are counted as if they were owned by the entity, even
+ * when they are interned and shared, so an estimate is an upper bound rather than an exact size.
+ *
+ * @author Diptopol
+ * @since 10/18/2026 12:20 AM
+ */
+public final class MemoryEstimator {
+
+    private static final int REFERENCE_SIZE = 4;
+    private static final int STRING_SIZE = 40;
+    private static final int LIST_SIZE = 32;
+    private static final int SET_ENTRY_SIZE = 32;
+
+    private static final int CLASS_INFO_SIZE = 96;
+    private static final int METHOD_INFO_SIZE = 120;
+    private static final int FIELD_INFO_SIZE = 64;
+    private static final int TYPE_INFO_SIZE = 24;
+    private static final int ASM_TYPE_SIZE = 32;
+
+    private MemoryEstimator() {
+    }
+
+    public static int estimate(String value) {
+        return Objects.nonNull(value) ? STRING_SIZE + value.length() : 0;
+    }
+
+    public static int estimate(Collection<String> values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+
+        int size = LIST_SIZE + values.size() * (values instanceof Set ? SET_ENTRY_SIZE : REFERENCE_SIZE);
+
+        for (String value : values) {
+            size += estimate(value);
+        }
+
+        return size;
+    }
+
+    /*
+     * Method and field infos are only counted if they are loaded into the class info.
+     */
+    public static int estimate(ClassInfo classInfo) {
+        if (Objects.isNull(classInfo)) {
+            return 0;
+        }
+
+        int size = CLASS_INFO_SIZE + ASM_TYPE_SIZE
+                + estimate(classInfo.getName())
+                + estimate(classInfo.getQualifiedName())
+                + estimate(classInfo.getPackageName())
+                + estimate(classInfo.getSignature())
+                + estimate(classInfo.getSuperClassQName())
+                + estimate(classInfo.getInterfaceQNameList())
+                + estimate(classInfo.getInnerClassQNameList())
+                + estimate(classInfo.getTypeInfo());
+
+        if (Objects.nonNull(classInfo.getMethodInfoList())) {
+            size += LIST_SIZE;
+
+            for (MethodInfo methodInfo : classInfo.getMethodInfoList()) {
+                size += REFERENCE_SIZE + estimate(methodInfo);
+            }
+        }
+
+        if (Objects.nonNull(classInfo.getFieldInfoList())) {
+            size += LIST_SIZE;
+
+            for (FieldInfo fieldInfo : classInfo.getFieldInfoList()) {
+                size += REFERENCE_SIZE + estimate(fieldInfo);
+            }
+        }
+
+        return size;
+    }
+
+    public static int estimate(List<ClassInfo> classInfoList) {
+        int size = LIST_SIZE;
+
+        for (ClassInfo classInfo : classInfoList) {
+            size += REFERENCE_SIZE + estimate(classInfo);
+        }
+
+        return size;
+    }
+
+    /*
+     * The class info of the method is shared with the class caches and is not counted.
+     */
+    public static int estimate(MethodInfo methodInfo) {
+        if (Objects.isNull(methodInfo)) {
+            return 0;
+        }
+
+        Set<TypeInfo> visitedTypeInfoSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        int size = METHOD_INFO_SIZE
+                + ASM_TYPE_SIZE * (methodInfo.getArgumentTypes().length + 1)
+                + estimate(methodInfo.getName())
+                + estimate(methodInfo.getSignature())
+                + estimate(methodInfo.getInternalClassConstructorPrefix())
+                + estimate(methodInfo.getThrownInternalClassNames())
+                + estimate(methodInfo.getFormalTypeParameterList(), visitedTypeInfoSet)
+                + estimate(methodInfo.getArgumentTypeInfoList(), visitedTypeInfoSet)
+                + estimate(methodInfo.getReturnTypeInfo(), visitedTypeInfoSet);
+
+        return size;
+    }
+
+    public static int estimate(FieldInfo fieldInfo) {
+        if (Objects.isNull(fieldInfo)) {
+            return 0;
+        }
+
+        return FIELD_INFO_SIZE + ASM_TYPE_SIZE
+                + estimate(fieldInfo.getName())
+                + estimate(fieldInfo.getSignature())
+                + estimate(fieldInfo.getSignatureTypeInfo());
+    }
+
+    public static int estimate(TypeInfo typeInfo) {
+        return estimate(typeInfo, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static int estimate(List<TypeInfo> typeInfoList, Set<TypeInfo> visitedTypeInfoSet) {
+        if (Objects.isNull(typeInfoList)) {
+            return 0;
+        }
+
+        int size = LIST_SIZE;
+
+        for (TypeInfo typeInfo : typeInfoList) {
+            size += REFERENCE_SIZE + estimate(typeInfo, visitedTypeInfoSet);
+        }
+
+        return size;
+    }
+
+    /*
+     * Type infos shared within the graph, e.g., a formal type parameter used by several arguments, are counted once.
+     * Names are counted as references, type info names are interned.
+     */
+    private static int estimate(TypeInfo typeInfo, Set<TypeInfo> visitedTypeInfoSet) {
+        if (Objects.isNull(typeInfo) || !visitedTypeInfoSet.add(typeInfo)) {
+            return 0;
+        }
+
+        int size = TYPE_INFO_SIZE;
+
+        if (typeInfo.isParameterizedTypeInfo()) {
+            size += estimate(((ParameterizedTypeInfo) typeInfo).getTypeArgumentList(), visitedTypeInfoSet);
+
+        } else if (typeInfo.isArrayTypeInfo()) {
+            size += estimate(((ArrayTypeInfo) typeInfo).getElementTypeInfo(), visitedTypeInfoSet);
+
+        } else if (typeInfo.isVarargTypeInfo()) {
+            size += estimate(((VarargTypeInfo) typeInfo).getElementTypeInfo(), visitedTypeInfoSet);
+
+        } else if (typeInfo.isFormalTypeParameterInfo()) {
+            size += estimate(((FormalTypeParameterInfo) typeInfo).getBaseTypeInfo(), visitedTypeInfoSet);
+        }
+
+        return size;
+    }
+
+}
@@ -0,0 +1,80 @@
+package ca.concordia.apifinder.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookups that found nothing, e.g., classes of the project under analysis or names that are not classes. Misses are
+ * kept apart from the found entries, so that repeated misses neither query the metadata store nor take the space of
+ * found entries.
+ *
+ * Misses are grouped in scopes, e.g., the cache key of a classpath. A miss may be found once a jar is stored, so the
+ * misses of every scope with a lookup on the jar are dropped when the jar is stored or removed, as in the persistent
+ * cache.
+ *
+ * @author Diptopol
+ * @since 10/18/2026 3:20 AM
+ */
+public class NegativeLookupCache {
+
+    private final Cache<String, Boolean> missCache;
+
+    /*
+     * Jar ids of the lookups of each scope that has misses on jars.
+     */
+    private final Map<String, Set<Integer>> scopeJarIdSetMap;
+
+    public NegativeLookupCache(Cache<String, Boolean> missCache) {
+        this.missCache = missCache;
+        this.scopeJarIdSetMap = new ConcurrentHashMap<>();
+    }
+
+    public boolean isMissing(String scope, String key) {
+        return Objects.nonNull(missCache.getIfPresent(getMissKey(scope, key)));
+    }
+
+    /*
+     * Miss that is not found by storing a jar, e.g., of a lookup on the jar table itself.
+     */
+    public void putMissing(String scope, String key) {
+        missCache.put(getMissKey(scope, key), Boolean.TRUE);
+    }
+
+    /*
+     * Miss of a lookup on the jars, dropped once any of the jars is stored or removed.
+     */
+    public void putMissing(String scope, List<Integer> jarIdList, String key) {
+        scopeJarIdSetMap.computeIfAbsent(scope, s -> ConcurrentHashMap.newKeySet()).addAll(jarIdList);
+        missCache.put(getMissKey(scope, key), Boolean.TRUE);
+    }
+
+    public void invalidateJar(int jarId) {
+        scopeJarIdSetMap.forEach((scope, jarIdSet) -> {
+            if (jarIdSet.contains(jarId)) {
+                invalidate(scope);
+            }
+        });
+    }
+
+    public void invalidate(String scope) {
+        scopeJarIdSetMap.remove(scope);
+
+        String missKeyPrefix = getMissKey(scope, "");
+        missCache.asMap().keySet().removeIf(missKey -> missKey.startsWith(missKeyPrefix));
+    }
+
+    public void invalidateAll() {
+        scopeJarIdSetMap.clear();
+        missCache.invalidateAll();
+    }
+
+    private static String getMissKey(String scope, String key) {
+        return scope.concat("|").concat(key);
+    }
+
+}
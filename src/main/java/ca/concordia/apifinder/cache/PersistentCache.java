@@ -0,0 +1,553 @@
+package ca.concordia.apifinder.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Second tier of the in memory caches, kept in log files on local disk so that lookups survive the process. Entries
+ * are grouped in scopes, e.g., the lookups of one classpath, and each scope is a log file of records appended by every
+ * process that uses the directory.
+ *
+ * <pre>
+ * file         MAGIC, FORMAT_VERSION, scope, then records
+ * record       type, payload length, CRC32 of the payload, payload
+ * ENTRY        key length, UTF-8 key, value
+ * DEPENDENCY   number of jar ids, jar ids
+ * </pre>
+ *
+ * A scope depends on the jars of its DEPENDENCY records, it is deleted when one of them is stored again or removed.
+ * The last record of a key wins. A record that was not written completely, e.g., by a killed process, ends the log
+ * and is overwritten by the next record. Logs with more stale records than entries are compacted when opened.
+ *
+ * Processes that already opened a scope keep reading the deleted log until they open it again. Entries refer to ids of
+ * the metadata store, the directory has to be deleted when the metadata store is created again.
+ *
+ * Kinds of values are stored in regions, which encode and decode the values of a kind.
+ *
+ * @author Diptopol
+ * @since 10/18/2026 1:30 AM
+ */
+public class PersistentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentCache.class);
+
+    private static final int MAGIC = 0x4a414c32;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte ENTRY = 1;
+    private static final byte DEPENDENCY = 2;
+
+    private static final int RECORD_HEADER_SIZE = 9;
+
+    private static final String LOG_FILE_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long maximumSize;
+
+    private final Map<String, Segment> segmentMap;
+
+    /*
+     * Least recently written logs are deleted while the directory is larger than the maximum size.
+     */
+    public PersistentCache(Path directory, long maximumSize) throws IOException {
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+        this.segmentMap = new ConcurrentHashMap<>();
+
+        Files.createDirectories(directory);
+        deleteLeastRecentlyWrittenLogs();
+    }
+
+    public <V> Region<V> region(String name, Function<V, byte[]> encoder, Function<byte[], V> decoder) {
+        return new Region<>(name, encoder, decoder);
+    }
+
+    /*
+     * Returns null if the key is not in the scope or the scope could not be read.
+     */
+    public byte[] get(String scope, String key) {
+        Segment segment = getSegment(scope);
+
+        try {
+            return Objects.nonNull(segment) ? segment.get(key) : null;
+        } catch (IOException e) {
+            logger.warn("Could not read {} of {} from the persistent cache", key, scope, e);
+
+            return null;
+        }
+    }
+
+    /*
+     * Jar ids are the jars the value was read from, they are added to the dependencies of the scope.
+     */
+    public void put(String scope, Collection<Integer> jarIds, String key, byte[] value) {
+        Segment segment = getSegment(scope);
+
+        if (Objects.isNull(segment)) {
+            return;
+        }
+
+        try {
+            segment.put(jarIds, key, value);
+        } catch (IOException e) {
+            logger.warn("Could not write {} of {} to the persistent cache", key, scope, e);
+        }
+    }
+
+    /*
+     * Deletes every scope that depends on the jar, including scopes only written by other processes.
+     */
+    public void invalidateJar(int jarId) {
+        for (Path logFile : getLogFileList()) {
+            Segment segment = segmentMap.values().stream()
+                    .filter(s -> s.logFile.equals(logFile))
+                    .findFirst()
+                    .orElse(null);
+
+            try {
+                Set<Integer> jarIdSet = Objects.nonNull(segment) ? segment.jarIdSet : readJarIdSet(logFile);
+
+                if (jarIdSet.contains(jarId)) {
+                    delete(logFile, segment);
+                }
+            } catch (IOException e) {
+                logger.warn("Could not invalidate {} of the persistent cache", logFile, e);
+            }
+        }
+    }
+
+    public void invalidate(String scope) {
+        Segment segment = segmentMap.get(scope);
+
+        try {
+            delete(getLogFile(scope), segment);
+        } catch (IOException e) {
+            logger.warn("Could not invalidate {} of the persistent cache", scope, e);
+        }
+    }
+
+    public void invalidateAll() {
+        for (Path logFile : getLogFileList()) {
+            Segment segment = segmentMap.values().stream()
+                    .filter(s -> s.logFile.equals(logFile))
+                    .findFirst()
+                    .orElse(null);
+
+            try {
+                delete(logFile, segment);
+            } catch (IOException e) {
+                logger.warn("Could not invalidate {} of the persistent cache", logFile, e);
+            }
+        }
+    }
+
+    private Segment getSegment(String scope) {
+        try {
+            return segmentMap.computeIfAbsent(scope, s -> {
+                try {
+                    return Segment.open(getLogFile(s), s);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (IllegalStateException e) {
+            logger.warn("Could not open {} of the persistent cache", scope, e.getCause());
+
+            return null;
+        }
+    }
+
+    private void delete(Path logFile, Segment segment) throws IOException {
+        if (Objects.nonNull(segment)) {
+            segmentMap.remove(segment.scope, segment);
+            segment.close();
+        }
+
+        Files.deleteIfExists(logFile);
+    }
+
+    private Path getLogFile(String scope) {
+        return directory.resolve(UUID.nameUUIDFromBytes(scope.getBytes(StandardCharsets.UTF_8)) + LOG_FILE_SUFFIX);
+    }
+
+    private List<Path> getLogFileList() {
+        try (Stream<Path> pathStream = Files.list(directory)) {
+            return pathStream.filter(p -> p.getFileName().toString().endsWith(LOG_FILE_SUFFIX))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warn("Could not list the persistent cache {}", directory, e);
+
+            return Collections.emptyList();
+        }
+    }
+
+    private void deleteLeastRecentlyWrittenLogs() throws IOException {
+        List<File> logFileList = getLogFileList().stream()
+                .map(Path::toFile)
+                .sorted(Comparator.comparingLong(File::lastModified))
+                .collect(Collectors.toList());
+
+        long size = logFileList.stream().mapToLong(File::length).sum();
+
+        for (File logFile : logFileList) {
+            if (size <= maximumSize) {
+                break;
+            }
+
+            size -= logFile.length();
+            Files.deleteIfExists(logFile.toPath());
+        }
+    }
+
+    private static Set<Integer> readJarIdSet(Path logFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            Set<Integer> jarIdSet = new HashSet<>();
+
+            new LogReader(channel).read(null, jarIdSet);
+
+            return jarIdSet;
+        }
+    }
+
+    /**
+     * Values of one kind, keys of a region are prefixed with its name.
+     */
+    public class Region<V> {
+
+        private final String name;
+        private final Function<V, byte[]> encoder;
+        private final Function<byte[], V> decoder;
+
+        private Region(String name, Function<V, byte[]> encoder, Function<byte[], V> decoder) {
+            this.name = name;
+            this.encoder = encoder;
+            this.decoder = decoder;
+        }
+
+        /*
+         * Returns null if the value is not stored or was encoded in another format.
+         */
+        public V getIfPresent(String scope, String key) {
+            byte[] encodedValue = get(scope, name.concat(":").concat(key));
+
+            try {
+                return Objects.nonNull(encodedValue) ? decoder.apply(encodedValue) : null;
+            } catch (RuntimeException e) {
+                logger.warn("Could not decode {} of {} from the persistent cache", key, scope, e);
+
+                return null;
+            }
+        }
+
+        public void put(String scope, Collection<Integer> jarIds, String key, V value) {
+            PersistentCache.this.put(scope, jarIds, name.concat(":").concat(key), encoder.apply(value));
+        }
+    }
+
+    private static class Segment {
+
+        private final Path logFile;
+        private final String scope;
+        private final FileChannel channel;
+
+        private final Map<String, long[]> valuePositionMap;
+        private final Set<Integer> jarIdSet;
+
+        private Segment(Path logFile, String scope, FileChannel channel) {
+            this.logFile = logFile;
+            this.scope = scope;
+            this.channel = channel;
+            this.valuePositionMap = new ConcurrentHashMap<>();
+            this.jarIdSet = ConcurrentHashMap.newKeySet();
+        }
+
+        private static Segment open(Path logFile, String scope) throws IOException {
+            Segment segment = new Segment(logFile, scope,
+                    FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+
+            int recordCount;
+
+            try (FileLock ignored = segment.channel.lock()) {
+                recordCount = segment.load();
+            }
+
+            if (recordCount > 2 * segment.valuePositionMap.size() + 16) {
+                segment.close();
+
+                compact(logFile, scope);
+
+                return open(logFile, scope);
+            }
+
+            return segment;
+        }
+
+        private byte[] get(String key) throws IOException {
+            long[] valuePosition = valuePositionMap.get(key);
+
+            if (Objects.isNull(valuePosition)) {
+                return null;
+            }
+
+            ByteBuffer value = ByteBuffer.allocate((int) valuePosition[1]);
+            readFully(channel, value, valuePosition[0]);
+
+            return value.array();
+        }
+
+        /*
+         * Records are appended under a file lock, so processes sharing the directory do not interleave them.
+         */
+        private synchronized void put(Collection<Integer> jarIds, String key, byte[] value) throws IOException {
+            List<Integer> newJarIdList = jarIds.stream()
+                    .filter(jarId -> !jarIdSet.contains(jarId))
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+
+            try (FileLock ignored = channel.lock()) {
+                long position = channel.size();
+
+                if (!newJarIdList.isEmpty()) {
+                    ByteBuffer dependency = ByteBuffer.allocate(4 + 4 * newJarIdList.size());
+                    dependency.putInt(newJarIdList.size());
+                    newJarIdList.forEach(dependency::putInt);
+
+                    position += writeRecord(channel, position, DEPENDENCY, dependency.array());
+                }
+
+                ByteBuffer entry = ByteBuffer.allocate(4 + keyBytes.length + value.length);
+                entry.putInt(keyBytes.length).put(keyBytes).put(value);
+
+                writeRecord(channel, position, ENTRY, entry.array());
+
+                jarIdSet.addAll(newJarIdList);
+                valuePositionMap.put(key, new long[]{position + RECORD_HEADER_SIZE + 4 + keyBytes.length, value.length});
+            }
+        }
+
+        /*
+         * Returns the number of records. A log of another format is emptied.
+         */
+        private int load() throws IOException {
+            if (channel.size() > 0) {
+                LogReader logReader = new LogReader(channel);
+
+                if (logReader.readHeader()) {
+                    return logReader.read(valuePositionMap, jarIdSet);
+                }
+            }
+
+            channel.truncate(0);
+            writeHeader(channel, scope);
+
+            return 0;
+        }
+
+        private void close() throws IOException {
+            channel.close();
+        }
+
+        /*
+         * Last value of each key and every dependency are written to a new log, which replaces the old one.
+         */
+        private static void compact(Path logFile, String scope) throws IOException {
+            Path compactedLogFile = logFile.resolveSibling(logFile.getFileName() + ".compact");
+
+            try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock();
+                 FileChannel compactedChannel = FileChannel.open(compactedLogFile, StandardOpenOption.CREATE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+                Map<String, long[]> valuePositionMap = new LinkedHashMap<>();
+                Set<Integer> jarIdSet = new LinkedHashSet<>();
+
+                LogReader logReader = new LogReader(channel);
+
+                if (!logReader.readHeader()) {
+                    return;
+                }
+
+                logReader.read(valuePositionMap, jarIdSet);
+
+                long position = writeHeader(compactedChannel, scope);
+
+                ByteBuffer dependency = ByteBuffer.allocate(4 + 4 * jarIdSet.size());
+                dependency.putInt(jarIdSet.size());
+                jarIdSet.forEach(dependency::putInt);
+
+                position += writeRecord(compactedChannel, position, DEPENDENCY, dependency.array());
+
+                for (Map.Entry<String, long[]> valuePositionEntry : valuePositionMap.entrySet()) {
+                    byte[] keyBytes = valuePositionEntry.getKey().getBytes(StandardCharsets.UTF_8);
+                    long[] valuePosition = valuePositionEntry.getValue();
+
+                    ByteBuffer entry = ByteBuffer.allocate(4 + keyBytes.length + (int) valuePosition[1]);
+                    entry.putInt(keyBytes.length).put(keyBytes);
+                    readFully(channel, entry, valuePosition[0]);
+
+                    position += writeRecord(compactedChannel, position, ENTRY, entry.array());
+                }
+
+                compactedChannel.force(true);
+            }
+
+            Files.move(compactedLogFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private static class LogReader {
+
+        private final FileChannel channel;
+        private long position;
+
+        private LogReader(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private boolean readHeader() throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(10);
+
+            if (channel.read(header, 0) < header.capacity()) {
+                return false;
+            }
+
+            header.flip();
+
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                return false;
+            }
+
+            position = header.capacity() + Short.toUnsignedInt(header.getShort());
+
+            return true;
+        }
+
+        /*
+         * Records after the last complete record are cut off. A null map only reads the dependencies.
+         */
+        private int read(Map<String, long[]> valuePositionMap, Set<Integer> jarIdSet) throws IOException {
+            if (position == 0 && !readHeader()) {
+                return 0;
+            }
+
+            long size = channel.size();
+            int recordCount = 0;
+
+            ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+
+            while (position + RECORD_HEADER_SIZE <= size) {
+                recordHeader.clear();
+                readFully(channel, recordHeader, position);
+                recordHeader.flip();
+
+                byte type = recordHeader.get();
+                int payloadLength = recordHeader.getInt();
+                int checksum = recordHeader.getInt();
+
+                if (payloadLength < 0 || position + RECORD_HEADER_SIZE + payloadLength > size) {
+                    break;
+                }
+
+                ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+                readFully(channel, payload, position + RECORD_HEADER_SIZE);
+
+                if (getChecksum(payload.array()) != checksum) {
+                    break;
+                }
+
+                payload.flip();
+
+                if (type == DEPENDENCY) {
+                    int jarIdCount = payload.getInt();
+
+                    for (int i = 0; i < jarIdCount; i++) {
+                        jarIdSet.add(payload.getInt());
+                    }
+
+                } else if (type == ENTRY && Objects.nonNull(valuePositionMap)) {
+                    int keyLength = payload.getInt();
+                    String key = new String(payload.array(), 4, keyLength, StandardCharsets.UTF_8);
+
+                    valuePositionMap.put(key, new long[]{position + RECORD_HEADER_SIZE + 4 + keyLength,
+                            payloadLength - 4 - keyLength});
+                }
+
+                position += RECORD_HEADER_SIZE + payloadLength;
+                recordCount++;
+            }
+
+            if (position < size && Objects.nonNull(valuePositionMap)) {
+                channel.truncate(position);
+            }
+
+            return recordCount;
+        }
+    }
+
+    private static long writeHeader(FileChannel channel, String scope) throws IOException {
+        byte[] scopeBytes = scope.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer header = ByteBuffer.allocate(10 + scopeBytes.length);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putShort((short) scopeBytes.length).put(scopeBytes);
+        header.flip();
+
+        writeFully(channel, header, 0);
+
+        return header.capacity();
+    }
+
+    private static long writeRecord(FileChannel channel, long position, byte type, byte[] payload) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        record.put(type).putInt(payload.length).putInt(getChecksum(payload)).put(payload);
+        record.flip();
+
+        writeFully(channel, record, position);
+
+        return record.capacity();
+    }
+
+    private static int getChecksum(byte[] payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+
+        return (int) crc32.getValue();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+
+            if (read < 0) {
+                throw new IOException("Unexpected end of the persistent cache log");
+            }
+
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+}
@@ -0,0 +1,279 @@
+package ca.concordia.apifinder.cache;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import ca.concordia.apifinder.models.ClasspathHandle;
+import ca.concordia.apifinder.util.StringInterner;
+import org.objectweb.asm.Type;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Binary encoding of the values kept in the {@link PersistentCache}. Entities are encoded with the columns they are
+ * read with from the metadata store, type infos are built again from the signature when an entity is decoded.
+ *
+ * Decoders return null for an encoding of another format version, the value has to be loaded again then.
+ *
+ * @author Diptopol
+ * @since 10/18/2026 1:50 AM
+ */
+public final class PersistentCacheCodec {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private PersistentCacheCodec() {
+    }
+
+    public static byte[] encodeClassInfoList(List<ClassInfo> classInfoList) {
+        return encode(output -> {
+            output.writeInt(classInfoList.size());
+
+            for (ClassInfo classInfo : classInfoList) {
+                output.writeInt(classInfo.getId());
+                output.writeInt(classInfo.getJarId());
+
+                writeString(output, classInfo.getName());
+                writeString(output, classInfo.getQualifiedName());
+                writeString(output, classInfo.getPackageName());
+                writeString(output, classInfo.getType().getDescriptor());
+                writeString(output, classInfo.getSignature());
+
+                output.writeBoolean(classInfo.isAbstract());
+                output.writeBoolean(classInfo.isInterface());
+                output.writeBoolean(classInfo.isEnum());
+                output.writeBoolean(classInfo.isPublic());
+                output.writeBoolean(classInfo.isPrivate());
+                output.writeBoolean(classInfo.isProtected());
+                output.writeBoolean(classInfo.isInnerClass());
+                output.writeBoolean(classInfo.isAnonymousInnerClass());
+            }
+        });
+    }
+
+    public static List<ClassInfo> decodeClassInfoList(byte[] encodedClassInfoList) {
+        return decode(encodedClassInfoList, input -> {
+            int size = input.readInt();
+            List<ClassInfo> classInfoList = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                ClassInfo classInfo = new ClassInfo();
+
+                classInfo.setId(input.readInt());
+                classInfo.setJarId(input.readInt());
+
+                classInfo.setName(readString(input));
+                classInfo.setQualifiedName(readString(input));
+                classInfo.setPackageName(readString(input));
+                classInfo.setType(Type.getType(readString(input)));
+                classInfo.setSignature(readString(input));
+
+                classInfo.setAbstract(input.readBoolean());
+                classInfo.setInterface(input.readBoolean());
+                classInfo.setEnum(input.readBoolean());
+                classInfo.setPublic(input.readBoolean());
+                classInfo.setPrivate(input.readBoolean());
+                classInfo.setProtected(input.readBoolean());
+                classInfo.setInnerClass(input.readBoolean());
+                classInfo.setAnonymousInnerClass(input.readBoolean());
+
+                classInfoList.add(classInfo);
+            }
+
+            return classInfoList;
+        });
+    }
+
+    /*
+     * Type infos and the class info of the methods are not encoded.
+     */
+    public static byte[] encodeMethodInfoList(List<MethodInfo> methodInfoList) {
+        return encode(output -> {
+            output.writeInt(methodInfoList.size());
+
+            for (MethodInfo methodInfo : methodInfoList) {
+                output.writeInt(methodInfo.getId());
+                output.writeInt(methodInfo.getClassInfoId());
+
+                writeString(output, methodInfo.getName());
+                writeString(output, methodInfo.getSignature());
+                writeString(output, methodInfo.getInternalClassConstructorPrefix());
+                writeString(output, methodInfo.getReturnType().getDescriptor());
+
+                Type[] argumentTypes = methodInfo.getArgumentTypes();
+                output.writeInt(argumentTypes.length);
+
+                for (Type argumentType : argumentTypes) {
+                    writeString(output, argumentType.getDescriptor());
+                }
+
+                writeStringCollection(output, methodInfo.getThrownInternalClassNames());
+
+                output.writeBoolean(methodInfo.isAbstract());
+                output.writeBoolean(methodInfo.isConstructor());
+                output.writeBoolean(methodInfo.isStatic());
+                output.writeBoolean(methodInfo.isPublic());
+                output.writeBoolean(methodInfo.isPrivate());
+                output.writeBoolean(methodInfo.isProtected());
+                output.writeBoolean(methodInfo.isSynchronized());
+                output.writeBoolean(methodInfo.isFinal());
+                output.writeBoolean(methodInfo.isVarargs());
+                output.writeBoolean(methodInfo.isBridgeMethod());
+            }
+        });
+    }
+
+    public static List<MethodInfo> decodeMethodInfoList(byte[] encodedMethodInfoList) {
+        return decode(encodedMethodInfoList, input -> {
+            int size = input.readInt();
+            List<MethodInfo> methodInfoList = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                MethodInfo methodInfo = new MethodInfo();
+
+                methodInfo.setId(input.readInt());
+                methodInfo.setClassInfoId(input.readInt());
+
+                methodInfo.setName(readString(input));
+                methodInfo.setSignature(readString(input));
+                methodInfo.setInternalClassConstructorPrefix(readString(input));
+                methodInfo.setReturnType(Type.getType(readString(input)));
+
+                Type[] argumentTypes = new Type[input.readInt()];
+
+                for (int j = 0; j < argumentTypes.length; j++) {
+                    argumentTypes[j] = Type.getType(readString(input));
+                }
+
+                methodInfo.setArgumentTypes(argumentTypes);
+                methodInfo.setThrownInternalClassNames(readStringCollection(input, new ArrayList<>()));
+
+                methodInfo.setAbstract(input.readBoolean());
+                methodInfo.setConstructor(input.readBoolean());
+                methodInfo.setStatic(input.readBoolean());
+                methodInfo.setPublic(input.readBoolean());
+                methodInfo.setPrivate(input.readBoolean());
+                methodInfo.setProtected(input.readBoolean());
+                methodInfo.setSynchronized(input.readBoolean());
+                methodInfo.setFinal(input.readBoolean());
+                methodInfo.setVarargs(input.readBoolean());
+                methodInfo.setBridgeMethod(input.readBoolean());
+
+                methodInfoList.add(methodInfo);
+            }
+
+            return methodInfoList;
+        });
+    }
+
+    public static byte[] encodeStringSet(Set<String> stringSet) {
+        return encode(output -> writeStringCollection(output, stringSet));
+    }
+
+    public static Set<String> decodeStringSet(byte[] encodedStringSet) {
+        return decode(encodedStringSet, input -> readStringCollection(input, new LinkedHashSet<>()));
+    }
+
+    public static byte[] encodeClasspathHandle(ClasspathHandle classpathHandle) {
+        return encode(output -> {
+            output.writeInt(classpathHandle.getId());
+            writeString(output, classpathHandle.getJavaVersion());
+            writeIntegerList(output, classpathHandle.getJarIdList());
+            writeIntegerList(output, classpathHandle.getInternalDependencyJarIdList());
+        });
+    }
+
+    public static ClasspathHandle decodeClasspathHandle(byte[] encodedClasspathHandle) {
+        return decode(encodedClasspathHandle, input -> new ClasspathHandle(input.readInt(), readString(input),
+                readIntegerList(input), readIntegerList(input)));
+    }
+
+    private static byte[] encode(Encoder encoder) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(256);
+        DataOutputStream output = new DataOutputStream(byteArrayOutputStream);
+
+        try {
+            output.writeByte(FORMAT_VERSION);
+            encoder.encode(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static <T> T decode(byte[] encoding, Decoder<T> decoder) {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(encoding));
+
+        try {
+            return input.readByte() == FORMAT_VERSION ? decoder.decode(input) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        output.writeBoolean(Objects.nonNull(value));
+
+        if (Objects.nonNull(value)) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        return input.readBoolean() ? StringInterner.intern(input.readUTF()) : null;
+    }
+
+    private static void writeStringCollection(DataOutputStream output, Collection<String> values) throws IOException {
+        output.writeInt(values.size());
+
+        for (String value : values) {
+            writeString(output, value);
+        }
+    }
+
+    private static <C extends Collection<String>> C readStringCollection(DataInputStream input, C values) throws IOException {
+        int size = input.readInt();
+
+        for (int i = 0; i < size; i++) {
+            values.add(readString(input));
+        }
+
+        return values;
+    }
+
+    private static void writeIntegerList(DataOutputStream output, List<Integer> values) throws IOException {
+        output.writeInt(values.size());
+
+        for (int value : values) {
+            output.writeInt(value);
+        }
+    }
+
+    private static List<Integer> readIntegerList(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        List<Integer> values = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            values.add(input.readInt());
+        }
+
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(DataOutputStream output) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T> {
+        T decode(DataInputStream input) throws IOException;
+    }
+
+}
@@ -12,6 +12,8 @@ import java.util.List;
  */
 public class ClassInfo {
 
+    public static final String ANONYMOUS_INNER_CLASS_NAME_REGEX = ".*\\.[0-9]+";
+
     private int id;
     private String name;
     private String qualifiedName;
@@ -51,6 +53,7 @@ public class ClassInfo {
     public ClassInfo(ClassInfo otherClassInfo, TypeInfo otherClassTypeInfo) {
         this();
 
+        this.id = otherClassInfo.getId();
         this.name = otherClassInfo.getName();
         this.qualifiedName = otherClassInfo.getQualifiedName();
         this.packageName = otherClassInfo.getPackageName();
@@ -1,5 +1,6 @@
 package ca.concordia.apifinder.entity;
 
+import ca.concordia.apifinder.models.typeInfo.TypeInfo;
 import org.objectweb.asm.Type;
 
 /**
@@ -21,6 +22,11 @@ public class FieldInfo {
     private boolean isStatic;
     private String signature;
 
+    /*
+     * Type info decoded from the stored parsed signature, null when the signature has to be parsed.
+     */
+    private TypeInfo signatureTypeInfo;
+
     public FieldInfo() {
     }
 
@@ -104,6 +110,14 @@ public class FieldInfo {
         this.signature = signature;
     }
 
+    public TypeInfo getSignatureTypeInfo() {
+        return signatureTypeInfo;
+    }
+
+    public void setSignatureTypeInfo(TypeInfo signatureTypeInfo) {
+        this.signatureTypeInfo = signatureTypeInfo;
+    }
+
     public static FieldInfo getLengthFieldInfoOfArray() {
         FieldInfo lengthFieldInfo = new FieldInfo();
 
@@ -14,6 +14,8 @@ public class JarInfo {
     private String artifactId;
     private String version;
 
+    private String contentHash;
+
     private JarFile jarFile;
 
     //during save
@@ -69,6 +71,14 @@ public class JarInfo {
         this.version = version;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public JarFile getJarFile() {
         return jarFile;
     }
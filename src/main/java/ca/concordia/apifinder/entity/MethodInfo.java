@@ -3,8 +3,11 @@ package ca.concordia.apifinder.entity;
 import ca.concordia.apifinder.models.typeInfo.TypeInfo;
 import org.objectweb.asm.Type;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -50,6 +53,42 @@ public class MethodInfo {
     public MethodInfo() {
     }
 
+    /*
+     * Method info of a single lookup, the template is shared between lookups and is not modified. Class info is set
+     * by the lookup.
+     */
+    public MethodInfo(MethodInfoTemplate methodInfoTemplate) {
+        this.id = methodInfoTemplate.getId();
+        this.name = methodInfoTemplate.getName();
+        this.classInfoId = methodInfoTemplate.getClassInfoId();
+
+        this.argumentTypes = methodInfoTemplate.getArgumentTypes();
+        this.returnType = methodInfoTemplate.getReturnType();
+        this.thrownInternalClassNames = new ArrayList<>(methodInfoTemplate.getThrownInternalClassNames());
+
+        this.isPublic = methodInfoTemplate.isPublic();
+        this.isPrivate = methodInfoTemplate.isPrivate();
+        this.isProtected = methodInfoTemplate.isProtected();
+        this.isAbstract = methodInfoTemplate.isAbstract();
+        this.isStatic = methodInfoTemplate.isStatic();
+        this.isSynchronized = methodInfoTemplate.isSynchronized();
+        this.isConstructor = methodInfoTemplate.isConstructor();
+        this.isVarargs = methodInfoTemplate.isVarargs();
+        this.isFinal = methodInfoTemplate.isFinal();
+        this.isBridgeMethod = methodInfoTemplate.isBridgeMethod();
+
+        this.internalClassConstructorPrefix = methodInfoTemplate.getInternalClassConstructorPrefix();
+        this.signature = methodInfoTemplate.getSignature();
+
+        /* One map for all copies keeps formal type parameters shared between arguments and return type */
+        Map<TypeInfo, TypeInfo> copiedTypeInfoMap = new IdentityHashMap<>();
+
+        this.argumentTypeInfoList = TypeInfo.copy(methodInfoTemplate.getArgumentTypeInfoList(), copiedTypeInfoMap);
+        this.returnTypeInfo = Objects.nonNull(methodInfoTemplate.getReturnTypeInfo())
+                ? methodInfoTemplate.getReturnTypeInfo().copy(copiedTypeInfoMap) : null;
+        this.formalTypeParameterList = TypeInfo.copy(methodInfoTemplate.getFormalTypeParameterList(), copiedTypeInfoMap);
+    }
+
     public int getId() {
         return id;
     }
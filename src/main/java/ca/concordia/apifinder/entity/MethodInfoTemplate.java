@@ -0,0 +1,177 @@
+package ca.concordia.apifinder.entity;
+
+import ca.concordia.apifinder.cache.MemoryEstimator;
+import ca.concordia.apifinder.models.typeInfo.TypeInfo;
+import org.objectweb.asm.Type;
+
+import java.util.List;
+
+/**
+ * Stored metadata of a method, loaded once and shared by every lookup that finds the method. A template is never
+ * modified, each lookup gets its own {@link MethodInfo} with the matching distances and inferred types of that lookup.
+ *
+ * Type infos parsed from the signature are kept in the template and only handed out as copies, since inference
+ * substitutes generic types inside them.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 9:50 PM
+ */
+public final class MethodInfoTemplate {
+
+    private final int id;
+    private final String name;
+    private final int classInfoId;
+
+    private final Type[] argumentTypes;
+    private final Type returnType;
+    private final List<String> thrownInternalClassNames;
+
+    private final boolean isPublic;
+    private final boolean isPrivate;
+    private final boolean isProtected;
+    private final boolean isAbstract;
+    private final boolean isStatic;
+    private final boolean isSynchronized;
+    private final boolean isConstructor;
+    private final boolean isVarargs;
+    private final boolean isFinal;
+    private final boolean isBridgeMethod;
+
+    private final String internalClassConstructorPrefix;
+    private final String signature;
+
+    private final List<TypeInfo> argumentTypeInfoList;
+    private final TypeInfo returnTypeInfo;
+    private final List<TypeInfo> formalTypeParameterList;
+
+    private final int estimatedSize;
+
+    /*
+     * Type infos of the method info are taken over by the template, the method info must not be used afterwards.
+     */
+    public MethodInfoTemplate(MethodInfo methodInfo) {
+        this.id = methodInfo.getId();
+        this.name = methodInfo.getName();
+        this.classInfoId = methodInfo.getClassInfoId();
+
+        this.argumentTypes = methodInfo.getArgumentTypes().clone();
+        this.returnType = methodInfo.getReturnType();
+        this.thrownInternalClassNames = List.copyOf(methodInfo.getThrownInternalClassNames());
+
+        this.isPublic = methodInfo.isPublic();
+        this.isPrivate = methodInfo.isPrivate();
+        this.isProtected = methodInfo.isProtected();
+        this.isAbstract = methodInfo.isAbstract();
+        this.isStatic = methodInfo.isStatic();
+        this.isSynchronized = methodInfo.isSynchronized();
+        this.isConstructor = methodInfo.isConstructor();
+        this.isVarargs = methodInfo.isVarargs();
+        this.isFinal = methodInfo.isFinal();
+        this.isBridgeMethod = methodInfo.isBridgeMethod();
+
+        this.internalClassConstructorPrefix = methodInfo.getInternalClassConstructorPrefix();
+        this.signature = methodInfo.getSignature();
+
+        this.argumentTypeInfoList = methodInfo.getArgumentTypeInfoList();
+        this.returnTypeInfo = methodInfo.getReturnTypeInfo();
+        this.formalTypeParameterList = methodInfo.getFormalTypeParameterList();
+
+        this.estimatedSize = MemoryEstimator.estimate(methodInfo);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getClassInfoId() {
+        return classInfoId;
+    }
+
+    public Type[] getArgumentTypes() {
+        return argumentTypes.clone();
+    }
+
+    public int getArity() {
+        return argumentTypes.length;
+    }
+
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    public List<String> getThrownInternalClassNames() {
+        return thrownInternalClassNames;
+    }
+
+    public boolean isPublic() {
+        return isPublic;
+    }
+
+    public boolean isPrivate() {
+        return isPrivate;
+    }
+
+    public boolean isProtected() {
+        return isProtected;
+    }
+
+    public boolean isAbstract() {
+        return isAbstract;
+    }
+
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    public boolean isSynchronized() {
+        return isSynchronized;
+    }
+
+    public boolean isConstructor() {
+        return isConstructor;
+    }
+
+    public boolean isVarargs() {
+        return isVarargs;
+    }
+
+    public boolean isFinal() {
+        return isFinal;
+    }
+
+    public boolean isBridgeMethod() {
+        return isBridgeMethod;
+    }
+
+    public String getInternalClassConstructorPrefix() {
+        return internalClassConstructorPrefix;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    /*
+     * Estimated bytes of the template, estimated once since a template is never modified.
+     */
+    public int getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    List<TypeInfo> getArgumentTypeInfoList() {
+        return argumentTypeInfoList;
+    }
+
+    TypeInfo getReturnTypeInfo() {
+        return returnTypeInfo;
+    }
+
+    List<TypeInfo> getFormalTypeParameterList() {
+        return formalTypeParameterList;
+    }
+
+}
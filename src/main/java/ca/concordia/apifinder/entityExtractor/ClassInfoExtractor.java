@@ -1,23 +1,20 @@
 package ca.concordia.apifinder.entityExtractor;
 
 import ca.concordia.apifinder.entity.ClassInfo;
-import ca.concordia.apifinder.entity.FieldInfo;
-import ca.concordia.apifinder.entity.MethodInfo;
+import ca.concordia.apifinder.util.PropertyReader;
 import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.Type;
-import org.objectweb.asm.tree.ClassNode;
-import org.objectweb.asm.tree.FieldNode;
-import org.objectweb.asm.tree.InnerClassNode;
-import org.objectweb.asm.tree.MethodNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
-import java.util.jar.JarEntry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -29,30 +26,16 @@ public class ClassInfoExtractor {
 
     private static final Logger logger = LoggerFactory.getLogger(ClassInfoExtractor.class);
 
-    private static final String ANONYMOUS_INNER_CLASS_NAME_REGEX = ".*\\.[0-9]+";
+    private static final int EXTRACTION_PARALLELISM =
+            Integer.parseInt(PropertyReader.getProperty("class.info.extraction.parallelism"));
 
-    public static List<ClassInfo> getClassInfoList(ZipFile jmodFile) {
-        Enumeration<? extends ZipEntry> entries = jmodFile.entries();
-        List<ClassInfo> classInfoList = new ArrayList<>();
-
-        while (entries.hasMoreElements()) {
-            ZipEntry entry = entries.nextElement();
-            String entryName = entry.getName();
-
-            if (entryName.startsWith("classes/")
-                    && entryName.endsWith(".class") && !entryName.equals("classes/module-info.class")) {
+    private static final ForkJoinPool EXTRACTION_POOL = new ForkJoinPool(Math.max(EXTRACTION_PARALLELISM, 1));
 
-                ClassNode classNode = getClassNode(jmodFile, entry);
+    private static final int EXTRACTION_WINDOW_SIZE = 256;
 
-                if (Objects.nonNull(classNode)) {
-                    ClassInfo classInfo = getClassInfo(classNode);
-                    classInfo.setMethodInfoList(getMethodInfoList(classNode, classInfo));
-                    classInfo.setFieldInfoList(getFieldInfoList(classNode));
-
-                    classInfoList.add(classInfo);
-                }
-            }
-        }
+    public static List<ClassInfo> getClassInfoList(ZipFile jmodFile) {
+        List<ClassInfo> classInfoList = new ArrayList<>();
+        extractClassInfo(jmodFile, classInfoList::add);
 
         populateInnerClassList(classInfoList);
 
@@ -60,156 +43,99 @@ public class ClassInfoExtractor {
     }
 
     public static List<ClassInfo> getClassInfoList(JarFile jarFile) {
-        Enumeration<JarEntry> entries = jarFile.entries();
         List<ClassInfo> classInfoList = new ArrayList<>();
-
-        while (entries.hasMoreElements()) {
-            JarEntry entry = entries.nextElement();
-            String entryName = entry.getName();
-
-            if (entryName.endsWith(".class") && !entryName.equals("module-info.class")) {
-                ClassNode classNode = getClassNode(jarFile, entry);
-
-                if (Objects.nonNull(classNode)) {
-                    ClassInfo classInfo = getClassInfo(classNode);
-                    classInfo.setMethodInfoList(getMethodInfoList(classNode, classInfo));
-                    classInfo.setFieldInfoList(getFieldInfoList(classNode));
-
-                    classInfoList.add(classInfo);
-                }
-            }
-        }
+        extractClassInfo(jarFile, classInfoList::add);
 
         populateInnerClassList(classInfoList);
 
         return classInfoList;
     }
 
-    private static ClassInfo getClassInfo(ClassNode classNode) {
-        ClassInfo classInfo = new ClassInfo();
-
-        classInfo.setInnerClass(classNode.name.contains("$"));
-
-        classInfo.setAnonymousInnerClass(classNode.name.matches(ANONYMOUS_INNER_CLASS_NAME_REGEX));
-        classInfo.setQualifiedName(getQualifiedClassName(classNode.name));
-
-        if (classNode.name.contains("/")) {
-            classInfo.setName(classNode.name.substring(classNode.name.lastIndexOf('/') + 1));
-            classInfo.setPackageName(classNode.name.substring(0, classNode.name.lastIndexOf('/')).replace('/', '.'));
-
-        } else {
-            classInfo.setName(classNode.name);
-        }
-
-        classInfo.setType(Type.getObjectType(classNode.name));
-        classInfo.setSignature(classNode.signature);
-
-        int access = classNode.access;
-
-        /*
-         * access (for inner classes) does not reflact acces of classNode. Instead, we have to fetch access property
-         * of innerClassNode and use it.
-         */
-        for (InnerClassNode innerClassNode : classNode.innerClasses) {
-            if (innerClassNode.name.equals(classNode.name)) {
-                access = innerClassNode.access;
-            }
-        }
-
-        if ((access & Opcodes.ACC_PUBLIC) != 0) {
-            classInfo.setPublic(true);
-        } else if ((access & Opcodes.ACC_PROTECTED) != 0) {
-            classInfo.setProtected(true);
-        } else if ((access & Opcodes.ACC_PRIVATE) != 0) {
-            classInfo.setPrivate(true);
-        }
-
-        if ((access & Opcodes.ACC_ABSTRACT) != 0) {
-            classInfo.setAbstract(true);
-        }
-
-        if ((access & Opcodes.ACC_INTERFACE) != 0) {
-            classInfo.setInterface(true);
-        }
-
-        if ((access & Opcodes.ACC_ENUM) != 0) {
-            classInfo.setEnum(true);
-        }
-
-        if (Objects.nonNull(classNode.superName)) {
-            classInfo.setSuperClassQName(getQualifiedClassName(classNode.superName));
-        }
-
-        classInfo.setInterfaceQNameList(getInterfaceQNameList(classNode));
-
-        return classInfo;
+    /*
+     * Streams the classes of the jmod to the consumer in entry order. Inner class lists are not populated, since
+     * that requires all classes of the module.
+     */
+    public static void extractClassInfo(ZipFile jmodFile, Consumer<ClassInfo> classInfoConsumer) {
+        extractClassInfo(jmodFile, entryName -> entryName.startsWith("classes/")
+                && entryName.endsWith(".class") && !entryName.equals("classes/module-info.class"), classInfoConsumer);
     }
 
-    private static List<FieldInfo> getFieldInfoList(ClassNode classNode) {
-        List<FieldNode> fieldNodeList = classNode.fields;
-        List<FieldInfo> fieldInfoList = new ArrayList<>();
-
-        for (FieldNode fieldNode: fieldNodeList) {
-            fieldInfoList.add(FieldInfoExtractor.getFieldInfo(fieldNode));
-        }
-
-        return fieldInfoList;
+    /*
+     * Streams the classes of the jar to the consumer in entry order. Inner class lists are not populated, since
+     * that requires all classes of the jar.
+     */
+    public static void extractClassInfo(JarFile jarFile, Consumer<ClassInfo> classInfoConsumer) {
+        extractClassInfo(jarFile, entryName -> entryName.endsWith(".class")
+                && !entryName.equals("module-info.class"), classInfoConsumer);
     }
 
-    private static List<MethodInfo> getMethodInfoList(ClassNode classNode, ClassInfo classInfo) {
-        List<MethodNode> methodNodeList = classNode.methods;
-        List<MethodInfo> methodInfoList = new ArrayList<>();
+    /*
+     * Class files are read in windows, so only a window of raw class files is held at a time.
+     */
+    private static void extractClassInfo(ZipFile zipFile,
+                                         Predicate<String> entryNameFilter,
+                                         Consumer<ClassInfo> classInfoConsumer) {
 
-        for (MethodNode methodNode : methodNodeList) {
-            methodInfoList.add(MethodInfoExtractor.getMethodInfo(methodNode, classInfo));
-        }
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        List<byte[]> classFileList = new ArrayList<>(EXTRACTION_WINDOW_SIZE);
 
-        return methodInfoList;
-    }
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
 
-    private static List<String> getInterfaceQNameList(ClassNode classNode) {
-        List<String> implementedInterfaces = classNode.interfaces;
+            if (entryNameFilter.test(entry.getName())) {
+                try (InputStream classFileInputStream = zipFile.getInputStream(entry)) {
+                    classFileList.add(classFileInputStream.readAllBytes());
+                } catch (IOException e) {
+                    logger.error("Error", e);
+                }
 
-        List<String> interfaceQNameList = new ArrayList<>();
-        for (String interfaceName : implementedInterfaces) {
-            interfaceQNameList.add(getQualifiedClassName(interfaceName));
+                if (classFileList.size() == EXTRACTION_WINDOW_SIZE) {
+                    getClassInfoList(classFileList).forEach(classInfoConsumer);
+                    classFileList.clear();
+                }
+            }
         }
 
-        return interfaceQNameList;
-    }
-
-    private static String getQualifiedClassName(String className) {
-        String qualifiedClassName = className.replace('/', '.');
-
-        return qualifiedClassName.contains("$")
-                ? qualifiedClassName.replaceAll("\\$", ".")
-                : qualifiedClassName;
+        getClassInfoList(classFileList).forEach(classInfoConsumer);
     }
 
-    private static ClassNode getClassNode(JarFile jarFile, JarEntry jarEntry) {
-        try (InputStream classFileInputStream = jarFile.getInputStream(jarEntry)) {
-            ClassNode classNode = new ClassNode();
-
-            ClassReader classReader = new ClassReader(classFileInputStream);
-            classReader.accept(classNode, 0);
-
-            return classNode;
-        } catch (IOException e) {
-            logger.error("Error", e);
+    /*
+     * Class files are parsed on a bounded pool. The ordered stream keeps the result in entry order, so inner class
+     * population and the stored rows do not depend on thread scheduling.
+     */
+    private static List<ClassInfo> getClassInfoList(List<byte[]> classFileList) {
+        if (EXTRACTION_PARALLELISM > 1 && classFileList.size() > 1) {
+            try {
+                return EXTRACTION_POOL.submit(() -> classFileList.parallelStream()
+                        .map(ClassInfoExtractor::getClassInfo)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()))
+                        .get();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        } else {
+            return classFileList.stream()
+                    .map(ClassInfoExtractor::getClassInfo)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
         }
-
-        return null;
     }
 
-    private static ClassNode getClassNode(ZipFile zipFile, ZipEntry zipEntry) {
-        try (InputStream classFileInputStream = zipFile.getInputStream(zipEntry)) {
-            ClassNode classNode = new ClassNode();
+    private static ClassInfo getClassInfo(byte[] classFile) {
+        try {
+            ClassInfoVisitor classInfoVisitor = new ClassInfoVisitor();
 
-            ClassReader classReader = new ClassReader(classFileInputStream);
-            classReader.accept(classNode, 0);
+            ClassReader classReader = new ClassReader(classFile);
+            classReader.accept(classInfoVisitor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
 
-            return classNode;
-        } catch (IOException e) {
+            return classInfoVisitor.getClassInfo();
+        } catch (RuntimeException e) {
             logger.error("Error", e);
         }
 
@@ -226,7 +152,7 @@ public class ClassInfoExtractor {
         }
 
         for (ClassInfo classInfo: classInfoList) {
-            if (classInfo.isInnerClass() && !classInfo.getQualifiedName().matches(ANONYMOUS_INNER_CLASS_NAME_REGEX)) {
+            if (classInfo.isInnerClass() && !classInfo.getQualifiedName().matches(ClassInfo.ANONYMOUS_INNER_CLASS_NAME_REGEX)) {
                 String outerClassQualifiedName = classInfo.getOuterClassQualifiedName();
 
                 if (classInfoMap.containsKey(outerClassQualifiedName)) {
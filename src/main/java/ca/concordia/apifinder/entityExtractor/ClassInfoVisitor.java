@@ -0,0 +1,144 @@
+package ca.concordia.apifinder.entityExtractor;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.FieldInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds {@link ClassInfo} with its methods and fields directly from the class file declarations. Method bodies are
+ * never visited, so the reader can be used with {@code SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES}.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 10:12 AM
+ */
+public class ClassInfoVisitor extends ClassVisitor {
+
+    private final ClassInfo classInfo;
+    private final List<MethodInfo> methodInfoList;
+    private final List<FieldInfo> fieldInfoList;
+
+    private String className;
+    private int access;
+
+    public ClassInfoVisitor() {
+        super(Opcodes.ASM9);
+
+        this.classInfo = new ClassInfo();
+        this.methodInfoList = new ArrayList<>();
+        this.fieldInfoList = new ArrayList<>();
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        this.className = name;
+        this.access = access;
+
+        classInfo.setInnerClass(name.contains("$"));
+
+        classInfo.setAnonymousInnerClass(name.matches(ClassInfo.ANONYMOUS_INNER_CLASS_NAME_REGEX));
+        classInfo.setQualifiedName(getQualifiedClassName(name));
+
+        if (name.contains("/")) {
+            classInfo.setName(name.substring(name.lastIndexOf('/') + 1));
+            classInfo.setPackageName(name.substring(0, name.lastIndexOf('/')).replace('/', '.'));
+
+        } else {
+            classInfo.setName(name);
+        }
+
+        classInfo.setType(Type.getObjectType(name));
+        classInfo.setSignature(signature);
+
+        if (Objects.nonNull(superName)) {
+            classInfo.setSuperClassQName(getQualifiedClassName(superName));
+        }
+
+        List<String> interfaceQNameList = new ArrayList<>();
+
+        if (Objects.nonNull(interfaces)) {
+            for (String interfaceName : interfaces) {
+                interfaceQNameList.add(getQualifiedClassName(interfaceName));
+            }
+        }
+
+        classInfo.setInterfaceQNameList(interfaceQNameList);
+    }
+
+    @Override
+    public void visitInnerClass(String name, String outerName, String innerName, int access) {
+        /*
+         * access (for inner classes) does not reflact acces of the class. Instead, we have to use the access
+         * property of the matching inner class entry.
+         */
+        if (name.equals(className)) {
+            this.access = access;
+        }
+    }
+
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+        fieldInfoList.add(FieldInfoExtractor.getFieldInfo(access, name, descriptor, signature));
+
+        return null;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        List<String> exceptionList = Objects.nonNull(exceptions)
+                ? new ArrayList<>(Arrays.asList(exceptions))
+                : new ArrayList<>();
+
+        methodInfoList.add(MethodInfoExtractor.getMethodInfo(access, name, descriptor, signature, exceptionList, classInfo));
+
+        return null;
+    }
+
+    @Override
+    public void visitEnd() {
+        if ((access & Opcodes.ACC_PUBLIC) != 0) {
+            classInfo.setPublic(true);
+        } else if ((access & Opcodes.ACC_PROTECTED) != 0) {
+            classInfo.setProtected(true);
+        } else if ((access & Opcodes.ACC_PRIVATE) != 0) {
+            classInfo.setPrivate(true);
+        }
+
+        if ((access & Opcodes.ACC_ABSTRACT) != 0) {
+            classInfo.setAbstract(true);
+        }
+
+        if ((access & Opcodes.ACC_INTERFACE) != 0) {
+            classInfo.setInterface(true);
+        }
+
+        if ((access & Opcodes.ACC_ENUM) != 0) {
+            classInfo.setEnum(true);
+        }
+
+        classInfo.setMethodInfoList(methodInfoList);
+        classInfo.setFieldInfoList(fieldInfoList);
+    }
+
+    public ClassInfo getClassInfo() {
+        return classInfo;
+    }
+
+    private static String getQualifiedClassName(String className) {
+        String qualifiedClassName = className.replace('/', '.');
+
+        return qualifiedClassName.contains("$")
+                ? qualifiedClassName.replaceAll("\\$", ".")
+                : qualifiedClassName;
+    }
+
+}
@@ -3,7 +3,6 @@ package ca.concordia.apifinder.entityExtractor;
 import ca.concordia.apifinder.entity.FieldInfo;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
-import org.objectweb.asm.tree.FieldNode;
 
 /**
  * @author Diptopol
@@ -11,25 +10,25 @@ import org.objectweb.asm.tree.FieldNode;
  */
 public class FieldInfoExtractor {
 
-    public static FieldInfo getFieldInfo(FieldNode fieldNode) {
+    public static FieldInfo getFieldInfo(int access, String name, String descriptor, String signature) {
         FieldInfo fieldInfo = new FieldInfo();
 
-        fieldInfo.setName(fieldNode.name);
-        fieldInfo.setType(Type.getType(fieldNode.desc));
+        fieldInfo.setName(name);
+        fieldInfo.setType(Type.getType(descriptor));
 
-        if ((fieldNode.access & Opcodes.ACC_PUBLIC) != 0) {
+        if ((access & Opcodes.ACC_PUBLIC) != 0) {
             fieldInfo.setPublic(true);
-        } else if ((fieldNode.access & Opcodes.ACC_PROTECTED) != 0) {
+        } else if ((access & Opcodes.ACC_PROTECTED) != 0) {
             fieldInfo.setProtected(true);
-        } else if ((fieldNode.access & Opcodes.ACC_PRIVATE) != 0) {
+        } else if ((access & Opcodes.ACC_PRIVATE) != 0) {
             fieldInfo.setPrivate(true);
         }
 
-        if ((fieldNode.access & Opcodes.ACC_STATIC) != 0) {
+        if ((access & Opcodes.ACC_STATIC) != 0) {
             fieldInfo.setStatic(true);
         }
 
-        fieldInfo.setSignature(fieldNode.signature);
+        fieldInfo.setSignature(signature);
 
         return fieldInfo;
     }
@@ -4,7 +4,8 @@ import ca.concordia.apifinder.entity.ClassInfo;
 import ca.concordia.apifinder.entity.MethodInfo;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
-import org.objectweb.asm.tree.MethodNode;
+
+import java.util.List;
 
 /**
  * @author Diptopol
@@ -12,11 +13,12 @@ import org.objectweb.asm.tree.MethodNode;
  */
 public class MethodInfoExtractor {
 
-    public static MethodInfo getMethodInfo(MethodNode methodNode, ClassInfo classInfo) {
+    public static MethodInfo getMethodInfo(int access, String name, String descriptor, String signature,
+                                           List<String> exceptionList, ClassInfo classInfo) {
         MethodInfo methodInfo = new MethodInfo();
 
         String internalClassConstructorPrefix = null;
-        String methodName = methodNode.name;
+        String methodName = name;
 
         if (methodName.equals("<init>")) {
             methodInfo.setConstructor(true);
@@ -33,40 +35,40 @@ public class MethodInfoExtractor {
         methodInfo.setInternalClassConstructorPrefix(internalClassConstructorPrefix);
         methodInfo.setName(methodName);
 
-        methodInfo.setReturnType(Type.getReturnType(methodNode.desc));
-        methodInfo.setArgumentTypes(Type.getArgumentTypes(methodNode.desc));
-        methodInfo.setThrownInternalClassNames(methodNode.exceptions);
-        methodInfo.setSignature(methodNode.signature);
+        methodInfo.setReturnType(Type.getReturnType(descriptor));
+        methodInfo.setArgumentTypes(Type.getArgumentTypes(descriptor));
+        methodInfo.setThrownInternalClassNames(exceptionList);
+        methodInfo.setSignature(signature);
 
-        if ((methodNode.access & Opcodes.ACC_PUBLIC) != 0) {
+        if ((access & Opcodes.ACC_PUBLIC) != 0) {
             methodInfo.setPublic(true);
-        } else if ((methodNode.access & Opcodes.ACC_PROTECTED) != 0) {
+        } else if ((access & Opcodes.ACC_PROTECTED) != 0) {
             methodInfo.setProtected(true);
-        } else if ((methodNode.access & Opcodes.ACC_PRIVATE) != 0) {
+        } else if ((access & Opcodes.ACC_PRIVATE) != 0) {
             methodInfo.setPrivate(true);
         }
 
-        if ((methodNode.access & Opcodes.ACC_STATIC) != 0) {
+        if ((access & Opcodes.ACC_STATIC) != 0) {
             methodInfo.setStatic(true);
         }
 
-        if ((methodNode.access & Opcodes.ACC_ABSTRACT) != 0) {
+        if ((access & Opcodes.ACC_ABSTRACT) != 0) {
             methodInfo.setAbstract(true);
         }
 
-        if ((methodNode.access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+        if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
             methodInfo.setSynchronized(true);
         }
 
-        if ((methodNode.access & Opcodes.ACC_VARARGS) != 0) {
+        if ((access & Opcodes.ACC_VARARGS) != 0) {
             methodInfo.setVarargs(true);
         }
 
-        if ((methodNode.access & Opcodes.ACC_FINAL) != 0) {
+        if ((access & Opcodes.ACC_FINAL) != 0) {
             methodInfo.setFinal(true);
         }
 
-        if ((methodNode.access & Opcodes.ACC_BRIDGE) != 0) {
+        if ((access & Opcodes.ACC_BRIDGE) != 0) {
             methodInfo.setBridgeMethod(true);
         }
 
@@ -0,0 +1,231 @@
+package ca.concordia.apifinder.index;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import org.objectweb.asm.Type;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Classes of a classpath held in parallel arrays, with simple names, qualified names and package names mapped to the
+ * classes. Strings are shared between the classes, so a classpath of a few hundred jars takes tens of megabytes.
+ *
+ * Lookups return new entities, type info of a class is not set.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 7:05 PM
+ */
+public class ClasspathSymbolTable {
+
+    private static final int[] NO_CLASS = new int[0];
+
+    private final int[] classIds;
+    private final int[] jarIds;
+    private final int[] flags;
+
+    private final String[] names;
+    private final String[] qualifiedNames;
+    private final String[] packageNames;
+    private final String[] typeDescriptors;
+    private final String[] signatures;
+
+    private final Map<String, int[]> classByNameToken;
+    private final Map<String, int[]> classByQualifiedName;
+    private final Map<String, int[]> classByPackageName;
+
+    private ClasspathSymbolTable(Builder builder) {
+        int classCount = builder.classCount;
+
+        this.classIds = Arrays.copyOf(builder.classIds, classCount);
+        this.jarIds = Arrays.copyOf(builder.jarIds, classCount);
+        this.flags = Arrays.copyOf(builder.flags, classCount);
+
+        this.names = Arrays.copyOf(builder.names, classCount);
+        this.qualifiedNames = Arrays.copyOf(builder.qualifiedNames, classCount);
+        this.packageNames = Arrays.copyOf(builder.packageNames, classCount);
+        this.typeDescriptors = Arrays.copyOf(builder.typeDescriptors, classCount);
+        this.signatures = Arrays.copyOf(builder.signatures, classCount);
+
+        this.classByNameToken = getClassMap(classCount, i -> JarIndexFormat.getNameToken(names[i]));
+        this.classByQualifiedName = getClassMap(classCount, i -> qualifiedNames[i]);
+        this.classByPackageName = getClassMap(classCount, i -> packageNames[i]);
+    }
+
+    public int getClassCount() {
+        return classIds.length;
+    }
+
+    /*
+     * Classes named as the class name, or inner classes whose name ends with it.
+     */
+    public List<ClassInfo> getClassInfoList(String className) {
+        List<ClassInfo> classInfoList = new ArrayList<>();
+        String innerClassNameSuffix = "$" + className;
+
+        for (int record : classByNameToken.getOrDefault(JarIndexFormat.getNameToken(className), NO_CLASS)) {
+            if (names[record].equals(className) || names[record].endsWith(innerClassNameSuffix)) {
+                classInfoList.add(getClassInfo(record));
+            }
+        }
+
+        return classInfoList;
+    }
+
+    /*
+     * True if a class has the name as its qualified name, or as the part of its simple name after the last '$'.
+     */
+    public boolean containsClassName(String name) {
+        return classByQualifiedName.containsKey(name) || classByNameToken.containsKey(name);
+    }
+
+    public Map<String, Integer> getClientIdMap(Set<String> qualifiedClassNameSet) {
+        Map<String, Integer> clientIdMap = new LinkedHashMap<>();
+
+        for (String qualifiedClassName : qualifiedClassNameSet) {
+            int[] records = classByQualifiedName.getOrDefault(qualifiedClassName, NO_CLASS);
+
+            if (records.length > 0) {
+                clientIdMap.put(qualifiedClassName, classIds[records[0]]);
+            }
+        }
+
+        return clientIdMap;
+    }
+
+    public List<Integer> getClassInfoIdList(Set<String> qualifiedClassNameSet) {
+        List<Integer> classInfoIdList = new ArrayList<>();
+
+        for (String qualifiedClassName : qualifiedClassNameSet) {
+            for (int record : classByQualifiedName.getOrDefault(qualifiedClassName, NO_CLASS)) {
+                classInfoIdList.add(classIds[record]);
+            }
+        }
+
+        return classInfoIdList;
+    }
+
+    public List<Integer> getClassInfoIdList(List<String> packageNameList) {
+        List<Integer> classInfoIdList = new ArrayList<>();
+
+        for (String packageName : new LinkedHashSet<>(packageNameList)) {
+            for (int record : classByPackageName.getOrDefault(packageName, NO_CLASS)) {
+                classInfoIdList.add(classIds[record]);
+            }
+        }
+
+        return classInfoIdList;
+    }
+
+    public Set<String> getClassQNameSet(List<String> packageNameList) {
+        Set<String> classQNameSet = new LinkedHashSet<>();
+
+        for (String packageName : packageNameList) {
+            for (int record : classByPackageName.getOrDefault(packageName, NO_CLASS)) {
+                classQNameSet.add(qualifiedNames[record]);
+            }
+        }
+
+        return classQNameSet;
+    }
+
+    private ClassInfo getClassInfo(int record) {
+        ClassInfo classInfo = new ClassInfo();
+
+        classInfo.setId(classIds[record]);
+        classInfo.setName(names[record]);
+        classInfo.setQualifiedName(qualifiedNames[record]);
+        classInfo.setPackageName(packageNames[record]);
+
+        int classFlags = flags[record];
+
+        classInfo.setPublic((classFlags & JarIndexFormat.PUBLIC) != 0);
+        classInfo.setPrivate((classFlags & JarIndexFormat.PRIVATE) != 0);
+        classInfo.setProtected((classFlags & JarIndexFormat.PROTECTED) != 0);
+        classInfo.setAbstract((classFlags & JarIndexFormat.ABSTRACT) != 0);
+        classInfo.setInterface((classFlags & JarIndexFormat.INTERFACE) != 0);
+        classInfo.setEnum((classFlags & JarIndexFormat.ENUM) != 0);
+        classInfo.setInnerClass((classFlags & JarIndexFormat.INNER_CLASS) != 0);
+        classInfo.setAnonymousInnerClass((classFlags & JarIndexFormat.ANONYMOUS_INNER_CLASS) != 0);
+
+        classInfo.setType(Type.getType(typeDescriptors[record]));
+        classInfo.setSignature(signatures[record]);
+        classInfo.setJarId(jarIds[record]);
+
+        return classInfo;
+    }
+
+    private static Map<String, int[]> getClassMap(int classCount, IntFunction<String> keyFunction) {
+        Map<String, List<Integer>> recordListMap = new HashMap<>();
+
+        for (int i = 0; i < classCount; i++) {
+            String key = keyFunction.apply(i);
+
+            if (Objects.nonNull(key)) {
+                recordListMap.computeIfAbsent(key, k -> new ArrayList<>(1)).add(i);
+            }
+        }
+
+        Map<String, int[]> classMap = new HashMap<>(recordListMap.size() * 4 / 3 + 1);
+
+        recordListMap.forEach((key, recordList) ->
+                classMap.put(key, recordList.stream().mapToInt(Integer::intValue).toArray()));
+
+        return classMap;
+    }
+
+    public static class Builder {
+
+        private final Map<String, String> stringPool = new HashMap<>();
+
+        private int classCount;
+
+        private int[] classIds = new int[1024];
+        private int[] jarIds = new int[1024];
+        private int[] flags = new int[1024];
+
+        private String[] names = new String[1024];
+        private String[] qualifiedNames = new String[1024];
+        private String[] packageNames = new String[1024];
+        private String[] typeDescriptors = new String[1024];
+        private String[] signatures = new String[1024];
+
+        public Builder addClassInfo(ClassInfo classInfo) {
+            if (classCount == classIds.length) {
+                int capacity = classCount * 2;
+
+                classIds = Arrays.copyOf(classIds, capacity);
+                jarIds = Arrays.copyOf(jarIds, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+
+                names = Arrays.copyOf(names, capacity);
+                qualifiedNames = Arrays.copyOf(qualifiedNames, capacity);
+                packageNames = Arrays.copyOf(packageNames, capacity);
+                typeDescriptors = Arrays.copyOf(typeDescriptors, capacity);
+                signatures = Arrays.copyOf(signatures, capacity);
+            }
+
+            classIds[classCount] = classInfo.getId();
+            jarIds[classCount] = classInfo.getJarId();
+            flags[classCount] = JarIndexFormat.getClassFlags(classInfo);
+
+            names[classCount] = getPooledString(classInfo.getName());
+            qualifiedNames[classCount] = getPooledString(classInfo.getQualifiedName());
+            packageNames[classCount] = getPooledString(classInfo.getPackageName());
+            typeDescriptors[classCount] = classInfo.getType().getDescriptor();
+            signatures[classCount] = getPooledString(classInfo.getSignature());
+
+            classCount++;
+
+            return this;
+        }
+
+        public ClasspathSymbolTable build() {
+            return new ClasspathSymbolTable(this);
+        }
+
+        private String getPooledString(String value) {
+            return Objects.nonNull(value) ? stringPool.computeIfAbsent(value, v -> v) : null;
+        }
+    }
+
+}
@@ -0,0 +1,367 @@
+package ca.concordia.apifinder.index;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.FieldInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import org.objectweb.asm.Type;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+import static ca.concordia.apifinder.index.JarIndexFormat.*;
+
+/**
+ * Read-only view of a jar index file mapped into memory. The mapping is shared by every reader of the file on the
+ * host, and lookups by qualified name, class id, package, simple name and (class, member name) are binary searches.
+ *
+ * Classes are addressed by their record index in the file. The reader is safe to use from multiple threads.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 4:40 PM
+ */
+public class JarIndex {
+
+    private final int jarId;
+    private final long jarStamp;
+    private final MappedByteBuffer buffer;
+
+    private final int[] countArray;
+    private final int[] offsetArray;
+
+    private JarIndex(int jarId, long jarStamp, MappedByteBuffer buffer, int[] countArray, int[] offsetArray) {
+        this.jarId = jarId;
+        this.jarStamp = jarStamp;
+        this.buffer = buffer;
+        this.countArray = countArray;
+        this.offsetArray = offsetArray;
+    }
+
+    public static JarIndex open(Path indexFile) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+
+            if (buffer.limit() < 4 * HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a jar index of version " + VERSION + ": " + indexFile);
+            }
+
+            int[] countArray = new int[SECTION_COUNT];
+            int[] offsetArray = new int[SECTION_COUNT];
+
+            for (int section = 0; section < SECTION_COUNT; section++) {
+                countArray[section] = buffer.getInt(20 + 8 * section);
+                offsetArray[section] = buffer.getInt(24 + 8 * section);
+            }
+
+            return new JarIndex(buffer.getInt(8), buffer.getLong(12), buffer, countArray, offsetArray);
+        }
+    }
+
+    public int getJarId() {
+        return jarId;
+    }
+
+    public long getJarStamp() {
+        return jarStamp;
+    }
+
+    public int getClassCount() {
+        return countArray[CLASS_SECTION];
+    }
+
+    /*
+     * Record indices of the classes with the qualified name. A jar can contain a class more than once.
+     */
+    public List<Integer> findClassByQualifiedName(String qualifiedName) {
+        return findRange(getClassCount(), recordIndex -> recordIndex,
+                recordIndex -> getClassString(recordIndex, CLASS_Q_NAME), qualifiedName);
+    }
+
+    public int findClassById(int classId) {
+        int low = 0;
+        int high = countArray[CLASS_BY_ID_SECTION] - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int recordIndex = getInt(CLASS_BY_ID_SECTION, middle);
+            int middleClassId = getClassInt(recordIndex, CLASS_ID);
+
+            if (middleClassId < classId) {
+                low = middle + 1;
+            } else if (middleClassId > classId) {
+                high = middle - 1;
+            } else {
+                return recordIndex;
+            }
+        }
+
+        return -1;
+    }
+
+    public List<Integer> findClassByPackageName(String packageName) {
+        return findRange(countArray[PACKAGE_SECTION], position -> getInt(PACKAGE_SECTION, position),
+                recordIndex -> Objects.toString(getClassString(recordIndex, CLASS_PACKAGE_NAME), ""), packageName);
+    }
+
+    /*
+     * Classes whose simple name is the token or, for inner classes, ends with '$' and the token.
+     */
+    public List<Integer> findClassByNameToken(String nameToken) {
+        return findRange(countArray[NAME_TOKEN_SECTION],
+                position -> getInt(NAME_TOKEN_SECTION, position * NAME_TOKEN_RECORD_SIZE + 1),
+                recordIndex -> getNameToken(getClassString(recordIndex, CLASS_NAME)), nameToken);
+    }
+
+    public int getClassId(int recordIndex) {
+        return getClassInt(recordIndex, CLASS_ID);
+    }
+
+    public String getQualifiedName(int recordIndex) {
+        return getClassString(recordIndex, CLASS_Q_NAME);
+    }
+
+    public ClassInfo getClassInfo(int recordIndex) {
+        ClassInfo classInfo = new ClassInfo();
+        int flags = getClassInt(recordIndex, CLASS_FLAGS);
+
+        classInfo.setId(getClassInt(recordIndex, CLASS_ID));
+
+        classInfo.setName(getClassString(recordIndex, CLASS_NAME));
+        classInfo.setQualifiedName(getClassString(recordIndex, CLASS_Q_NAME));
+        classInfo.setPackageName(getClassString(recordIndex, CLASS_PACKAGE_NAME));
+
+        classInfo.setAbstract((flags & ABSTRACT) != 0);
+        classInfo.setInterface((flags & INTERFACE) != 0);
+        classInfo.setEnum((flags & ENUM) != 0);
+        classInfo.setPublic((flags & PUBLIC) != 0);
+        classInfo.setPrivate((flags & PRIVATE) != 0);
+        classInfo.setProtected((flags & PROTECTED) != 0);
+        classInfo.setInnerClass((flags & INNER_CLASS) != 0);
+        classInfo.setAnonymousInnerClass((flags & ANONYMOUS_INNER_CLASS) != 0);
+
+        classInfo.setType(Type.getType(getClassString(recordIndex, CLASS_TYPE_DESCRIPTOR)));
+        classInfo.setSignature(getClassString(recordIndex, CLASS_SIGNATURE));
+        classInfo.setJarId(getClassInt(recordIndex, CLASS_JAR_ID));
+
+        return classInfo;
+    }
+
+    /*
+     * Super class followed by the interfaces in precedence order. Type is SUPER_CLASS or INTERFACE, null for both.
+     */
+    public List<String> getSuperClassQNameList(int recordIndex, String type) {
+        int start = getClassInt(recordIndex, CLASS_SUPER_CLASS_START);
+        int count = getClassInt(recordIndex, CLASS_SUPER_CLASS_COUNT);
+
+        List<String> superClassQNameList = new ArrayList<>(count);
+
+        for (int i = start; i < start + count; i++) {
+            boolean isInterface = getInt(SUPER_CLASS_SECTION, i * SUPER_CLASS_RECORD_SIZE + SUPER_CLASS_IS_INTERFACE) == 1;
+
+            if (Objects.isNull(type) || ("INTERFACE".equals(type) == isInterface)) {
+                superClassQNameList.add(getString(getInt(SUPER_CLASS_SECTION, i * SUPER_CLASS_RECORD_SIZE + SUPER_CLASS_Q_NAME)));
+            }
+        }
+
+        return superClassQNameList;
+    }
+
+    public List<String> getInnerClassQNameList(int recordIndex) {
+        int start = getClassInt(recordIndex, CLASS_INNER_CLASS_START);
+        int count = getClassInt(recordIndex, CLASS_INNER_CLASS_COUNT);
+
+        List<String> innerClassQNameList = new ArrayList<>(count);
+
+        for (int i = start; i < start + count; i++) {
+            innerClassQNameList.add(getString(getInt(INNER_CLASS_SECTION, i)));
+        }
+
+        return innerClassQNameList;
+    }
+
+    /*
+     * Methods of the class with the name, or every method of the class if the name is null.
+     */
+    public List<MethodInfo> getMethodInfoList(int recordIndex, String methodName) {
+        int start = getClassInt(recordIndex, CLASS_METHOD_START);
+        int count = getClassInt(recordIndex, CLASS_METHOD_COUNT);
+        int classId = getClassInt(recordIndex, CLASS_ID);
+
+        List<Integer> methodIndexList = Objects.isNull(methodName)
+                ? getIndexList(start, count)
+                : findRange(count, position -> start + position,
+                methodIndex -> getString(getInt(METHOD_SECTION, methodIndex * METHOD_RECORD_SIZE + METHOD_NAME)), methodName);
+
+        List<MethodInfo> methodInfoList = new ArrayList<>(methodIndexList.size());
+
+        for (int methodIndex : methodIndexList) {
+            methodInfoList.add(getMethodInfo(methodIndex, classId));
+        }
+
+        return methodInfoList;
+    }
+
+    public List<FieldInfo> getFieldInfoList(int recordIndex, String fieldName) {
+        int start = getClassInt(recordIndex, CLASS_FIELD_START);
+        int count = getClassInt(recordIndex, CLASS_FIELD_COUNT);
+        int classId = getClassInt(recordIndex, CLASS_ID);
+
+        List<Integer> fieldIndexList = findRange(count, position -> start + position,
+                fieldIndex -> getString(getInt(FIELD_SECTION, fieldIndex * FIELD_RECORD_SIZE + FIELD_NAME)), fieldName);
+
+        List<FieldInfo> fieldInfoList = new ArrayList<>(fieldIndexList.size());
+
+        for (int fieldIndex : fieldIndexList) {
+            int offset = fieldIndex * FIELD_RECORD_SIZE;
+            int flags = getInt(FIELD_SECTION, offset + FIELD_FLAGS);
+
+            FieldInfo fieldInfo = new FieldInfo();
+
+            fieldInfo.setId(getInt(FIELD_SECTION, offset + FIELD_ID));
+            fieldInfo.setName(getString(getInt(FIELD_SECTION, offset + FIELD_NAME)));
+
+            fieldInfo.setPublic((flags & PUBLIC) != 0);
+            fieldInfo.setPrivate((flags & PRIVATE) != 0);
+            fieldInfo.setProtected((flags & PROTECTED) != 0);
+            fieldInfo.setStatic((flags & STATIC) != 0);
+
+            fieldInfo.setType(Type.getType(getString(getInt(FIELD_SECTION, offset + FIELD_TYPE_DESCRIPTOR))));
+            fieldInfo.setSignature(getString(getInt(FIELD_SECTION, offset + FIELD_SIGNATURE)));
+            fieldInfo.setClassInfoId(classId);
+
+            fieldInfoList.add(fieldInfo);
+        }
+
+        return fieldInfoList;
+    }
+
+    private MethodInfo getMethodInfo(int methodIndex, int classId) {
+        int offset = methodIndex * METHOD_RECORD_SIZE;
+        int flags = getInt(METHOD_SECTION, offset + METHOD_FLAGS);
+
+        MethodInfo methodInfo = new MethodInfo();
+
+        methodInfo.setId(getInt(METHOD_SECTION, offset + METHOD_ID));
+        methodInfo.setName(getString(getInt(METHOD_SECTION, offset + METHOD_NAME)));
+
+        methodInfo.setAbstract((flags & ABSTRACT) != 0);
+        methodInfo.setConstructor((flags & CONSTRUCTOR) != 0);
+        methodInfo.setStatic((flags & STATIC) != 0);
+        methodInfo.setPublic((flags & PUBLIC) != 0);
+        methodInfo.setPrivate((flags & PRIVATE) != 0);
+        methodInfo.setProtected((flags & PROTECTED) != 0);
+        methodInfo.setSynchronized((flags & SYNCHRONIZED) != 0);
+        methodInfo.setFinal((flags & FINAL) != 0);
+        methodInfo.setVarargs((flags & VARARGS) != 0);
+        methodInfo.setBridgeMethod((flags & BRIDGE_METHOD) != 0);
+
+        methodInfo.setSignature(getString(getInt(METHOD_SECTION, offset + METHOD_SIGNATURE)));
+        methodInfo.setInternalClassConstructorPrefix(getString(getInt(METHOD_SECTION, offset + METHOD_INTERNAL_CLASS_CONSTRUCTOR_PREFIX)));
+        methodInfo.setReturnType(Type.getType(getString(getInt(METHOD_SECTION, offset + METHOD_RETURN_TYPE_DESCRIPTOR))));
+
+        int argumentStart = getInt(METHOD_SECTION, offset + METHOD_ARGUMENT_START);
+        Type[] argumentTypes = new Type[getInt(METHOD_SECTION, offset + METHOD_ARGUMENT_COUNT)];
+
+        for (int i = 0; i < argumentTypes.length; i++) {
+            argumentTypes[i] = Type.getType(getString(getInt(STRING_LIST_SECTION, argumentStart + i)));
+        }
+
+        methodInfo.setArgumentTypes(argumentTypes);
+
+        int thrownClassStart = getInt(METHOD_SECTION, offset + METHOD_THROWN_CLASS_START);
+        int thrownClassCount = getInt(METHOD_SECTION, offset + METHOD_THROWN_CLASS_COUNT);
+        List<String> thrownClassNameList = new ArrayList<>(thrownClassCount);
+
+        for (int i = thrownClassStart; i < thrownClassStart + thrownClassCount; i++) {
+            thrownClassNameList.add(getString(getInt(STRING_LIST_SECTION, i)));
+        }
+
+        methodInfo.setThrownInternalClassNames(thrownClassNameList);
+        methodInfo.setClassInfoId(classId);
+
+        return methodInfo;
+    }
+
+    /*
+     * Values of the sorted range [0, count) mapped by valueIndex that are equal to the key, found by binary search.
+     */
+    private List<Integer> findRange(int count, IntFunction<Integer> valueIndex, IntFunction<String> value, String key) {
+        int low = 0;
+        int high = count;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (value.apply(valueIndex.apply(middle)).compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        List<Integer> valueIndexList = Collections.emptyList();
+
+        for (int position = low; position < count; position++) {
+            int index = valueIndex.apply(position);
+
+            if (!value.apply(index).equals(key)) {
+                break;
+            }
+
+            if (valueIndexList.isEmpty()) {
+                valueIndexList = new ArrayList<>();
+            }
+
+            valueIndexList.add(index);
+        }
+
+        return valueIndexList;
+    }
+
+    private static List<Integer> getIndexList(int start, int count) {
+        List<Integer> indexList = new ArrayList<>(count);
+
+        for (int i = start; i < start + count; i++) {
+            indexList.add(i);
+        }
+
+        return indexList;
+    }
+
+    private int getClassInt(int recordIndex, int field) {
+        return getInt(CLASS_SECTION, recordIndex * CLASS_RECORD_SIZE + field);
+    }
+
+    private String getClassString(int recordIndex, int field) {
+        return getString(getClassInt(recordIndex, field));
+    }
+
+    private int getInt(int section, int position) {
+        return buffer.getInt(offsetArray[section] + 4 * position);
+    }
+
+    private String getString(int stringId) {
+        if (stringId == NO_STRING) {
+            return null;
+        }
+
+        int stringOffset = getInt(STRING_SECTION, stringId);
+        byte[] stringBytes = new byte[buffer.getInt(stringOffset)];
+
+        ByteBuffer stringBuffer = buffer.duplicate();
+        stringBuffer.position(stringOffset + 4);
+        stringBuffer.get(stringBytes);
+
+        return new String(stringBytes, StandardCharsets.UTF_8);
+    }
+
+}
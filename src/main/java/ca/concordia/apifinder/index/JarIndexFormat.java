@@ -0,0 +1,135 @@
+package ca.concordia.apifinder.index;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+
+/**
+ * Layout of the jar index file. All values are big-endian ints, offsets are from the start of the file.
+ *
+ * <pre>
+ * header          MAGIC, VERSION, jar id, jar stamp as two ints, count and offset of every section
+ * strings         offset of each string, then each string as byte length and UTF-8 bytes
+ * classes         CLASS_RECORD_SIZE ints per class, sorted by qualified name
+ * classes by id   record index of the classes, sorted by class id
+ * packages        record index of the classes, sorted by package name
+ * name tokens     token string and record index, sorted by the token of the simple name
+ * methods         METHOD_RECORD_SIZE ints per method, grouped by class and sorted by name within a class
+ * fields          FIELD_RECORD_SIZE ints per field, grouped by class and sorted by name within a class
+ * super classes   SUPER_CLASS_RECORD_SIZE ints per super class or interface, in precedence order
+ * inner classes   qualified name string of each inner class
+ * string lists    argument descriptors and thrown class names of the methods
+ * </pre>
+ *
+ * A string is referred to by its position in the string table, NO_STRING stands for null.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 4:40 PM
+ */
+final class JarIndexFormat {
+
+    static final int MAGIC = 0x4A494458;
+    static final int VERSION = 2;
+
+    static final int NO_STRING = -1;
+
+    /* header: magic, version, jar id, jar stamp and (count, offset) of the sections below */
+    static final int STRING_SECTION = 0;
+    static final int CLASS_SECTION = 1;
+    static final int CLASS_BY_ID_SECTION = 2;
+    static final int PACKAGE_SECTION = 3;
+    static final int NAME_TOKEN_SECTION = 4;
+    static final int METHOD_SECTION = 5;
+    static final int FIELD_SECTION = 6;
+    static final int SUPER_CLASS_SECTION = 7;
+    static final int INNER_CLASS_SECTION = 8;
+    static final int STRING_LIST_SECTION = 9;
+    static final int SECTION_COUNT = 10;
+
+    static final int HEADER_SIZE = 5 + 2 * SECTION_COUNT;
+
+    /* class record */
+    static final int CLASS_ID = 0;
+    static final int CLASS_JAR_ID = 1;
+    static final int CLASS_NAME = 2;
+    static final int CLASS_Q_NAME = 3;
+    static final int CLASS_PACKAGE_NAME = 4;
+    static final int CLASS_FLAGS = 5;
+    static final int CLASS_TYPE_DESCRIPTOR = 6;
+    static final int CLASS_SIGNATURE = 7;
+    static final int CLASS_METHOD_START = 8;
+    static final int CLASS_METHOD_COUNT = 9;
+    static final int CLASS_FIELD_START = 10;
+    static final int CLASS_FIELD_COUNT = 11;
+    static final int CLASS_SUPER_CLASS_START = 12;
+    static final int CLASS_SUPER_CLASS_COUNT = 13;
+    static final int CLASS_INNER_CLASS_START = 14;
+    static final int CLASS_INNER_CLASS_COUNT = 15;
+    static final int CLASS_RECORD_SIZE = 16;
+
+    static final int NAME_TOKEN_RECORD_SIZE = 2;
+
+    /* method record */
+    static final int METHOD_ID = 0;
+    static final int METHOD_NAME = 1;
+    static final int METHOD_FLAGS = 2;
+    static final int METHOD_SIGNATURE = 3;
+    static final int METHOD_INTERNAL_CLASS_CONSTRUCTOR_PREFIX = 4;
+    static final int METHOD_RETURN_TYPE_DESCRIPTOR = 5;
+    static final int METHOD_ARGUMENT_START = 6;
+    static final int METHOD_ARGUMENT_COUNT = 7;
+    static final int METHOD_THROWN_CLASS_START = 8;
+    static final int METHOD_THROWN_CLASS_COUNT = 9;
+    static final int METHOD_RECORD_SIZE = 10;
+
+    /* field record */
+    static final int FIELD_ID = 0;
+    static final int FIELD_NAME = 1;
+    static final int FIELD_FLAGS = 2;
+    static final int FIELD_TYPE_DESCRIPTOR = 3;
+    static final int FIELD_SIGNATURE = 4;
+    static final int FIELD_RECORD_SIZE = 5;
+
+    /* super class record */
+    static final int SUPER_CLASS_Q_NAME = 0;
+    static final int SUPER_CLASS_IS_INTERFACE = 1;
+    static final int SUPER_CLASS_RECORD_SIZE = 2;
+
+    /* class flags */
+    static final int PUBLIC = 1;
+    static final int PRIVATE = 1 << 1;
+    static final int PROTECTED = 1 << 2;
+    static final int ABSTRACT = 1 << 3;
+    static final int INTERFACE = 1 << 4;
+    static final int ENUM = 1 << 5;
+    static final int INNER_CLASS = 1 << 6;
+    static final int ANONYMOUS_INNER_CLASS = 1 << 7;
+
+    /* method flags, public, private, protected and abstract are shared with the class flags */
+    static final int STATIC = 1 << 8;
+    static final int SYNCHRONIZED = 1 << 9;
+    static final int CONSTRUCTOR = 1 << 10;
+    static final int VARARGS = 1 << 11;
+    static final int FINAL = 1 << 12;
+    static final int BRIDGE_METHOD = 1 << 13;
+
+    private JarIndexFormat() {}
+
+    static int getClassFlags(ClassInfo classInfo) {
+        return (classInfo.isPublic() ? PUBLIC : 0)
+                | (classInfo.isPrivate() ? PRIVATE : 0)
+                | (classInfo.isProtected() ? PROTECTED : 0)
+                | (classInfo.isAbstract() ? ABSTRACT : 0)
+                | (classInfo.isInterface() ? INTERFACE : 0)
+                | (classInfo.isEnum() ? ENUM : 0)
+                | (classInfo.isInnerClass() ? INNER_CLASS : 0)
+                | (classInfo.isAnonymousInnerClass() ? ANONYMOUS_INNER_CLASS : 0);
+    }
+
+    /*
+     * Simple names of inner classes are indexed by the part after the last '$', so that a class can be found by the
+     * name of an inner class with or without its outer classes.
+     */
+    static String getNameToken(String name) {
+        return name.substring(name.lastIndexOf('$') + 1);
+    }
+
+}
@@ -0,0 +1,291 @@
+package ca.concordia.apifinder.index;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.FieldInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import org.objectweb.asm.Type;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+import static ca.concordia.apifinder.index.JarIndexFormat.*;
+
+/**
+ * Writes the index of a jar from its classes with methods, fields, super classes and inner classes. The file is
+ * written next to the target and moved in place, so readers never see a partial index.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 4:40 PM
+ */
+public class JarIndexWriter {
+
+    private final Map<String, Integer> stringIdMap;
+    private final List<byte[]> stringList;
+
+    private final List<Integer> stringListSection;
+
+    public JarIndexWriter() {
+        this.stringIdMap = new HashMap<>();
+        this.stringList = new ArrayList<>();
+        this.stringListSection = new ArrayList<>();
+    }
+
+    /*
+     * Stamp identifies the stored jar the index is written for, an index is only used for a jar with the same stamp.
+     */
+    public void write(int jarId, long jarStamp, List<ClassInfo> classInfoList, Path indexFile) throws IOException {
+        List<ClassInfo> sortedClassInfoList = new ArrayList<>(classInfoList);
+        sortedClassInfoList.sort(Comparator.comparing(ClassInfo::getQualifiedName));
+
+        int classCount = sortedClassInfoList.size();
+
+        int[] classSection = new int[classCount * CLASS_RECORD_SIZE];
+        List<Integer> methodSection = new ArrayList<>();
+        List<Integer> fieldSection = new ArrayList<>();
+        List<Integer> superClassSection = new ArrayList<>();
+        List<Integer> innerClassSection = new ArrayList<>();
+
+        for (int i = 0; i < classCount; i++) {
+            ClassInfo classInfo = sortedClassInfoList.get(i);
+            int offset = i * CLASS_RECORD_SIZE;
+
+            classSection[offset + CLASS_ID] = classInfo.getId();
+            classSection[offset + CLASS_JAR_ID] = classInfo.getJarId();
+            classSection[offset + CLASS_NAME] = getStringId(classInfo.getName());
+            classSection[offset + CLASS_Q_NAME] = getStringId(classInfo.getQualifiedName());
+            classSection[offset + CLASS_PACKAGE_NAME] = getStringId(classInfo.getPackageName());
+            classSection[offset + CLASS_FLAGS] = getClassFlags(classInfo);
+            classSection[offset + CLASS_TYPE_DESCRIPTOR] = getStringId(classInfo.getType().getDescriptor());
+            classSection[offset + CLASS_SIGNATURE] = getStringId(classInfo.getSignature());
+
+            List<MethodInfo> methodInfoList = new ArrayList<>(classInfo.getMethodInfoList());
+            methodInfoList.sort(Comparator.comparing(MethodInfo::getName));
+
+            classSection[offset + CLASS_METHOD_START] = methodSection.size() / METHOD_RECORD_SIZE;
+            classSection[offset + CLASS_METHOD_COUNT] = methodInfoList.size();
+
+            for (MethodInfo methodInfo : methodInfoList) {
+                addMethodRecord(methodInfo, methodSection);
+            }
+
+            List<FieldInfo> fieldInfoList = new ArrayList<>(classInfo.getFieldInfoList());
+            fieldInfoList.sort(Comparator.comparing(FieldInfo::getName));
+
+            classSection[offset + CLASS_FIELD_START] = fieldSection.size() / FIELD_RECORD_SIZE;
+            classSection[offset + CLASS_FIELD_COUNT] = fieldInfoList.size();
+
+            for (FieldInfo fieldInfo : fieldInfoList) {
+                fieldSection.add(fieldInfo.getId());
+                fieldSection.add(getStringId(fieldInfo.getName()));
+                fieldSection.add(getFieldFlags(fieldInfo));
+                fieldSection.add(getStringId(fieldInfo.getType().getDescriptor()));
+                fieldSection.add(getStringId(fieldInfo.getSignature()));
+            }
+
+            classSection[offset + CLASS_SUPER_CLASS_START] = superClassSection.size() / SUPER_CLASS_RECORD_SIZE;
+
+            if (Objects.nonNull(classInfo.getSuperClassQName())) {
+                superClassSection.add(getStringId(classInfo.getSuperClassQName()));
+                superClassSection.add(0);
+            }
+
+            for (String interfaceQName : classInfo.getInterfaceQNameList()) {
+                superClassSection.add(getStringId(interfaceQName));
+                superClassSection.add(1);
+            }
+
+            classSection[offset + CLASS_SUPER_CLASS_COUNT] = superClassSection.size() / SUPER_CLASS_RECORD_SIZE
+                    - classSection[offset + CLASS_SUPER_CLASS_START];
+
+            classSection[offset + CLASS_INNER_CLASS_START] = innerClassSection.size();
+            classSection[offset + CLASS_INNER_CLASS_COUNT] = classInfo.getInnerClassQNameList().size();
+
+            for (String innerClassQName : classInfo.getInnerClassQNameList()) {
+                innerClassSection.add(getStringId(innerClassQName));
+            }
+        }
+
+        Integer[] classByIdSection = getRecordIndexArray(classCount);
+        Arrays.sort(classByIdSection, Comparator.comparingInt(i -> sortedClassInfoList.get(i).getId()));
+
+        Integer[] packageSection = getRecordIndexArray(classCount);
+        Arrays.sort(packageSection, Comparator.comparing(i -> Objects.toString(sortedClassInfoList.get(i).getPackageName(), "")));
+
+        Integer[] nameTokenRecordIndexArray = getRecordIndexArray(classCount);
+        Arrays.sort(nameTokenRecordIndexArray, Comparator.comparing(i -> getNameToken(sortedClassInfoList.get(i).getName())));
+
+        List<Integer> nameTokenSection = new ArrayList<>();
+
+        for (int recordIndex : nameTokenRecordIndexArray) {
+            nameTokenSection.add(getStringId(getNameToken(sortedClassInfoList.get(recordIndex).getName())));
+            nameTokenSection.add(recordIndex);
+        }
+
+        writeFile(jarId, jarStamp, indexFile, classSection, classByIdSection, packageSection, nameTokenSection, methodSection,
+                fieldSection, superClassSection, innerClassSection);
+    }
+
+    private void writeFile(int jarId,
+                           long jarStamp,
+                           Path indexFile,
+                           int[] classSection,
+                           Integer[] classByIdSection,
+                           Integer[] packageSection,
+                           List<Integer> nameTokenSection,
+                           List<Integer> methodSection,
+                           List<Integer> fieldSection,
+                           List<Integer> superClassSection,
+                           List<Integer> innerClassSection) throws IOException {
+
+        int stringDataSize = stringList.stream().mapToInt(stringBytes -> 4 + stringBytes.length).sum();
+
+        int[] countArray = new int[SECTION_COUNT];
+        int[] sizeArray = new int[SECTION_COUNT];
+
+        countArray[STRING_SECTION] = stringList.size();
+        sizeArray[STRING_SECTION] = 4 * stringList.size() + stringDataSize;
+
+        setSection(countArray, sizeArray, CLASS_SECTION, classSection.length / CLASS_RECORD_SIZE, classSection.length);
+        setSection(countArray, sizeArray, CLASS_BY_ID_SECTION, classByIdSection.length, classByIdSection.length);
+        setSection(countArray, sizeArray, PACKAGE_SECTION, packageSection.length, packageSection.length);
+        setSection(countArray, sizeArray, NAME_TOKEN_SECTION, nameTokenSection.size() / NAME_TOKEN_RECORD_SIZE, nameTokenSection.size());
+        setSection(countArray, sizeArray, METHOD_SECTION, methodSection.size() / METHOD_RECORD_SIZE, methodSection.size());
+        setSection(countArray, sizeArray, FIELD_SECTION, fieldSection.size() / FIELD_RECORD_SIZE, fieldSection.size());
+        setSection(countArray, sizeArray, SUPER_CLASS_SECTION, superClassSection.size() / SUPER_CLASS_RECORD_SIZE, superClassSection.size());
+        setSection(countArray, sizeArray, INNER_CLASS_SECTION, innerClassSection.size(), innerClassSection.size());
+        setSection(countArray, sizeArray, STRING_LIST_SECTION, stringListSection.size(), stringListSection.size());
+
+        Files.createDirectories(indexFile.toAbsolutePath().getParent());
+        Path temporaryFile = Files.createTempFile(indexFile.toAbsolutePath().getParent(), indexFile.getFileName().toString(), ".tmp");
+
+        try {
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                outputStream.writeInt(MAGIC);
+                outputStream.writeInt(VERSION);
+                outputStream.writeInt(jarId);
+                outputStream.writeLong(jarStamp);
+
+                int offset = 4 * HEADER_SIZE;
+
+                for (int section = 0; section < SECTION_COUNT; section++) {
+                    outputStream.writeInt(countArray[section]);
+                    outputStream.writeInt(offset);
+
+                    offset += sizeArray[section];
+                }
+
+                int stringOffset = 4 * HEADER_SIZE + 4 * stringList.size();
+
+                for (byte[] stringBytes : stringList) {
+                    outputStream.writeInt(stringOffset);
+                    stringOffset += 4 + stringBytes.length;
+                }
+
+                for (byte[] stringBytes : stringList) {
+                    outputStream.writeInt(stringBytes.length);
+                    outputStream.write(stringBytes);
+                }
+
+                for (int value : classSection) {
+                    outputStream.writeInt(value);
+                }
+
+                writeIntList(outputStream, Arrays.asList(classByIdSection));
+                writeIntList(outputStream, Arrays.asList(packageSection));
+                writeIntList(outputStream, nameTokenSection);
+                writeIntList(outputStream, methodSection);
+                writeIntList(outputStream, fieldSection);
+                writeIntList(outputStream, superClassSection);
+                writeIntList(outputStream, innerClassSection);
+                writeIntList(outputStream, stringListSection);
+            }
+
+            Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void addMethodRecord(MethodInfo methodInfo, List<Integer> methodSection) {
+        methodSection.add(methodInfo.getId());
+        methodSection.add(getStringId(methodInfo.getName()));
+        methodSection.add(getMethodFlags(methodInfo));
+        methodSection.add(getStringId(methodInfo.getSignature()));
+        methodSection.add(getStringId(methodInfo.getInternalClassConstructorPrefix()));
+        methodSection.add(getStringId(methodInfo.getReturnType().getDescriptor()));
+
+        methodSection.add(stringListSection.size());
+        methodSection.add(methodInfo.getArgumentTypes().length);
+
+        for (Type argumentType : methodInfo.getArgumentTypes()) {
+            stringListSection.add(getStringId(argumentType.getDescriptor()));
+        }
+
+        methodSection.add(stringListSection.size());
+        methodSection.add(methodInfo.getThrownInternalClassNames().size());
+
+        for (String thrownClassName : methodInfo.getThrownInternalClassNames()) {
+            stringListSection.add(getStringId(thrownClassName));
+        }
+    }
+
+    private int getStringId(String value) {
+        if (Objects.isNull(value)) {
+            return NO_STRING;
+        }
+
+        return stringIdMap.computeIfAbsent(value, v -> {
+            stringList.add(v.getBytes(StandardCharsets.UTF_8));
+
+            return stringList.size() - 1;
+        });
+    }
+
+    private static void setSection(int[] countArray, int[] sizeArray, int section, int count, int intCount) {
+        countArray[section] = count;
+        sizeArray[section] = 4 * intCount;
+    }
+
+    private static Integer[] getRecordIndexArray(int count) {
+        Integer[] recordIndexArray = new Integer[count];
+
+        for (int i = 0; i < count; i++) {
+            recordIndexArray[i] = i;
+        }
+
+        return recordIndexArray;
+    }
+
+    private static void writeIntList(DataOutputStream outputStream, List<Integer> valueList) throws IOException {
+        for (int value : valueList) {
+            outputStream.writeInt(value);
+        }
+    }
+
+    private static int getMethodFlags(MethodInfo methodInfo) {
+        return (methodInfo.isPublic() ? PUBLIC : 0)
+                | (methodInfo.isPrivate() ? PRIVATE : 0)
+                | (methodInfo.isProtected() ? PROTECTED : 0)
+                | (methodInfo.isAbstract() ? ABSTRACT : 0)
+                | (methodInfo.isStatic() ? STATIC : 0)
+                | (methodInfo.isSynchronized() ? SYNCHRONIZED : 0)
+                | (methodInfo.isConstructor() ? CONSTRUCTOR : 0)
+                | (methodInfo.isVarargs() ? VARARGS : 0)
+                | (methodInfo.isFinal() ? FINAL : 0)
+                | (methodInfo.isBridgeMethod() ? BRIDGE_METHOD : 0);
+    }
+
+    private static int getFieldFlags(FieldInfo fieldInfo) {
+        return (fieldInfo.isPublic() ? PUBLIC : 0)
+                | (fieldInfo.isPrivate() ? PRIVATE : 0)
+                | (fieldInfo.isProtected() ? PROTECTED : 0)
+                | (fieldInfo.isStatic() ? STATIC : 0);
+    }
+
+}
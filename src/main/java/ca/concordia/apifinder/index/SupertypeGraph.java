@@ -0,0 +1,200 @@
+package ca.concordia.apifinder.index;
+
+import java.util.*;
+
+/**
+ * Super class relations of a classpath, direct supertypes of each class name in precedence order. The supertypes of a
+ * class at every distance are answered from memory, so climbing a hierarchy does not cost a query per level.
+ *
+ * Classes of the same qualified name in several jars share the union of their supertypes.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 8:10 PM
+ */
+public class SupertypeGraph {
+
+    /*
+     * Guard against broken hierarchies, e.g., two versions of classes extending each other.
+     */
+    private static final int MAX_DISTANCE = 100;
+
+    private static final int SUPER_CLASS = 1;
+    private static final int INTERFACE = 2;
+
+    private final Map<String, Supertypes> supertypesMap;
+
+    private volatile TypeLattice typeLattice;
+
+    private SupertypeGraph(Map<String, Supertypes> supertypesMap) {
+        this.supertypesMap = supertypesMap;
+    }
+
+    /*
+     * Built on first use, subtype checks of argument matching do not need the levels of the graph.
+     */
+    public TypeLattice getTypeLattice() {
+        TypeLattice lattice = typeLattice;
+
+        if (Objects.isNull(lattice)) {
+            Map<String, String[]> parentQNameMap = new HashMap<>(supertypesMap.size() * 4 / 3 + 1);
+            supertypesMap.forEach((qName, supertypes) -> parentQNameMap.put(qName, supertypes.qualifiedNames));
+
+            lattice = new TypeLattice(parentQNameMap);
+            typeLattice = lattice;
+        }
+
+        return lattice;
+    }
+
+    /*
+     * Direct supertypes of each class in precedence order. Classes without a super class relation are not present.
+     */
+    public Map<String, List<String>> getSuperClassQNameMap(Set<String> classQNameSet) {
+        Map<String, List<String>> superClassQNameMap = new HashMap<>();
+
+        for (String classQName : classQNameSet) {
+            Supertypes supertypes = supertypesMap.get(classQName);
+
+            if (Objects.nonNull(supertypes)) {
+                superClassQNameMap.put(classQName, Arrays.asList(supertypes.qualifiedNames));
+            }
+        }
+
+        return superClassQNameMap;
+    }
+
+    /*
+     * Supertypes of the classes level by level, the set at index i holds supertypes at distance i + 1. A level is the
+     * supertypes of the previous level, so a class reachable on several paths is present at each distance. Type only
+     * filters the first level, null keeps both super classes and interfaces.
+     */
+    public List<Set<String>> getSuperClassQNameLevelList(Set<String> classQNameSet, String firstLevelType) {
+        List<Set<String>> superClassQNameLevelList = new ArrayList<>();
+
+        int typeFilter = getTypeFilter(firstLevelType);
+        Set<String> levelClassQNameSet = classQNameSet;
+
+        while (!levelClassQNameSet.isEmpty() && superClassQNameLevelList.size() < MAX_DISTANCE) {
+            levelClassQNameSet = getSuperClassQNameSet(levelClassQNameSet, typeFilter);
+
+            if (!levelClassQNameSet.isEmpty()) {
+                superClassQNameLevelList.add(Collections.unmodifiableSet(levelClassQNameSet));
+            }
+
+            typeFilter = 0;
+        }
+
+        return superClassQNameLevelList;
+    }
+
+    /*
+     * Direct supertypes of all classes ordered by precedence, the same order as the super class relation query.
+     */
+    private Set<String> getSuperClassQNameSet(Set<String> classQNameSet, int typeFilter) {
+        List<Supertypes> supertypesList = new ArrayList<>();
+        int maxPrecedence = 0;
+
+        for (String classQName : classQNameSet) {
+            Supertypes supertypes = supertypesMap.get(classQName);
+
+            if (Objects.nonNull(supertypes)) {
+                supertypesList.add(supertypes);
+                maxPrecedence = Math.max(maxPrecedence, supertypes.precedences[supertypes.precedences.length - 1]);
+            }
+        }
+
+        Set<String> superClassQNameSet = new LinkedHashSet<>();
+
+        if (supertypesList.size() == 1) {
+            supertypesList.get(0).addTo(superClassQNameSet, typeFilter, 0, Integer.MAX_VALUE);
+
+            return superClassQNameSet;
+        }
+
+        for (int precedence = 0; precedence <= maxPrecedence; precedence++) {
+            for (Supertypes supertypes : supertypesList) {
+                supertypes.addTo(superClassQNameSet, typeFilter, precedence, precedence);
+            }
+        }
+
+        return superClassQNameSet;
+    }
+
+    private static int getTypeFilter(String type) {
+        if (Objects.isNull(type)) {
+            return 0;
+        }
+
+        return "SUPER_CLASS".equals(type) ? SUPER_CLASS : INTERFACE;
+    }
+
+    private static class Supertypes {
+
+        private final String[] qualifiedNames;
+        private final int[] types;
+        private final int[] precedences;
+
+        private Supertypes(String[] qualifiedNames, int[] types, int[] precedences) {
+            this.qualifiedNames = qualifiedNames;
+            this.types = types;
+            this.precedences = precedences;
+        }
+
+        private void addTo(Set<String> superClassQNameSet, int typeFilter, int fromPrecedence, int toPrecedence) {
+            for (int i = 0; i < qualifiedNames.length; i++) {
+                if (precedences[i] >= fromPrecedence && precedences[i] <= toPrecedence
+                        && (typeFilter == 0 || types[i] == typeFilter)) {
+
+                    superClassQNameSet.add(qualifiedNames[i]);
+                }
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private final Map<String, String> stringPool = new HashMap<>();
+        private final Map<String, List<Object[]>> relationListMap = new HashMap<>();
+
+        public Builder addSuperClassRelation(String classQName, String parentClassQName, String type, int precedence) {
+            List<Object[]> relationList = relationListMap.computeIfAbsent(getPooledString(classQName), k -> new ArrayList<>(2));
+
+            for (Object[] relation : relationList) {
+                if (relation[0].equals(parentClassQName)) {
+                    return this;
+                }
+            }
+
+            relationList.add(new Object[]{getPooledString(parentClassQName), getTypeFilter(type), precedence});
+
+            return this;
+        }
+
+        public SupertypeGraph build() {
+            Map<String, Supertypes> supertypesMap = new HashMap<>(relationListMap.size() * 4 / 3 + 1);
+
+            relationListMap.forEach((classQName, relationList) -> {
+                relationList.sort(Comparator.comparingInt(relation -> (int) relation[2]));
+
+                String[] qualifiedNames = new String[relationList.size()];
+                int[] types = new int[relationList.size()];
+                int[] precedences = new int[relationList.size()];
+
+                for (int i = 0; i < relationList.size(); i++) {
+                    qualifiedNames[i] = (String) relationList.get(i)[0];
+                    types[i] = (int) relationList.get(i)[1];
+                    precedences[i] = (int) relationList.get(i)[2];
+                }
+
+                supertypesMap.put(classQName, new Supertypes(qualifiedNames, types, precedences));
+            });
+
+            return new SupertypeGraph(supertypesMap);
+        }
+
+        private String getPooledString(String value) {
+            return stringPool.computeIfAbsent(value, v -> v);
+        }
+    }
+
+}
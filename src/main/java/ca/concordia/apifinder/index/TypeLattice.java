@@ -0,0 +1,131 @@
+package ca.concordia.apifinder.index;
+
+import java.util.*;
+
+/**
+ * Type hierarchy of a classpath with class names interned to dense ids and direct supertypes kept as id arrays.
+ * Ancestors of a type are computed once on first use and held as sorted id arrays with the distance of each ancestor,
+ * so subtype checks and distances are a binary search.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 8:45 PM
+ */
+public class TypeLattice {
+
+    private static final int[] NO_TYPE = new int[0];
+
+    private final Map<String, Integer> idMap;
+    private final int[][] parentIds;
+    private final Ancestors[] ancestorsArray;
+
+    TypeLattice(Map<String, String[]> parentQNameMap) {
+        this.idMap = new HashMap<>(parentQNameMap.size() * 2);
+
+        parentQNameMap.forEach((qName, parentQNames) -> {
+            getOrCreateId(qName);
+
+            for (String parentQName : parentQNames) {
+                getOrCreateId(parentQName);
+            }
+        });
+
+        this.parentIds = new int[idMap.size()][];
+        this.ancestorsArray = new Ancestors[idMap.size()];
+
+        Arrays.fill(parentIds, NO_TYPE);
+
+        parentQNameMap.forEach((qName, parentQNames) ->
+                parentIds[idMap.get(qName)] = Arrays.stream(parentQNames).mapToInt(idMap::get).toArray());
+    }
+
+    public int getTypeCount() {
+        return parentIds.length;
+    }
+
+    public boolean isSubtype(String qName, String superQName) {
+        return getDistance(qName, superQName) >= 0;
+    }
+
+    /*
+     * Number of levels from the type to the supertype, 0 for the same type and -1 if it is not a supertype.
+     */
+    public int getDistance(String qName, String superQName) {
+        if (qName.equals(superQName)) {
+            return 0;
+        }
+
+        Integer id = idMap.get(qName);
+        Integer superId = idMap.get(superQName);
+
+        if (Objects.isNull(id) || Objects.isNull(superId)) {
+            return -1;
+        }
+
+        Ancestors ancestors = getAncestors(id);
+        int position = Arrays.binarySearch(ancestors.ids, superId);
+
+        return position >= 0 ? ancestors.distances[position] : -1;
+    }
+
+    private int getOrCreateId(String qName) {
+        return idMap.computeIfAbsent(qName, k -> idMap.size());
+    }
+
+    /*
+     * Ancestors are immutable, a race computes them twice with the same result.
+     */
+    private Ancestors getAncestors(int id) {
+        Ancestors ancestors = ancestorsArray[id];
+
+        if (Objects.isNull(ancestors)) {
+            ancestors = computeAncestors(id);
+            ancestorsArray[id] = ancestors;
+        }
+
+        return ancestors;
+    }
+
+    /*
+     * Breadth first, the first level an ancestor is reached on is its distance.
+     */
+    private Ancestors computeAncestors(int id) {
+        Map<Integer, Integer> distanceMap = new HashMap<>();
+
+        int[] levelIds = new int[]{id};
+        int distance = 0;
+
+        while (levelIds.length > 0) {
+            distance++;
+
+            Set<Integer> nextLevelIdSet = new LinkedHashSet<>();
+
+            for (int levelId : levelIds) {
+                for (int parentId : parentIds[levelId]) {
+                    if (parentId != id && !distanceMap.containsKey(parentId)) {
+                        distanceMap.put(parentId, distance);
+                        nextLevelIdSet.add(parentId);
+                    }
+                }
+            }
+
+            levelIds = nextLevelIdSet.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int[] ancestorIds = distanceMap.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] distances = Arrays.stream(ancestorIds).map(distanceMap::get).toArray();
+
+        return new Ancestors(ancestorIds, distances);
+    }
+
+    private static class Ancestors {
+
+        private final int[] ids;
+        private final int[] distances;
+
+        private Ancestors(int[] ids, int[] distances) {
+            this.ids = ids;
+            this.distances = distances;
+        }
+    }
+
+}
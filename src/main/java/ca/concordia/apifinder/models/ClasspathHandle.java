@@ -0,0 +1,68 @@
+package ca.concordia.apifinder.models;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resolved jars of a dependent artifact set and a java version. Lookups take the handle, so queries of a stored
+ * classpath can join on it instead of binding every jar id.
+ *
+ * A handle of jars that are not a resolved classpath, e.g., the jars of a classpath that may have a name, is never
+ * stored.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 6:10 PM
+ */
+public class ClasspathHandle {
+
+    private final int id;
+    private final String javaVersion;
+    private final List<Integer> jarIdList;
+    private final List<Integer> internalDependencyJarIdList;
+
+    public ClasspathHandle(int id, String javaVersion, List<Integer> jarIdList, List<Integer> internalDependencyJarIdList) {
+        this.id = id;
+        this.javaVersion = javaVersion;
+        this.jarIdList = List.copyOf(jarIdList);
+        this.internalDependencyJarIdList = List.copyOf(internalDependencyJarIdList);
+    }
+
+    public static ClasspathHandle of(List<Integer> jarIdList) {
+        return new ClasspathHandle(0, null, jarIdList, Collections.emptyList());
+    }
+
+    /*
+     * Key of the jars for in memory caches. Stored classpaths are keyed by the classpath id.
+     */
+    public String getCacheKey() {
+        if (isStored()) {
+            return "classpath-" + id;
+        }
+
+        return String.join(",", jarIdList.stream().sorted().map(String::valueOf).toArray(String[]::new));
+    }
+
+    /*
+     * Id of the stored classpath, 0 if the classpath could not be stored because some of the jars are not stored yet.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public boolean isStored() {
+        return id > 0;
+    }
+
+    public String getJavaVersion() {
+        return javaVersion;
+    }
+
+    public List<Integer> getJarIdList() {
+        return jarIdList;
+    }
+
+    public List<Integer> getInternalDependencyJarIdList() {
+        return internalDependencyJarIdList;
+    }
+
+}
@@ -0,0 +1,50 @@
+package ca.concordia.apifinder.models;
+
+import ca.concordia.apifinder.models.typeInfo.TypeInfo;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed generic signature of a method. A parsed signature is shared by every method of the same signature, type infos
+ * must be copied with {@link TypeInfo#copy(List, java.util.Map)} before they are modified. Arguments refer to the
+ * formal type parameters they use, so both should be copied with the same map.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 10:35 PM
+ */
+public final class MethodSignature {
+
+    private final List<TypeInfo> formalTypeParameterList;
+    private final List<TypeInfo> argumentTypeInfoList;
+    private final TypeInfo returnTypeInfo;
+    private final List<TypeInfo> thrownTypeInfoList;
+
+    public MethodSignature(List<TypeInfo> formalTypeParameterList,
+                           List<TypeInfo> argumentTypeInfoList,
+                           TypeInfo returnTypeInfo,
+                           List<TypeInfo> thrownTypeInfoList) {
+
+        this.formalTypeParameterList = Collections.unmodifiableList(formalTypeParameterList);
+        this.argumentTypeInfoList = Collections.unmodifiableList(argumentTypeInfoList);
+        this.returnTypeInfo = returnTypeInfo;
+        this.thrownTypeInfoList = Collections.unmodifiableList(thrownTypeInfoList);
+    }
+
+    public List<TypeInfo> getFormalTypeParameterList() {
+        return formalTypeParameterList;
+    }
+
+    public List<TypeInfo> getArgumentTypeInfoList() {
+        return argumentTypeInfoList;
+    }
+
+    public TypeInfo getReturnTypeInfo() {
+        return returnTypeInfo;
+    }
+
+    public List<TypeInfo> getThrownTypeInfoList() {
+        return thrownTypeInfoList;
+    }
+
+}
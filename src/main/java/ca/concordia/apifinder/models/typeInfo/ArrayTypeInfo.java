@@ -2,6 +2,8 @@ package ca.concordia.apifinder.models.typeInfo;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Map;
+
 /**
  * @author Diptopol
  * @since 2/13/2022 2:30 AM
@@ -41,6 +43,16 @@ public class ArrayTypeInfo extends TypeInfo {
         return dimension;
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        ArrayTypeInfo arrayTypeInfo = new ArrayTypeInfo(null, this.dimension);
+        copiedTypeInfoMap.put(this, arrayTypeInfo);
+
+        arrayTypeInfo.elementTypeInfo = copy(this.elementTypeInfo, copiedTypeInfoMap);
+
+        return arrayTypeInfo;
+    }
+
     @Override
     public String getName() {
         return this.elementTypeInfo.getName().concat(StringUtils.repeat("[]", this.dimension));
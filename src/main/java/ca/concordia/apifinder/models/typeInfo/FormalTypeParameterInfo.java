@@ -1,5 +1,7 @@
 package ca.concordia.apifinder.models.typeInfo;
 
+import java.util.Map;
+
 /**
  * @author Diptopol
  * @since 2/5/2022 12:30 PM
@@ -38,6 +40,16 @@ public class FormalTypeParameterInfo extends TypeInfo {
         this.baseTypeInfo = baseTypeInfo;
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        FormalTypeParameterInfo formalTypeParameterInfo = new FormalTypeParameterInfo(this.typeParameter, null);
+        copiedTypeInfoMap.put(this, formalTypeParameterInfo);
+
+        formalTypeParameterInfo.baseTypeInfo = copy(this.baseTypeInfo, copiedTypeInfoMap);
+
+        return formalTypeParameterInfo;
+    }
+
     @Override
     public String getName() {
         return this.typeParameter;
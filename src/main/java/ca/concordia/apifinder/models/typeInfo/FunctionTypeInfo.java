@@ -2,7 +2,9 @@ package ca.concordia.apifinder.models.typeInfo;
 
 import org.eclipse.jdt.core.dom.Expression;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Diptopol
@@ -50,6 +52,25 @@ public class FunctionTypeInfo extends TypeInfo {
         throw new IllegalStateException();
     }
 
+    /*
+     * Expression is shared with the copy.
+     */
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        List<FunctionDefinition> copiedFunctionDefinitionList = new ArrayList<>(this.functionDefinitionList.size());
+
+        FunctionTypeInfo functionTypeInfo = new FunctionTypeInfo(this.innerClassConstructor, copiedFunctionDefinitionList);
+        functionTypeInfo.expression = this.expression;
+        copiedTypeInfoMap.put(this, functionTypeInfo);
+
+        for (FunctionDefinition functionDefinition : this.functionDefinitionList) {
+            copiedFunctionDefinitionList.add(new FunctionDefinition(copy(functionDefinition.returnTypeInfo, copiedTypeInfoMap),
+                    copy(functionDefinition.argumentTypeInfoList, copiedTypeInfoMap)));
+        }
+
+        return functionTypeInfo;
+    }
+
     public Expression getExpression() {
         return expression;
     }
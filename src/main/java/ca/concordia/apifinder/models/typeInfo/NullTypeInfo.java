@@ -1,5 +1,7 @@
 package ca.concordia.apifinder.models.typeInfo;
 
+import java.util.Map;
+
 /**
  * @author Diptopol
  * @since 2/5/2022 8:32 PM
@@ -21,6 +23,14 @@ public class NullTypeInfo extends TypeInfo {
         throw new IllegalStateException();
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        NullTypeInfo nullTypeInfo = new NullTypeInfo();
+        copiedTypeInfoMap.put(this, nullTypeInfo);
+
+        return nullTypeInfo;
+    }
+
     @Override
     public String getName() {
         return "null";
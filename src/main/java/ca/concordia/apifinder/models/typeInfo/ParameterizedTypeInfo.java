@@ -2,6 +2,7 @@ package ca.concordia.apifinder.models.typeInfo;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Diptopol
@@ -54,6 +55,17 @@ public class ParameterizedTypeInfo extends TypeInfo {
         }
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        ParameterizedTypeInfo parameterizedTypeInfo = new ParameterizedTypeInfo(this.qualifiedClassName);
+        copiedTypeInfoMap.put(this, parameterizedTypeInfo);
+
+        parameterizedTypeInfo.isParameterized = this.isParameterized;
+        parameterizedTypeInfo.typeArgumentList = copy(this.typeArgumentList, copiedTypeInfoMap);
+
+        return parameterizedTypeInfo;
+    }
+
     @Override
     public String getName() {
         return this.qualifiedClassName;
@@ -1,5 +1,7 @@
 package ca.concordia.apifinder.models.typeInfo;
 
+import java.util.Map;
+
 /**
  * @author Diptopol
  * @since 2/5/2022 8:37 PM
@@ -24,6 +26,14 @@ public class PrimitiveTypeInfo extends TypeInfo {
         this.qualifiedClassName = qualifiedClassName;
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        PrimitiveTypeInfo primitiveTypeInfo = new PrimitiveTypeInfo(this.qualifiedClassName);
+        copiedTypeInfoMap.put(this, primitiveTypeInfo);
+
+        return primitiveTypeInfo;
+    }
+
     @Override
     public String getName() {
         return this.qualifiedClassName;
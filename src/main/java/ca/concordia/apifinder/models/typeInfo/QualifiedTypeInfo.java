@@ -1,5 +1,7 @@
 package ca.concordia.apifinder.models.typeInfo;
 
+import java.util.Map;
+
 /**
  * @author Diptopol
  * @since 1/30/2022 3:40 PM
@@ -24,6 +26,14 @@ public class QualifiedTypeInfo extends TypeInfo {
         this.qualifiedClassName = qualifiedClassName;
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        QualifiedTypeInfo qualifiedTypeInfo = new QualifiedTypeInfo(this.qualifiedClassName);
+        copiedTypeInfoMap.put(this, qualifiedTypeInfo);
+
+        return qualifiedTypeInfo;
+    }
+
     @Override
     public String getName() {
         return this.qualifiedClassName;
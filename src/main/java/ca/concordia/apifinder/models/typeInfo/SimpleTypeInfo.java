@@ -1,5 +1,7 @@
 package ca.concordia.apifinder.models.typeInfo;
 
+import java.util.Map;
+
 /**
  * @author Diptopol
  * @since 6/24/2022 12:40 PM
@@ -28,6 +30,14 @@ public class SimpleTypeInfo extends TypeInfo {
         throw new IllegalStateException();
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        SimpleTypeInfo simpleTypeInfo = new SimpleTypeInfo(this.className);
+        copiedTypeInfoMap.put(this, simpleTypeInfo);
+
+        return simpleTypeInfo;
+    }
+
     @Override
     public String getName() {
         return this.className;
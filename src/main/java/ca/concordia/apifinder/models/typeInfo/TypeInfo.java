@@ -1,6 +1,11 @@
 package ca.concordia.apifinder.models.typeInfo;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * @author Diptopol
@@ -14,6 +19,43 @@ public abstract class TypeInfo implements Serializable {
 
     public abstract String getName();
 
+    /*
+     * Structural copy of the type info and every type info it refers to.
+     */
+    public TypeInfo copy() {
+        return copy(new IdentityHashMap<>());
+    }
+
+    /*
+     * Type infos copied with the same map keep referring to the same copies, as the originals referred to the same type
+     * infos. Copies are put in the map before the type infos they refer to are copied, so cycles are copied once.
+     */
+    public TypeInfo copy(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        TypeInfo copiedTypeInfo = copiedTypeInfoMap.get(this);
+
+        return Objects.nonNull(copiedTypeInfo) ? copiedTypeInfo : copyStructure(copiedTypeInfoMap);
+    }
+
+    public static List<TypeInfo> copy(List<TypeInfo> typeInfoList, Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        if (Objects.isNull(typeInfoList)) {
+            return null;
+        }
+
+        List<TypeInfo> copiedTypeInfoList = new ArrayList<>(typeInfoList.size());
+
+        for (TypeInfo typeInfo : typeInfoList) {
+            copiedTypeInfoList.add(copy(typeInfo, copiedTypeInfoMap));
+        }
+
+        return copiedTypeInfoList;
+    }
+
+    static TypeInfo copy(TypeInfo typeInfo, Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        return Objects.nonNull(typeInfo) ? typeInfo.copy(copiedTypeInfoMap) : null;
+    }
+
+    abstract TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap);
+
     public boolean isParameterizedTypeInfo() {
         return this instanceof ParameterizedTypeInfo;
     }
@@ -0,0 +1,340 @@
+package ca.concordia.apifinder.models.typeInfo;
+
+import ca.concordia.apifinder.models.MethodSignature;
+import ca.concordia.apifinder.util.StringInterner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Binary encoding of the type infos parsed from a generic signature, stored next to the signature so that reads build
+ * the type infos without parsing the signature again.
+ *
+ * <pre>
+ * encoding     FORMAT_VERSION, then the type info lists of the signature
+ * list         size, then each type info
+ * type info    tag, then the fields of the tag, or REFERENCE and the position of a type info written before
+ * string       position in the strings written before, a new string is followed by its UTF-8 value
+ * </pre>
+ *
+ * Sizes and positions are unsigned variable length ints. Type infos shared within a signature, e.g., a formal type
+ * parameter used by the arguments, are written once and decoded as one instance.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 11:10 PM
+ */
+public final class TypeInfoCodec {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int NULL = 0;
+    private static final int QUALIFIED = 1;
+    private static final int PARAMETERIZED = 2;
+    private static final int ARRAY = 3;
+    private static final int FORMAL_TYPE_PARAMETER = 4;
+    private static final int PRIMITIVE = 5;
+    private static final int VOID = 6;
+    private static final int REFERENCE = 7;
+
+    private TypeInfoCodec() {
+    }
+
+    public static byte[] encodeMethodSignature(MethodSignature methodSignature) {
+        Encoder encoder = new Encoder();
+
+        encoder.writeTypeInfoList(methodSignature.getFormalTypeParameterList());
+        encoder.writeTypeInfoList(methodSignature.getArgumentTypeInfoList());
+        encoder.writeTypeInfoList(Collections.singletonList(methodSignature.getReturnTypeInfo()));
+        encoder.writeTypeInfoList(methodSignature.getThrownTypeInfoList());
+
+        return encoder.toByteArray();
+    }
+
+    /*
+     * Null for an encoding of another format version, the signature has to be parsed then.
+     */
+    public static MethodSignature decodeMethodSignature(byte[] encodedSignature) {
+        Decoder decoder = Decoder.of(encodedSignature);
+
+        if (Objects.isNull(decoder)) {
+            return null;
+        }
+
+        List<TypeInfo> formalTypeParameterList = decoder.readTypeInfoList();
+        List<TypeInfo> argumentTypeInfoList = decoder.readTypeInfoList();
+        TypeInfo returnTypeInfo = decoder.readTypeInfoList().get(0);
+        List<TypeInfo> thrownTypeInfoList = decoder.readTypeInfoList();
+
+        return new MethodSignature(formalTypeParameterList, argumentTypeInfoList, returnTypeInfo, thrownTypeInfoList);
+    }
+
+    public static byte[] encodeTypeInfoList(List<TypeInfo> typeInfoList) {
+        Encoder encoder = new Encoder();
+        encoder.writeTypeInfoList(typeInfoList);
+
+        return encoder.toByteArray();
+    }
+
+    public static List<TypeInfo> decodeTypeInfoList(byte[] encodedTypeInfoList) {
+        Decoder decoder = Decoder.of(encodedTypeInfoList);
+
+        return Objects.nonNull(decoder) ? decoder.readTypeInfoList() : null;
+    }
+
+    public static byte[] encodeTypeInfo(TypeInfo typeInfo) {
+        return encodeTypeInfoList(Collections.singletonList(typeInfo));
+    }
+
+    public static TypeInfo decodeTypeInfo(byte[] encodedTypeInfo) {
+        List<TypeInfo> typeInfoList = decodeTypeInfoList(encodedTypeInfo);
+
+        return Objects.nonNull(typeInfoList) ? typeInfoList.get(0) : null;
+    }
+
+    private static class Encoder {
+
+        private final ByteArrayOutputStream byteArrayOutputStream;
+        private final DataOutputStream output;
+
+        private final Map<TypeInfo, Integer> typeInfoPositionMap;
+        private final Map<String, Integer> stringPositionMap;
+
+        private Encoder() {
+            this.byteArrayOutputStream = new ByteArrayOutputStream(64);
+            this.output = new DataOutputStream(byteArrayOutputStream);
+
+            this.typeInfoPositionMap = new IdentityHashMap<>();
+            this.stringPositionMap = new HashMap<>();
+
+            writeVarInt(FORMAT_VERSION);
+        }
+
+        private void writeTypeInfoList(List<TypeInfo> typeInfoList) {
+            writeVarInt(typeInfoList.size());
+
+            for (TypeInfo typeInfo : typeInfoList) {
+                writeTypeInfo(typeInfo);
+            }
+        }
+
+        private void writeTypeInfo(TypeInfo typeInfo) {
+            if (Objects.isNull(typeInfo)) {
+                writeVarInt(NULL);
+
+                return;
+            }
+
+            Integer position = typeInfoPositionMap.get(typeInfo);
+
+            if (Objects.nonNull(position)) {
+                writeVarInt(REFERENCE);
+                writeVarInt(position);
+
+                return;
+            }
+
+            typeInfoPositionMap.put(typeInfo, typeInfoPositionMap.size());
+
+            if (typeInfo.isQualifiedTypeInfo()) {
+                writeVarInt(QUALIFIED);
+                writeString(typeInfo.getQualifiedClassName());
+
+            } else if (typeInfo.isParameterizedTypeInfo()) {
+                ParameterizedTypeInfo parameterizedTypeInfo = (ParameterizedTypeInfo) typeInfo;
+
+                writeVarInt(PARAMETERIZED);
+                writeString(parameterizedTypeInfo.getQualifiedClassName());
+                writeVarInt(parameterizedTypeInfo.isParameterized() ? 1 : 0);
+                writeTypeInfoList(parameterizedTypeInfo.getTypeArgumentList());
+
+            } else if (typeInfo.isArrayTypeInfo()) {
+                ArrayTypeInfo arrayTypeInfo = (ArrayTypeInfo) typeInfo;
+
+                writeVarInt(ARRAY);
+                writeVarInt(arrayTypeInfo.getDimension());
+                writeTypeInfo(arrayTypeInfo.getElementTypeInfo());
+
+            } else if (typeInfo.isFormalTypeParameterInfo()) {
+                FormalTypeParameterInfo formalTypeParameterInfo = (FormalTypeParameterInfo) typeInfo;
+
+                writeVarInt(FORMAL_TYPE_PARAMETER);
+                writeString(formalTypeParameterInfo.getTypeParameter());
+                writeTypeInfo(formalTypeParameterInfo.getBaseTypeInfo());
+
+            } else if (typeInfo.isPrimitiveTypeInfo()) {
+                writeVarInt(PRIMITIVE);
+                writeString(typeInfo.getQualifiedClassName());
+
+            } else if (typeInfo instanceof VoidTypeInfo) {
+                writeVarInt(VOID);
+
+            } else {
+                throw new IllegalArgumentException("Type info is not part of a signature: " + typeInfo);
+            }
+        }
+
+        private void writeString(String value) {
+            Integer position = stringPositionMap.get(value);
+
+            if (Objects.nonNull(position)) {
+                writeVarInt(position);
+
+                return;
+            }
+
+            writeVarInt(stringPositionMap.size());
+            stringPositionMap.put(value, stringPositionMap.size());
+
+            try {
+                output.writeUTF(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeVarInt(int value) {
+            try {
+                while ((value & ~0x7F) != 0) {
+                    output.writeByte((value & 0x7F) | 0x80);
+                    value >>>= 7;
+                }
+
+                output.writeByte(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private byte[] toByteArray() {
+            return byteArrayOutputStream.toByteArray();
+        }
+    }
+
+    private static class Decoder {
+
+        private final DataInputStream input;
+
+        private final List<TypeInfo> typeInfoList;
+        private final List<String> stringList;
+
+        private Decoder(byte[] encoding) {
+            this.input = new DataInputStream(new ByteArrayInputStream(encoding));
+
+            this.typeInfoList = new ArrayList<>();
+            this.stringList = new ArrayList<>();
+        }
+
+        private static Decoder of(byte[] encoding) {
+            Decoder decoder = new Decoder(encoding);
+
+            return decoder.readVarInt() == FORMAT_VERSION ? decoder : null;
+        }
+
+        private List<TypeInfo> readTypeInfoList() {
+            int size = readVarInt();
+            List<TypeInfo> typeInfoList = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                typeInfoList.add(readTypeInfo());
+            }
+
+            return typeInfoList;
+        }
+
+        /*
+         * A type info is registered before its children are read, in the order the encoder registered it.
+         */
+        private TypeInfo readTypeInfo() {
+            int tag = readVarInt();
+
+            switch (tag) {
+                case NULL:
+                    return null;
+
+                case REFERENCE:
+                    return typeInfoList.get(readVarInt());
+
+                case QUALIFIED:
+                    return register(new QualifiedTypeInfo(readString()));
+
+                case PARAMETERIZED: {
+                    ParameterizedTypeInfo parameterizedTypeInfo = register(new ParameterizedTypeInfo(readString()));
+                    parameterizedTypeInfo.setParameterized(readVarInt() == 1);
+                    parameterizedTypeInfo.setTypeArgumentList(readTypeInfoList());
+
+                    return parameterizedTypeInfo;
+                }
+
+                case ARRAY: {
+                    ArrayTypeInfo arrayTypeInfo = register(new ArrayTypeInfo(null, readVarInt()));
+                    arrayTypeInfo.setElementTypeInfo(readTypeInfo());
+
+                    return arrayTypeInfo;
+                }
+
+                case FORMAL_TYPE_PARAMETER: {
+                    FormalTypeParameterInfo formalTypeParameterInfo =
+                            register(new FormalTypeParameterInfo(readString(), null));
+                    formalTypeParameterInfo.setBaseTypeInfo(readTypeInfo());
+
+                    return formalTypeParameterInfo;
+                }
+
+                case PRIMITIVE:
+                    return register(new PrimitiveTypeInfo(readString()));
+
+                case VOID:
+                    return register(new VoidTypeInfo());
+
+                default:
+                    throw new IllegalArgumentException("Unknown type info tag " + tag);
+            }
+        }
+
+        private <T extends TypeInfo> T register(T typeInfo) {
+            typeInfoList.add(typeInfo);
+
+            return typeInfo;
+        }
+
+        private String readString() {
+            int position = readVarInt();
+
+            if (position < stringList.size()) {
+                return stringList.get(position);
+            }
+
+            try {
+                String value = StringInterner.intern(input.readUTF());
+                stringList.add(value);
+
+                return value;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int readVarInt() {
+            try {
+                int value = 0;
+
+                for (int shift = 0; ; shift += 7) {
+                    int currentByte = input.readUnsignedByte();
+                    value |= (currentByte & 0x7F) << shift;
+
+                    if ((currentByte & 0x80) == 0) {
+                        return value;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package ca.concordia.apifinder.models.typeInfo;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Map;
+
 /**
  * @author Diptopol
  * @since 2/4/2022 4:12 PM
@@ -34,6 +36,16 @@ public class VarargTypeInfo extends TypeInfo {
         this.elementTypeInfo = elementTypeInfo;
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        VarargTypeInfo varargTypeInfo = new VarargTypeInfo(null);
+        copiedTypeInfoMap.put(this, varargTypeInfo);
+
+        varargTypeInfo.elementTypeInfo = copy(this.elementTypeInfo, copiedTypeInfoMap);
+
+        return varargTypeInfo;
+    }
+
     @Override
     public String getName() {
         return this.elementTypeInfo.getName().concat("...");
@@ -1,5 +1,7 @@
 package ca.concordia.apifinder.models.typeInfo;
 
+import java.util.Map;
+
 /**
  * @author Diptopol
  * @since 2/8/2022 9:41 AM
@@ -18,6 +20,14 @@ public class VoidTypeInfo extends TypeInfo {
         throw new IllegalArgumentException();
     }
 
+    @Override
+    TypeInfo copyStructure(Map<TypeInfo, TypeInfo> copiedTypeInfoMap) {
+        VoidTypeInfo voidTypeInfo = new VoidTypeInfo();
+        copiedTypeInfoMap.put(this, voidTypeInfo);
+
+        return voidTypeInfo;
+    }
+
     @Override
     public String getName() {
         return "void";
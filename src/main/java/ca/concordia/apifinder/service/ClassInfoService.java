@@ -1,17 +1,29 @@
 package ca.concordia.apifinder.service;
 
+import ca.concordia.apifinder.cache.BloomFilter;
+import ca.concordia.apifinder.cache.CacheRegistry;
+import ca.concordia.apifinder.cache.ClasspathScopedCache;
+import ca.concordia.apifinder.cache.MemoryEstimator;
+import ca.concordia.apifinder.cache.NegativeLookupCache;
+import ca.concordia.apifinder.cache.PersistentCache;
+import ca.concordia.apifinder.cache.PersistentCacheCodec;
 import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.index.ClasspathSymbolTable;
+import ca.concordia.apifinder.index.JarIndex;
+import ca.concordia.apifinder.index.SupertypeGraph;
+import ca.concordia.apifinder.models.ClasspathHandle;
 import ca.concordia.apifinder.models.typeInfo.ParameterizedTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.QualifiedTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.TypeInfo;
-import ca.concordia.apifinder.util.DataSource;
+import ca.concordia.apifinder.models.typeInfo.TypeInfoCodec;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
 import ca.concordia.apifinder.util.DbUtils;
 import ca.concordia.apifinder.util.EntityUtils;
-import ca.concordia.apifinder.util.signaturevisitor.ClassSignatureFormalTypeParameterExtractor;
+import ca.concordia.apifinder.util.SignatureParser;
+import ca.concordia.apifinder.util.StringInterner;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import org.objectweb.asm.Type;
-import org.objectweb.asm.signature.SignatureReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,7 +32,6 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 /**
  * @author Diptopol
@@ -30,51 +41,118 @@ public class ClassInfoService {
 
     private static final Logger logger = LoggerFactory.getLogger(ClassInfoService.class);
 
-    private static Cache<String, List<ClassInfo>> classLoaderCacheFromJarIdList;
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
 
-    private static Cache<String, Set<String>> superClassLoaderCache;
+    private final JarIndexService jarIndexService = new JarIndexService();
+
+    private final JarNameFilterService jarNameFilterService = new JarNameFilterService();
+
+    private static ClasspathScopedCache.Region<String, List<ClassInfo>> classLoaderCacheFromJarIdList;
+
+    private static ClasspathScopedCache.Region<String, Set<String>> superClassLoaderCache;
 
     private static Cache<Integer, ClassInfo> classLoaderCacheFromId;
 
+    private static Cache<String, ClasspathSymbolTable> classpathSymbolTableCache;
+
+    private static Cache<String, SupertypeGraph> supertypeGraphCache;
+
+    /*
+     * Simple names, by the part after the last '$', and qualified names of the classes of a classpath. Only used when
+     * the classpath symbol table is disabled.
+     */
+    private static Cache<String, BloomFilter> classNameFilterCache;
+
+    private static NegativeLookupCache negativeLookupCache;
+
+    private static final double CLASS_NAME_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    /*
+     * Null when the persistent cache is disabled.
+     */
+    private static PersistentCache.Region<List<ClassInfo>> persistentClassInfoListCache;
+
+    private static PersistentCache.Region<Set<String>> persistentSuperClassCache;
+
     public ClassInfoService() {
         if (Objects.isNull(classLoaderCacheFromJarIdList)) {
-            classLoaderCacheFromJarIdList  = Caffeine.newBuilder()
-                    .expireAfterAccess(5, TimeUnit.MINUTES)
-                    .maximumSize(500)
-                    .build();
+            classLoaderCacheFromJarIdList = CacheRegistry.getClasspathScopedCache()
+                    .region("class.info.list", MemoryEstimator::estimate);
         }
 
         if (Objects.isNull(classLoaderCacheFromId)) {
-            classLoaderCacheFromId = Caffeine.newBuilder()
-                    .expireAfterAccess(5, TimeUnit.MINUTES)
-                    .maximumSize(500)
-                    .build();
+            classLoaderCacheFromId = CacheRegistry.newWeightedCache("class.info.by.id", 32, 5,
+                    (Integer classInfoId, ClassInfo classInfo) -> MemoryEstimator.estimate(classInfo));
         }
 
         if (Objects.isNull(superClassLoaderCache)) {
-            superClassLoaderCache = Caffeine.newBuilder()
-                    .expireAfterAccess(5, TimeUnit.MINUTES)
-                    .maximumSize(500)
-                    .build();
+            superClassLoaderCache = CacheRegistry.getClasspathScopedCache()
+                    .region("super.class.name", MemoryEstimator::estimate);
+        }
+
+        if (Objects.isNull(classpathSymbolTableCache)) {
+            classpathSymbolTableCache = CacheRegistry.newOptionalCache("classpath.symbol.table", 10, 30);
+        }
+
+        if (Objects.isNull(supertypeGraphCache)) {
+            supertypeGraphCache = CacheRegistry.newOptionalCache("supertype.graph", 10, 30);
+        }
+
+        if (Objects.isNull(classpathSymbolTableCache) && Objects.isNull(classNameFilterCache)) {
+            classNameFilterCache = CacheRegistry.newOptionalCache("class.name.filter", 100, 30);
+        }
+
+        if (Objects.isNull(negativeLookupCache)) {
+            negativeLookupCache = CacheRegistry.getNegativeLookupCache();
+        }
+
+        PersistentCache persistentCache = CacheRegistry.getPersistentCache();
+
+        if (Objects.nonNull(persistentCache) && Objects.isNull(persistentClassInfoListCache)) {
+            persistentClassInfoListCache = persistentCache.region("class.info.list",
+                    PersistentCacheCodec::encodeClassInfoList, PersistentCacheCodec::decodeClassInfoList);
+        }
+
+        if (Objects.nonNull(persistentCache) && Objects.isNull(persistentSuperClassCache)) {
+            persistentSuperClassCache = persistentCache.region("super.class.name",
+                    PersistentCacheCodec::encodeStringSet, PersistentCacheCodec::decodeStringSet);
         }
     }
 
-    public Map<String, Integer> getClientIdMap(List<Integer> jarIdList, Set<String> qualifiedClassNameSet) {
+    /*
+     * Returns null if the ids could not be loaded.
+     */
+    public Map<String, Integer> getClientIdMap(ClasspathHandle classpathHandle, Set<String> qualifiedClassNameSet) {
+        ClasspathSymbolTable classpathSymbolTable = getClasspathSymbolTable(classpathHandle);
+
+        if (Objects.nonNull(classpathSymbolTable)) {
+            return classpathSymbolTable.getClientIdMap(qualifiedClassNameSet);
+        }
+
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        if (Objects.nonNull(jarIndexList)) {
+            return jarIndexService.getClientIdMap(jarIndexList, qualifiedClassNameSet);
+        }
+
+        ClasspathHandle possibleClasspathHandle = jarNameFilterService.getPossibleClasspathHandle(classpathHandle, qualifiedClassNameSet);
+
+        if (possibleClasspathHandle.getJarIdList().isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
         Map<String, Integer> clientIdMap = new LinkedHashMap<>();
 
         PreparedStatement pst = null;
         ResultSet resultSet = null;
 
-        String query = "SELECT c.id id, c.q_name q_name FROM class c WHERE c.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
+        String query = "SELECT c.id id, c.q_name q_name FROM class c WHERE " + DbUtils.getJarMembershipCondition("c.id", possibleClasspathHandle) +
                 " AND c.q_name IN (" + DbUtils.getInClausePlaceHolder(qualifiedClassNameSet.size()) + ")";
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (int jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, possibleClasspathHandle);
 
             for (String qName : qualifiedClassNameSet) {
                 pst.setString(index++, qName);
@@ -91,6 +169,8 @@ public class ClassInfoService {
             connection.commit();
         } catch (SQLException e) {
             logger.error("Error", e);
+
+            return null;
         } finally {
             DbUtils.closeResources(pst, resultSet);
         }
@@ -98,23 +178,32 @@ public class ClassInfoService {
         return clientIdMap;
     }
 
-    public Set<String> getClassQNameSet(List<Integer> jarIdList, List<String> packageNameList) {
+    public Set<String> getClassQNameSet(ClasspathHandle classpathHandle, List<String> packageNameList) {
+        ClasspathSymbolTable classpathSymbolTable = getClasspathSymbolTable(classpathHandle);
+
+        if (Objects.nonNull(classpathSymbolTable)) {
+            return classpathSymbolTable.getClassQNameSet(packageNameList);
+        }
+
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        if (Objects.nonNull(jarIndexList)) {
+            return jarIndexService.getClassQNameSet(jarIndexList, packageNameList);
+        }
+
         Set<String> classQNameSet = new LinkedHashSet<>();
 
         PreparedStatement pst = null;
         ResultSet resultSet = null;
 
         String query = "SELECT c.q_name q_name FROM class c" +
-                " WHERE c.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
+                " WHERE " + DbUtils.getJarMembershipCondition("c.id", classpathHandle) +
                 " AND c.package_name IN (" + DbUtils.getInClausePlaceHolder(packageNameList.size()) + ")";
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (int jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, classpathHandle);
 
             for (String packageName : packageNameList) {
                 pst.setString(index++, packageName);
@@ -123,7 +212,7 @@ public class ClassInfoService {
             resultSet = pst.executeQuery();
 
             while (resultSet.next()) {
-                classQNameSet.add(resultSet.getString("q_name"));
+                classQNameSet.add(StringInterner.intern(resultSet.getString("q_name")));
             }
 
             connection.commit();
@@ -136,22 +225,31 @@ public class ClassInfoService {
         return classQNameSet;
     }
 
-    public List<Integer> getClassInfoIdList(List<Integer> jarIdList, List<String> packageNameList) {
+    public List<Integer> getClassInfoIdList(ClasspathHandle classpathHandle, List<String> packageNameList) {
+        ClasspathSymbolTable classpathSymbolTable = getClasspathSymbolTable(classpathHandle);
+
+        if (Objects.nonNull(classpathSymbolTable)) {
+            return classpathSymbolTable.getClassInfoIdList(packageNameList);
+        }
+
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        if (Objects.nonNull(jarIndexList)) {
+            return jarIndexService.getClassInfoIdList(jarIndexList, packageNameList);
+        }
+
         List<Integer> classInfoIdList = new ArrayList<>();
 
         PreparedStatement pst = null;
         ResultSet resultSet = null;
 
-        String query = "SELECT c.id id FROM class c WHERE c.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
+        String query = "SELECT c.id id FROM class c WHERE " + DbUtils.getJarMembershipCondition("c.id", classpathHandle) +
                 " AND c.package_name IN (" + DbUtils.getInClausePlaceHolder(packageNameList.size()) + ")";
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (int jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, classpathHandle);
 
             for (String packageName : packageNameList) {
                 pst.setString(index++, packageName);
@@ -173,27 +271,73 @@ public class ClassInfoService {
         return classInfoIdList;
     }
 
-    public List<Integer> getClassInfoIdList(List<Integer> jarIdList, Set<String> qualifiedClassNameSet) {
-        if (qualifiedClassNameSet.isEmpty()) {
+    /*
+     * Names the lookup found nothing for before, or that are not in the class name filter, are not looked up.
+     */
+    public List<Integer> getClassInfoIdList(ClasspathHandle classpathHandle, Set<String> qualifiedClassNameSet) {
+        String classpath = classpathHandle.getCacheKey();
+        Set<String> possibleClassQNameSet = new LinkedHashSet<>();
+
+        for (String qualifiedClassName : qualifiedClassNameSet) {
+            if (!isMissing(classpath, "qualified.name:" + qualifiedClassName)
+                    && mightContainClassName(classpathHandle, qualifiedClassName)) {
+                possibleClassQNameSet.add(qualifiedClassName);
+            }
+        }
+
+        if (possibleClassQNameSet.isEmpty()) {
             return Collections.emptyList();
         }
 
+        List<Integer> classInfoIdList = loadClassInfoIdList(classpathHandle, possibleClassQNameSet);
+
+        if (Objects.isNull(classInfoIdList)) {
+            return Collections.emptyList();
+        }
+
+        /* Ids are not mapped to names, misses are only known when nothing is found */
+        if (classInfoIdList.isEmpty() && Objects.nonNull(negativeLookupCache)) {
+            possibleClassQNameSet.forEach(qName -> negativeLookupCache.putMissing(classpath, classpathHandle.getJarIdList(), "qualified.name:" + qName));
+        }
+
+        return classInfoIdList;
+    }
+
+    /*
+     * Returns null if the ids could not be loaded.
+     */
+    private List<Integer> loadClassInfoIdList(ClasspathHandle classpathHandle, Set<String> qualifiedClassNameSet) {
+        ClasspathSymbolTable classpathSymbolTable = getClasspathSymbolTable(classpathHandle);
+
+        if (Objects.nonNull(classpathSymbolTable)) {
+            return classpathSymbolTable.getClassInfoIdList(qualifiedClassNameSet);
+        }
+
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        if (Objects.nonNull(jarIndexList)) {
+            return jarIndexService.getClassInfoIdList(jarIndexList, qualifiedClassNameSet);
+        }
+
+        ClasspathHandle possibleClasspathHandle = jarNameFilterService.getPossibleClasspathHandle(classpathHandle, qualifiedClassNameSet);
+
+        if (possibleClasspathHandle.getJarIdList().isEmpty()) {
+            return new ArrayList<>();
+        }
+
         Map<String, List<Integer>> classInfoNameMap = new HashMap<>();
 
         PreparedStatement pst = null;
         ResultSet resultSet = null;
 
         String query = "SELECT c.id id, c.q_name q_name FROM class c" +
-                " WHERE c.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
+                " WHERE " + DbUtils.getJarMembershipCondition("c.id", possibleClasspathHandle) +
                 " AND c.q_name IN (" + DbUtils.getInClausePlaceHolder(qualifiedClassNameSet.size()) + ")";
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (int jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, possibleClasspathHandle);
 
             for (String qName : qualifiedClassNameSet) {
                 pst.setString(index++, qName);
@@ -216,6 +360,8 @@ public class ClassInfoService {
             connection.commit();
         } catch (SQLException e) {
             logger.error("Error", e);
+
+            return null;
         } finally {
             DbUtils.closeResources(pst, resultSet);
         }
@@ -230,41 +376,127 @@ public class ClassInfoService {
         return classInfoIdList;
     }
 
-    public List<ClassInfo> getClassInfoListUsingInMemoryCache(List<Integer> jarIdList, String className) {
+    /*
+     * Classes are shared between jars with the same declaration of a class, so the jar of a class does not tell whether
+     * it is a member of the given jars.
+     */
+    public Set<Integer> getMemberClassInfoIdSet(Set<Integer> classInfoIdSet, List<Integer> jarIdList) {
+        if (classInfoIdSet.isEmpty() || jarIdList.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(jarIdList);
 
-        String classCacheKey = className.concat(":")
-                .concat(String.join(",", jarIdList.stream().sorted().map(String::valueOf).toArray(String[]::new)));
+        if (Objects.nonNull(jarIndexList)) {
+            return jarIndexService.getMemberClassInfoIdSet(jarIndexList, classInfoIdSet);
+        }
 
+        ClasspathHandle classpathHandle = ClasspathHandle.of(jarIdList);
+        Set<Integer> memberClassInfoIdSet = new HashSet<>();
 
-        List<ClassInfo> classInfoList = classLoaderCacheFromJarIdList.getIfPresent(classCacheKey);
+        PreparedStatement pst = null;
+        ResultSet resultSet = null;
+
+        String query = "SELECT c.id id FROM class c" +
+                " WHERE c.id IN (" + DbUtils.getInClausePlaceHolder(classInfoIdSet.size()) + ")" +
+                " AND " + DbUtils.getJarMembershipCondition("c.id", classpathHandle);
+
+        try (Connection connection = metadataStore.getConnection()) {
+            pst = connection.prepareStatement(query);
+
+            int index = 1;
+            for (int classInfoId : classInfoIdSet) {
+                pst.setInt(index++, classInfoId);
+            }
+
+            DbUtils.setJarMembershipParameters(pst, index, classpathHandle);
+
+            resultSet = pst.executeQuery();
+
+            while (resultSet.next()) {
+                memberClassInfoIdSet.add(resultSet.getInt("id"));
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error", e);
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
+
+        return memberClassInfoIdSet;
+    }
+
+    public List<ClassInfo> getClassInfoListUsingInMemoryCache(ClasspathHandle classpathHandle, String className) {
+        String classpath = classpathHandle.getCacheKey();
+
+        if (isMissing(classpath, "name:" + className) || !mightContainClassName(classpathHandle, getNameToken(className))) {
+            return new ArrayList<>();
+        }
+
+        List<ClassInfo> classInfoList = classLoaderCacheFromJarIdList.getIfPresent(classpathHandle, className);
 
         if (Objects.isNull(classInfoList)) {
-            classInfoList = getClassInfoList(jarIdList, className);
+            classInfoList = getClassInfoListUsingPersistentCache(classpathHandle, className);
+
+            if (Objects.isNull(classInfoList)) {
+                return new ArrayList<>();
+            }
 
-            classLoaderCacheFromJarIdList.put(classCacheKey, classInfoList);
+            if (classInfoList.isEmpty() && Objects.nonNull(negativeLookupCache)) {
+                negativeLookupCache.putMissing(classpath, classpathHandle.getJarIdList(), "name:" + className);
+
+                return new ArrayList<>();
+            }
+
+            classLoaderCacheFromJarIdList.put(classpathHandle, className, classInfoList);
         }
 
         return getCopiedClassInfoList(classInfoList);
     }
 
-    public List<ClassInfo> getClassInfoList(List<Integer> jarIdList, String className) {
+    /*
+     * Returns null if the classes could not be loaded.
+     */
+    public List<ClassInfo> getClassInfoList(ClasspathHandle classpathHandle, String className) {
+        ClasspathSymbolTable classpathSymbolTable = getClasspathSymbolTable(classpathHandle);
+
+        if (Objects.nonNull(classpathSymbolTable)) {
+            List<ClassInfo> classInfoList = classpathSymbolTable.getClassInfoList(className);
+            classInfoList.forEach(this::setClassTypeInfo);
+
+            return classInfoList;
+        }
+
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        if (Objects.nonNull(jarIndexList)) {
+            List<ClassInfo> classInfoList = jarIndexService.getClassInfoList(jarIndexList, className);
+            classInfoList.forEach(this::setClassTypeInfo);
+
+            return classInfoList;
+        }
+
+        ClasspathHandle possibleClasspathHandle = jarNameFilterService.getPossibleClasspathHandleForClassName(classpathHandle, className);
+
+        if (possibleClasspathHandle.getJarIdList().isEmpty()) {
+            return new ArrayList<>();
+        }
+
         List<ClassInfo> classInfoList = new ArrayList<>();
 
         PreparedStatement pst = null;
         ResultSet resultSet = null;
 
-        String query = "SELECT c.* FROM class c WHERE c.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
-                " AND MATCH(c.name) AGAINST (?)";
+        String query = "SELECT c.* FROM class c WHERE " + DbUtils.getJarMembershipCondition("c.id", possibleClasspathHandle) +
+                " AND " + metadataStore.getClassNameCondition("c.name");
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (int jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, possibleClasspathHandle);
 
-            pst.setString(index, className);
+            metadataStore.setClassNameParameters(pst, index, className);
 
             resultSet = pst.executeQuery();
 
@@ -275,6 +507,8 @@ public class ClassInfoService {
             connection.commit();
         } catch (SQLException e) {
             logger.error("Error", e);
+
+            return null;
         } finally {
             DbUtils.closeResources(pst, resultSet);
         }
@@ -296,6 +530,37 @@ public class ClassInfoService {
         return getCopiedClassInfo(classInfo);
     }
 
+    /*
+     * Connection is only opened if the class is neither cached nor in the jar indices of the classpath.
+     */
+    public ClassInfo getClassInfoUsingMemoryCache(int classInfoId, ClasspathHandle classpathHandle) {
+        ClassInfo classInfo = classLoaderCacheFromId.getIfPresent(classInfoId);
+
+        if (Objects.isNull(classInfo)) {
+            List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+            classInfo = Objects.nonNull(jarIndexList) ? jarIndexService.getClassInfo(jarIndexList, classInfoId) : null;
+
+            if (Objects.nonNull(classInfo)) {
+                setClassTypeInfo(classInfo);
+            } else {
+                try (Connection connection = metadataStore.getConnection()) {
+                    classInfo = getClassInfo(classInfoId, connection);
+
+                    connection.commit();
+                } catch (SQLException e) {
+                    logger.error("Error", e);
+                }
+            }
+
+            if (Objects.nonNull(classInfo)) {
+                classLoaderCacheFromId.put(classInfoId, classInfo);
+            }
+        }
+
+        return getCopiedClassInfo(classInfo);
+    }
+
     public ClassInfo getClassInfo(int classInfoId, Connection connection) throws SQLException {
         ClassInfo classInfo = null;
 
@@ -321,11 +586,54 @@ public class ClassInfoService {
         return classInfo;
     }
 
-    public Set<String> getInnerClassQualifiedNameSet(Set<String> classQualifiedNameSet, List<Integer> jarIdList) {
+    /*
+     * Ids of the stored classes by api hash. The oldest row is used if a class was stored more than once.
+     */
+    public Map<String, Integer> getClassInfoIdMapByApiHash(Set<String> apiHashSet, Connection connection) throws SQLException {
+        Map<String, Integer> classInfoIdMap = new HashMap<>();
+
+        if (apiHashSet.isEmpty()) {
+            return classInfoIdMap;
+        }
+
+        PreparedStatement pst = null;
+        ResultSet resultSet = null;
+
+        String query = "SELECT c.id id, c.api_hash api_hash FROM class c" +
+                " WHERE c.api_hash IN (" + DbUtils.getInClausePlaceHolder(apiHashSet.size()) + ")" +
+                " ORDER BY c.id";
+
+        try {
+            pst = connection.prepareStatement(query);
+
+            int index = 1;
+            for (String apiHash : apiHashSet) {
+                pst.setString(index++, apiHash);
+            }
+
+            resultSet = pst.executeQuery();
+
+            while (resultSet.next()) {
+                classInfoIdMap.putIfAbsent(resultSet.getString("api_hash"), resultSet.getInt("id"));
+            }
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
+
+        return classInfoIdMap;
+    }
+
+    public Set<String> getInnerClassQualifiedNameSet(Set<String> classQualifiedNameSet, ClasspathHandle classpathHandle) {
         if (classQualifiedNameSet.isEmpty()) {
             return Collections.emptySet();
         }
 
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        if (Objects.nonNull(jarIndexList)) {
+            return jarIndexService.getInnerClassQNameSet(jarIndexList, classQualifiedNameSet);
+        }
+
         List<String> innerClassQualifiedNameList = new ArrayList<>();
 
         PreparedStatement pst = null;
@@ -333,16 +641,13 @@ public class ClassInfoService {
 
         String query = "SELECT icr.inner_class_q_name q_name from inner_class_name icr" +
                 " JOIN class pc ON (icr.parent_class_id = pc.id)" +
-                " WHERE pc.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
+                " WHERE " + DbUtils.getJarCondition("icr.jar_id", classpathHandle) +
                 " AND pc.q_name IN (" + DbUtils.getInClausePlaceHolder(classQualifiedNameSet.size()) + ")";
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (Integer jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, classpathHandle);
 
             for (String qName : classQualifiedNameSet) {
                 pst.setString(index++, qName);
@@ -351,7 +656,7 @@ public class ClassInfoService {
             resultSet = pst.executeQuery();
 
             while (resultSet.next()) {
-                innerClassQualifiedNameList.add(resultSet.getString("q_name"));
+                innerClassQualifiedNameList.add(StringInterner.intern(resultSet.getString("q_name")));
             }
 
             connection.commit();
@@ -380,7 +685,7 @@ public class ClassInfoService {
 
         query = query.concat(" ORDER BY scr.precedence ASC");
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
             int index = 1;
@@ -393,7 +698,7 @@ public class ClassInfoService {
             resultSet = pst.executeQuery();
 
             while (resultSet.next()) {
-                superClassQNameList.add(resultSet.getString("q_name"));
+                superClassQNameList.add(StringInterner.intern(resultSet.getString("q_name")));
             }
 
             connection.commit();
@@ -406,27 +711,150 @@ public class ClassInfoService {
         return superClassQNameList;
     }
 
-    public Set<String> getSuperClassQNameSetUsingMemCache(Set<String> classQualifiedNameSet, List<Integer> jarIdList, String type) {
+    public Set<String> getSuperClassQNameSetUsingMemCache(Set<String> classQualifiedNameSet, ClasspathHandle classpathHandle, String type) {
         String classQNameKey = String.join(",", classQualifiedNameSet.stream().sorted().toArray(String[]::new));
-        classQNameKey = classQNameKey.concat(":")
-                .concat(String.join(",", jarIdList.stream().sorted().map(String::valueOf).toArray(String[]::new)));
 
         if (Objects.nonNull(type)) {
             classQNameKey = classQNameKey.concat(":").concat(type);
         }
 
-        Set<String> superClassSet = superClassLoaderCache.getIfPresent(classQNameKey);
+        String classpath = classpathHandle.getCacheKey();
+
+        if (isMissing(classpath, "super.class:" + classQNameKey)
+                || classQualifiedNameSet.stream().noneMatch(qName -> mightContainClassName(classpathHandle, qName))) {
+            return new LinkedHashSet<>();
+        }
+
+        Set<String> superClassSet = superClassLoaderCache.getIfPresent(classpathHandle, classQNameKey);
 
         if (Objects.isNull(superClassSet)) {
-            superClassSet = getSuperClassQNameSet(classQualifiedNameSet, jarIdList, type);
+            superClassSet = getSuperClassQNameSetUsingPersistentCache(classQualifiedNameSet, classpathHandle, type,
+                    classQNameKey);
+
+            if (Objects.isNull(superClassSet)) {
+                return new LinkedHashSet<>();
+            }
+
+            if (superClassSet.isEmpty() && Objects.nonNull(negativeLookupCache)) {
+                negativeLookupCache.putMissing(classpath, classpathHandle.getJarIdList(), "super.class:" + classQNameKey);
+
+                return new LinkedHashSet<>();
+            }
 
-            superClassLoaderCache.put(classQNameKey, superClassSet);
+            superClassLoaderCache.put(classpathHandle, classQNameKey, superClassSet);
         }
 
         return new LinkedHashSet<>(superClassSet);
     }
 
-    public Set<String> getSuperClassQNameSet(Set<String> classQualifiedNameSet, List<Integer> jarIdList, String type) {
+    /*
+     * Supertypes of the classes at every distance, the set at index i holds supertypes at distance i + 1. Type only
+     * filters the first level.
+     */
+    public List<Set<String>> getSuperClassQNameLevelList(Set<String> classQualifiedNameSet, ClasspathHandle classpathHandle,
+                                                         String firstLevelType) {
+
+        SupertypeGraph supertypeGraph = getSupertypeGraph(classpathHandle);
+
+        if (Objects.nonNull(supertypeGraph)) {
+            return supertypeGraph.getSuperClassQNameLevelList(classQualifiedNameSet, firstLevelType);
+        }
+
+        List<Set<String>> superClassQNameLevelList = new ArrayList<>();
+
+        Set<String> classQNameSet = classQualifiedNameSet;
+        String type = firstLevelType;
+
+        while (!classQNameSet.isEmpty()) {
+            classQNameSet = getSuperClassQNameSetUsingMemCache(classQNameSet, classpathHandle, type);
+
+            if (!classQNameSet.isEmpty()) {
+                superClassQNameLevelList.add(classQNameSet);
+            }
+
+            type = null;
+        }
+
+        return superClassQNameLevelList;
+    }
+
+    /*
+     * Number of levels from the class to the super class, -1 if it is not a super class. Classpaths with a supertype
+     * graph are answered by its type lattice.
+     */
+    public int getSuperClassDistance(String classQualifiedName, String superClassQualifiedName, ClasspathHandle classpathHandle) {
+        SupertypeGraph supertypeGraph = getSupertypeGraph(classpathHandle);
+
+        if (Objects.nonNull(supertypeGraph)) {
+            int distance = supertypeGraph.getTypeLattice().getDistance(classQualifiedName, superClassQualifiedName);
+
+            return distance > 0 ? distance : -1;
+        }
+
+        List<Set<String>> superClassQNameLevelList =
+                getSuperClassQNameLevelList(Collections.singleton(classQualifiedName), classpathHandle, null);
+
+        for (int i = 0; i < superClassQNameLevelList.size(); i++) {
+            if (superClassQNameLevelList.get(i).contains(superClassQualifiedName)) {
+                return i + 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /*
+     * Direct supertypes of each class in precedence order.
+     */
+    public Map<String, List<String>> getSuperClassQNameMap(Set<String> classQualifiedNameSet, ClasspathHandle classpathHandle) {
+        SupertypeGraph supertypeGraph = getSupertypeGraph(classpathHandle);
+
+        if (Objects.nonNull(supertypeGraph)) {
+            return supertypeGraph.getSuperClassQNameMap(classQualifiedNameSet);
+        }
+
+        Map<String, List<String>> superClassQNameMap = new HashMap<>();
+        Map<String, Integer> classIdMap = getClientIdMap(classpathHandle, classQualifiedNameSet);
+
+        if (Objects.isNull(classIdMap)) {
+            return superClassQNameMap;
+        }
+
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        for (String classQName : classQualifiedNameSet) {
+            if (classIdMap.containsKey(classQName) && Objects.nonNull(classIdMap.get(classQName))) {
+                int classInfoId = classIdMap.get(classQName);
+
+                List<String> superClassQNameList = Objects.nonNull(jarIndexList)
+                        ? jarIndexService.getSuperClassQNameList(jarIndexList, classInfoId, null)
+                        : null;
+
+                superClassQNameMap.put(classQName, Objects.nonNull(superClassQNameList)
+                        ? superClassQNameList
+                        : getSuperClassQNameList(classInfoId, null));
+            }
+        }
+
+        return superClassQNameMap;
+    }
+
+    /*
+     * Returns null if the supertypes could not be loaded.
+     */
+    public Set<String> getSuperClassQNameSet(Set<String> classQualifiedNameSet, ClasspathHandle classpathHandle, String type) {
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        if (Objects.nonNull(jarIndexList)) {
+            return jarIndexService.getSuperClassQNameSet(jarIndexList, classQualifiedNameSet, type);
+        }
+
+        ClasspathHandle possibleClasspathHandle = jarNameFilterService.getPossibleClasspathHandle(classpathHandle, classQualifiedNameSet);
+
+        if (possibleClasspathHandle.getJarIdList().isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+
         List<String> superClassQNameList = new ArrayList<>();
 
         PreparedStatement pst = null;
@@ -434,7 +862,7 @@ public class ClassInfoService {
 
         String query = "SELECT scr.parent_class_q_name q_name FROM super_class_relation scr" +
                 " JOIN class c ON (scr.child_class_id = c.id)" +
-                " WHERE c.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
+                " WHERE " + DbUtils.getJarMembershipCondition("c.id", possibleClasspathHandle) +
                 " AND c.q_name IN (" + DbUtils.getInClausePlaceHolder(classQualifiedNameSet.size()) + ")";
 
         if (Objects.nonNull(type)) {
@@ -443,13 +871,10 @@ public class ClassInfoService {
 
         query = query.concat(" ORDER BY scr.precedence ASC");
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (Integer jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, possibleClasspathHandle);
 
             for (String qName : classQualifiedNameSet) {
                 pst.setString(index++, qName);
@@ -462,12 +887,14 @@ public class ClassInfoService {
             resultSet = pst.executeQuery();
 
             while (resultSet.next()) {
-                superClassQNameList.add(resultSet.getString("q_name"));
+                superClassQNameList.add(StringInterner.intern(resultSet.getString("q_name")));
             }
 
             connection.commit();
         } catch (SQLException e) {
             logger.error("Error", e);
+
+            return null;
         } finally {
             DbUtils.closeResources(pst, resultSet);
         }
@@ -475,14 +902,252 @@ public class ClassInfoService {
         return new LinkedHashSet<>(superClassQNameList);
     }
 
+    /*
+     * Failed and empty loads are not persisted, misses are kept by the negative lookup cache of the process.
+     */
+    private List<ClassInfo> getClassInfoListUsingPersistentCache(ClasspathHandle classpathHandle, String className) {
+        if (Objects.isNull(persistentClassInfoListCache)) {
+            return getClassInfoList(classpathHandle, className);
+        }
+
+        String scope = classpathHandle.getCacheKey();
+        List<ClassInfo> classInfoList = persistentClassInfoListCache.getIfPresent(scope, className);
+
+        if (Objects.nonNull(classInfoList)) {
+            /* type infos are not persisted */
+            classInfoList.forEach(this::setClassTypeInfo);
+
+            return classInfoList;
+        }
+
+        classInfoList = getClassInfoList(classpathHandle, className);
+
+        if (Objects.nonNull(classInfoList) && !classInfoList.isEmpty()) {
+            persistentClassInfoListCache.put(scope, classpathHandle.getJarIdList(), className, classInfoList);
+        }
+
+        return classInfoList;
+    }
+
+    /*
+     * Failed and empty loads are not persisted, as for classes.
+     */
+    private Set<String> getSuperClassQNameSetUsingPersistentCache(Set<String> classQualifiedNameSet,
+                                                                 ClasspathHandle classpathHandle, String type,
+                                                                 String classQNameKey) {
+        if (Objects.isNull(persistentSuperClassCache)) {
+            return getSuperClassQNameSet(classQualifiedNameSet, classpathHandle, type);
+        }
+
+        String scope = classpathHandle.getCacheKey();
+        Set<String> superClassSet = persistentSuperClassCache.getIfPresent(scope, classQNameKey);
+
+        if (Objects.isNull(superClassSet)) {
+            superClassSet = getSuperClassQNameSet(classQualifiedNameSet, classpathHandle, type);
+
+            if (Objects.nonNull(superClassSet) && !superClassSet.isEmpty()) {
+                persistentSuperClassCache.put(scope, classpathHandle.getJarIdList(), classQNameKey, superClassSet);
+            }
+        }
+
+        return superClassSet;
+    }
+
+    private boolean isMissing(String classpath, String lookup) {
+        return Objects.nonNull(negativeLookupCache) && negativeLookupCache.isMissing(classpath, lookup);
+    }
+
+    /*
+     * True if the name may be of a class on the classpath. The symbol table of the classpath has every class name, so
+     * a name it does not have is a definite miss. Without the symbol table the class name filter is used, a classpath
+     * without either may have any name.
+     */
+    private boolean mightContainClassName(ClasspathHandle classpathHandle, String name) {
+        if (Objects.nonNull(classpathSymbolTableCache)) {
+            ClasspathSymbolTable classpathSymbolTable = getClasspathSymbolTable(classpathHandle);
+
+            return Objects.isNull(classpathSymbolTable) || classpathSymbolTable.containsClassName(name);
+        }
+
+        BloomFilter classNameFilter = getClassNameFilter(classpathHandle);
+
+        return Objects.isNull(classNameFilter) || classNameFilter.mightContain(name);
+    }
+
+    /*
+     * Filter is only built for the jar id list of a classpath handle, a stored classpath never changes. Returns null
+     * if it could not be built.
+     */
+    private BloomFilter getClassNameFilter(ClasspathHandle classpathHandle) {
+        if (Objects.isNull(classNameFilterCache)) {
+            return null;
+        }
+
+        return classNameFilterCache.get(classpathHandle.getCacheKey(), k -> loadClassNameFilter(classpathHandle));
+    }
+
+    private BloomFilter loadClassNameFilter(ClasspathHandle classpathHandle) {
+        Set<String> classNameSet = new HashSet<>();
+
+        PreparedStatement pst = null;
+        ResultSet resultSet = null;
+
+        String query = "SELECT c.name, c.q_name FROM class c WHERE " + DbUtils.getJarMembershipCondition("c.id", classpathHandle);
+
+        try (Connection connection = metadataStore.getConnection()) {
+            pst = connection.prepareStatement(query);
+            DbUtils.setJarMembershipParameters(pst, 1, classpathHandle);
+
+            resultSet = pst.executeQuery();
+
+            while (resultSet.next()) {
+                classNameSet.add(getNameToken(resultSet.getString("name")));
+                classNameSet.add(resultSet.getString("q_name"));
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error", e);
+
+            return null;
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
+
+        BloomFilter classNameFilter = new BloomFilter(classNameSet.size(), CLASS_NAME_FILTER_FALSE_POSITIVE_PROBABILITY);
+        classNameSet.forEach(classNameFilter::put);
+
+        return classNameFilter;
+    }
+
+    /*
+     * Classes are looked up by the part of the name after the last '$', as in the jar index.
+     */
+    private static String getNameToken(String className) {
+        return className.substring(className.lastIndexOf('$') + 1);
+    }
+
+    private void setClassTypeInfo(ClassInfo classInfo) {
+        classInfo.setTypeInfo(getClassTypeInfo(classInfo.getType(), classInfo.getQualifiedName(), classInfo.getSignature()));
+    }
+
+    /*
+     * Symbol table is only built for the jar id list of a classpath handle. Returns null if it could not be built.
+     */
+    private ClasspathSymbolTable getClasspathSymbolTable(ClasspathHandle classpathHandle) {
+        if (Objects.isNull(classpathSymbolTableCache)) {
+            return null;
+        }
+
+        return classpathSymbolTableCache.get(classpathHandle.getCacheKey(), k -> loadClasspathSymbolTable(classpathHandle));
+    }
+
+    /*
+     * Supertype graph is only built for the jar id list of a classpath handle. Returns null if it could not be built.
+     */
+    private SupertypeGraph getSupertypeGraph(ClasspathHandle classpathHandle) {
+        if (Objects.isNull(supertypeGraphCache)) {
+            return null;
+        }
+
+        return supertypeGraphCache.get(classpathHandle.getCacheKey(), k -> loadSupertypeGraph(classpathHandle));
+    }
+
+    private SupertypeGraph loadSupertypeGraph(ClasspathHandle classpathHandle) {
+        SupertypeGraph.Builder supertypeGraphBuilder = new SupertypeGraph.Builder();
+
+        PreparedStatement pst = null;
+        ResultSet resultSet = null;
+
+        String query = "SELECT c.q_name, scr.parent_class_q_name, scr.type, scr.precedence FROM super_class_relation scr" +
+                " JOIN class c ON (scr.child_class_id = c.id)" +
+                " WHERE " + DbUtils.getJarMembershipCondition("c.id", classpathHandle);
+
+        try (Connection connection = metadataStore.getConnection()) {
+            pst = connection.prepareStatement(query);
+            DbUtils.setJarMembershipParameters(pst, 1, classpathHandle);
+
+            resultSet = pst.executeQuery();
+
+            while (resultSet.next()) {
+                supertypeGraphBuilder.addSuperClassRelation(resultSet.getString("q_name"),
+                        resultSet.getString("parent_class_q_name"), resultSet.getString("type"),
+                        resultSet.getInt("precedence"));
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error", e);
+
+            return null;
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
+
+        return supertypeGraphBuilder.build();
+    }
+
+    private ClasspathSymbolTable loadClasspathSymbolTable(ClasspathHandle classpathHandle) {
+        ClasspathSymbolTable.Builder classpathSymbolTableBuilder = new ClasspathSymbolTable.Builder();
+
+        PreparedStatement pst = null;
+        ResultSet resultSet = null;
+
+        String query = "SELECT c.id, c.name, c.q_name, c.package_name, c.is_abstract, c.is_interface, c.is_enum," +
+                " c.is_public, c.is_private, c.is_protected, c.is_inner_class, c.is_anonymous_inner_class," +
+                " c.type_descriptor, c.signature, c.jar_id" +
+                " FROM class c WHERE " + DbUtils.getJarMembershipCondition("c.id", classpathHandle);
+
+        try (Connection connection = metadataStore.getConnection()) {
+            pst = connection.prepareStatement(query);
+            DbUtils.setJarMembershipParameters(pst, 1, classpathHandle);
+
+            resultSet = pst.executeQuery();
+
+            while (resultSet.next()) {
+                classpathSymbolTableBuilder.addClassInfo(getCoreClassInfo(resultSet));
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error", e);
+
+            return null;
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
+
+        return classpathSymbolTableBuilder.build();
+    }
+
+    /*
+     * Parsed signature is null for classes stored before it was added, their signature is parsed instead.
+     */
     private ClassInfo getClassInfo(ResultSet resultSet) throws SQLException {
+        ClassInfo classInfo = getCoreClassInfo(resultSet);
+        byte[] parsedSignature = resultSet.getBytes("parsed_signature");
+
+        List<TypeInfo> formalTypeParameterList = Objects.nonNull(parsedSignature)
+                ? TypeInfoCodec.decodeTypeInfoList(parsedSignature)
+                : null;
+
+        if (Objects.nonNull(formalTypeParameterList)) {
+            classInfo.setTypeInfo(getClassTypeInfo(classInfo.getQualifiedName(), formalTypeParameterList));
+        } else {
+            setClassTypeInfo(classInfo);
+        }
+
+        return classInfo;
+    }
+
+    private ClassInfo getCoreClassInfo(ResultSet resultSet) throws SQLException {
         ClassInfo classInfo = new ClassInfo();
 
         classInfo.setId(resultSet.getInt("id"));
 
-        classInfo.setName(resultSet.getString("name"));
-        classInfo.setQualifiedName(resultSet.getString("q_name"));
-        classInfo.setPackageName(resultSet.getString("package_name"));
+        classInfo.setName(StringInterner.intern(resultSet.getString("name")));
+        classInfo.setQualifiedName(StringInterner.intern(resultSet.getString("q_name")));
+        classInfo.setPackageName(StringInterner.intern(resultSet.getString("package_name")));
 
         classInfo.setAbstract(resultSet.getBoolean("is_abstract"));
         classInfo.setInterface(resultSet.getBoolean("is_interface"));
@@ -493,12 +1158,10 @@ public class ClassInfoService {
         classInfo.setInnerClass(resultSet.getBoolean("is_inner_class"));
         classInfo.setAnonymousInnerClass(resultSet.getBoolean("is_anonymous_inner_class"));
 
-        classInfo.setType(Type.getType(resultSet.getString("type_descriptor")));
+        classInfo.setType(Type.getType(StringInterner.intern(resultSet.getString("type_descriptor"))));
         classInfo.setSignature(resultSet.getString("signature"));
         classInfo.setJarId(resultSet.getInt("jar_id"));
 
-        classInfo.setTypeInfo(getClassTypeInfo(classInfo.getType(), classInfo.getQualifiedName(), classInfo.getSignature()));
-
         return classInfo;
     }
 
@@ -517,8 +1180,9 @@ public class ClassInfoService {
             return null;
         }
 
-        TypeInfo newClassTypeInfo = getClassTypeInfo(classInfo.getType(), classInfo.getQualifiedName(),
-                classInfo.getSignature());
+        TypeInfo newClassTypeInfo = Objects.nonNull(classInfo.getTypeInfo())
+                ? classInfo.getTypeInfo().copy()
+                : getClassTypeInfo(classInfo.getType(), classInfo.getQualifiedName(), classInfo.getSignature());
 
         return new ClassInfo(classInfo, newClassTypeInfo);
     }
@@ -527,20 +1191,21 @@ public class ClassInfoService {
         if (Objects.isNull(signature)) {
             return EntityUtils.getTypeInfo(type);
         } else {
-            ClassSignatureFormalTypeParameterExtractor extractor = new ClassSignatureFormalTypeParameterExtractor();
+            List<TypeInfo> formalTypeParameterList = SignatureParser.getClassFormalTypeParameterList(signature);
 
-            SignatureReader signatureReader = new SignatureReader(signature);
-            signatureReader.accept(extractor);
+            return getClassTypeInfo(qualifiedName, TypeInfo.copy(formalTypeParameterList, new IdentityHashMap<>()));
+        }
+    }
 
-            if (extractor.getTypeArgumentList().isEmpty()) {
-                return new QualifiedTypeInfo(qualifiedName);
+    private TypeInfo getClassTypeInfo(String qualifiedName, List<TypeInfo> formalTypeParameterList) {
+        if (formalTypeParameterList.isEmpty()) {
+            return new QualifiedTypeInfo(qualifiedName);
 
-            } else {
-                ParameterizedTypeInfo parameterizedTypeInfo = new ParameterizedTypeInfo(qualifiedName);
-                parameterizedTypeInfo.setTypeArgumentList(new ArrayList<>(extractor.getTypeArgumentList()));
+        } else {
+            ParameterizedTypeInfo parameterizedTypeInfo = new ParameterizedTypeInfo(qualifiedName);
+            parameterizedTypeInfo.setTypeArgumentList(formalTypeParameterList);
 
-                return parameterizedTypeInfo;
-            }
+            return parameterizedTypeInfo;
         }
     }
 
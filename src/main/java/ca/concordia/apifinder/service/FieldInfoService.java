@@ -1,8 +1,13 @@
 package ca.concordia.apifinder.service;
 
 import ca.concordia.apifinder.entity.FieldInfo;
-import ca.concordia.apifinder.util.DataSource;
+import ca.concordia.apifinder.index.JarIndex;
+import ca.concordia.apifinder.models.ClasspathHandle;
+import ca.concordia.apifinder.models.typeInfo.TypeInfoCodec;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
 import ca.concordia.apifinder.util.DbUtils;
+import ca.concordia.apifinder.util.StringInterner;
 import org.objectweb.asm.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +26,10 @@ public class FieldInfoService {
 
     private static final Logger logger = LoggerFactory.getLogger(FieldInfoService.class);
 
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
+
+    private final JarIndexService jarIndexService = new JarIndexService();
+
     private ClassInfoService classInfoService;
 
     public FieldInfoService() {
@@ -32,21 +41,30 @@ public class FieldInfoService {
     }
 
     public List<FieldInfo> getFieldInfoList(Set<String> qualifiedClassNameSet,
-                                            List<Integer> jarIdList,
+                                            ClasspathHandle classpathHandle,
                                             String fieldName) {
 
         List<FieldInfo> fieldInfoList = new ArrayList<>();
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
 
-        try (Connection connection = DataSource.getConnection()) {
-            fieldInfoList = fetchCoreFieldInfo(qualifiedClassNameSet, jarIdList, fieldName, connection);
+        if (Objects.nonNull(jarIndexList)) {
+            fieldInfoList = jarIndexService.getFieldInfoList(jarIndexList, qualifiedClassNameSet, fieldName);
 
             for (FieldInfo fieldInfo: fieldInfoList) {
-                fieldInfo.setClassInfo(classInfoService.getClassInfoUsingMemoryCache(fieldInfo.getClassInfoId(), connection));
+                fieldInfo.setClassInfo(classInfoService.getClassInfoUsingMemoryCache(fieldInfo.getClassInfoId(), classpathHandle));
             }
+        } else {
+            try (Connection connection = metadataStore.getConnection()) {
+                fieldInfoList = fetchCoreFieldInfo(qualifiedClassNameSet, classpathHandle, fieldName, connection);
 
-            connection.commit();
-        } catch (SQLException e) {
-            logger.error("Error", e);
+                for (FieldInfo fieldInfo: fieldInfoList) {
+                    fieldInfo.setClassInfo(classInfoService.getClassInfoUsingMemoryCache(fieldInfo.getClassInfoId(), connection));
+                }
+
+                connection.commit();
+            } catch (SQLException e) {
+                logger.error("Error", e);
+            }
         }
 
         Map<String, List<FieldInfo>> fieldInfoListByClassNameMap = new HashMap<>();
@@ -78,7 +96,7 @@ public class FieldInfoService {
     }
 
     public List<FieldInfo> fetchCoreFieldInfo(Set<String> qualifiedClassNameSet,
-                                              List<Integer> jarIdList,
+                                              ClasspathHandle classpathHandle,
                                               String fieldName,
                                               Connection connection) throws SQLException {
 
@@ -92,17 +110,14 @@ public class FieldInfoService {
 
         String query = "SELECT f.* FROM field f" +
                 " JOIN class c ON (f.class_id = c.id)" +
-                " WHERE c.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
+                " WHERE " + DbUtils.getJarMembershipCondition("c.id", classpathHandle) +
                 " AND c.q_name IN (" + DbUtils.getInClausePlaceHolder(qualifiedClassNameSet.size()) + ")" +
-                " AND f.name = BINARY ?";
+                " AND " + metadataStore.getCaseSensitiveEqualsCondition("f.name");
 
         try {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (int jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, classpathHandle);
 
             for (String qName : qualifiedClassNameSet) {
                 pst.setString(index++, qName);
@@ -127,16 +142,23 @@ public class FieldInfoService {
         FieldInfo fieldInfo = new FieldInfo();
 
         fieldInfo.setId(resultSet.getInt("id"));
-        fieldInfo.setName(resultSet.getString("name"));
+        fieldInfo.setName(StringInterner.intern(resultSet.getString("name")));
 
         fieldInfo.setPublic(resultSet.getBoolean("is_public"));
         fieldInfo.setPrivate(resultSet.getBoolean("is_private"));
         fieldInfo.setProtected(resultSet.getBoolean("is_protected"));
         fieldInfo.setStatic(resultSet.getBoolean("is_static"));
 
-        fieldInfo.setType(Type.getType(resultSet.getString("type_descriptor")));
+        fieldInfo.setType(Type.getType(StringInterner.intern(resultSet.getString("type_descriptor"))));
         fieldInfo.setSignature(resultSet.getString("signature"));
 
+        /* Parsed signature is null for fields stored before it was added */
+        byte[] parsedSignature = resultSet.getBytes("parsed_signature");
+
+        if (Objects.nonNull(parsedSignature)) {
+            fieldInfo.setSignatureTypeInfo(TypeInfoCodec.decodeTypeInfo(parsedSignature));
+        }
+
         fieldInfo.setClassInfoId(resultSet.getInt("class_id"));
 
         return fieldInfo;
@@ -0,0 +1,592 @@
+package ca.concordia.apifinder.service;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.FieldInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import ca.concordia.apifinder.index.JarIndex;
+import ca.concordia.apifinder.index.JarIndexWriter;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
+import ca.concordia.apifinder.util.EntityUtils;
+import ca.concordia.apifinder.util.PropertyReader;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Writes the memory-mapped index of a stored jar and answers class, method and field lookups from the indices, so that
+ * no query is sent to the metadata store. Lookups are only answered when every jar of the lookup has an index.
+ *
+ * An index is stamped with the stored jar row and its classes, an index file left from another metadata store or a
+ * removed jar is not used. Jars without a usable index are remembered until their index is written.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 4:40 PM
+ */
+public class JarIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JarIndexService.class);
+
+    private static final boolean JAR_INDEX_ENABLED = Boolean.parseBoolean(PropertyReader.getProperty("jar.index.enabled"));
+
+    private static final String JAR_INDEX_DIRECTORY = PropertyReader.getProperty("jar.index.directory");
+
+    private static final Map<Integer, JarIndex> jarIndexMap = new ConcurrentHashMap<>();
+
+    private static final Set<Integer> missingJarIndexIdSet = ConcurrentHashMap.newKeySet();
+
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
+
+    public boolean isJarIndexEnabled() {
+        return JAR_INDEX_ENABLED;
+    }
+
+    /*
+     * Index is written from the stored rows of the jar, which include the classes shared with other jars.
+     */
+    public void writeJarIndex(int jarId) {
+        if (!JAR_INDEX_ENABLED) {
+            return;
+        }
+
+        try (Connection connection = metadataStore.getConnection()) {
+            List<ClassInfo> classInfoList = getClassInfoList(jarId, connection);
+            Long jarStamp = getJarStamp(jarId, connection);
+
+            connection.commit();
+
+            if (Objects.isNull(jarStamp)) {
+                return;
+            }
+
+            new JarIndexWriter().write(jarId, jarStamp, classInfoList, getJarIndexFile(jarId));
+            jarIndexMap.remove(jarId);
+            missingJarIndexIdSet.remove(jarId);
+        } catch (SQLException | IOException e) {
+            logger.error("Could not write the index of jar {}", jarId, e);
+        }
+    }
+
+    /*
+     * Index of a jar that could not be stored is removed, so that it is not used for a jar stored with the same id.
+     */
+    public void deleteJarIndex(int jarId) {
+        jarIndexMap.remove(jarId);
+
+        try {
+            Files.deleteIfExists(getJarIndexFile(jarId));
+        } catch (IOException e) {
+            logger.error("Could not delete the index of jar {}", jarId, e);
+        }
+    }
+
+    /*
+     * Returns null if the indices are disabled or any of the jars has no index.
+     */
+    public List<JarIndex> getJarIndexList(List<Integer> jarIdList) {
+        if (!JAR_INDEX_ENABLED) {
+            return null;
+        }
+
+        List<JarIndex> jarIndexList = new ArrayList<>(jarIdList.size());
+
+        for (int jarId : jarIdList) {
+            JarIndex jarIndex = getJarIndex(jarId);
+
+            if (Objects.isNull(jarIndex)) {
+                return null;
+            }
+
+            jarIndexList.add(jarIndex);
+        }
+
+        return jarIndexList;
+    }
+
+    public Map<String, Integer> getClientIdMap(List<JarIndex> jarIndexList, Set<String> qualifiedClassNameSet) {
+        Map<String, Integer> clientIdMap = new LinkedHashMap<>();
+
+        for (String qualifiedClassName : qualifiedClassNameSet) {
+            for (JarIndex jarIndex : jarIndexList) {
+                List<Integer> recordIndexList = jarIndex.findClassByQualifiedName(qualifiedClassName);
+
+                if (!recordIndexList.isEmpty()) {
+                    clientIdMap.putIfAbsent(qualifiedClassName, jarIndex.getClassId(recordIndexList.get(0)));
+                }
+            }
+        }
+
+        return clientIdMap;
+    }
+
+    public List<Integer> getClassInfoIdList(List<JarIndex> jarIndexList, Set<String> qualifiedClassNameSet) {
+        Set<Integer> classInfoIdSet = new LinkedHashSet<>();
+
+        for (String qualifiedClassName : qualifiedClassNameSet) {
+            for (JarIndex jarIndex : jarIndexList) {
+                for (int recordIndex : jarIndex.findClassByQualifiedName(qualifiedClassName)) {
+                    classInfoIdSet.add(jarIndex.getClassId(recordIndex));
+                }
+            }
+        }
+
+        return new ArrayList<>(classInfoIdSet);
+    }
+
+    public List<Integer> getClassInfoIdList(List<JarIndex> jarIndexList, List<String> packageNameList) {
+        Set<Integer> classInfoIdSet = new LinkedHashSet<>();
+
+        forEachClassOfPackage(jarIndexList, packageNameList,
+                (jarIndex, recordIndex) -> classInfoIdSet.add(jarIndex.getClassId(recordIndex)));
+
+        return new ArrayList<>(classInfoIdSet);
+    }
+
+    public Set<String> getClassQNameSet(List<JarIndex> jarIndexList, List<String> packageNameList) {
+        Set<String> classQNameSet = new LinkedHashSet<>();
+
+        forEachClassOfPackage(jarIndexList, packageNameList,
+                (jarIndex, recordIndex) -> classQNameSet.add(jarIndex.getQualifiedName(recordIndex)));
+
+        return classQNameSet;
+    }
+
+    /*
+     * Classes named as the class name, or inner classes whose name ends with it.
+     */
+    public List<ClassInfo> getClassInfoList(List<JarIndex> jarIndexList, String className) {
+        Map<Integer, ClassInfo> classInfoMap = new LinkedHashMap<>();
+        String nameToken = className.substring(className.lastIndexOf('$') + 1);
+
+        for (JarIndex jarIndex : jarIndexList) {
+            for (int recordIndex : jarIndex.findClassByNameToken(nameToken)) {
+                int classInfoId = jarIndex.getClassId(recordIndex);
+
+                if (!classInfoMap.containsKey(classInfoId)) {
+                    ClassInfo classInfo = jarIndex.getClassInfo(recordIndex);
+
+                    if (classInfo.getName().equals(className) || classInfo.getName().endsWith("$" + className)) {
+                        classInfoMap.put(classInfoId, classInfo);
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(classInfoMap.values());
+    }
+
+    /*
+     * Returns null if the class is not in any of the indices.
+     */
+    public ClassInfo getClassInfo(List<JarIndex> jarIndexList, int classInfoId) {
+        for (JarIndex jarIndex : jarIndexList) {
+            int recordIndex = jarIndex.findClassById(classInfoId);
+
+            if (recordIndex >= 0) {
+                return jarIndex.getClassInfo(recordIndex);
+            }
+        }
+
+        return null;
+    }
+
+    public Set<Integer> getMemberClassInfoIdSet(List<JarIndex> jarIndexList, Set<Integer> classInfoIdSet) {
+        Set<Integer> memberClassInfoIdSet = new HashSet<>();
+
+        for (int classInfoId : classInfoIdSet) {
+            for (JarIndex jarIndex : jarIndexList) {
+                if (jarIndex.findClassById(classInfoId) >= 0) {
+                    memberClassInfoIdSet.add(classInfoId);
+                    break;
+                }
+            }
+        }
+
+        return memberClassInfoIdSet;
+    }
+
+    public Set<String> getInnerClassQNameSet(List<JarIndex> jarIndexList, Set<String> qualifiedClassNameSet) {
+        Set<String> innerClassQNameSet = new LinkedHashSet<>();
+
+        for (JarIndex jarIndex : jarIndexList) {
+            for (String qualifiedClassName : qualifiedClassNameSet) {
+                for (int recordIndex : jarIndex.findClassByQualifiedName(qualifiedClassName)) {
+                    innerClassQNameSet.addAll(jarIndex.getInnerClassQNameList(recordIndex));
+                }
+            }
+        }
+
+        return innerClassQNameSet;
+    }
+
+    public Set<String> getSuperClassQNameSet(List<JarIndex> jarIndexList, Set<String> qualifiedClassNameSet, String type) {
+        Set<String> superClassQNameSet = new LinkedHashSet<>();
+
+        for (JarIndex jarIndex : jarIndexList) {
+            for (String qualifiedClassName : qualifiedClassNameSet) {
+                for (int recordIndex : jarIndex.findClassByQualifiedName(qualifiedClassName)) {
+                    superClassQNameSet.addAll(jarIndex.getSuperClassQNameList(recordIndex, type));
+                }
+            }
+        }
+
+        return superClassQNameSet;
+    }
+
+    /*
+     * Returns null if the class is not in any of the indices.
+     */
+    public List<String> getSuperClassQNameList(List<JarIndex> jarIndexList, int classInfoId, String type) {
+        for (JarIndex jarIndex : jarIndexList) {
+            int recordIndex = jarIndex.findClassById(classInfoId);
+
+            if (recordIndex >= 0) {
+                return jarIndex.getSuperClassQNameList(recordIndex, type);
+            }
+        }
+
+        return null;
+    }
+
+    /*
+     * Methods in the order of the classes. Returns null if any of the classes is not in the indices.
+     */
+    public List<MethodInfo> getMethodInfoList(List<JarIndex> jarIndexList, List<Integer> classInfoIdList, String methodName) {
+        List<MethodInfo> methodInfoList = new ArrayList<>();
+
+        for (int classInfoId : new LinkedHashSet<>(classInfoIdList)) {
+            boolean found = false;
+
+            for (JarIndex jarIndex : jarIndexList) {
+                int recordIndex = jarIndex.findClassById(classInfoId);
+
+                if (recordIndex >= 0) {
+                    methodInfoList.addAll(jarIndex.getMethodInfoList(recordIndex, methodName));
+                    found = true;
+
+                    break;
+                }
+            }
+
+            if (!found) {
+                return null;
+            }
+        }
+
+        return methodInfoList;
+    }
+
+    public List<MethodInfo> getAbstractMethodInfoList(List<JarIndex> jarIndexList, Set<String> qualifiedClassNameSet) {
+        Map<Integer, MethodInfo> methodInfoMap = new LinkedHashMap<>();
+
+        for (JarIndex jarIndex : jarIndexList) {
+            for (String qualifiedClassName : qualifiedClassNameSet) {
+                for (int recordIndex : jarIndex.findClassByQualifiedName(qualifiedClassName)) {
+                    for (MethodInfo methodInfo : jarIndex.getMethodInfoList(recordIndex, null)) {
+                        if (methodInfo.isAbstract()) {
+                            methodInfoMap.putIfAbsent(methodInfo.getId(), methodInfo);
+                        }
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(methodInfoMap.values());
+    }
+
+    public List<FieldInfo> getFieldInfoList(List<JarIndex> jarIndexList, Set<String> qualifiedClassNameSet, String fieldName) {
+        Map<Integer, FieldInfo> fieldInfoMap = new LinkedHashMap<>();
+
+        for (JarIndex jarIndex : jarIndexList) {
+            for (String qualifiedClassName : qualifiedClassNameSet) {
+                for (int recordIndex : jarIndex.findClassByQualifiedName(qualifiedClassName)) {
+                    for (FieldInfo fieldInfo : jarIndex.getFieldInfoList(recordIndex, fieldName)) {
+                        fieldInfoMap.putIfAbsent(fieldInfo.getId(), fieldInfo);
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(fieldInfoMap.values());
+    }
+
+    private void forEachClassOfPackage(List<JarIndex> jarIndexList,
+                                       List<String> packageNameList,
+                                       BiConsumer<JarIndex, Integer> recordConsumer) {
+
+        for (JarIndex jarIndex : jarIndexList) {
+            for (String packageName : packageNameList) {
+                for (int recordIndex : jarIndex.findClassByPackageName(packageName)) {
+                    recordConsumer.accept(jarIndex, recordIndex);
+                }
+            }
+        }
+    }
+
+    private JarIndex getJarIndex(int jarId) {
+        JarIndex jarIndex = jarIndexMap.get(jarId);
+
+        if (Objects.nonNull(jarIndex) || missingJarIndexIdSet.contains(jarId)) {
+            return jarIndex;
+        }
+
+        jarIndex = openJarIndex(jarId);
+
+        if (Objects.isNull(jarIndex)) {
+            missingJarIndexIdSet.add(jarId);
+
+            return null;
+        }
+
+        jarIndexMap.putIfAbsent(jarId, jarIndex);
+
+        return jarIndexMap.get(jarId);
+    }
+
+    /*
+     * Returns null if the jar has no index, or its index was written for another stored jar.
+     */
+    private JarIndex openJarIndex(int jarId) {
+        Path jarIndexFile = getJarIndexFile(jarId);
+
+        if (!Files.isRegularFile(jarIndexFile)) {
+            return null;
+        }
+
+        try (Connection connection = metadataStore.getConnection()) {
+            JarIndex jarIndex = JarIndex.open(jarIndexFile);
+            Long jarStamp = getJarStamp(jarId, connection);
+
+            connection.commit();
+
+            if (jarIndex.getJarId() != jarId || !Objects.equals(jarStamp, jarIndex.getJarStamp())) {
+                logger.warn("Index of jar {} was written for another stored jar, it is not used", jarId);
+
+                return null;
+            }
+
+            return jarIndex;
+        } catch (SQLException | IOException e) {
+            logger.error("Could not open the index of jar {}", jarId, e);
+
+            return null;
+        }
+    }
+
+    /*
+     * First 8 bytes of the SHA-256 of the jar row and the number and id range of its classes. Class ids are part of
+     * the index, so an index of the same jar stored in another metadata store has another stamp. Returns null if the
+     * jar is not stored.
+     */
+    private Long getJarStamp(int jarId, Connection connection) throws SQLException {
+        String query = "SELECT j.group_id, j.artifact_id, j.version, j.content_hash," +
+                " COUNT(jc.class_id) class_count, MIN(jc.class_id) min_class_id, MAX(jc.class_id) max_class_id" +
+                " FROM jar j LEFT JOIN jar_class jc ON (jc.jar_id = j.id)" +
+                " WHERE j.id = ?" +
+                " GROUP BY j.id, j.group_id, j.artifact_id, j.version, j.content_hash";
+
+        StringBuilder jarStampBuilder = new StringBuilder();
+
+        executeQuery(jarId, connection, query, resultSet -> jarStampBuilder
+                .append(resultSet.getString("group_id")).append('|')
+                .append(resultSet.getString("artifact_id")).append('|')
+                .append(resultSet.getString("version")).append('|')
+                .append(resultSet.getString("content_hash")).append('|')
+                .append(resultSet.getInt("class_count")).append('|')
+                .append(resultSet.getInt("min_class_id")).append('|')
+                .append(resultSet.getInt("max_class_id")));
+
+        if (jarStampBuilder.length() == 0) {
+            return null;
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(jarStampBuilder.toString().getBytes(StandardCharsets.UTF_8));
+
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path getJarIndexFile(int jarId) {
+        return Path.of(JAR_INDEX_DIRECTORY).toAbsolutePath().resolve(jarId + ".idx");
+    }
+
+    private List<ClassInfo> getClassInfoList(int jarId, Connection connection) throws SQLException {
+        Map<Integer, ClassInfo> classInfoMap = new LinkedHashMap<>();
+        Map<Integer, MethodInfo> methodInfoMap = new HashMap<>();
+        Map<MethodInfo, List<Type>> argumentTypeMap = new HashMap<>();
+
+        String classQuery = "SELECT c.* FROM class c JOIN jar_class jc ON (jc.class_id = c.id) WHERE jc.jar_id = ?";
+
+        executeQuery(jarId, connection, classQuery, resultSet -> {
+            ClassInfo classInfo = new ClassInfo();
+
+            classInfo.setId(resultSet.getInt("id"));
+            classInfo.setName(resultSet.getString("name"));
+            classInfo.setQualifiedName(resultSet.getString("q_name"));
+            classInfo.setPackageName(resultSet.getString("package_name"));
+
+            classInfo.setAbstract(resultSet.getBoolean("is_abstract"));
+            classInfo.setInterface(resultSet.getBoolean("is_interface"));
+            classInfo.setEnum(resultSet.getBoolean("is_enum"));
+            classInfo.setPublic(resultSet.getBoolean("is_public"));
+            classInfo.setPrivate(resultSet.getBoolean("is_private"));
+            classInfo.setProtected(resultSet.getBoolean("is_protected"));
+            classInfo.setInnerClass(resultSet.getBoolean("is_inner_class"));
+            classInfo.setAnonymousInnerClass(resultSet.getBoolean("is_anonymous_inner_class"));
+
+            classInfo.setType(Type.getType(resultSet.getString("type_descriptor")));
+            classInfo.setSignature(resultSet.getString("signature"));
+            classInfo.setJarId(resultSet.getInt("jar_id"));
+
+            classInfo.setInterfaceQNameList(new ArrayList<>());
+            classInfo.setMethodInfoList(new ArrayList<>());
+            classInfo.setFieldInfoList(new ArrayList<>());
+
+            classInfoMap.put(classInfo.getId(), classInfo);
+        });
+
+        String methodQuery = "SELECT m.* FROM method m JOIN jar_class jc ON (jc.class_id = m.class_id)" +
+                " WHERE jc.jar_id = ? ORDER BY m.id";
+
+        executeQuery(jarId, connection, methodQuery, resultSet -> {
+            MethodInfo methodInfo = new MethodInfo();
+
+            methodInfo.setId(resultSet.getInt("id"));
+            methodInfo.setName(resultSet.getString("name"));
+
+            methodInfo.setAbstract(resultSet.getBoolean("is_abstract"));
+            methodInfo.setConstructor(resultSet.getBoolean("is_constructor"));
+            methodInfo.setStatic(resultSet.getBoolean("is_static"));
+            methodInfo.setPublic(resultSet.getBoolean("is_public"));
+            methodInfo.setPrivate(resultSet.getBoolean("is_private"));
+            methodInfo.setProtected(resultSet.getBoolean("is_protected"));
+            methodInfo.setSynchronized(resultSet.getBoolean("is_synchronized"));
+            methodInfo.setFinal(resultSet.getBoolean("is_final"));
+            methodInfo.setVarargs(resultSet.getBoolean("is_varargs"));
+            methodInfo.setBridgeMethod(resultSet.getBoolean("is_bridge_method"));
+
+            methodInfo.setSignature(resultSet.getString("signature"));
+            methodInfo.setInternalClassConstructorPrefix(resultSet.getString("internal_class_constructor_prefix"));
+            methodInfo.setReturnType(Type.getType(resultSet.getString("return_type_descriptor")));
+            methodInfo.setClassInfoId(resultSet.getInt("class_id"));
+
+            /* Packed columns are null for methods stored before they were added, those are read from the join tables */
+            String argumentTypeDescriptors = resultSet.getString("argument_type_descriptors");
+            String thrownClassNames = resultSet.getString("thrown_class_names");
+
+            methodInfo.setArgumentTypes(Objects.nonNull(argumentTypeDescriptors)
+                    ? EntityUtils.getArgumentTypes(argumentTypeDescriptors)
+                    : new Type[0]);
+            methodInfo.setThrownInternalClassNames(Objects.nonNull(thrownClassNames)
+                    ? EntityUtils.getThrownClassNameList(thrownClassNames)
+                    : new ArrayList<>());
+
+            methodInfoMap.put(methodInfo.getId(), methodInfo);
+            classInfoMap.get(methodInfo.getClassInfoId()).getMethodInfoList().add(methodInfo);
+        });
+
+        String argumentQuery = "SELECT arg.method_id method_id, arg.argument_type_descriptor argument_type_descriptor" +
+                " FROM argument_type_descriptor arg JOIN method m ON (arg.method_id = m.id)" +
+                " JOIN jar_class jc ON (jc.class_id = m.class_id)" +
+                " WHERE jc.jar_id = ? AND m.argument_type_descriptors IS NULL" +
+                " ORDER BY arg.method_id, arg.precedence_order";
+
+        executeQuery(jarId, connection, argumentQuery, resultSet ->
+                argumentTypeMap.computeIfAbsent(methodInfoMap.get(resultSet.getInt("method_id")), k -> new ArrayList<>())
+                        .add(Type.getType(resultSet.getString("argument_type_descriptor"))));
+
+        argumentTypeMap.forEach((methodInfo, argumentTypeList) ->
+                methodInfo.setArgumentTypes(argumentTypeList.toArray(new Type[0])));
+
+        String thrownClassNameQuery = "SELECT thr.method_id method_id, thr.thrown_class_name thrown_class_name" +
+                " FROM thrown_class_name thr JOIN method m ON (thr.method_id = m.id)" +
+                " JOIN jar_class jc ON (jc.class_id = m.class_id)" +
+                " WHERE jc.jar_id = ? AND m.thrown_class_names IS NULL" +
+                " ORDER BY thr.method_id, thr.precedence_order";
+
+        executeQuery(jarId, connection, thrownClassNameQuery, resultSet ->
+                methodInfoMap.get(resultSet.getInt("method_id")).getThrownInternalClassNames()
+                        .add(resultSet.getString("thrown_class_name")));
+
+        String fieldQuery = "SELECT f.* FROM field f JOIN jar_class jc ON (jc.class_id = f.class_id) WHERE jc.jar_id = ?";
+
+        executeQuery(jarId, connection, fieldQuery, resultSet -> {
+            FieldInfo fieldInfo = new FieldInfo();
+
+            fieldInfo.setId(resultSet.getInt("id"));
+            fieldInfo.setName(resultSet.getString("name"));
+
+            fieldInfo.setPublic(resultSet.getBoolean("is_public"));
+            fieldInfo.setPrivate(resultSet.getBoolean("is_private"));
+            fieldInfo.setProtected(resultSet.getBoolean("is_protected"));
+            fieldInfo.setStatic(resultSet.getBoolean("is_static"));
+
+            fieldInfo.setType(Type.getType(resultSet.getString("type_descriptor")));
+            fieldInfo.setSignature(resultSet.getString("signature"));
+            fieldInfo.setClassInfoId(resultSet.getInt("class_id"));
+
+            classInfoMap.get(fieldInfo.getClassInfoId()).getFieldInfoList().add(fieldInfo);
+        });
+
+        String superClassQuery = "SELECT scr.child_class_id child_class_id, scr.parent_class_q_name parent_class_q_name," +
+                " scr.type type FROM super_class_relation scr JOIN jar_class jc ON (jc.class_id = scr.child_class_id)" +
+                " WHERE jc.jar_id = ? ORDER BY scr.child_class_id, scr.precedence";
+
+        executeQuery(jarId, connection, superClassQuery, resultSet -> {
+            ClassInfo classInfo = classInfoMap.get(resultSet.getInt("child_class_id"));
+
+            if ("SUPER_CLASS".equals(resultSet.getString("type"))) {
+                classInfo.setSuperClassQName(resultSet.getString("parent_class_q_name"));
+            } else {
+                classInfo.getInterfaceQNameList().add(resultSet.getString("parent_class_q_name"));
+            }
+        });
+
+        String innerClassQuery = "SELECT icn.parent_class_id parent_class_id, icn.inner_class_q_name inner_class_q_name" +
+                " FROM inner_class_name icn" +
+                " WHERE icn.jar_id = ?";
+
+        executeQuery(jarId, connection, innerClassQuery, resultSet ->
+                classInfoMap.get(resultSet.getInt("parent_class_id")).getInnerClassQNameList()
+                        .add(resultSet.getString("inner_class_q_name")));
+
+        return new ArrayList<>(classInfoMap.values());
+    }
+
+    private void executeQuery(int jarId, Connection connection, String query, RowConsumer rowConsumer) throws SQLException {
+        try (PreparedStatement pst = connection.prepareStatement(query)) {
+            pst.setInt(1, jarId);
+
+            try (ResultSet resultSet = pst.executeQuery()) {
+                while (resultSet.next()) {
+                    rowConsumer.accept(resultSet);
+                }
+            }
+        }
+    }
+
+    private interface RowConsumer {
+
+        void accept(ResultSet resultSet) throws SQLException;
+    }
+
+}
@@ -0,0 +1,455 @@
+package ca.concordia.apifinder.service;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.FieldInfo;
+import ca.concordia.apifinder.entity.JarInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
+import ca.concordia.apifinder.util.EntityUtils;
+import ca.concordia.apifinder.util.PropertyReader;
+import ca.concordia.apifinder.util.Utility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stores a jar by staging the rows of each table in tab delimited files and loading them with
+ * {@code LOAD DATA LOCAL INFILE}, all in one transaction per jar.
+ *
+ * Ids are assigned on the client as offsets and are shifted past the current maximum id of the table while the files
+ * are loaded. The loader therefore has to be the only writer of the database while it runs, which is the case for the
+ * initial pre-indexing of a local repository.
+ *
+ * Classes whose api hash is already stored are not staged again, only their membership in the jar is loaded.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 12:05 PM
+ */
+public class JarInfoBulkLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(JarInfoBulkLoader.class);
+
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
+
+    private static final String STAGING_DIRECTORY = PropertyReader.getProperty("jar.info.bulk.load.directory");
+
+    private static final String NULL_VALUE = "\\N";
+
+    private static final int LOOKUP_BATCH_SIZE = Integer.parseInt(PropertyReader.getProperty("jar.info.insert.batch.size"));
+
+    private final ClassInfoService classInfoService;
+
+    public JarInfoBulkLoader(ClassInfoService classInfoService) {
+        this.classInfoService = classInfoService;
+    }
+
+    public int saveJarInfo(JarInfo jarInfo, Iterator<ClassInfo> classInfoIterator) throws SQLException, IOException {
+        Path stagingRootDirectory = Files.createDirectories(Path.of(STAGING_DIRECTORY).toAbsolutePath());
+        Path stagingDirectory = Files.createTempDirectory(stagingRootDirectory, jarInfo.getArtifactId() + "-");
+
+        try {
+            Path classPath = stagingDirectory.resolve("class.tsv");
+            Path methodPath = stagingDirectory.resolve("method.tsv");
+            Path fieldPath = stagingDirectory.resolve("field.tsv");
+            Path superClassRelationPath = stagingDirectory.resolve("super_class_relation.tsv");
+            Path innerClassNamePath = stagingDirectory.resolve("inner_class_name.tsv");
+            Path jarClassPath = stagingDirectory.resolve("jar_class.tsv");
+
+            try (StagingFile classFile = new StagingFile(classPath);
+                 StagingFile methodFile = new StagingFile(methodPath);
+                 StagingFile fieldFile = new StagingFile(fieldPath);
+                 StagingFile superClassRelationFile = new StagingFile(superClassRelationPath);
+                 StagingFile innerClassNameFile = new StagingFile(innerClassNamePath);
+                 StagingFile jarClassFile = new StagingFile(jarClassPath);
+                 Connection connection = metadataStore.getConnection()) {
+
+                ClassStager classStager = new ClassStager(classFile, methodFile, fieldFile, superClassRelationFile,
+                        jarClassFile, connection);
+
+                List<ClassInfo> classInfoList = new ArrayList<>();
+
+                while (classInfoIterator.hasNext()) {
+                    classInfoList.add(classInfoIterator.next());
+
+                    if (classInfoList.size() == LOOKUP_BATCH_SIZE) {
+                        classStager.stage(classInfoList);
+                        classInfoList.clear();
+                    }
+                }
+
+                classStager.stage(classInfoList);
+                connection.commit();
+
+                for (Map.Entry<String, String> outerClassQNameEntry : classStager.outerClassQNameMap.entrySet()) {
+                    String innerClassQName = outerClassQNameEntry.getKey();
+                    String outerClassQualifiedName = outerClassQNameEntry.getValue();
+
+                    if (classStager.classLocalIdMap.containsKey(outerClassQualifiedName)) {
+                        innerClassNameFile.writeRow(classStager.classLocalIdMap.get(outerClassQualifiedName), null, innerClassQName);
+                    } else if (classStager.sharedClassIdMap.containsKey(outerClassQualifiedName)) {
+                        innerClassNameFile.writeRow(null, classStager.sharedClassIdMap.get(outerClassQualifiedName), innerClassQName);
+                    }
+                }
+            }
+
+            try (Connection connection = metadataStore.getConnection()) {
+                try {
+                    int jarId = insertJarInfo(jarInfo, connection);
+                    int classIdBase = getMaxId("class", connection);
+                    int methodIdBase = getMaxId("method", connection);
+
+                    loadDataFile(connection, classPath, "class",
+                            "(@local_id, name, q_name, package_name, is_abstract, is_interface, is_enum, is_public," +
+                                    " is_private, is_protected, is_inner_class, is_anonymous_inner_class," +
+                                    " type_descriptor, signature, @parsed_signature, api_hash)",
+                            "id = @local_id + " + classIdBase + ", jar_id = " + jarId +
+                                    ", parsed_signature = UNHEX(@parsed_signature)");
+
+                    loadDataFile(connection, methodPath, "method",
+                            "(@local_id, @class_local_id, name, is_abstract, is_constructor, is_static, is_public," +
+                                    " is_private, is_protected, is_synchronized, is_final, is_varargs," +
+                                    " is_bridge_method, signature, @parsed_signature, internal_class_constructor_prefix," +
+                                    " return_type_descriptor, argument_type_descriptors, thrown_class_names, arity)",
+                            "id = @local_id + " + methodIdBase + ", class_id = @class_local_id + " + classIdBase +
+                                    ", parsed_signature = UNHEX(@parsed_signature)");
+
+                    loadDataFile(connection, fieldPath, "field",
+                            "(@class_local_id, name, is_public, is_private, is_protected, is_static, type_descriptor," +
+                                    " signature, @parsed_signature)",
+                            "class_id = @class_local_id + " + classIdBase +
+                                    ", parsed_signature = UNHEX(@parsed_signature)");
+
+                    loadDataFile(connection, superClassRelationPath, "super_class_relation",
+                            "(@class_local_id, parent_class_q_name, type, precedence)",
+                            "child_class_id = @class_local_id + " + classIdBase);
+
+                    loadDataFile(connection, innerClassNamePath, "inner_class_name",
+                            "(@class_local_id, @class_id, inner_class_q_name)",
+                            "jar_id = " + jarId + ", parent_class_id = COALESCE(@class_id, @class_local_id + " + classIdBase + ")");
+
+                    loadDataFile(connection, jarClassPath, "jar_class",
+                            "(@class_local_id, @class_id)",
+                            "jar_id = " + jarId + ", class_id = COALESCE(@class_id, @class_local_id + " + classIdBase + ")");
+
+                    connection.commit();
+
+                    return jarId;
+                } catch (SQLException e) {
+                    connection.rollback();
+
+                    throw e;
+                }
+            }
+        } finally {
+            deleteStagingDirectory(stagingDirectory);
+        }
+    }
+
+    private static void writeClassInfo(ClassInfo classInfo,
+                                       String apiHash,
+                                       int classLocalId,
+                                       StagingFile classFile) throws IOException {
+
+        classFile.writeRow(classLocalId, classInfo.getName(), classInfo.getQualifiedName(), classInfo.getPackageName(),
+                classInfo.isAbstract(), classInfo.isInterface(), classInfo.isEnum(), classInfo.isPublic(),
+                classInfo.isPrivate(), classInfo.isProtected(), classInfo.isInnerClass(),
+                classInfo.isAnonymousInnerClass(), classInfo.getType().getDescriptor(), classInfo.getSignature(),
+                getHexString(EntityUtils.getEncodedSignature(classInfo)), apiHash);
+    }
+
+    private static void writeMethodInfo(MethodInfo methodInfo,
+                                 int methodLocalId,
+                                 int classLocalId,
+                                 StagingFile methodFile) throws IOException {
+
+        methodFile.writeRow(methodLocalId, classLocalId, methodInfo.getName(), methodInfo.isAbstract(),
+                methodInfo.isConstructor(), methodInfo.isStatic(), methodInfo.isPublic(), methodInfo.isPrivate(),
+                methodInfo.isProtected(), methodInfo.isSynchronized(), methodInfo.isFinal(), methodInfo.isVarargs(),
+                methodInfo.isBridgeMethod(), methodInfo.getSignature(),
+                getHexString(EntityUtils.getEncodedSignature(methodInfo)), methodInfo.getInternalClassConstructorPrefix(),
+                methodInfo.getReturnType().getDescriptor(),
+                EntityUtils.getPackedArgumentTypeDescriptors(methodInfo.getArgumentTypes()),
+                EntityUtils.getPackedThrownClassNames(methodInfo.getThrownInternalClassNames()),
+                methodInfo.getArgumentTypes().length);
+    }
+
+    private static void writeFieldInfo(FieldInfo fieldInfo, int classLocalId, StagingFile fieldFile) throws IOException {
+        fieldFile.writeRow(classLocalId, fieldInfo.getName(), fieldInfo.isPublic(), fieldInfo.isPrivate(),
+                fieldInfo.isProtected(), fieldInfo.isStatic(), fieldInfo.getType().getDescriptor(),
+                fieldInfo.getSignature(), getHexString(EntityUtils.getEncodedSignature(fieldInfo)));
+    }
+
+    /*
+     * Binary values are staged as hex and converted back with UNHEX while loading.
+     */
+    private static String getHexString(byte[] value) {
+        return Objects.nonNull(value) ? Utility.getHexString(value) : null;
+    }
+
+    private static void writeSuperClassRelation(ClassInfo classInfo,
+                                         int classLocalId,
+                                         StagingFile superClassRelationFile) throws IOException {
+        int precedenceOrder = 0;
+
+        if (Objects.nonNull(classInfo.getSuperClassQName())) {
+            superClassRelationFile.writeRow(classLocalId, classInfo.getSuperClassQName(), "SUPER_CLASS", precedenceOrder++);
+        }
+
+        for (String interfaceQName : classInfo.getInterfaceQNameList()) {
+            superClassRelationFile.writeRow(classLocalId, interfaceQName, "INTERFACE", precedenceOrder++);
+        }
+    }
+
+    private int insertJarInfo(JarInfo jarInfo, Connection connection) throws SQLException {
+        String insertQuery = "INSERT INTO jar (group_id, artifact_id, version, content_hash) VALUES (?, ?, ?, ?)";
+
+        try (PreparedStatement pst = connection.prepareStatement(insertQuery, Statement.RETURN_GENERATED_KEYS)) {
+            pst.setString(1, jarInfo.getGroupId());
+            pst.setString(2, jarInfo.getArtifactId());
+            pst.setString(3, jarInfo.getVersion());
+            pst.setString(4, jarInfo.getContentHash());
+
+            pst.executeUpdate();
+
+            try (ResultSet resultSet = pst.getGeneratedKeys()) {
+                if (resultSet.next()) {
+                    return resultSet.getInt(1);
+                }
+            }
+        }
+
+        throw new SQLException("Could not insert jar " + jarInfo.getArtifactId());
+    }
+
+    private int getMaxId(String tableName, Connection connection) throws SQLException {
+        String query = "SELECT COALESCE(MAX(id), 0) FROM " + tableName + " FOR UPDATE";
+
+        try (PreparedStatement pst = connection.prepareStatement(query);
+             ResultSet resultSet = pst.executeQuery()) {
+
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        }
+    }
+
+    private void loadDataFile(Connection connection,
+                              Path dataFile,
+                              String tableName,
+                              String columnList,
+                              String setClause) throws SQLException {
+
+        String query = "LOAD DATA LOCAL INFILE '" + getFileLocation(dataFile) + "'" +
+                " INTO TABLE " + tableName +
+                " CHARACTER SET utf8mb4" +
+                " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'" +
+                " LINES TERMINATED BY '\\n' " +
+                columnList +
+                (Objects.nonNull(setClause) ? " SET " + setClause : "");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(query);
+        }
+    }
+
+    private String getFileLocation(Path dataFile) {
+        return dataFile.toAbsolutePath().toString()
+                .replace('\\', '/')
+                .replace("'", "\\'");
+    }
+
+    private void deleteStagingDirectory(Path stagingDirectory) {
+        try (Stream<Path> pathStream = Files.list(stagingDirectory)) {
+            for (Path path : pathStream.collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+
+            Files.deleteIfExists(stagingDirectory);
+        } catch (IOException e) {
+            logger.error("Could not delete staging directory {}", stagingDirectory, e);
+        }
+    }
+
+    /*
+     * Stages the classes of a jar in batches. Classes are looked up by api hash, stored classes are only staged as
+     * members of the jar and new classes get local ids. A class repeated in the jar is staged once.
+     */
+    private class ClassStager {
+
+        private final StagingFile classFile;
+        private final StagingFile methodFile;
+        private final StagingFile fieldFile;
+        private final StagingFile superClassRelationFile;
+        private final StagingFile jarClassFile;
+        private final Connection connection;
+
+        private final Map<String, Integer> classLocalIdMap;
+        private final Map<String, Integer> sharedClassIdMap;
+        private final Map<String, String> outerClassQNameMap;
+
+        private final Map<String, Integer> classLocalIdMapByApiHash;
+        private final Set<Integer> sharedClassIdSet;
+
+        private int classLocalId;
+        private int methodLocalId;
+
+        ClassStager(StagingFile classFile,
+                    StagingFile methodFile,
+                    StagingFile fieldFile,
+                    StagingFile superClassRelationFile,
+                    StagingFile jarClassFile,
+                    Connection connection) {
+
+            this.classFile = classFile;
+            this.methodFile = methodFile;
+            this.fieldFile = fieldFile;
+            this.superClassRelationFile = superClassRelationFile;
+            this.jarClassFile = jarClassFile;
+            this.connection = connection;
+
+            this.classLocalIdMap = new HashMap<>();
+            this.sharedClassIdMap = new HashMap<>();
+            this.outerClassQNameMap = new LinkedHashMap<>();
+
+            this.classLocalIdMapByApiHash = new HashMap<>();
+            this.sharedClassIdSet = new HashSet<>();
+        }
+
+        void stage(List<ClassInfo> classInfoList) throws SQLException, IOException {
+            if (classInfoList.isEmpty()) {
+                return;
+            }
+
+            List<String> apiHashList = classInfoList.stream()
+                    .map(EntityUtils::getApiHash)
+                    .collect(Collectors.toList());
+
+            Map<String, Integer> sharedClassIdMapByApiHash =
+                    classInfoService.getClassInfoIdMapByApiHash(new HashSet<>(apiHashList), connection);
+
+            for (int i = 0; i < classInfoList.size(); i++) {
+                ClassInfo classInfo = classInfoList.get(i);
+                String apiHash = apiHashList.get(i);
+
+                if (sharedClassIdMapByApiHash.containsKey(apiHash)) {
+                    int sharedClassId = sharedClassIdMapByApiHash.get(apiHash);
+
+                    if (sharedClassIdSet.add(sharedClassId)) {
+                        jarClassFile.writeRow(null, sharedClassId);
+                    }
+
+                    sharedClassIdMap.putIfAbsent(classInfo.getQualifiedName(), sharedClassId);
+
+                } else if (classLocalIdMapByApiHash.containsKey(apiHash)) {
+                    classLocalIdMap.putIfAbsent(classInfo.getQualifiedName(), classLocalIdMapByApiHash.get(apiHash));
+
+                } else {
+                    classLocalId++;
+
+                    writeClassInfo(classInfo, apiHash, classLocalId, classFile);
+
+                    for (MethodInfo methodInfo : classInfo.getMethodInfoList()) {
+                        methodLocalId++;
+
+                        writeMethodInfo(methodInfo, methodLocalId, classLocalId, methodFile);
+                    }
+
+                    for (FieldInfo fieldInfo : classInfo.getFieldInfoList()) {
+                        writeFieldInfo(fieldInfo, classLocalId, fieldFile);
+                    }
+
+                    writeSuperClassRelation(classInfo, classLocalId, superClassRelationFile);
+                    jarClassFile.writeRow(classLocalId, null);
+
+                    classLocalIdMapByApiHash.put(apiHash, classLocalId);
+                    classLocalIdMap.putIfAbsent(classInfo.getQualifiedName(), classLocalId);
+                }
+
+                if (classInfo.isInnerClass() && !classInfo.getQualifiedName().matches(ClassInfo.ANONYMOUS_INNER_CLASS_NAME_REGEX)) {
+                    outerClassQNameMap.put(classInfo.getQualifiedName(), classInfo.getOuterClassQualifiedName());
+                }
+            }
+        }
+    }
+
+    /*
+     * Writes rows in the default LOAD DATA format: tab separated fields, newline terminated lines, backslash escapes
+     * and \N for NULL.
+     */
+    private static class StagingFile implements Closeable {
+
+        private final BufferedWriter writer;
+
+        StagingFile(Path path) throws IOException {
+            this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        }
+
+        void writeRow(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write('\t');
+                }
+
+                writer.write(toFieldValue(values[i]));
+            }
+
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private static String toFieldValue(Object value) {
+            if (Objects.isNull(value)) {
+                return NULL_VALUE;
+            }
+
+            if (value instanceof Boolean) {
+                return (Boolean) value ? "1" : "0";
+            }
+
+            String fieldValue = value.toString();
+            StringBuilder escapedValue = new StringBuilder(fieldValue.length());
+
+            for (char character : fieldValue.toCharArray()) {
+                switch (character) {
+                    case '\\':
+                        escapedValue.append("\\\\");
+                        break;
+                    case '\t':
+                        escapedValue.append("\\t");
+                        break;
+                    case '\n':
+                        escapedValue.append("\\n");
+                        break;
+                    case '\r':
+                        escapedValue.append("\\r");
+                        break;
+                    case '\0':
+                        escapedValue.append("\\0");
+                        break;
+                    default:
+                        escapedValue.append(character);
+                }
+            }
+
+            return escapedValue.toString();
+        }
+    }
+
+}
@@ -1,20 +1,36 @@
 package ca.concordia.apifinder.service;
 
+import ca.concordia.apifinder.cache.CacheRegistry;
+import ca.concordia.apifinder.cache.NegativeLookupCache;
+import ca.concordia.apifinder.cache.PersistentCache;
 import ca.concordia.apifinder.entity.ClassInfo;
 import ca.concordia.apifinder.entity.FieldInfo;
 import ca.concordia.apifinder.entity.JarInfo;
 import ca.concordia.apifinder.entity.MethodInfo;
-import ca.concordia.apifinder.util.DataSource;
+import ca.concordia.apifinder.entityExtractor.ClassInfoExtractor;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
+import ca.concordia.apifinder.util.DbUtils;
+import ca.concordia.apifinder.util.EntityUtils;
 import ca.concordia.apifinder.util.PropertyReader;
-import org.objectweb.asm.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.zip.ZipFile;
 
 /**
  * @author Diptopol
@@ -24,102 +40,277 @@ public class JarInfoSaveService {
 
     private static final Logger logger = LoggerFactory.getLogger(JarInfoSaveService.class);
 
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
+
     private static final int INSERT_BATCH_SIZE = Integer.parseInt(PropertyReader.getProperty("jar.info.insert.batch.size"));
 
+    private static final int INGEST_QUEUE_CAPACITY = Integer.parseInt(PropertyReader.getProperty("jar.info.ingest.queue.capacity"));
+
+    private static final String INGEST_MODE = PropertyReader.getProperty("jar.info.ingest.mode");
+
+    private static final String BULK_LOAD_INGEST_MODE = "bulk_load";
+
+    private static final int CLASS_BATCH_ATTEMPTS = 3;
+
+    /*
+     * Relations of the jar are deleted first, so a class of the jar is unshared if no jar has it any more.
+     */
+    private static final String UNSHARED_CLASS_CONDITION =
+            "NOT EXISTS (SELECT 1 FROM jar_class jc WHERE jc.class_id = c.id)";
+
+    private final JarInfoBulkLoader jarInfoBulkLoader;
+
+    private final ClassInfoService classInfoService;
+
+    private final JarIndexService jarIndexService;
+
+    private final JarNameFilterService jarNameFilterService;
+
+    public JarInfoSaveService() {
+        this.classInfoService = new ClassInfoService();
+        this.jarInfoBulkLoader = new JarInfoBulkLoader(classInfoService);
+        this.jarIndexService = new JarIndexService();
+        this.jarNameFilterService = new JarNameFilterService();
+    }
+
     public void saveJarInfo(JarInfo jarInfo) {
-        logger.info("Save JarInfo of {}:{}:{}", jarInfo.getGroupId(), jarInfo.getArtifactId(), jarInfo.getVersion());
+        saveJarInfo(jarInfo, jarInfo.getClassInfoList().iterator());
+    }
 
-        Connection classInfoInsertConnection = null;
-        int jarId = 0;
+    /*
+     * Parses the jar on a producer thread while the calling thread stores the parsed classes. Only the bounded
+     * queue and the current insert batch are held in memory.
+     */
+    public void saveJarInfo(String groupId, String artifactId, String version, JarFile jarFile) {
+        saveJarInfo(new JarInfo(groupId, artifactId, version), jarFile);
+    }
+
+    public void saveJarInfo(JarInfo jarInfo, JarFile jarFile) {
+        saveJarInfo(jarInfo, classInfoConsumer ->
+                ClassInfoExtractor.extractClassInfo(jarFile, classInfoConsumer));
+    }
+
+    public void saveJarInfo(String groupId, String artifactId, String version, ZipFile jmodFile) {
+        saveJarInfo(new JarInfo(groupId, artifactId, version), classInfoConsumer ->
+                ClassInfoExtractor.extractClassInfo(jmodFile, classInfoConsumer));
+    }
+
+    private void saveJarInfo(JarInfo jarInfo, Consumer<Consumer<ClassInfo>> classInfoProducer) {
+        logger.info("Processing JarInfo of {}:{}:{}", jarInfo.getGroupId(), jarInfo.getArtifactId(), jarInfo.getVersion());
+
+        ClassInfoQueueIterator classInfoQueueIterator = new ClassInfoQueueIterator(INGEST_QUEUE_CAPACITY);
+
+        Thread producerThread = classInfoQueueIterator.startProducer(classInfoProducer,
+                "class-info-producer-" + jarInfo.getArtifactId());
 
         try {
-            jarId = insertJarInfo(jarInfo);
+            saveJarInfo(jarInfo, classInfoQueueIterator);
+        } finally {
+            producerThread.interrupt();
+        }
+    }
 
-            if (jarId > 0) {
-                int insertedClassCount = 0;
+    private void saveJarInfo(JarInfo jarInfo, Iterator<ClassInfo> classInfoIterator) {
+        logger.info("Save JarInfo of {}:{}:{}", jarInfo.getGroupId(), jarInfo.getArtifactId(), jarInfo.getVersion());
 
-                for (ClassInfo classInfo : jarInfo.getClassInfoList()) {
-                    if (insertedClassCount % INSERT_BATCH_SIZE == 0) {
-                        if (Objects.nonNull(classInfoInsertConnection)) {
-                            classInfoInsertConnection.commit();
-                            classInfoInsertConnection.close();
-                        }
+        if (BULK_LOAD_INGEST_MODE.equals(INGEST_MODE) && metadataStore.supportsBulkLoad()) {
+            try {
+                int jarId = jarInfoBulkLoader.saveJarInfo(jarInfo, classInfoIterator);
+
+                jarIndexService.writeJarIndex(jarId);
+                jarNameFilterService.writeJarNameFilter(jarId);
+                invalidateCaches(jarId);
+            } catch (SQLException | IOException | IllegalStateException e) {
+                logger.error("Could not bulk load JarInfo of {}:{}:{}", jarInfo.getGroupId(), jarInfo.getArtifactId(), jarInfo.getVersion());
+                logger.error("Error", e);
+            }
 
-                        classInfoInsertConnection = DataSource.getConnection();
-                    }
+            return;
+        }
 
-                    int classInfoId = insertClassInfo(classInfo, jarId, classInfoInsertConnection);
+        int jarId = 0;
 
-                    if (classInfoId > 0) {
-                        for (MethodInfo methodInfo : classInfo.getMethodInfoList()) {
-                            insertMethodInfo(methodInfo, classInfoId, classInfoInsertConnection);
-                        }
+        try {
+            jarId = insertJarInfo(jarInfo);
 
-                        for (FieldInfo fieldInfo : classInfo.getFieldInfoList()) {
-                            insertFieldInfo(fieldInfo, classInfoId, classInfoInsertConnection);
-                        }
+            if (jarId > 0) {
+                Map<String, Integer> classInfoIdMap = new HashMap<>();
+                Map<String, String> outerClassQNameMap = new LinkedHashMap<>();
+                List<ClassInfo> classInfoList = new ArrayList<>();
 
-                        insertSuperClassRelation(classInfo, classInfoId, classInfoInsertConnection);
+                while (classInfoIterator.hasNext()) {
+                    classInfoList.add(classInfoIterator.next());
 
-                        insertInnerClassQNameList(classInfoId, classInfo.getInnerClassQNameList(), classInfoInsertConnection);
+                    if (classInfoList.size() == INSERT_BATCH_SIZE) {
+                        insertClassInfoBatch(classInfoList, jarId, classInfoIdMap, outerClassQNameMap);
+                        classInfoList.clear();
                     }
-
-                    insertedClassCount++;
                 }
 
-                if (Objects.nonNull(classInfoInsertConnection)) {
-                    classInfoInsertConnection.commit();
-                    classInfoInsertConnection.close();
+                if (!classInfoList.isEmpty()) {
+                    insertClassInfoBatch(classInfoList, jarId, classInfoIdMap, outerClassQNameMap);
                 }
+
+                insertInnerClassRelationList(jarId, classInfoIdMap, outerClassQNameMap);
+                jarIndexService.writeJarIndex(jarId);
+                jarNameFilterService.writeJarNameFilter(jarId);
+                invalidateCaches(jarId);
             }
-        } catch (SQLException e) {
+        } catch (SQLException | IllegalStateException e) {
             logger.error("Could not process JarInfo of {}:{}:{}", jarInfo.getGroupId(), jarInfo.getArtifactId(), jarInfo.getVersion());
             logger.error("Error", e);
 
             if (jarId > 0) {
                 insertedClassCleanup(jarId);
             }
+        }
+    }
 
+    /*
+     * Each batch of classes is written in a single transaction. Rows of a table are sent as one JDBC batch
+     * (rewritten into multi-row inserts by the driver) and the generated ids are read back in bulk.
+     *
+     * Only classes whose api hash is not stored yet are inserted, the others are shared with the jars that stored
+     * them. Every class of the batch is added to the jar through jar_class. api_hash is unique, so a batch that
+     * inserted a class another writer stored meanwhile is rolled back and selects that class in the next attempt.
+     *
+     * Inner class relations need every class of the jar, so only the class ids by qualified name and the names of
+     * the inner classes with their outer classes are kept until the whole jar is stored.
+     */
+    private void insertClassInfoBatch(List<ClassInfo> classInfoList,
+                                      int jarId,
+                                      Map<String, Integer> classInfoIdMap,
+                                      Map<String, String> outerClassQNameMap) throws SQLException {
+
+        for (int attempt = 1; ; attempt++) {
             try {
-                if (Objects.nonNull(classInfoInsertConnection)) {
-                    classInfoInsertConnection.rollback();
+                tryInsertClassInfoBatch(classInfoList, jarId, classInfoIdMap, outerClassQNameMap);
+
+                return;
+            } catch (SQLException e) {
+                if (attempt == CLASS_BATCH_ATTEMPTS || !metadataStore.isDuplicateKey(e)) {
+                    throw e;
                 }
-            } catch (SQLException ex) {
-                logger.error("could not rollback", e);
+
+                logger.info("Classes of jar {} were stored by another writer, selecting them again", jarId);
             }
-        } finally {
+        }
+    }
+
+    private void tryInsertClassInfoBatch(List<ClassInfo> classInfoList,
+                                         int jarId,
+                                         Map<String, Integer> classInfoIdMap,
+                                         Map<String, String> outerClassQNameMap) throws SQLException {
+
+        try (Connection connection = metadataStore.getConnection()) {
             try {
-                if (Objects.nonNull(classInfoInsertConnection)) {
-                    classInfoInsertConnection.close();
+                List<String> apiHashList = classInfoList.stream()
+                        .map(EntityUtils::getApiHash)
+                        .collect(Collectors.toList());
+
+                Map<String, Integer> classInfoIdMapByApiHash =
+                        classInfoService.getClassInfoIdMapByApiHash(new HashSet<>(apiHashList), connection);
+
+                List<ClassInfo> newClassInfoList = new ArrayList<>();
+                List<String> newApiHashList = new ArrayList<>();
+                Set<String> newApiHashSet = new HashSet<>();
+
+                for (int i = 0; i < classInfoList.size(); i++) {
+                    String apiHash = apiHashList.get(i);
+
+                    if (!classInfoIdMapByApiHash.containsKey(apiHash) && newApiHashSet.add(apiHash)) {
+                        newClassInfoList.add(classInfoList.get(i));
+                        newApiHashList.add(apiHash);
+                    }
+                }
+
+                if (!newClassInfoList.isEmpty()) {
+                    List<Integer> newClassInfoIdList = insertClassInfoList(newClassInfoList, newApiHashList, jarId, connection);
+
+                    insertMethodInfoList(newClassInfoList, newClassInfoIdList, connection);
+                    insertFieldInfoList(newClassInfoList, newClassInfoIdList, connection);
+                    insertSuperClassRelationList(newClassInfoList, newClassInfoIdList, connection);
+
+                    for (int i = 0; i < newClassInfoList.size(); i++) {
+                        classInfoIdMapByApiHash.put(newApiHashList.get(i), newClassInfoIdList.get(i));
+                    }
+                }
+
+                List<Integer> classInfoIdList = apiHashList.stream()
+                        .map(classInfoIdMapByApiHash::get)
+                        .collect(Collectors.toList());
+
+                insertJarClassList(jarId, new LinkedHashSet<>(classInfoIdList), connection);
+
+                connection.commit();
+
+                for (int i = 0; i < classInfoList.size(); i++) {
+                    ClassInfo classInfo = classInfoList.get(i);
+
+                    classInfoIdMap.putIfAbsent(classInfo.getQualifiedName(), classInfoIdList.get(i));
+
+                    if (classInfo.isInnerClass() && !classInfo.getQualifiedName().matches(ClassInfo.ANONYMOUS_INNER_CLASS_NAME_REGEX)) {
+                        outerClassQNameMap.put(classInfo.getQualifiedName(), classInfo.getOuterClassQualifiedName());
+                    }
                 }
             } catch (SQLException e) {
-                logger.error("Could not close connection", e);
+                connection.rollback();
+
+                throw e;
             }
         }
     }
 
-    private void insertInnerClassQNameList(int classInfoId,
-                                           List<String> innerClassQNameList,
-                                           Connection connection) throws SQLException {
+    /*
+     * Stores new coordinates of a jar whose content is already stored. Lookups of the alias resolve to the class data
+     * of the existing jar, so nothing is extracted or inserted for it.
+     */
+    public void saveJarAlias(JarInfo jarInfo, int aliasOfJarId) {
+        logger.info("Save JarInfo of {}:{}:{} as alias of jar {}", jarInfo.getGroupId(), jarInfo.getArtifactId(),
+                jarInfo.getVersion(), aliasOfJarId);
+
+        String insertQuery = "INSERT INTO jar (group_id, artifact_id, version, content_hash, alias_of_jar_id)" +
+                " VALUES (?, ?, ?, ?, ?)";
+
+        try (Connection connection = metadataStore.getConnection();
+             PreparedStatement pst = connection.prepareStatement(insertQuery)) {
+            pst.setString(1, jarInfo.getGroupId());
+            pst.setString(2, jarInfo.getArtifactId());
+            pst.setString(3, jarInfo.getVersion());
+            pst.setString(4, jarInfo.getContentHash());
+            pst.setInt(5, aliasOfJarId);
 
-        for (String classQName : innerClassQNameList) {
-            insertInnerClassRelation(classInfoId, classQName, connection);
+            pst.executeUpdate();
+
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error", e);
+        }
+
+        /* Lookups of the java version of the alias may have found nothing */
+        NegativeLookupCache negativeLookupCache = CacheRegistry.getNegativeLookupCache();
+
+        if (Objects.nonNull(negativeLookupCache)) {
+            negativeLookupCache.invalidate(JarInfoService.JAVA_JAR_LOOKUP_SCOPE);
         }
     }
 
     private int insertJarInfo(JarInfo jarInfo) throws SQLException {
-        String insertQuery = "INSERT INTO jar (group_id, artifact_id, version) VALUES (?, ?, ?)";
+        String insertQuery = "INSERT INTO jar (group_id, artifact_id, version, content_hash) VALUES (?, ?, ?, ?)";
         int jarId = 0;
 
-        try (Connection connection = DataSource.getConnection();
-             PreparedStatement pst = connection.prepareStatement(insertQuery)) {
+        try (Connection connection = metadataStore.getConnection();
+             PreparedStatement pst = connection.prepareStatement(insertQuery, Statement.RETURN_GENERATED_KEYS)) {
             pst.setString(1, jarInfo.getGroupId());
             pst.setString(2, jarInfo.getArtifactId());
             pst.setString(3, jarInfo.getVersion());
+            pst.setString(4, jarInfo.getContentHash());
 
             pst.executeUpdate();
 
-            jarId = getLastInsertedId(connection);
+            List<Integer> generatedIdList = getGeneratedIdList(pst);
+            jarId = generatedIdList.isEmpty() ? 0 : generatedIdList.get(0);
+
             connection.commit();
         } catch (SQLException e) {
             logger.error("Error", e);
@@ -128,176 +319,236 @@ public class JarInfoSaveService {
         return jarId;
     }
 
-    private void insertThrownClassNameList(MethodInfo methodInfo, int methodInfoId, Connection connection) throws SQLException {
-        int precedenceOrder = 0;
+    private List<Integer> insertClassInfoList(List<ClassInfo> classInfoList,
+                                              List<String> apiHashList,
+                                              int jarId,
+                                              Connection connection) throws SQLException {
 
-        for (String thrownClassName : methodInfo.getThrownInternalClassNames()) {
-            String insertQuery = "INSERT INTO thrown_class_name(precedence_order, thrown_class_name, method_id)" +
-                    " VALUES(?, ?, ?)";
-
-            try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
-                pst.setInt(1, precedenceOrder++);
-                pst.setString(2, thrownClassName);
-                pst.setInt(3, methodInfoId);
-
-                pst.executeUpdate();
+        String insertQuery = "INSERT INTO class (name, q_name, package_name, is_abstract, is_interface, is_enum," +
+                " is_public, is_private, is_protected, is_inner_class, is_anonymous_inner_class, type_descriptor," +
+                " signature, parsed_signature, api_hash, jar_id) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement pst = connection.prepareStatement(insertQuery, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < classInfoList.size(); i++) {
+                ClassInfo classInfo = classInfoList.get(i);
+
+                pst.setString(1, classInfo.getName());
+                pst.setString(2, classInfo.getQualifiedName());
+                pst.setString(3, classInfo.getPackageName());
+
+                pst.setBoolean(4, classInfo.isAbstract());
+                pst.setBoolean(5, classInfo.isInterface());
+                pst.setBoolean(6, classInfo.isEnum());
+                pst.setBoolean(7, classInfo.isPublic());
+                pst.setBoolean(8, classInfo.isPrivate());
+                pst.setBoolean(9, classInfo.isProtected());
+                pst.setBoolean(10, classInfo.isInnerClass());
+                pst.setBoolean(11, classInfo.isAnonymousInnerClass());
+
+                pst.setString(12, classInfo.getType().getDescriptor());
+                pst.setString(13, classInfo.getSignature());
+                pst.setBytes(14, EntityUtils.getEncodedSignature(classInfo));
+                pst.setString(15, apiHashList.get(i));
+                pst.setInt(16, jarId);
+
+                pst.addBatch();
             }
-        }
 
+            return executeBatchWithGeneratedIdList(pst, classInfoList.size());
+        }
     }
 
-    private void insertMethodArgumentDescriptorList(MethodInfo methodInfo, int methodInfoId, Connection connection) throws SQLException {
-        List<String> argumentTypeDescriptorList = new ArrayList<>();
+    private void insertJarClassList(int jarId, Set<Integer> classInfoIdSet, Connection connection) throws SQLException {
+        String insertQuery = "INSERT INTO jar_class (jar_id, class_id) VALUES(?, ?)";
 
-        for (Type type : methodInfo.getArgumentTypes()) {
-            argumentTypeDescriptorList.add(type.getDescriptor());
-        }
-
-        int precedenceOrder = 0;
-        for (String argumentTypeDescriptor : argumentTypeDescriptorList) {
-            String insertQuery = "INSERT INTO argument_type_descriptor (precedence_order, argument_type_descriptor," +
-                    " method_id) VALUES(?, ?, ?)";
+        try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
+            for (int classInfoId : classInfoIdSet) {
+                pst.setInt(1, jarId);
+                pst.setInt(2, classInfoId);
 
-            try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
-                pst.setInt(1, precedenceOrder++);
-                pst.setString(2, argumentTypeDescriptor);
-                pst.setInt(3, methodInfoId);
+                pst.addBatch();
+            }
 
-                pst.executeUpdate();
+            if (!classInfoIdSet.isEmpty()) {
+                pst.executeBatch();
             }
         }
     }
 
-    private int insertMethodInfoCore(MethodInfo methodInfo, int classInfoId, Connection connection) throws SQLException {
+    private void insertMethodInfoList(List<ClassInfo> classInfoList,
+                                      List<Integer> classInfoIdList,
+                                      Connection connection) throws SQLException {
+
         String insertQuery = "INSERT INTO method (class_id, name, is_abstract, is_constructor, is_static, is_public," +
                 " is_private, is_protected, is_synchronized, is_final, is_varargs, is_bridge_method, signature," +
-                " internal_class_constructor_prefix, return_type_descriptor)" +
-                " VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+                " parsed_signature, internal_class_constructor_prefix, return_type_descriptor," +
+                " argument_type_descriptors, thrown_class_names, arity)" +
+                " VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
         try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
-            pst.setInt(1, classInfoId);
-
-            pst.setString(2, methodInfo.getName());
-
-            pst.setBoolean(3, methodInfo.isAbstract());
-            pst.setBoolean(4, methodInfo.isConstructor());
-            pst.setBoolean(5, methodInfo.isStatic());
-            pst.setBoolean(6, methodInfo.isPublic());
-            pst.setBoolean(7, methodInfo.isPrivate());
-            pst.setBoolean(8, methodInfo.isProtected());
-            pst.setBoolean(9, methodInfo.isSynchronized());
-            pst.setBoolean(10, methodInfo.isFinal());
-            pst.setBoolean(11, methodInfo.isVarargs());
-            pst.setBoolean(12, methodInfo.isBridgeMethod());
-
-            pst.setString(13, methodInfo.getSignature());
-            pst.setString(14, methodInfo.getInternalClassConstructorPrefix());
-            pst.setString(15, methodInfo.getReturnType().getDescriptor());
+            int batchCount = 0;
+
+            for (int i = 0; i < classInfoList.size(); i++) {
+                for (MethodInfo methodInfo : classInfoList.get(i).getMethodInfoList()) {
+                    pst.setInt(1, classInfoIdList.get(i));
+
+                    pst.setString(2, methodInfo.getName());
+
+                    pst.setBoolean(3, methodInfo.isAbstract());
+                    pst.setBoolean(4, methodInfo.isConstructor());
+                    pst.setBoolean(5, methodInfo.isStatic());
+                    pst.setBoolean(6, methodInfo.isPublic());
+                    pst.setBoolean(7, methodInfo.isPrivate());
+                    pst.setBoolean(8, methodInfo.isProtected());
+                    pst.setBoolean(9, methodInfo.isSynchronized());
+                    pst.setBoolean(10, methodInfo.isFinal());
+                    pst.setBoolean(11, methodInfo.isVarargs());
+                    pst.setBoolean(12, methodInfo.isBridgeMethod());
+
+                    pst.setString(13, methodInfo.getSignature());
+                    pst.setBytes(14, EntityUtils.getEncodedSignature(methodInfo));
+                    pst.setString(15, methodInfo.getInternalClassConstructorPrefix());
+                    pst.setString(16, methodInfo.getReturnType().getDescriptor());
+                    pst.setString(17, EntityUtils.getPackedArgumentTypeDescriptors(methodInfo.getArgumentTypes()));
+                    pst.setString(18, EntityUtils.getPackedThrownClassNames(methodInfo.getThrownInternalClassNames()));
+                    pst.setInt(19, methodInfo.getArgumentTypes().length);
+
+                    pst.addBatch();
+                    batchCount++;
+                }
+            }
 
-            pst.executeUpdate();
+            if (batchCount > 0) {
+                pst.executeBatch();
+            }
         }
-
-        return getLastInsertedId(connection);
     }
 
-    private void insertMethodInfo(MethodInfo methodInfo, int classInfoId, Connection connection) throws SQLException {
-        int methodInfoId = insertMethodInfoCore(methodInfo, classInfoId, connection);
-        insertMethodArgumentDescriptorList(methodInfo, methodInfoId, connection);
-        insertThrownClassNameList(methodInfo, methodInfoId, connection);
-    }
+    private void insertFieldInfoList(List<ClassInfo> classInfoList,
+                                     List<Integer> classInfoIdList,
+                                     Connection connection) throws SQLException {
 
-    private void insertFieldInfo(FieldInfo fieldInfo, int classInfoId, Connection connection) throws SQLException {
         String insertQuery = "INSERT INTO field (class_id, name, is_public, is_private, is_protected, is_static," +
-                " type_descriptor, signature) VALUES(?, ?, ?, ?, ?, ?, ?, ?)";
+                " type_descriptor, signature, parsed_signature) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
         try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
-            pst.setInt(1, classInfoId);
+            int batchCount = 0;
 
-            pst.setString(2, fieldInfo.getName());
+            for (int i = 0; i < classInfoList.size(); i++) {
+                for (FieldInfo fieldInfo : classInfoList.get(i).getFieldInfoList()) {
+                    pst.setInt(1, classInfoIdList.get(i));
 
-            pst.setBoolean(3, fieldInfo.isPublic());
-            pst.setBoolean(4, fieldInfo.isPrivate());
-            pst.setBoolean(5, fieldInfo.isProtected());
-            pst.setBoolean(6, fieldInfo.isStatic());
+                    pst.setString(2, fieldInfo.getName());
 
-            pst.setString(7, fieldInfo.getType().getDescriptor());
-            pst.setString(8, fieldInfo.getSignature());
+                    pst.setBoolean(3, fieldInfo.isPublic());
+                    pst.setBoolean(4, fieldInfo.isPrivate());
+                    pst.setBoolean(5, fieldInfo.isProtected());
+                    pst.setBoolean(6, fieldInfo.isStatic());
 
-            pst.executeUpdate();
+                    pst.setString(7, fieldInfo.getType().getDescriptor());
+                    pst.setString(8, fieldInfo.getSignature());
+                    pst.setBytes(9, EntityUtils.getEncodedSignature(fieldInfo));
+
+                    pst.addBatch();
+                    batchCount++;
+                }
+            }
+
+            if (batchCount > 0) {
+                pst.executeBatch();
+            }
         }
     }
 
-    private void insertSuperClassRelation(ClassInfo classInfo, int classInfoId, Connection connection) throws SQLException {
-        int precedenceOrder = 0;
+    private void insertSuperClassRelationList(List<ClassInfo> classInfoList,
+                                              List<Integer> classInfoIdList,
+                                              Connection connection) throws SQLException {
 
         String insertQuery = "INSERT INTO super_class_relation (child_class_id, parent_class_q_name, type, precedence)" +
                 " VALUES(?, ?, ?, ?)";
 
-        if (Objects.nonNull(classInfo.getSuperClassQName())) {
-            try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
-                pst.setInt(1, classInfoId);
-                pst.setString(2, classInfo.getSuperClassQName());
-                pst.setString(3, "SUPER_CLASS");
-                pst.setInt(4, precedenceOrder++);
+        try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
+            int batchCount = 0;
 
-                pst.executeUpdate();
-            }
-        }
+            for (int i = 0; i < classInfoList.size(); i++) {
+                ClassInfo classInfo = classInfoList.get(i);
+                int classInfoId = classInfoIdList.get(i);
+                int precedenceOrder = 0;
 
-        for (String interfaceQName : classInfo.getInterfaceQNameList()) {
-            try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
-                pst.setInt(1, classInfoId);
-                pst.setString(2, interfaceQName);
-                pst.setString(3, "INTERFACE");
-                pst.setInt(4, precedenceOrder++);
+                if (Objects.nonNull(classInfo.getSuperClassQName())) {
+                    pst.setInt(1, classInfoId);
+                    pst.setString(2, classInfo.getSuperClassQName());
+                    pst.setString(3, "SUPER_CLASS");
+                    pst.setInt(4, precedenceOrder++);
 
-                pst.executeUpdate();
+                    pst.addBatch();
+                    batchCount++;
+                }
+
+                for (String interfaceQName : classInfo.getInterfaceQNameList()) {
+                    pst.setInt(1, classInfoId);
+                    pst.setString(2, interfaceQName);
+                    pst.setString(3, "INTERFACE");
+                    pst.setInt(4, precedenceOrder++);
+
+                    pst.addBatch();
+                    batchCount++;
+                }
+            }
+
+            if (batchCount > 0) {
+                pst.executeBatch();
             }
         }
     }
 
-    private void insertInnerClassRelation(int classInfoId, String innerClassQName, Connection connection) throws SQLException {
-        String insertQuery = "INSERT INTO inner_class_name(parent_class_id, inner_class_q_name) VALUES(?, ?)";
+    /*
+     * The outer class can be shared with other jars, so the relations are stored for the jar.
+     */
+    private void insertInnerClassRelationList(int jarId,
+                                              Map<String, Integer> classInfoIdMap,
+                                              Map<String, String> outerClassQNameMap) throws SQLException {
 
-        try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
-            pst.setInt(1, classInfoId);
-            pst.setString(2, innerClassQName);
+        String insertQuery = "INSERT INTO inner_class_name(jar_id, parent_class_id, inner_class_q_name) VALUES(?, ?, ?)";
 
-            pst.executeUpdate();
-        }
-    }
+        try (Connection connection = metadataStore.getConnection();
+             PreparedStatement pst = connection.prepareStatement(insertQuery)) {
 
-    private int insertClassInfo(ClassInfo classInfo, int jarId, Connection connection) throws SQLException {
-        String insertQuery = "INSERT INTO class (name, q_name, package_name, is_abstract, is_interface, is_enum," +
-                " is_public, is_private, is_protected, is_inner_class, is_anonymous_inner_class, type_descriptor," +
-                " signature, jar_id) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+            int batchCount = 0;
 
-        try (PreparedStatement pst = connection.prepareStatement(insertQuery)) {
-            pst.setString(1, classInfo.getName());
-            pst.setString(2, classInfo.getQualifiedName());
-            pst.setString(3, classInfo.getPackageName());
-
-            pst.setBoolean(4, classInfo.isAbstract());
-            pst.setBoolean(5, classInfo.isInterface());
-            pst.setBoolean(6, classInfo.isEnum());
-            pst.setBoolean(7, classInfo.isPublic());
-            pst.setBoolean(8, classInfo.isPrivate());
-            pst.setBoolean(9, classInfo.isProtected());
-            pst.setBoolean(10, classInfo.isInnerClass());
-            pst.setBoolean(11, classInfo.isAnonymousInnerClass());
-
-            pst.setString(12, classInfo.getType().getDescriptor());
-            pst.setString(13, classInfo.getSignature());
-            pst.setInt(14, jarId);
+            for (Map.Entry<String, String> outerClassQNameEntry : outerClassQNameMap.entrySet()) {
+                String innerClassQName = outerClassQNameEntry.getKey();
+                String outerClassQualifiedName = outerClassQNameEntry.getValue();
 
-            pst.executeUpdate();
-        }
+                if (classInfoIdMap.containsKey(outerClassQualifiedName)) {
+                    pst.setInt(1, jarId);
+                    pst.setInt(2, classInfoIdMap.get(outerClassQualifiedName));
+                    pst.setString(3, innerClassQName);
+
+                    pst.addBatch();
+                    batchCount++;
+                }
+            }
 
-        return getLastInsertedId(connection);
+            if (batchCount > 0) {
+                pst.executeBatch();
+            }
+
+            connection.commit();
+        }
     }
 
+    /*
+     * Classes of the jar that were shared from other jars are only removed from the jar. Inner class relations are
+     * stored for the jar, so the relations the jar stored on shared classes are removed as well.
+     *
+     * Classes the jar stored may have been shared with other jars since their batch was committed. Only classes that
+     * no other jar has are deleted with their members, the others are handed over to one of their jars.
+     */
     private void insertedClassCleanup(int jarId) {
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
+            deleteJarClass(jarId, connection);
+
             deleteSuperClass(jarId, connection);
             deleteInnerClass(jarId, connection);
             deleteField(jarId, connection);
@@ -307,27 +558,70 @@ public class JarInfoSaveService {
             deleteMethod(jarId, connection);
 
             deleteClass(jarId, connection);
+            updateSharedClassJar(jarId, connection);
             deleteJar(jarId, connection);
 
             connection.commit();
         } catch (SQLException e) {
             logger.error("Could not clean up", e);
         }
+
+        jarIndexService.deleteJarIndex(jarId);
+        jarNameFilterService.deleteJarNameFilter(jarId);
+
+        /* Ids of the deleted classes may be given to other classes */
+        PersistentCache persistentCache = CacheRegistry.getPersistentCache();
+
+        if (Objects.nonNull(persistentCache)) {
+            persistentCache.invalidate(MethodInfoService.CLASS_METHOD_INFO_SCOPE);
+        }
+
+        NegativeLookupCache negativeLookupCache = CacheRegistry.getNegativeLookupCache();
+
+        if (Objects.nonNull(negativeLookupCache)) {
+            negativeLookupCache.invalidate(MethodInfoService.CLASS_METHOD_INFO_SCOPE);
+        }
+
+        invalidateCaches(jarId);
+    }
+
+    /*
+     * Persisted lookups on a classpath of the jar were made with the jar as it was stored before. Lookups on a
+     * classpath of the jar that found nothing may find classes of the jar now, and the jar may be a java jar.
+     */
+    private void invalidateCaches(int jarId) {
+        PersistentCache persistentCache = CacheRegistry.getPersistentCache();
+
+        if (Objects.nonNull(persistentCache)) {
+            persistentCache.invalidateJar(jarId);
+        }
+
+        NegativeLookupCache negativeLookupCache = CacheRegistry.getNegativeLookupCache();
+
+        if (Objects.nonNull(negativeLookupCache)) {
+            negativeLookupCache.invalidateJar(jarId);
+            negativeLookupCache.invalidate(JarInfoService.JAVA_JAR_LOOKUP_SCOPE);
+        }
+    }
+
+    private void deleteJarClass(int jarId, Connection connection) throws SQLException {
+        String query = "DELETE FROM jar_class WHERE jar_id = ?";
+
+        executeDelete(jarId, connection, query);
     }
 
     private void deleteSuperClass(int jarId, Connection connection) throws SQLException {
         String query = "DELETE FROM super_class_relation scr" +
                 " WHERE EXISTS" +
                 " (SELECT 1 FROM class c" +
-                " WHERE scr.child_class_id = c.id AND c.jar_id = ?)";
+                " WHERE scr.child_class_id = c.id AND c.jar_id = ? AND " + UNSHARED_CLASS_CONDITION + ")";
 
         executeDelete(jarId, connection, query);
     }
 
     private void deleteInnerClass(int jarId, Connection connection) throws SQLException {
-        String query = "DELETE FROM inner_class ic" +
-                " WHERE EXISTS (SELECT 1 FROM class c" +
-                " WHERE ic.parent_class_id = c.id AND c.jar_id = ?)";
+        String query = "DELETE FROM inner_class_name" +
+                " WHERE jar_id = ?";
 
         executeDelete(jarId, connection, query);
     }
@@ -335,7 +629,7 @@ public class JarInfoSaveService {
     private void deleteField(int jarId, Connection connection) throws SQLException {
         String query = "DELETE FROM field f" +
                 " WHERE EXISTS (SELECT 1 FROM class c" +
-                " WHERE f.class_id = c.id AND c.jar_id = ?)";
+                " WHERE f.class_id = c.id AND c.jar_id = ? AND " + UNSHARED_CLASS_CONDITION + ")";
 
         executeDelete(jarId, connection, query);
     }
@@ -343,7 +637,7 @@ public class JarInfoSaveService {
     private void deleteArgumentTypeDescriptor(int jarId, Connection connection) throws SQLException {
         String query = "DELETE FROM argument_type_descriptor arg" +
                 " WHERE EXISTS (SELECT 1 FROM method m JOIN class c ON (m.class_id = c.id)" +
-                " WHERE arg.method_id = m.id AND c.jar_id = ?)";
+                " WHERE arg.method_id = m.id AND c.jar_id = ? AND " + UNSHARED_CLASS_CONDITION + ")";
 
         executeDelete(jarId, connection, query);
     }
@@ -351,7 +645,7 @@ public class JarInfoSaveService {
     private void deleteThrownClassName(int jarId, Connection connection) throws SQLException {
         String query = "DELETE FROM thrown_class_name tcn" +
                 " WHERE EXISTS (SELECT 1 FROM method m JOIN class c ON (m.class_id = c.id)" +
-                " WHERE tcn.method_id = m.id AND c.jar_id = ?)";
+                " WHERE tcn.method_id = m.id AND c.jar_id = ? AND " + UNSHARED_CLASS_CONDITION + ")";
 
         executeDelete(jarId, connection, query);
     }
@@ -359,18 +653,30 @@ public class JarInfoSaveService {
     private void deleteMethod(int jarId, Connection connection) throws SQLException {
         String query = "DELETE FROM method m" +
                 " WHERE EXISTS (SELECT 1 FROM class c" +
-                " WHERE m.class_id = c.id AND c.jar_id = ?)";
+                " WHERE m.class_id = c.id AND c.jar_id = ? AND " + UNSHARED_CLASS_CONDITION + ")";
 
         executeDelete(jarId, connection, query);
     }
 
     private void deleteClass(int jarId, Connection connection) throws SQLException {
         String query = "DELETE FROM class c" +
-                " WHERE c.jar_id = ?";
+                " WHERE c.jar_id = ? AND " + UNSHARED_CLASS_CONDITION;
 
         executeDelete(jarId, connection, query);
     }
 
+    private void updateSharedClassJar(int jarId, Connection connection) throws SQLException {
+        String query = "UPDATE class c" +
+                " SET jar_id = (SELECT MIN(jc.jar_id) FROM jar_class jc WHERE jc.class_id = c.id)" +
+                " WHERE c.jar_id = ?";
+
+        try (PreparedStatement pst = connection.prepareStatement(query)) {
+            pst.setInt(1, jarId);
+
+            pst.executeUpdate();
+        }
+    }
+
     private void deleteJar(int jarId, Connection connection) throws SQLException {
         String query = "DELETE FROM jar j WHERE j.id = ?";
 
@@ -385,24 +691,133 @@ public class JarInfoSaveService {
         }
     }
 
-    private int getLastInsertedId(Connection connection) throws SQLException {
-        String query = "SELECT LAST_INSERT_ID()";
-        ResultSet resultSet = null;
-        Integer id = null;
+    private List<Integer> executeBatchWithGeneratedIdList(PreparedStatement pst, int expectedCount) throws SQLException {
+        pst.executeBatch();
 
-        try (PreparedStatement pst = connection.prepareStatement(query)) {
-            resultSet = pst.executeQuery();
+        List<Integer> generatedIdList = getGeneratedIdList(pst);
+
+        if (generatedIdList.size() != expectedCount) {
+            throw new SQLException("Expected " + expectedCount + " generated ids, found " + generatedIdList.size());
+        }
+
+        return generatedIdList;
+    }
+
+    private List<Integer> getGeneratedIdList(PreparedStatement pst) throws SQLException {
+        List<Integer> generatedIdList = new ArrayList<>();
 
+        try (ResultSet resultSet = pst.getGeneratedKeys()) {
             while (resultSet.next()) {
-                id = resultSet.getInt(1);
+                generatedIdList.add(resultSet.getInt(1));
             }
-        } finally {
-            if (Objects.nonNull(resultSet)) {
-                resultSet.close();
+        }
+
+        return generatedIdList;
+    }
+
+    /*
+     * Bounded hand-off between the class file parser and the writer. A failure of the producer, including an Error
+     * such as OutOfMemoryError, is reported to the writer as an IllegalStateException, so that the partially stored
+     * jar is cleaned up.
+     *
+     * The writer polls the queue and checks that the producer is alive, so it never waits on a producer that died
+     * without the end marker.
+     */
+    private static class ClassInfoQueueIterator implements Iterator<ClassInfo> {
+
+        private static final ClassInfo END_OF_JAR = new ClassInfo();
+
+        private static final long POLL_TIMEOUT_MILLIS = 1000;
+
+        private final BlockingQueue<ClassInfo> classInfoQueue;
+        private volatile Throwable producerFailure;
+
+        private Thread producerThread;
+        private ClassInfo nextClassInfo;
+
+        ClassInfoQueueIterator(int capacity) {
+            this.classInfoQueue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        Thread startProducer(Consumer<Consumer<ClassInfo>> classInfoProducer, String threadName) {
+            producerThread = new Thread(() -> produce(classInfoProducer), threadName);
+            producerThread.setDaemon(true);
+            producerThread.start();
+
+            return producerThread;
+        }
+
+        private void produce(Consumer<Consumer<ClassInfo>> classInfoProducer) {
+            boolean cancelled = false;
+
+            try {
+                classInfoProducer.accept(classInfo -> {
+                    try {
+                        classInfoQueue.put(classInfo);
+                    } catch (InterruptedException e) {
+                        throw new CancellationException();
+                    }
+                });
+            } catch (CancellationException e) {
+                /* writer has stopped, nobody is waiting for the remaining classes */
+                cancelled = true;
+            } catch (Throwable e) {
+                producerFailure = e;
+            } finally {
+                if (!cancelled) {
+                    putEndOfJar();
+                }
+            }
+        }
+
+        private void putEndOfJar() {
+            try {
+                classInfoQueue.put(END_OF_JAR);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (Objects.isNull(nextClassInfo)) {
+                try {
+                    nextClassInfo = classInfoQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new IllegalStateException("Interrupted while waiting for parsed classes", e);
+                }
+
+                if (Objects.isNull(nextClassInfo) && !producerThread.isAlive()) {
+                    /* the end marker may have been put after the poll timed out */
+                    nextClassInfo = classInfoQueue.poll();
+
+                    if (Objects.isNull(nextClassInfo)) {
+                        throw new IllegalStateException("Class file parser stopped before the end of the jar",
+                                producerFailure);
+                    }
+                }
             }
+
+            if (nextClassInfo == END_OF_JAR && Objects.nonNull(producerFailure)) {
+                throw new IllegalStateException("Could not parse the class files", producerFailure);
+            }
+
+            return nextClassInfo != END_OF_JAR;
         }
 
-        return Objects.nonNull(id) ? id : 0;
+        @Override
+        public ClassInfo next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ClassInfo classInfo = nextClassInfo;
+            nextClassInfo = null;
+
+            return classInfo;
+        }
     }
 
 }
@@ -1,19 +1,30 @@
 package ca.concordia.apifinder.service;
 
+import ca.concordia.apifinder.cache.CacheRegistry;
+import ca.concordia.apifinder.cache.NegativeLookupCache;
+import ca.concordia.apifinder.cache.PersistentCache;
+import ca.concordia.apifinder.cache.PersistentCacheCodec;
 import ca.concordia.apifinder.models.Artifact;
-import ca.concordia.apifinder.util.DataSource;
+import ca.concordia.apifinder.models.ClasspathHandle;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
 import ca.concordia.apifinder.util.DbUtils;
+import ca.concordia.apifinder.util.Utility;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -24,23 +35,58 @@ public class JarInfoService {
 
     private static final Logger logger = LoggerFactory.getLogger(JarInfoService.class);
 
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
+
     private static Cache<String, Map<Artifact, Integer>> jarIdCache;
 
     private static Cache<String, List<Integer>> javaJarIdCache;
 
+    private static Cache<Set<Artifact>, Map<String, ClasspathHandle>> classpathHandleCacheByArtifactSet;
+
+    private static Cache<String, ClasspathHandle> classpathHandleCache;
+
+    /*
+     * Null when the persistent cache is disabled.
+     */
+    private static PersistentCache.Region<ClasspathHandle> persistentClasspathHandleCache;
+
+    private static final String CLASSPATH_HANDLE_SCOPE = "classpath.handle";
+
+    private static NegativeLookupCache negativeLookupCache;
+
+    /*
+     * Scope of java versions without a stored java jar. Misses are dropped when any jar is stored.
+     */
+    static final String JAVA_JAR_LOOKUP_SCOPE = "java.jar";
+
     static {
         if (Objects.isNull(jarIdCache)) {
-            jarIdCache  = Caffeine.newBuilder()
-                    .expireAfterAccess(5, TimeUnit.MINUTES)
-                    .maximumSize(100)
-                    .build();
+            jarIdCache = CacheRegistry.newCache("jar.id", 100, 5);
         }
 
         if (Objects.isNull(javaJarIdCache)) {
-            javaJarIdCache  = Caffeine.newBuilder()
-                    .expireAfterAccess(5, TimeUnit.MINUTES)
-                    .maximumSize(100)
-                    .build();
+            javaJarIdCache = CacheRegistry.newCache("java.jar.id", 100, 5);
+        }
+
+        /* Weak keys are compared by identity */
+        if (Objects.isNull(classpathHandleCacheByArtifactSet)) {
+            classpathHandleCacheByArtifactSet = CacheRegistry.newCache("classpath.handle.by.artifact.set", 100, 5,
+                    Caffeine::weakKeys);
+        }
+
+        if (Objects.isNull(classpathHandleCache)) {
+            classpathHandleCache = CacheRegistry.newCache("classpath.handle", 100, 5);
+        }
+
+        if (Objects.isNull(negativeLookupCache)) {
+            negativeLookupCache = CacheRegistry.getNegativeLookupCache();
+        }
+
+        PersistentCache persistentCache = CacheRegistry.getPersistentCache();
+
+        if (Objects.nonNull(persistentCache) && Objects.isNull(persistentClasspathHandleCache)) {
+            persistentClasspathHandleCache = persistentCache.region("classpath.handle",
+                    PersistentCacheCodec::encodeClasspathHandle, PersistentCacheCodec::decodeClasspathHandle);
         }
     }
 
@@ -50,7 +96,7 @@ public class JarInfoService {
         ResultSet resultSet = null;
         boolean exists = false;
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
             pst.setString(1, groupId);
@@ -80,7 +126,7 @@ public class JarInfoService {
         ResultSet resultSet = null;
         boolean exists = false;
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
             pst.setString(1, "Java");
@@ -103,6 +149,36 @@ public class JarInfoService {
         return exists;
     }
 
+    /*
+     * Returns the id of the stored jar with the same content, resolving aliases to the jar that owns the class data.
+     */
+    public int getJarIdByContentHash(String contentHash) {
+        PreparedStatement pst = null;
+        String query = "SELECT COALESCE(alias_of_jar_id, id) AS id FROM jar WHERE content_hash = ? ORDER BY id LIMIT 1";
+        ResultSet resultSet = null;
+        int jarId = 0;
+
+        try (Connection connection = metadataStore.getConnection()) {
+            pst = connection.prepareStatement(query);
+            pst.setString(1, contentHash);
+
+            resultSet = pst.executeQuery();
+
+            while (resultSet.next()) {
+                jarId = resultSet.getInt("id");
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error", e);
+
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
+
+        return jarId;
+    }
+
     private Map<Artifact, Integer> getJarInfoIdMapUsingMemCache(Set<Artifact> artifactSet) {
         String jarIdCacheKey = artifactSet.stream().filter(Objects::nonNull)
                 .map(a -> a.getGroupId().concat(":").concat(a.getArtifactId()).concat(":").concat(a.getVersion()))
@@ -129,30 +205,216 @@ public class JarInfoService {
 
 
     public List<Integer> getJarIdList(Set<Artifact> artifactSet, String javaVersion, List<Integer> internalDependencyJarIdList) {
+        ClasspathHandle classpathHandle = getClasspathHandle(artifactSet, javaVersion);
+
+        if (Objects.nonNull(internalDependencyJarIdList)) {
+            internalDependencyJarIdList.addAll(classpathHandle.getInternalDependencyJarIdList());
+        }
+
+        return classpathHandle.getJarIdList();
+    }
+
+    /*
+     * Handles are cached by the instance of the artifact set, so repeated calls with the same set do not build a key.
+     * A set must not be changed after it is used.
+     */
+    public ClasspathHandle getClasspathHandle(Set<Artifact> artifactSet, String javaVersion) {
+        Map<String, ClasspathHandle> classpathHandleMap =
+                classpathHandleCacheByArtifactSet.get(artifactSet, k -> new ConcurrentHashMap<>());
+
+        ClasspathHandle classpathHandle = classpathHandleMap.get(javaVersion);
+
+        if (Objects.isNull(classpathHandle)) {
+            String classpathHash = getClasspathHash(artifactSet, javaVersion);
+
+            classpathHandle = classpathHandleCache.get(classpathHash,
+                    k -> getClasspathHandleUsingPersistentCache(artifactSet, javaVersion, classpathHash));
+            classpathHandleMap.put(javaVersion, classpathHandle);
+        }
+
+        return classpathHandle;
+    }
+
+    /*
+     * Only stored classpaths are persisted, the jars of a classpath that is not stored may be stored later.
+     */
+    private ClasspathHandle getClasspathHandleUsingPersistentCache(Set<Artifact> artifactSet, String javaVersion,
+                                                                   String classpathHash) {
+        if (Objects.isNull(persistentClasspathHandleCache)) {
+            return getClasspathHandle(artifactSet, javaVersion, classpathHash);
+        }
+
+        ClasspathHandle classpathHandle = persistentClasspathHandleCache.getIfPresent(CLASSPATH_HANDLE_SCOPE,
+                classpathHash);
+
+        if (Objects.isNull(classpathHandle)) {
+            classpathHandle = getClasspathHandle(artifactSet, javaVersion, classpathHash);
+
+            if (classpathHandle.isStored()) {
+                persistentClasspathHandleCache.put(CLASSPATH_HANDLE_SCOPE, classpathHandle.getJarIdList(),
+                        classpathHash, classpathHandle);
+            }
+        }
+
+        return classpathHandle;
+    }
+
+    /*
+     * Classpath is stored only if every jar of it is stored, so a stored classpath never changes.
+     */
+    private ClasspathHandle getClasspathHandle(Set<Artifact> artifactSet, String javaVersion, String classpathHash) {
+        ClasspathHandle classpathHandle = getStoredClasspathHandle(classpathHash, javaVersion);
+
+        if (Objects.nonNull(classpathHandle)) {
+            return classpathHandle;
+        }
+
         List<Integer> jarIdList = new ArrayList<>();
+        List<Integer> internalDependencyJarIdList = new ArrayList<>();
 
         Map<Artifact, Integer> jarIdMap = getJarInfoIdMapUsingMemCache(artifactSet);
 
         for (Artifact artifact: artifactSet) {
             int jarId = jarIdMap.get(artifact);
 
-            if (jarId > 0) {
-                if (artifact.isInternalDependency() && Objects.nonNull(internalDependencyJarIdList)) {
-                    internalDependencyJarIdList.add(jarId);
-                }
+            if (jarId > 0 && artifact.isInternalDependency()) {
+                internalDependencyJarIdList.add(jarId);
             }
 
             jarIdList.add(jarId);
         }
 
-        jarIdList.addAll(getJavaJarInfoIdUsingMemCache(javaVersion));
+        List<Integer> javaJarIdList = getJavaJarInfoIdUsingMemCache(javaVersion);
+        jarIdList.addAll(javaJarIdList);
 
+        if (javaJarIdList.isEmpty() || jarIdList.contains(0)) {
+            return new ClasspathHandle(0, javaVersion, jarIdList, internalDependencyJarIdList);
+        }
 
+        int classpathId = insertClasspath(classpathHash, javaVersion, new LinkedHashSet<>(jarIdList),
+                new HashSet<>(internalDependencyJarIdList));
 
-        return jarIdList;
+        return new ClasspathHandle(classpathId, javaVersion, new ArrayList<>(new LinkedHashSet<>(jarIdList)),
+                internalDependencyJarIdList);
+    }
+
+    private ClasspathHandle getStoredClasspathHandle(String classpathHash, String javaVersion) {
+        PreparedStatement pst = null;
+        String query = "SELECT cp.id classpath_id, cj.jar_id jar_id, cj.is_internal_dependency is_internal_dependency" +
+                " FROM classpath cp JOIN classpath_jar cj ON (cj.classpath_id = cp.id)" +
+                " WHERE cp.classpath_hash = ? ORDER BY cj.precedence";
+        ResultSet resultSet = null;
+
+        int classpathId = 0;
+        List<Integer> jarIdList = new ArrayList<>();
+        List<Integer> internalDependencyJarIdList = new ArrayList<>();
+
+        try (Connection connection = metadataStore.getConnection()) {
+            pst = connection.prepareStatement(query);
+            pst.setString(1, classpathHash);
+
+            resultSet = pst.executeQuery();
+
+            while (resultSet.next()) {
+                classpathId = resultSet.getInt("classpath_id");
+                jarIdList.add(resultSet.getInt("jar_id"));
+
+                if (resultSet.getBoolean("is_internal_dependency")) {
+                    internalDependencyJarIdList.add(resultSet.getInt("jar_id"));
+                }
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error", e);
+
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
+
+        return classpathId > 0
+                ? new ClasspathHandle(classpathId, javaVersion, jarIdList, internalDependencyJarIdList)
+                : null;
+    }
+
+    /*
+     * Returns 0 if the classpath could not be stored, e.g. when another process stored the same classpath at the same
+     * time.
+     */
+    private int insertClasspath(String classpathHash,
+                                String javaVersion,
+                                Set<Integer> jarIdSet,
+                                Set<Integer> internalDependencyJarIdSet) {
+
+        String insertClasspathQuery = "INSERT INTO classpath (classpath_hash, java_version) VALUES (?, ?)";
+        String insertClasspathJarQuery = "INSERT INTO classpath_jar (classpath_id, jar_id, precedence," +
+                " is_internal_dependency) VALUES (?, ?, ?, ?)";
+
+        try (Connection connection = metadataStore.getConnection()) {
+            try (PreparedStatement classpathPst = connection.prepareStatement(insertClasspathQuery, Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement classpathJarPst = connection.prepareStatement(insertClasspathJarQuery)) {
+
+                classpathPst.setString(1, classpathHash);
+                classpathPst.setString(2, javaVersion);
+                classpathPst.executeUpdate();
+
+                int classpathId = 0;
+
+                try (ResultSet resultSet = classpathPst.getGeneratedKeys()) {
+                    if (resultSet.next()) {
+                        classpathId = resultSet.getInt(1);
+                    }
+                }
+
+                int precedence = 0;
+
+                for (int jarId : jarIdSet) {
+                    classpathJarPst.setInt(1, classpathId);
+                    classpathJarPst.setInt(2, jarId);
+                    classpathJarPst.setInt(3, precedence++);
+                    classpathJarPst.setBoolean(4, internalDependencyJarIdSet.contains(jarId));
+
+                    classpathJarPst.addBatch();
+                }
+
+                classpathJarPst.executeBatch();
+                connection.commit();
+
+                return classpathId;
+            } catch (SQLException e) {
+                connection.rollback();
+
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Could not store classpath", e);
+        }
+
+        return 0;
+    }
+
+    private String getClasspathHash(Set<Artifact> artifactSet, String javaVersion) {
+        String classpathKey = artifactSet.stream().filter(Objects::nonNull)
+                .map(a -> a.getGroupId().concat(":").concat(a.getArtifactId()).concat(":").concat(a.getVersion())
+                        .concat(a.isInternalDependency() ? ":internal" : ""))
+                .sorted()
+                .collect(Collectors.joining(";"))
+                .concat("|java:").concat(String.valueOf(javaVersion));
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+            return Utility.getHexString(messageDigest.digest(classpathKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     private List<Integer> getJavaJarInfoIdUsingMemCache(String javaVersion) {
+        if (Objects.nonNull(negativeLookupCache) && negativeLookupCache.isMissing(JAVA_JAR_LOOKUP_SCOPE, javaVersion)) {
+            return new ArrayList<>();
+        }
+
         List<Integer> javaJarIdList = javaJarIdCache.getIfPresent(javaVersion);
 
         if (Objects.isNull(javaJarIdList)) {
@@ -160,6 +422,8 @@ public class JarInfoService {
 
             if (!javaJarIdList.isEmpty()) {
                 javaJarIdCache.put(javaVersion, javaJarIdList);
+            } else if (Objects.nonNull(negativeLookupCache)) {
+                negativeLookupCache.putMissing(JAVA_JAR_LOOKUP_SCOPE, javaVersion);
             }
         }
 
@@ -168,11 +432,11 @@ public class JarInfoService {
 
     private List<Integer> getJavaJarInfoId(String javaVersion) {
         PreparedStatement pst = null;
-        String query = "SELECT id FROM jar WHERE artifact_id = ? AND version = ?";
+        String query = "SELECT COALESCE(alias_of_jar_id, id) AS id FROM jar WHERE artifact_id = ? AND version = ?";
         ResultSet resultSet = null;
         List<Integer> jarIdList = new ArrayList<>();
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
             pst.setString(1, "Java");
@@ -197,11 +461,12 @@ public class JarInfoService {
 
     private Integer getJarInfoId(String groupId, String artifactId, String version) {
         PreparedStatement pst = null;
-        String query = "SELECT id FROM jar WHERE group_id = ? AND artifact_id = ? AND version = ?";
+        String query = "SELECT COALESCE(alias_of_jar_id, id) AS id FROM jar" +
+                " WHERE group_id = ? AND artifact_id = ? AND version = ?";
         ResultSet resultSet = null;
         int jarId = 0;
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
             pst.setString(1, groupId);
@@ -0,0 +1,219 @@
+package ca.concordia.apifinder.service;
+
+import ca.concordia.apifinder.cache.BloomFilter;
+import ca.concordia.apifinder.models.ClasspathHandle;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
+import ca.concordia.apifinder.util.PropertyReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bloom filters of the simple class names, qualified class names and method names of each stored jar. Filters are
+ * written when a jar is stored and held in memory once read, so that the jars of a lookup that cannot have the name
+ * are left out of its query.
+ *
+ * Simple names are added by the part after the last '$', as classes are looked up by it. Jars without a readable
+ * filter are remembered until their filter is written.
+ *
+ * @author Diptopol
+ * @since 10/18/2026 3:50 AM
+ */
+public class JarNameFilterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JarNameFilterService.class);
+
+    private static final boolean JAR_NAME_FILTER_ENABLED =
+            Boolean.parseBoolean(PropertyReader.getProperty("jar.name.filter.enabled"));
+
+    private static final String JAR_NAME_FILTER_DIRECTORY = PropertyReader.getProperty("jar.name.filter.directory");
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private static final int MAGIC = 0x4a4e4631;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final Map<Integer, BloomFilter> jarNameFilterMap = new ConcurrentHashMap<>();
+
+    private static final Set<Integer> missingJarNameFilterIdSet = ConcurrentHashMap.newKeySet();
+
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
+
+    /*
+     * Filter is written from the stored rows of the jar, which include the classes shared with other jars.
+     */
+    public void writeJarNameFilter(int jarId) {
+        if (!JAR_NAME_FILTER_ENABLED) {
+            return;
+        }
+
+        Set<String> nameSet = new HashSet<>();
+
+        try (Connection connection = metadataStore.getConnection()) {
+            executeQuery(jarId, connection,
+                    "SELECT c.name, c.q_name FROM class c JOIN jar_class jc ON (jc.class_id = c.id) WHERE jc.jar_id = ?",
+                    resultSet -> {
+                        nameSet.add(getNameToken(resultSet.getString("name")));
+                        nameSet.add(resultSet.getString("q_name"));
+                    });
+
+            executeQuery(jarId, connection,
+                    "SELECT DISTINCT m.name FROM method m JOIN jar_class jc ON (jc.class_id = m.class_id)" +
+                            " WHERE jc.jar_id = ?",
+                    resultSet -> nameSet.add(resultSet.getString("name")));
+
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Could not write the name filter of jar {}", jarId, e);
+
+            return;
+        }
+
+        BloomFilter jarNameFilter = new BloomFilter(nameSet.size(), FALSE_POSITIVE_PROBABILITY);
+        nameSet.forEach(jarNameFilter::put);
+
+        try {
+            write(jarNameFilter, getJarNameFilterFile(jarId));
+            jarNameFilterMap.put(jarId, jarNameFilter);
+            missingJarNameFilterIdSet.remove(jarId);
+        } catch (IOException e) {
+            logger.error("Could not write the name filter of jar {}", jarId, e);
+        }
+    }
+
+    /*
+     * Filter of a jar that could not be stored is removed, so that it is not used for a jar stored with the same id.
+     */
+    public void deleteJarNameFilter(int jarId) {
+        jarNameFilterMap.remove(jarId);
+
+        try {
+            Files.deleteIfExists(getJarNameFilterFile(jarId));
+        } catch (IOException e) {
+            logger.error("Could not delete the name filter of jar {}", jarId, e);
+        }
+    }
+
+    /*
+     * Jars that may have a class or method of any of the names, in the order of the jar id list. Jars without a filter
+     * are kept. Returns the classpath handle itself if no jar is left out, so that a stored classpath is still joined.
+     */
+    public ClasspathHandle getPossibleClasspathHandle(ClasspathHandle classpathHandle, Collection<String> nameCollection) {
+        if (!JAR_NAME_FILTER_ENABLED) {
+            return classpathHandle;
+        }
+
+        List<Integer> jarIdList = classpathHandle.getJarIdList();
+        List<Integer> possibleJarIdList = new ArrayList<>(jarIdList.size());
+
+        for (int jarId : jarIdList) {
+            BloomFilter jarNameFilter = getJarNameFilter(jarId);
+
+            if (Objects.isNull(jarNameFilter) || nameCollection.stream().anyMatch(jarNameFilter::mightContain)) {
+                possibleJarIdList.add(jarId);
+            }
+        }
+
+        return possibleJarIdList.size() == jarIdList.size() ? classpathHandle : ClasspathHandle.of(possibleJarIdList);
+    }
+
+    /*
+     * Classes are looked up by simple names with or without their outer classes.
+     */
+    public ClasspathHandle getPossibleClasspathHandleForClassName(ClasspathHandle classpathHandle, String className) {
+        return getPossibleClasspathHandle(classpathHandle, Collections.singleton(getNameToken(className)));
+    }
+
+    private BloomFilter getJarNameFilter(int jarId) {
+        BloomFilter jarNameFilter = jarNameFilterMap.get(jarId);
+
+        if (Objects.nonNull(jarNameFilter) || missingJarNameFilterIdSet.contains(jarId)) {
+            return jarNameFilter;
+        }
+
+        jarNameFilter = readJarNameFilter(jarId);
+
+        if (Objects.isNull(jarNameFilter)) {
+            missingJarNameFilterIdSet.add(jarId);
+
+            return null;
+        }
+
+        jarNameFilterMap.putIfAbsent(jarId, jarNameFilter);
+
+        return jarNameFilterMap.get(jarId);
+    }
+
+    private BloomFilter readJarNameFilter(int jarId) {
+        Path jarNameFilterFile = getJarNameFilterFile(jarId);
+
+        if (!Files.isRegularFile(jarNameFilterFile)) {
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(jarNameFilterFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+
+            return BloomFilter.read(input);
+        } catch (IOException e) {
+            logger.error("Could not read the name filter of jar {}", jarId, e);
+
+            return null;
+        }
+    }
+
+    /*
+     * Filter is written to a temporary file and moved, so a filter is never read while it is written.
+     */
+    private static void write(BloomFilter jarNameFilter, Path jarNameFilterFile) throws IOException {
+        Files.createDirectories(jarNameFilterFile.getParent());
+        Path temporaryFile = Files.createTempFile(jarNameFilterFile.getParent(), "filter", ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            jarNameFilter.write(output);
+        }
+
+        Files.move(temporaryFile, jarNameFilterFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path getJarNameFilterFile(int jarId) {
+        return Path.of(JAR_NAME_FILTER_DIRECTORY).toAbsolutePath().resolve(jarId + ".bloom");
+    }
+
+    private static String getNameToken(String className) {
+        return className.substring(className.lastIndexOf('$') + 1);
+    }
+
+    private void executeQuery(int jarId, Connection connection, String query, RowConsumer rowConsumer) throws SQLException {
+        try (PreparedStatement pst = connection.prepareStatement(query)) {
+            pst.setInt(1, jarId);
+
+            try (ResultSet resultSet = pst.executeQuery()) {
+                while (resultSet.next()) {
+                    rowConsumer.accept(resultSet);
+                }
+            }
+        }
+    }
+
+    private interface RowConsumer {
+
+        void accept(ResultSet resultSet) throws SQLException;
+    }
+
+}
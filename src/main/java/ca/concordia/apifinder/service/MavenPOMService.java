@@ -1,6 +1,7 @@
 package ca.concordia.apifinder.service;
 
-import ca.concordia.apifinder.util.DataSource;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
 import ca.concordia.apifinder.util.DbUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +19,8 @@ public class MavenPOMService {
 
     private static final Logger logger = LoggerFactory.getLogger(MavenPOMService.class);
 
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
+
     public String getEffectivePOM(String remoteUrl, String commitId) {
         PreparedStatement pst = null;
         ResultSet resultSet = null;
@@ -25,7 +28,7 @@ public class MavenPOMService {
 
         String query = "SELECT effective_pom FROM maven_effective_pom WHERE project_remote_url = ? AND commit_id = ?";
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(query);
 
             pst.setString(1, remoteUrl);
@@ -53,7 +56,7 @@ public class MavenPOMService {
         String insertQuery = "INSERT INTO maven_effective_pom (project_remote_url, commit_id, effective_pom)" +
                 " VALUES(?, ?, ?)";
 
-        try (Connection connection = DataSource.getConnection()) {
+        try (Connection connection = metadataStore.getConnection()) {
             pst = connection.prepareStatement(insertQuery);
 
             pst.setString(1, remoteUrl);
@@ -1,14 +1,24 @@
 package ca.concordia.apifinder.service;
 
+import ca.concordia.apifinder.cache.CacheRegistry;
+import ca.concordia.apifinder.cache.NegativeLookupCache;
+import ca.concordia.apifinder.cache.PersistentCache;
+import ca.concordia.apifinder.cache.PersistentCacheCodec;
+import ca.concordia.apifinder.entity.ClassInfo;
 import ca.concordia.apifinder.entity.MethodInfo;
+import ca.concordia.apifinder.entity.MethodInfoTemplate;
+import ca.concordia.apifinder.index.JarIndex;
+import ca.concordia.apifinder.models.ClasspathHandle;
+import ca.concordia.apifinder.models.MethodSignature;
 import ca.concordia.apifinder.models.typeInfo.*;
-import ca.concordia.apifinder.util.DataSource;
+import ca.concordia.apifinder.store.MetadataStore;
+import ca.concordia.apifinder.store.MetadataStoreFactory;
 import ca.concordia.apifinder.util.DbUtils;
 import ca.concordia.apifinder.util.EntityUtils;
-import ca.concordia.apifinder.util.signaturevisitor.MethodArgumentExtractor;
-import ca.concordia.apifinder.util.signaturevisitor.MethodReturnTypeExtractor;
+import ca.concordia.apifinder.util.SignatureParser;
+import ca.concordia.apifinder.util.StringInterner;
+import com.github.benmanes.caffeine.cache.Cache;
 import org.objectweb.asm.Type;
-import org.objectweb.asm.signature.SignatureReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,6 +27,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -27,84 +38,297 @@ public class MethodInfoService {
 
     private static final Logger logger = LoggerFactory.getLogger(MethodInfoService.class);
 
+    private static Cache<Integer, MethodInfoTemplate> methodInfoTemplateCache;
+    private static Cache<String, List<MethodInfoTemplate>> methodInfoTemplateListCache;
+
+    /*
+     * Scope of the persisted and missing methods of classes. Classes are never changed once stored, so lookups by class
+     * id do not depend on a jar.
+     */
+    static final String CLASS_METHOD_INFO_SCOPE = "class.method.info";
+
+    /*
+     * Null when the persistent cache is disabled.
+     */
+    private static PersistentCache.Region<List<MethodInfo>> persistentMethodInfoListCache;
+
+    private static NegativeLookupCache negativeLookupCache;
+
+    private final MetadataStore metadataStore = MetadataStoreFactory.getMetadataStore();
+
+    private final JarIndexService jarIndexService = new JarIndexService();
+
+    private final JarNameFilterService jarNameFilterService = new JarNameFilterService();
+
     private ClassInfoService classInfoService;
 
     public MethodInfoService() {
-        classInfoService = new ClassInfoService();
+        this(new ClassInfoService());
     }
 
     public MethodInfoService(ClassInfoService classInfoService) {
         this.classInfoService = classInfoService;
-    }
 
-    public List<MethodInfo> getMethodInfoList(List<Integer> classInfoIdList, String methodName) {
-        List<MethodInfo> methodInfoList = new ArrayList<>();
+        if (Objects.isNull(methodInfoTemplateCache)) {
+            methodInfoTemplateCache = CacheRegistry.newOptionalWeightedCache("method.info.template", 64, 0,
+                    (Integer methodInfoId, MethodInfoTemplate methodInfoTemplate) ->
+                            methodInfoTemplate.getEstimatedSize());
+        }
 
-        try (Connection connection = DataSource.getConnection()) {
-            methodInfoList = fetchMethodInfoCore(classInfoIdList, methodName, connection);
-            populateArgumentList(methodInfoList, connection);
-            populateThrownClassNameList(methodInfoList, connection);
+        if (Objects.isNull(methodInfoTemplateListCache)) {
+            methodInfoTemplateListCache = CacheRegistry.newOptionalCache("method.info.template.list", 50000, 30);
+        }
 
-            for (MethodInfo methodInfo: methodInfoList) {
-                populateMethodArgumentTypeInfoList(methodInfo);
-                populateMethodReturnTypeInfo(methodInfo);
-                methodInfo.setClassInfo(classInfoService.getClassInfoUsingMemoryCache(methodInfo.getClassInfoId(), connection));
-                updateFormalTypeParameterBaseType(methodInfo);
-            }
+        if (Objects.isNull(negativeLookupCache)) {
+            negativeLookupCache = CacheRegistry.getNegativeLookupCache();
+        }
 
-            connection.commit();
-        } catch (SQLException e) {
-            logger.error("Error", e);
+        PersistentCache persistentCache = CacheRegistry.getPersistentCache();
+
+        if (Objects.nonNull(persistentCache) && Objects.isNull(persistentMethodInfoListCache)) {
+            persistentMethodInfoListCache = persistentCache.region("method.info.list",
+                    PersistentCacheCodec::encodeMethodInfoList, PersistentCacheCodec::decodeMethodInfoList);
         }
+    }
 
-        return methodInfoList;
+    public List<MethodInfo> getMethodInfoList(ClasspathHandle classpathHandle, List<Integer> classInfoIdList, String methodName) {
+        return getMethodInfoList(classpathHandle, classInfoIdList, methodName, null);
+    }
+
+    /*
+     * Only methods that can be invoked with the number of parameters are loaded, null loads every method of the name.
+     * Classes are looked up in the jar indices of the classpath.
+     */
+    public List<MethodInfo> getMethodInfoList(ClasspathHandle classpathHandle,
+                                              List<Integer> classInfoIdList,
+                                              String methodName,
+                                              Integer numberOfParameters) {
+        String methodInfoListCacheKey = classInfoIdList.stream().map(String::valueOf).collect(Collectors.joining(","))
+                .concat(":").concat(methodName)
+                .concat(":").concat(String.valueOf(numberOfParameters));
+
+        List<MethodInfoTemplate> methodInfoTemplateList = getMethodInfoTemplateList(CLASS_METHOD_INFO_SCOPE,
+                Collections.emptyList(), methodInfoListCacheKey, classpathHandle,
+                () -> getMethodInfoListUsingPersistentCache(CLASS_METHOD_INFO_SCOPE, Collections.emptyList(),
+                        methodInfoListCacheKey,
+                        () -> loadMethodInfoList(classpathHandle, classInfoIdList, methodName, numberOfParameters)));
+
+        return getMethodInfoList(methodInfoTemplateList, classpathHandle);
     }
 
     public List<MethodInfo> getInnerClassMethodInfoList(Set<String> qualifiedClassNameSet,
-                                                        List<Integer> jarIdList,
+                                                        ClasspathHandle classpathHandle,
                                                         String methodName) {
-        Set<String> innerClassQNameSet = classInfoService.getInnerClassQualifiedNameSet(qualifiedClassNameSet, jarIdList);
+        return getInnerClassMethodInfoList(qualifiedClassNameSet, classpathHandle, methodName, null);
+    }
+
+    public List<MethodInfo> getInnerClassMethodInfoList(Set<String> qualifiedClassNameSet,
+                                                        ClasspathHandle classpathHandle,
+                                                        String methodName,
+                                                        Integer numberOfParameters) {
+        /* No jar of the classpath has a method of the name */
+        if (jarNameFilterService.getPossibleClasspathHandle(classpathHandle, Collections.singleton(methodName))
+                .getJarIdList().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> innerClassQNameSet = classInfoService.getInnerClassQualifiedNameSet(qualifiedClassNameSet, classpathHandle);
         List<MethodInfo> methodInfoList = new ArrayList<>();
 
         while (!innerClassQNameSet.isEmpty()) {
-            List<Integer> innerClassIdList = classInfoService.getClassInfoIdList(jarIdList, innerClassQNameSet);
-            methodInfoList = getMethodInfoList(innerClassIdList, methodName);
+            List<Integer> innerClassIdList = classInfoService.getClassInfoIdList(classpathHandle, innerClassQNameSet);
+            methodInfoList = getMethodInfoList(classpathHandle, innerClassIdList, methodName, numberOfParameters);
 
             if (!methodInfoList.isEmpty()) {
                 return methodInfoList;
             }
 
-            innerClassQNameSet = classInfoService.getInnerClassQualifiedNameSet(innerClassQNameSet, jarIdList);
+            innerClassQNameSet = classInfoService.getInnerClassQualifiedNameSet(innerClassQNameSet, classpathHandle);
         }
 
         return methodInfoList;
     }
 
-    public List<MethodInfo> getAbstractMethodInfoList(List<Integer> jarIdList, Set<String> qualifiedClassNameSet) {
-        List<MethodInfo> methodInfoList = new ArrayList<>();
+    public List<MethodInfo> getAbstractMethodInfoList(ClasspathHandle classpathHandle, Set<String> qualifiedClassNameSet) {
+        String methodInfoListCacheKey = "abstract:"
+                .concat(String.join(",", qualifiedClassNameSet.stream().sorted().toArray(String[]::new)))
+                .concat(":").concat(classpathHandle.getCacheKey());
+
+        List<MethodInfoTemplate> methodInfoTemplateList = getMethodInfoTemplateList(classpathHandle.getCacheKey(),
+                classpathHandle.getJarIdList(), methodInfoListCacheKey, classpathHandle,
+                () -> getMethodInfoListUsingPersistentCache(classpathHandle.getCacheKey(), classpathHandle.getJarIdList(),
+                        methodInfoListCacheKey, () -> loadAbstractMethodInfoList(classpathHandle, qualifiedClassNameSet)));
+
+        return getMethodInfoList(methodInfoTemplateList, classpathHandle);
+    }
+
+    /*
+     * Methods of a lookup are cached as templates, templates are shared by id between lookups. Returns an empty list
+     * without caching it if the methods could not be loaded. Lookups that found no method are kept as misses of the
+     * scope, until a jar of the jar id list is stored.
+     */
+    private List<MethodInfoTemplate> getMethodInfoTemplateList(String scope,
+                                                               List<Integer> jarIdList,
+                                                               String methodInfoListCacheKey,
+                                                               ClasspathHandle classpathHandle,
+                                                               Supplier<List<MethodInfo>> methodInfoListLoader) {
+        if (Objects.nonNull(negativeLookupCache)
+                && negativeLookupCache.isMissing(scope, methodInfoListCacheKey)) {
+            return Collections.emptyList();
+        }
+
+        List<MethodInfoTemplate> methodInfoTemplateList = Objects.nonNull(methodInfoTemplateListCache)
+                ? methodInfoTemplateListCache.getIfPresent(methodInfoListCacheKey) : null;
+
+        if (Objects.isNull(methodInfoTemplateList)) {
+            List<MethodInfo> methodInfoList = methodInfoListLoader.get();
+
+            if (Objects.isNull(methodInfoList)) {
+                return Collections.emptyList();
+            }
+
+            if (methodInfoList.isEmpty() && Objects.nonNull(negativeLookupCache)) {
+                negativeLookupCache.putMissing(scope, jarIdList, methodInfoListCacheKey);
+
+                return Collections.emptyList();
+            }
 
-        try (Connection connection = DataSource.getConnection()) {
-            methodInfoList = fetchAbstractMethodInfoCore(qualifiedClassNameSet, jarIdList, connection);
+            methodInfoTemplateList = methodInfoList.stream()
+                    .map(methodInfo -> getMethodInfoTemplate(methodInfo, classpathHandle))
+                    .collect(Collectors.toUnmodifiableList());
+
+            if (Objects.nonNull(methodInfoTemplateListCache)) {
+                methodInfoTemplateListCache.put(methodInfoListCacheKey, methodInfoTemplateList);
+            }
+        }
+
+        return methodInfoTemplateList;
+    }
+
+    /*
+     * Methods are persisted as loaded, type infos are populated when their templates are created. Failed and empty
+     * loads are not persisted, misses are kept by the negative lookup cache of the process.
+     */
+    private List<MethodInfo> getMethodInfoListUsingPersistentCache(String scope,
+                                                                  List<Integer> jarIdList,
+                                                                  String methodInfoListCacheKey,
+                                                                  Supplier<List<MethodInfo>> methodInfoListLoader) {
+        if (Objects.isNull(persistentMethodInfoListCache)) {
+            return methodInfoListLoader.get();
+        }
+
+        List<MethodInfo> methodInfoList = persistentMethodInfoListCache.getIfPresent(scope, methodInfoListCacheKey);
+
+        if (Objects.isNull(methodInfoList)) {
+            methodInfoList = methodInfoListLoader.get();
+
+            if (Objects.nonNull(methodInfoList) && !methodInfoList.isEmpty()) {
+                persistentMethodInfoListCache.put(scope, jarIdList, methodInfoListCacheKey, methodInfoList);
+            }
+        }
+
+        return methodInfoList;
+    }
+
+    private MethodInfoTemplate getMethodInfoTemplate(MethodInfo methodInfo, ClasspathHandle classpathHandle) {
+        if (Objects.isNull(methodInfoTemplateCache)) {
+            return createMethodInfoTemplate(methodInfo, classpathHandle);
+        }
+
+        return methodInfoTemplateCache.get(methodInfo.getId(), id -> createMethodInfoTemplate(methodInfo, classpathHandle));
+    }
+
+    /*
+     * Signature is parsed once per method, lookups copy the parsed type infos of the template.
+     */
+    private MethodInfoTemplate createMethodInfoTemplate(MethodInfo methodInfo, ClasspathHandle classpathHandle) {
+        populateMethodInfo(methodInfo, classInfoService.getClassInfoUsingMemoryCache(methodInfo.getClassInfoId(), classpathHandle));
+
+        return new MethodInfoTemplate(methodInfo);
+    }
+
+    private List<MethodInfo> getMethodInfoList(List<MethodInfoTemplate> methodInfoTemplateList, ClasspathHandle classpathHandle) {
+        List<MethodInfo> methodInfoList = new ArrayList<>(methodInfoTemplateList.size());
+
+        for (MethodInfoTemplate methodInfoTemplate : methodInfoTemplateList) {
+            MethodInfo methodInfo = new MethodInfo(methodInfoTemplate);
+            methodInfo.setClassInfo(classInfoService.getClassInfoUsingMemoryCache(methodInfo.getClassInfoId(), classpathHandle));
+
+            methodInfoList.add(methodInfo);
+        }
+
+        return methodInfoList;
+    }
+
+    /*
+     * Returns null if the methods could not be loaded.
+     */
+    private List<MethodInfo> loadMethodInfoList(ClasspathHandle classpathHandle,
+                                                List<Integer> classInfoIdList,
+                                                String methodName,
+                                                Integer numberOfParameters) {
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+        List<MethodInfo> methodInfoList = Objects.nonNull(jarIndexList)
+                ? jarIndexService.getMethodInfoList(jarIndexList, classInfoIdList, methodName)
+                : null;
+
+        if (Objects.nonNull(methodInfoList)) {
+            methodInfoList.removeIf(m -> !isInvocableWithArity(m, numberOfParameters));
+
+            return methodInfoList;
+        }
+
+        try (Connection connection = metadataStore.getConnection()) {
+            methodInfoList = fetchMethodInfoCore(classInfoIdList, methodName, numberOfParameters, connection);
             populateArgumentList(methodInfoList, connection);
             populateThrownClassNameList(methodInfoList, connection);
 
-            for (MethodInfo methodInfo: methodInfoList) {
-                populateMethodArgumentTypeInfoList(methodInfo);
-                populateMethodReturnTypeInfo(methodInfo);
-                methodInfo.setClassInfo(classInfoService.getClassInfoUsingMemoryCache(methodInfo.getClassInfoId(), connection));
-                updateFormalTypeParameterBaseType(methodInfo);
-            }
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error", e);
+
+            return null;
+        }
+
+        return methodInfoList;
+    }
+
+    /*
+     * Returns null if the methods could not be loaded.
+     */
+    private List<MethodInfo> loadAbstractMethodInfoList(ClasspathHandle classpathHandle, Set<String> qualifiedClassNameSet) {
+        List<JarIndex> jarIndexList = jarIndexService.getJarIndexList(classpathHandle.getJarIdList());
+
+        if (Objects.nonNull(jarIndexList)) {
+            return jarIndexService.getAbstractMethodInfoList(jarIndexList, qualifiedClassNameSet);
+        }
+
+        ClasspathHandle possibleClasspathHandle =
+                jarNameFilterService.getPossibleClasspathHandle(classpathHandle, qualifiedClassNameSet);
+
+        if (possibleClasspathHandle.getJarIdList().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<MethodInfo> methodInfoList;
+
+        try (Connection connection = metadataStore.getConnection()) {
+            methodInfoList = fetchAbstractMethodInfoCore(qualifiedClassNameSet, possibleClasspathHandle, connection);
+            populateArgumentList(methodInfoList, connection);
+            populateThrownClassNameList(methodInfoList, connection);
 
             connection.commit();
         } catch (SQLException e) {
             logger.error("Error", e);
+
+            return null;
         }
 
         return methodInfoList;
     }
 
     private List<MethodInfo> fetchAbstractMethodInfoCore(Set<String> qualifiedClassNameSet,
-                                                         List<Integer> jarIdList,
+                                                         ClasspathHandle classpathHandle,
                                                          Connection connection) throws SQLException {
         List<MethodInfo> methodInfoList = new ArrayList<>();
 
@@ -112,17 +336,14 @@ public class MethodInfoService {
         ResultSet resultSet = null;
 
         String query = "SELECT m.* FROM method m JOIN class c ON (m.class_id = c.id)" +
-                " WHERE c.jar_id IN (" + DbUtils.getInClausePlaceHolder(jarIdList.size()) + ")" +
+                " WHERE " + DbUtils.getJarMembershipCondition("c.id", classpathHandle) +
                 " AND c.q_name IN (" + DbUtils.getInClausePlaceHolder(qualifiedClassNameSet.size()) + ")" +
                 " AND m.is_abstract = ?";
 
         try {
             pst = connection.prepareStatement(query);
 
-            int index = 1;
-            for (Integer jarId : jarIdList) {
-                pst.setInt(index++, jarId);
-            }
+            int index = DbUtils.setJarMembershipParameters(pst, 1, classpathHandle);
 
             for (String qualifiedClassName: qualifiedClassNameSet) {
                 pst.setString(index++, qualifiedClassName);
@@ -145,6 +366,7 @@ public class MethodInfoService {
 
     private List<MethodInfo> fetchMethodInfoCore(List<Integer> classInfoIdList,
                                                  String methodName,
+                                                 Integer numberOfParameters,
                                                  Connection connection) throws SQLException {
         List<MethodInfo> methodInfoList = new ArrayList<>();
 
@@ -154,6 +376,16 @@ public class MethodInfoService {
         String query = "SELECT m.* FROM method m WHERE m.class_id IN (" + DbUtils.getInClausePlaceHolder(classInfoIdList.size()) + ")" +
                 " AND m.name = ?";
 
+        /*
+         * Varargs methods accept one argument less than declared, constructors of inner classes have the outer instance
+         * as an extra declared argument. Methods without arity are checked after they are loaded.
+         */
+        if (Objects.nonNull(numberOfParameters)) {
+            query = query.concat(" AND (m.arity IS NULL OR m.arity = ?" +
+                    " OR (m.is_varargs = ? AND m.arity - 1 <= ?)" +
+                    " OR (m.is_constructor = ? AND m.internal_class_constructor_prefix IS NOT NULL AND m.arity - 1 = ?))");
+        }
+
         try {
             pst = connection.prepareStatement(query);
 
@@ -162,7 +394,15 @@ public class MethodInfoService {
                 pst.setInt(index++, classInfoId);
             }
 
-            pst.setString(index, methodName);
+            pst.setString(index++, methodName);
+
+            if (Objects.nonNull(numberOfParameters)) {
+                pst.setInt(index++, numberOfParameters);
+                pst.setBoolean(index++, true);
+                pst.setInt(index++, numberOfParameters);
+                pst.setBoolean(index++, true);
+                pst.setInt(index, numberOfParameters);
+            }
 
             resultSet = pst.executeQuery();
 
@@ -185,11 +425,23 @@ public class MethodInfoService {
         return orderedMethodInfoList;
     }
 
+    private static boolean isInvocableWithArity(MethodInfo methodInfo, Integer numberOfParameters) {
+        if (Objects.isNull(numberOfParameters)) {
+            return true;
+        }
+
+        int arity = methodInfo.getArgumentTypes().length;
+
+        return arity == numberOfParameters
+                || (methodInfo.isVarargs() && arity - 1 <= numberOfParameters)
+                || (methodInfo.isInnerClassConstructor() && arity - 1 == numberOfParameters);
+    }
+
     private MethodInfo getMethodInfo(ResultSet resultSet) throws SQLException {
         MethodInfo methodInfo = new MethodInfo();
 
         methodInfo.setId(resultSet.getInt("id"));
-        methodInfo.setName(resultSet.getString("name"));
+        methodInfo.setName(StringInterner.intern(resultSet.getString("name")));
 
         methodInfo.setAbstract(resultSet.getBoolean("is_abstract"));
         methodInfo.setConstructor(resultSet.getBoolean("is_constructor"));
@@ -203,104 +455,179 @@ public class MethodInfoService {
         methodInfo.setBridgeMethod(resultSet.getBoolean("is_bridge_method"));
 
         methodInfo.setSignature(resultSet.getString("signature"));
-        methodInfo.setInternalClassConstructorPrefix(resultSet.getString("internal_class_constructor_prefix"));
-        methodInfo.setReturnType(Type.getType(resultSet.getString("return_type_descriptor")));
+        methodInfo.setInternalClassConstructorPrefix(StringInterner.intern(resultSet.getString("internal_class_constructor_prefix")));
+        methodInfo.setReturnType(Type.getType(StringInterner.intern(resultSet.getString("return_type_descriptor"))));
+
+        /* Packed columns are null for methods stored before they were added */
+        String argumentTypeDescriptors = resultSet.getString("argument_type_descriptors");
+        String thrownClassNames = resultSet.getString("thrown_class_names");
+
+        if (Objects.nonNull(argumentTypeDescriptors)) {
+            methodInfo.setArgumentTypes(EntityUtils.getArgumentTypes(argumentTypeDescriptors));
+        }
+
+        if (Objects.nonNull(thrownClassNames)) {
+            methodInfo.setThrownInternalClassNames(EntityUtils.getThrownClassNameList(thrownClassNames));
+        }
+
+        setDecodedSignature(methodInfo, resultSet.getBytes("parsed_signature"));
 
         methodInfo.setClassInfoId(resultSet.getInt("class_id"));
         return methodInfo;
     }
 
+    /*
+     * Parsed signature is null for methods stored before it was added, their signature is parsed when populated.
+     */
+    private void setDecodedSignature(MethodInfo methodInfo, byte[] parsedSignature) {
+        if (Objects.isNull(parsedSignature)) {
+            return;
+        }
+
+        MethodSignature methodSignature = TypeInfoCodec.decodeMethodSignature(parsedSignature);
+
+        if (Objects.nonNull(methodSignature)) {
+            methodInfo.setFormalTypeParameterList(new ArrayList<>(methodSignature.getFormalTypeParameterList()));
+            methodInfo.setArgumentTypeInfoList(new ArrayList<>(methodSignature.getArgumentTypeInfoList()));
+            methodInfo.setReturnTypeInfo(methodSignature.getReturnTypeInfo());
+        }
+    }
+
+    /*
+     * Argument descriptors of methods stored before they were packed into the method row are read from the join table,
+     * with one query for the whole list.
+     */
     private void populateArgumentList(List<MethodInfo> methodInfoList, Connection connection) throws SQLException {
-        for (MethodInfo methodInfo: methodInfoList) {
-            PreparedStatement pst = null;
-            ResultSet resultSet = null;
+        Map<Integer, MethodInfo> legacyMethodInfoMap = methodInfoList.stream()
+                .filter(m -> Objects.isNull(m.getArgumentTypes()))
+                .collect(Collectors.toMap(MethodInfo::getId, m -> m, (m1, m2) -> m1));
 
-            String query = "SELECT arg.argument_type_descriptor argument_type_descriptor FROM argument_type_descriptor arg" +
-                    " WHERE arg.method_id = ? ORDER BY arg.precedence_order ASC";
+        if (legacyMethodInfoMap.isEmpty()) {
+            return;
+        }
 
-            List<Type> argumentTypeList = new ArrayList<>();
+        Map<Integer, List<Type>> argumentTypeListMap = new HashMap<>();
 
-            try {
-                pst = connection.prepareStatement(query);
-                pst.setInt(1, methodInfo.getId());
+        PreparedStatement pst = null;
+        ResultSet resultSet = null;
 
-                resultSet = pst.executeQuery();
+        String query = "SELECT arg.method_id method_id, arg.argument_type_descriptor argument_type_descriptor" +
+                " FROM argument_type_descriptor arg" +
+                " WHERE arg.method_id IN (" + DbUtils.getInClausePlaceHolder(legacyMethodInfoMap.size()) + ")" +
+                " ORDER BY arg.method_id, arg.precedence_order ASC";
 
-                while (resultSet.next()) {
-                    argumentTypeList.add(Type.getType(resultSet.getString("argument_type_descriptor")));
-                }
+        try {
+            pst = connection.prepareStatement(query);
 
-                methodInfo.setArgumentTypes(argumentTypeList.toArray(new Type[0]));
-            } finally {
-                DbUtils.closeResources(pst, resultSet);
+            int index = 1;
+            for (int methodInfoId : legacyMethodInfoMap.keySet()) {
+                pst.setInt(index++, methodInfoId);
+            }
+
+            resultSet = pst.executeQuery();
+
+            while (resultSet.next()) {
+                argumentTypeListMap.computeIfAbsent(resultSet.getInt("method_id"), k -> new ArrayList<>())
+                        .add(Type.getType(resultSet.getString("argument_type_descriptor")));
+            }
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
+
+        for (MethodInfo methodInfo : methodInfoList) {
+            if (Objects.isNull(methodInfo.getArgumentTypes())) {
+                methodInfo.setArgumentTypes(argumentTypeListMap.getOrDefault(methodInfo.getId(), Collections.emptyList())
+                        .toArray(new Type[0]));
             }
         }
     }
 
     private void populateThrownClassNameList(List<MethodInfo> methodInfoList, Connection connection) throws SQLException {
-        for (MethodInfo methodInfo: methodInfoList) {
-            PreparedStatement pst = null;
-            ResultSet resultSet = null;
+        Map<Integer, MethodInfo> legacyMethodInfoMap = methodInfoList.stream()
+                .filter(m -> Objects.isNull(m.getThrownInternalClassNames()))
+                .collect(Collectors.toMap(MethodInfo::getId, m -> m, (m1, m2) -> m1));
 
-            String query = "SELECT thr.thrown_class_name thrown_class_name FROM thrown_class_name thr" +
-                    " WHERE thr.method_id = ? ORDER BY thr.precedence_order ASC";
+        if (legacyMethodInfoMap.isEmpty()) {
+            return;
+        }
 
-            List<String> thrownClassQNameList = new ArrayList<>();
+        Map<Integer, List<String>> thrownClassNameListMap = new HashMap<>();
 
-            try {
-                pst = connection.prepareStatement(query);
-                pst.setInt(1, methodInfo.getId());
+        PreparedStatement pst = null;
+        ResultSet resultSet = null;
 
-                resultSet = pst.executeQuery();
+        String query = "SELECT thr.method_id method_id, thr.thrown_class_name thrown_class_name FROM thrown_class_name thr" +
+                " WHERE thr.method_id IN (" + DbUtils.getInClausePlaceHolder(legacyMethodInfoMap.size()) + ")" +
+                " ORDER BY thr.method_id, thr.precedence_order ASC";
 
-                while (resultSet.next()) {
-                    thrownClassQNameList.add(resultSet.getString("thrown_class_name"));
-                }
+        try {
+            pst = connection.prepareStatement(query);
 
-                methodInfo.setThrownInternalClassNames(thrownClassQNameList);
-            } finally {
-                DbUtils.closeResources(pst, resultSet);
+            int index = 1;
+            for (int methodInfoId : legacyMethodInfoMap.keySet()) {
+                pst.setInt(index++, methodInfoId);
             }
-        }
-    }
-
-    private void populateMethodArgumentTypeInfoList(MethodInfo methodInfo) {
-        List<TypeInfo> argumentTypeInfoList = new ArrayList<>();
-        List<TypeInfo> formalTypeParameterList = new ArrayList<>();
 
-        if (Objects.nonNull(methodInfo.getSignature())) {
-            MethodArgumentExtractor methodArgumentExtractor = new MethodArgumentExtractor();
-            SignatureReader signatureReader = new SignatureReader(methodInfo.getSignature());
+            resultSet = pst.executeQuery();
 
-            signatureReader.accept(methodArgumentExtractor);
-            formalTypeParameterList = methodArgumentExtractor.getFormalTypeParameterList();
+            while (resultSet.next()) {
+                thrownClassNameListMap.computeIfAbsent(resultSet.getInt("method_id"), k -> new ArrayList<>())
+                        .add(resultSet.getString("thrown_class_name"));
+            }
+        } finally {
+            DbUtils.closeResources(pst, resultSet);
+        }
 
-            methodInfo.setFormalTypeParameterList(formalTypeParameterList);
-            methodInfo.setArgumentTypeInfoList(methodArgumentExtractor.getArgumentList());
-        } else {
-            for (Type argumentType: methodInfo.getArgumentTypes()) {
-                argumentTypeInfoList.add(EntityUtils.getTypeInfo(argumentType));
+        for (MethodInfo methodInfo : methodInfoList) {
+            if (Objects.isNull(methodInfo.getThrownInternalClassNames())) {
+                methodInfo.setThrownInternalClassNames(
+                        new ArrayList<>(thrownClassNameListMap.getOrDefault(methodInfo.getId(), Collections.emptyList())));
             }
+        }
+    }
 
-            methodInfo.setFormalTypeParameterList(formalTypeParameterList);
-            methodInfo.setArgumentTypeInfoList(argumentTypeInfoList);
+    private void populateMethodInfo(MethodInfo methodInfo, ClassInfo classInfo) {
+        /* Type infos are already set when decoded from the stored parsed signature */
+        if (Objects.isNull(methodInfo.getReturnTypeInfo())) {
+            if (Objects.nonNull(methodInfo.getSignature())) {
+                populateTypeInfoFromSignature(methodInfo);
+            } else {
+                populateTypeInfoFromDescriptor(methodInfo);
+            }
         }
+
+        methodInfo.setClassInfo(classInfo);
+        updateFormalTypeParameterBaseType(methodInfo);
+    }
+
+    /*
+     * Parsed signature is shared between methods, arguments and formal type parameters are copied together since
+     * arguments refer to the formal type parameters.
+     */
+    private void populateTypeInfoFromSignature(MethodInfo methodInfo) {
+        MethodSignature methodSignature = SignatureParser.getMethodSignature(methodInfo.getSignature());
+        Map<TypeInfo, TypeInfo> copiedTypeInfoMap = new IdentityHashMap<>();
+
+        methodInfo.setFormalTypeParameterList(
+                TypeInfo.copy(methodSignature.getFormalTypeParameterList(), copiedTypeInfoMap));
+        methodInfo.setArgumentTypeInfoList(TypeInfo.copy(methodSignature.getArgumentTypeInfoList(), copiedTypeInfoMap));
+        methodInfo.setReturnTypeInfo(methodSignature.getReturnTypeInfo().copy());
     }
 
-    private void populateMethodReturnTypeInfo(MethodInfo methodInfo) {
-        if (Objects.nonNull(methodInfo.getSignature())) {
-            MethodReturnTypeExtractor extractor = new MethodReturnTypeExtractor();
+    private void populateTypeInfoFromDescriptor(MethodInfo methodInfo) {
+        List<TypeInfo> argumentTypeInfoList = new ArrayList<>();
+
+        for (Type argumentType: methodInfo.getArgumentTypes()) {
+            argumentTypeInfoList.add(EntityUtils.getTypeInfo(argumentType));
+        }
 
-            SignatureReader reader = new SignatureReader(methodInfo.getSignature());
-            reader.accept(extractor);
+        methodInfo.setFormalTypeParameterList(new ArrayList<>());
+        methodInfo.setArgumentTypeInfoList(argumentTypeInfoList);
 
-            methodInfo.setReturnTypeInfo(extractor.getReturnTypeInfo());
+        if (Type.VOID_TYPE.equals(methodInfo.getReturnType())) {
+            methodInfo.setReturnTypeInfo(new VoidTypeInfo());
         } else {
-            if (Type.VOID_TYPE.equals(methodInfo.getReturnType())) {
-                methodInfo.setReturnTypeInfo(new VoidTypeInfo());
-            } else {
-                methodInfo.setReturnTypeInfo(EntityUtils.getTypeInfo(methodInfo.getReturnType()));
-            }
+            methodInfo.setReturnTypeInfo(EntityUtils.getTypeInfo(methodInfo.getReturnType()));
         }
     }
 
@@ -0,0 +1,147 @@
+package ca.concordia.apifinder.store;
+
+import ca.concordia.apifinder.util.PropertyReader;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * In-process H2 database kept in local files, so that no database server is needed. The schema is created from
+ * {@code embedded-metadata-store-ddl.sql} the first time the database is opened.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 3:20 PM
+ */
+public class EmbeddedMetadataStore implements MetadataStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedMetadataStore.class);
+
+    private static final String DDL_RESOURCE = "embedded-metadata-store-ddl.sql";
+
+    private static final String DUPLICATE_KEY_SQL_STATE = "23505";
+
+    private final HikariDataSource ds;
+
+    EmbeddedMetadataStore() {
+        Path databasePath = Path.of(PropertyReader.getProperty("metadata.store.embedded.path")).toAbsolutePath();
+
+        HikariConfig config = new HikariConfig();
+
+        config.setJdbcUrl("jdbc:h2:file:" + databasePath + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        config.setAutoCommit(false);
+        config.setDriverClassName("org.h2.Driver");
+
+        ds = new HikariDataSource(config);
+
+        createSchema();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return ds.getConnection();
+    }
+
+    /*
+     * There is no full text index, the simple name either is the class name or ends with it as an inner class.
+     */
+    @Override
+    public String getClassNameCondition(String nameColumn) {
+        return "(" + nameColumn + " = ? OR " + nameColumn + " LIKE ?)";
+    }
+
+    @Override
+    public int setClassNameParameters(PreparedStatement pst, int index, String className) throws SQLException {
+        pst.setString(index++, className);
+        pst.setString(index++, "%$" + className.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_"));
+
+        return index;
+    }
+
+    /*
+     * Comparison of strings is case-sensitive in H2.
+     */
+    @Override
+    public String getCaseSensitiveEqualsCondition(String column) {
+        return column + " = ?";
+    }
+
+    @Override
+    public boolean supportsBulkLoad() {
+        return false;
+    }
+
+    @Override
+    public boolean isDuplicateKey(SQLException e) {
+        for (Throwable cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                for (SQLException sqlException = (SQLException) cause; Objects.nonNull(sqlException);
+                     sqlException = sqlException.getNextException()) {
+                    if (DUPLICATE_KEY_SQL_STATE.equals(sqlException.getSQLState())) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void createSchema() {
+        try (Connection connection = ds.getConnection()) {
+            if (isSchemaCreated(connection)) {
+                return;
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                for (String ddlStatement : getDdlStatementList()) {
+                    statement.execute(ddlStatement);
+                }
+            }
+
+            connection.commit();
+        } catch (SQLException | IOException e) {
+            logger.error("Could not create the schema of the embedded metadata store", e);
+        }
+    }
+
+    private boolean isSchemaCreated(Connection connection) throws SQLException {
+        try (ResultSet resultSet = connection.getMetaData().getTables(null, null, "jar", null)) {
+            return resultSet.next();
+        }
+    }
+
+    private List<String> getDdlStatementList() throws IOException {
+        try (InputStream inputStream = EmbeddedMetadataStore.class.getClassLoader().getResourceAsStream(DDL_RESOURCE)) {
+            if (Objects.isNull(inputStream)) {
+                throw new IOException("Could not find " + DDL_RESOURCE);
+            }
+
+            String ddl = Arrays.stream(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).split("\n"))
+                    .filter(line -> !line.trim().startsWith("--"))
+                    .collect(Collectors.joining("\n"));
+
+            return Arrays.stream(ddl.split(";"))
+                    .map(String::trim)
+                    .filter(ddlStatement -> !ddlStatement.isEmpty())
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
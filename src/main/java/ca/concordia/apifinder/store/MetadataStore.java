@@ -0,0 +1,44 @@
+package ca.concordia.apifinder.store;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Database that keeps the extracted jar, class, method and field metadata. Services get their connections from the
+ * store and use it for the parts of the queries that differ between databases.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 3:20 PM
+ */
+public interface MetadataStore {
+
+    /*
+     * Connections are not in auto commit mode.
+     */
+    Connection getConnection() throws SQLException;
+
+    /*
+     * Condition on the simple class name column that selects at least the classes named as the class name or as
+     * inner classes ending with it. Parameters are bound with setClassNameParameters.
+     */
+    String getClassNameCondition(String nameColumn);
+
+    int setClassNameParameters(PreparedStatement pst, int index, String className) throws SQLException;
+
+    /*
+     * Equality with one parameter that is case-sensitive regardless of the collation of the column.
+     */
+    String getCaseSensitiveEqualsCondition(String column);
+
+    /*
+     * Whether staged files can be loaded with LOAD DATA LOCAL INFILE.
+     */
+    boolean supportsBulkLoad();
+
+    /*
+     * Whether the statement failed on a unique index, e.g., because another writer inserted the same row first.
+     */
+    boolean isDuplicateKey(SQLException e);
+
+}
@@ -0,0 +1,29 @@
+package ca.concordia.apifinder.store;
+
+import ca.concordia.apifinder.util.PropertyReader;
+
+import java.util.Objects;
+
+/**
+ * @author Diptopol
+ * @since 10/17/2026 3:20 PM
+ */
+public class MetadataStoreFactory {
+
+    private static final String EMBEDDED_METADATA_STORE = "embedded";
+
+    private static MetadataStore metadataStore;
+
+    public static synchronized MetadataStore getMetadataStore() {
+        if (Objects.isNull(metadataStore)) {
+            if (EMBEDDED_METADATA_STORE.equals(PropertyReader.getProperty("metadata.store"))) {
+                metadataStore = new EmbeddedMetadataStore();
+            } else {
+                metadataStore = new MySqlMetadataStore();
+            }
+        }
+
+        return metadataStore;
+    }
+
+}
@@ -0,0 +1,94 @@
+package ca.concordia.apifinder.store;
+
+import ca.concordia.apifinder.util.PropertyReader;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * @author Diptopol
+ * @since 7/13/2022 6:41 PM
+ */
+public class MySqlMetadataStore implements MetadataStore {
+
+    private static final int ER_DUP_ENTRY = 1062;
+
+    private final HikariDataSource ds;
+
+    MySqlMetadataStore() {
+        HikariConfig config = new HikariConfig();
+
+        config.setJdbcUrl(PropertyReader.getProperty("datasource.jdbc.url"));
+        config.setUsername(PropertyReader.getProperty("datasource.user.name"));
+        config.setPassword(PropertyReader.getProperty("datasource.user.password"));
+        config.setAutoCommit(false);
+        config.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", PropertyReader.getProperty("datasource.prepared.statement.cache.size"));
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", PropertyReader.getProperty("datasource.prepared.statement.cache.sql.limit"));
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+        /* LOAD DATA LOCAL INFILE is only permitted for the staged files of the bulk load ingest mode */
+        if ("bulk_load".equals(PropertyReader.getProperty("jar.info.ingest.mode"))) {
+            config.addDataSourceProperty("allowLoadLocalInfileInPath",
+                    Path.of(PropertyReader.getProperty("jar.info.bulk.load.directory")).toAbsolutePath().toString());
+        }
+
+        ds = new HikariDataSource(config);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return ds.getConnection();
+    }
+
+    /*
+     * Full text search on the name, it matches every name having the class name as a word.
+     */
+    @Override
+    public String getClassNameCondition(String nameColumn) {
+        return "MATCH(" + nameColumn + ") AGAINST (?)";
+    }
+
+    @Override
+    public int setClassNameParameters(PreparedStatement pst, int index, String className) throws SQLException {
+        pst.setString(index++, className);
+
+        return index;
+    }
+
+    @Override
+    public String getCaseSensitiveEqualsCondition(String column) {
+        return column + " = BINARY ?";
+    }
+
+    @Override
+    public boolean supportsBulkLoad() {
+        return true;
+    }
+
+    /*
+     * Batched statements report the error of the failed row as the cause or the next exception.
+     */
+    @Override
+    public boolean isDuplicateKey(SQLException e) {
+        for (Throwable cause = e; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                for (SQLException sqlException = (SQLException) cause; Objects.nonNull(sqlException);
+                     sqlException = sqlException.getNextException()) {
+                    if (sqlException.getErrorCode() == ER_DUP_ENTRY) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -1,5 +1,6 @@
 package ca.concordia.apifinder.util;
 
+import ca.concordia.apifinder.models.ClasspathHandle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +31,51 @@ public class DbUtils {
         return stringBuilder.toString();
     }
 
+    /*
+     * Condition for classes that are members of one of the jars. Parameters of the condition are bound in the
+     * place of the condition with setJarMembershipParameters.
+     *
+     * Jars of a stored classpath are joined through classpath_jar, so the query text does not depend on the number of
+     * jars.
+     */
+    public static String getJarMembershipCondition(String classIdColumn, ClasspathHandle classpathHandle) {
+        if (classpathHandle.isStored()) {
+            return "EXISTS (SELECT 1 FROM jar_class jc JOIN classpath_jar cj ON (cj.jar_id = jc.jar_id)" +
+                    " WHERE jc.class_id = " + classIdColumn + " AND cj.classpath_id = ?)";
+        }
+
+        return "EXISTS (SELECT 1 FROM jar_class jc WHERE jc.class_id = " + classIdColumn +
+                " AND jc.jar_id IN (" + getInClausePlaceHolder(classpathHandle.getJarIdList().size()) + "))";
+    }
+
+    /*
+     * Condition for rows stored for one of the jars. Parameters are bound with setJarMembershipParameters as well.
+     */
+    public static String getJarCondition(String jarIdColumn, ClasspathHandle classpathHandle) {
+        if (classpathHandle.isStored()) {
+            return jarIdColumn + " IN (SELECT cj.jar_id FROM classpath_jar cj WHERE cj.classpath_id = ?)";
+        }
+
+        return jarIdColumn + " IN (" + getInClausePlaceHolder(classpathHandle.getJarIdList().size()) + ")";
+    }
+
+    /*
+     * Returns the index of the next parameter.
+     */
+    public static int setJarMembershipParameters(PreparedStatement pst, int index, ClasspathHandle classpathHandle) throws SQLException {
+        if (classpathHandle.isStored()) {
+            pst.setInt(index++, classpathHandle.getId());
+
+            return index;
+        }
+
+        for (int jarId : classpathHandle.getJarIdList()) {
+            pst.setInt(index++, jarId);
+        }
+
+        return index;
+    }
+
     public static void closeResources(PreparedStatement pst, ResultSet resultSet) {
         try {
             if (Objects.nonNull(resultSet)) {
@@ -1,10 +1,24 @@
 package ca.concordia.apifinder.util;
 
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.FieldInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
 import ca.concordia.apifinder.models.typeInfo.ArrayTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.PrimitiveTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.QualifiedTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.TypeInfo;
+import ca.concordia.apifinder.models.typeInfo.TypeInfoCodec;
 import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * @author Diptopol
@@ -12,13 +26,15 @@ import org.objectweb.asm.Type;
  */
 public class EntityUtils {
 
+    private static final Logger logger = LoggerFactory.getLogger(EntityUtils.class);
+
     public static TypeInfo getTypeInfo(Type type) {
         String typeClassName = type.getClassName()
                 .replaceAll("\\$", ".");
 
         if (typeClassName.endsWith("[]")) {
             int dimension = type.getDimensions();
-            String className = typeClassName.replaceAll("\\[]", "");
+            String className = StringInterner.intern(typeClassName.replaceAll("\\[]", ""));
 
             if (PrimitiveTypeUtils.isPrimitiveType(className)) {
                 return new ArrayTypeInfo(new PrimitiveTypeInfo(className), dimension);
@@ -29,9 +45,149 @@ public class EntityUtils {
             if (PrimitiveTypeUtils.isPrimitiveType(typeClassName)) {
                 return new PrimitiveTypeInfo(typeClassName);
             } else {
-                return new QualifiedTypeInfo(typeClassName);
+                return new QualifiedTypeInfo(StringInterner.intern(typeClassName));
+            }
+        }
+    }
+
+    /*
+     * Argument descriptors are self-delimiting, so the packed form is their concatenation, as between the parentheses
+     * of a method descriptor.
+     */
+    public static String getPackedArgumentTypeDescriptors(Type[] argumentTypes) {
+        StringBuilder packedDescriptors = new StringBuilder();
+
+        for (Type argumentType : argumentTypes) {
+            packedDescriptors.append(argumentType.getDescriptor());
+        }
+
+        return packedDescriptors.toString();
+    }
+
+    public static Type[] getArgumentTypes(String packedArgumentTypeDescriptors) {
+        return Type.getArgumentTypes("(" + packedArgumentTypeDescriptors + ")V");
+    }
+
+    /*
+     * ';' cannot be part of an internal class name.
+     */
+    public static String getPackedThrownClassNames(List<String> thrownInternalClassNames) {
+        return String.join(";", thrownInternalClassNames);
+    }
+
+    public static List<String> getThrownClassNameList(String packedThrownClassNames) {
+        if (packedThrownClassNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> thrownClassNameList = new ArrayList<>();
+
+        for (String thrownClassName : packedThrownClassNames.split(";")) {
+            thrownClassNameList.add(StringInterner.intern(thrownClassName));
+        }
+
+        return thrownClassNameList;
+    }
+
+    /*
+     * Parsed generic signatures are stored in the encoding of TypeInfoCodec. Null without a signature, or for a
+     * signature the extractors cannot parse, which is then parsed again on read as before.
+     */
+    public static byte[] getEncodedSignature(ClassInfo classInfo) {
+        return getEncodedSignature(classInfo.getSignature(),
+                signature -> TypeInfoCodec.encodeTypeInfoList(SignatureParser.parseClassSignature(signature)));
+    }
+
+    public static byte[] getEncodedSignature(MethodInfo methodInfo) {
+        return getEncodedSignature(methodInfo.getSignature(),
+                signature -> TypeInfoCodec.encodeMethodSignature(SignatureParser.parseMethodSignature(signature)));
+    }
+
+    public static byte[] getEncodedSignature(FieldInfo fieldInfo) {
+        return getEncodedSignature(fieldInfo.getSignature(),
+                signature -> TypeInfoCodec.encodeTypeInfo(SignatureParser.parseFieldSignature(signature)));
+    }
+
+    private static byte[] getEncodedSignature(String signature, Function<String, byte[]> encoder) {
+        if (Objects.isNull(signature)) {
+            return null;
+        }
+
+        try {
+            return encoder.apply(signature);
+        } catch (RuntimeException e) {
+            logger.warn("Could not parse signature {}, it is stored without the parsed signature", signature, e);
+
+            return null;
+        }
+    }
+
+    /*
+     * SHA-256 of every stored property of the class, its methods and its fields. Classes with the same hash have the
+     * same rows, so a class is stored once and shared by all jars that contain it.
+     */
+    public static String getApiHash(ClassInfo classInfo) {
+        MessageDigest messageDigest;
+
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        update(messageDigest, classInfo.getQualifiedName(), classInfo.getName(), classInfo.getPackageName(),
+                classInfo.getType().getDescriptor(), classInfo.getSignature(), classInfo.getSuperClassQName());
+
+        update(messageDigest, classInfo.isAbstract(), classInfo.isInterface(), classInfo.isEnum(), classInfo.isPublic(),
+                classInfo.isPrivate(), classInfo.isProtected(), classInfo.isInnerClass(),
+                classInfo.isAnonymousInnerClass());
+
+        update(messageDigest, classInfo.getInterfaceQNameList().toArray(new String[0]));
+
+        for (MethodInfo methodInfo : classInfo.getMethodInfoList()) {
+            update(messageDigest, "M", methodInfo.getName(), methodInfo.getSignature(),
+                    methodInfo.getInternalClassConstructorPrefix(), methodInfo.getReturnType().getDescriptor());
+
+            update(messageDigest, methodInfo.isAbstract(), methodInfo.isConstructor(), methodInfo.isStatic(),
+                    methodInfo.isPublic(), methodInfo.isPrivate(), methodInfo.isProtected(), methodInfo.isSynchronized(),
+                    methodInfo.isFinal(), methodInfo.isVarargs(), methodInfo.isBridgeMethod());
+
+            for (Type argumentType : methodInfo.getArgumentTypes()) {
+                update(messageDigest, "A", argumentType.getDescriptor());
+            }
+
+            update(messageDigest, methodInfo.getThrownInternalClassNames().toArray(new String[0]));
+        }
+
+        for (FieldInfo fieldInfo : classInfo.getFieldInfoList()) {
+            update(messageDigest, "F", fieldInfo.getName(), fieldInfo.getType().getDescriptor(), fieldInfo.getSignature());
+            update(messageDigest, fieldInfo.isPublic(), fieldInfo.isPrivate(), fieldInfo.isProtected(), fieldInfo.isStatic());
+        }
+
+        return Utility.getHexString(messageDigest.digest());
+    }
+
+    /*
+     * Each value is terminated, and null is distinguished from the empty string.
+     */
+    private static void update(MessageDigest messageDigest, String... values) {
+        for (String value : values) {
+            if (Objects.nonNull(value)) {
+                messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+            } else {
+                messageDigest.update((byte) 1);
             }
+
+            messageDigest.update((byte) 0);
         }
     }
 
+    private static void update(MessageDigest messageDigest, boolean... values) {
+        for (boolean value : values) {
+            messageDigest.update((byte) (value ? 'T' : 'F'));
+        }
+
+        messageDigest.update((byte) 0);
+    }
+
 }
@@ -3,6 +3,7 @@ package ca.concordia.apifinder.util;
 import ca.concordia.apifinder.TypeInferenceAPI;
 import ca.concordia.apifinder.TypeInferenceBase;
 import ca.concordia.apifinder.TypeInferenceFluentAPI;
+import ca.concordia.apifinder.cache.CacheRegistry;
 import ca.concordia.apifinder.entity.ClassInfo;
 import ca.concordia.apifinder.entity.FieldInfo;
 import ca.concordia.apifinder.entity.MethodInfo;
@@ -10,20 +11,16 @@ import ca.concordia.apifinder.models.*;
 import ca.concordia.apifinder.models.typeInfo.*;
 import ca.concordia.apifinder.service.ClassInfoService;
 import ca.concordia.apifinder.service.JarInfoService;
-import ca.concordia.apifinder.util.signaturevisitor.FieldSignatureFormalTypeParameterExtractor;
 import ca.concordia.apifinder.util.signaturevisitor.GenericTypeResolutionAdapter;
 import ca.concordia.apifinder.util.signaturevisitor.ParameterizedSuperClassTypeInfoExtractor;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vavr.Tuple2;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jdt.core.dom.*;
 import org.objectweb.asm.signature.SignatureReader;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -36,10 +33,7 @@ public class InferenceUtility {
 
     static {
         if (Objects.isNull(methodInfoLoaderCacheFromASTNode)) {
-            methodInfoLoaderCacheFromASTNode  = Caffeine.newBuilder()
-                    .expireAfterAccess(1, TimeUnit.MINUTES)
-                    .maximumSize(500)
-                    .build();
+            methodInfoLoaderCacheFromASTNode = CacheRegistry.newCache("method.info.by.ast.node", 500, 1);
         }
     }
 
@@ -1014,7 +1008,7 @@ public class InferenceUtility {
             if (Objects.isNull(methodInfo)) {
                 return new NullTypeInfo();
             } else {
-                TypeInfo returnTypeInfo = SerializationUtils.clone(methodInfo.getReturnTypeInfo());
+                TypeInfo returnTypeInfo = methodInfo.getReturnTypeInfo().copy();
 
                 return getParameterizedTypeWithTypeParameter(returnTypeInfo, dependentArtifactSet, javaVersion,
                         importStatementList, owningClassInfo, auditInfo);
@@ -1044,7 +1038,7 @@ public class InferenceUtility {
             if (Objects.isNull(methodInfo)) {
                 return new NullTypeInfo();
             } else {
-                return SerializationUtils.clone(methodInfo.getReturnTypeInfo());
+                return methodInfo.getReturnTypeInfo().copy();
             }
         } else if (expression instanceof LambdaExpression) {
             LambdaExpression lambdaExpression = (LambdaExpression) expression;
@@ -1704,7 +1698,7 @@ public class InferenceUtility {
         List<TypeInfo> visitedInvokerTypeInfoList = new ArrayList<>();
         visitedInvokerTypeInfoList.add(invokerTypeInfo);
 
-        List<Integer> jarIdList = jarInfoService.getJarIdList(dependentArtifactSet, javaVersion, null);
+        ClasspathHandle classpathHandle = jarInfoService.getClasspathHandle(dependentArtifactSet, javaVersion);
 
         while (!visitedInvokerTypeInfoList.isEmpty()) {
             TypeInfo currentInvokerTypeInfo = visitedInvokerTypeInfoList.get(0);
@@ -1731,7 +1725,7 @@ public class InferenceUtility {
                 if (Objects.isNull(classInfo.getSignature())) {
                     Set<String> classNameSet = classInfoService
                             .getSuperClassQNameSetUsingMemCache(Collections.singleton(classInfo.getQualifiedName()),
-                                    jarIdList, null);
+                                    classpathHandle, null);
 
                     List<TypeInfo> superClassTypeInfoList = new ArrayList<>();
 
@@ -1983,21 +1977,17 @@ public class InferenceUtility {
                         for (int j = i; j < argumentTypeInfoList.size(); j++) {
                             Set<String> classQNameHierarchySet = new LinkedHashSet<>();
 
-                            List<Integer> jarIdList = jarInfoService.getJarIdList(dependentArtifactSet, javaVersion, null);
+                            ClasspathHandle classpathHandle = jarInfoService.getClasspathHandle(dependentArtifactSet, javaVersion);
                             String classQName = argumentTypeInfoList.get(j).getQualifiedClassName();
 
                             if (argumentTypeInfoList.get(j).isPrimitiveTypeInfo()) {
                                 classQName = PrimitiveTypeUtils.getPrimitiveWrapperClassQName(argumentTypeInfoList.get(j).getQualifiedClassName());
                             }
 
-                            Set<String> classNameSet = Collections.singleton(classQName);
                             classQNameHierarchySet.add(classQName);
 
-                            while (!classNameSet.isEmpty()) {
-                                classNameSet = classInfoService.getSuperClassQNameSetUsingMemCache(classNameSet, jarIdList, null);
-
-                                classQNameHierarchySet.addAll(classNameSet);
-                            }
+                            classInfoService.getSuperClassQNameLevelList(Collections.singleton(classQName), classpathHandle, null)
+                                    .forEach(classQNameHierarchySet::addAll);
 
                             classHierarchyList.add(classQNameHierarchySet);
                         }
@@ -2832,13 +2822,9 @@ public class InferenceUtility {
         FieldInfo fieldInfo = fieldInfoList.get(0);
 
         if (Objects.nonNull(fieldInfo.getSignature())) {
-            FieldSignatureFormalTypeParameterExtractor formalTypeParameterExtractor
-                    = new FieldSignatureFormalTypeParameterExtractor();
-
-            SignatureReader reader = new SignatureReader(fieldInfo.getSignature());
-            reader.accept(formalTypeParameterExtractor);
-
-            TypeInfo typeInfoExtractedFromFieldSignature = formalTypeParameterExtractor.getTypeInfo();
+            TypeInfo typeInfoExtractedFromFieldSignature = Objects.nonNull(fieldInfo.getSignatureTypeInfo())
+                    ? fieldInfo.getSignatureTypeInfo().copy()
+                    : SignatureParser.getFieldTypeInfo(fieldInfo.getSignature()).copy();
 
             if (typeInfoExtractedFromFieldSignature.isFormalTypeParameterInfo()) {
                 String typeParameter = ((FormalTypeParameterInfo) typeInfoExtractedFromFieldSignature).getTypeParameter();
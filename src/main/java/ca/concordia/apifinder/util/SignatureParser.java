@@ -0,0 +1,89 @@
+package ca.concordia.apifinder.util;
+
+import ca.concordia.apifinder.cache.CacheRegistry;
+import ca.concordia.apifinder.models.MethodSignature;
+import ca.concordia.apifinder.models.typeInfo.TypeInfo;
+import ca.concordia.apifinder.util.signaturevisitor.ClassSignatureFormalTypeParameterExtractor;
+import ca.concordia.apifinder.util.signaturevisitor.FieldSignatureFormalTypeParameterExtractor;
+import ca.concordia.apifinder.util.signaturevisitor.MethodSignatureExtractor;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.objectweb.asm.signature.SignatureReader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Parses generic signatures of methods, fields and classes once and shares the result between every entity of the
+ * same signature. Parsed type infos are shared, callers copy them before modification.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 10:40 PM
+ */
+public class SignatureParser {
+
+    private static final Cache<String, MethodSignature> methodSignatureCache =
+            CacheRegistry.newOptionalCache("method.signature", 20000, 0);
+
+    private static final Cache<String, TypeInfo> fieldSignatureCache =
+            CacheRegistry.newOptionalCache("field.signature", 20000, 0);
+
+    private static final Cache<String, List<TypeInfo>> classSignatureCache =
+            CacheRegistry.newOptionalCache("class.signature", 20000, 0);
+
+    public static MethodSignature getMethodSignature(String signature) {
+        return get(methodSignatureCache, signature, SignatureParser::parseMethodSignature);
+    }
+
+    public static TypeInfo getFieldTypeInfo(String signature) {
+        return get(fieldSignatureCache, signature, SignatureParser::parseFieldSignature);
+    }
+
+    public static List<TypeInfo> getClassFormalTypeParameterList(String signature) {
+        return get(classSignatureCache, signature, SignatureParser::parseClassSignature);
+    }
+
+    /*
+     * Parses without the cache, for signatures that are parsed once, e.g., while a jar is stored.
+     */
+    public static MethodSignature parseMethodSignature(String signature) {
+        MethodSignatureExtractor extractor = new MethodSignatureExtractor();
+
+        SignatureReader signatureReader = new SignatureReader(signature);
+        signatureReader.accept(extractor);
+
+        return new MethodSignature(extractor.getFormalTypeParameterList(), extractor.getArgumentList(),
+                extractor.getReturnTypeInfo(), extractor.getThrownTypeInfoList());
+    }
+
+    public static TypeInfo parseFieldSignature(String signature) {
+        FieldSignatureFormalTypeParameterExtractor extractor = new FieldSignatureFormalTypeParameterExtractor();
+
+        SignatureReader signatureReader = new SignatureReader(signature);
+        signatureReader.accept(extractor);
+
+        return extractor.getTypeInfo();
+    }
+
+    public static List<TypeInfo> parseClassSignature(String signature) {
+        ClassSignatureFormalTypeParameterExtractor extractor = new ClassSignatureFormalTypeParameterExtractor();
+
+        SignatureReader signatureReader = new SignatureReader(signature);
+        signatureReader.accept(extractor);
+
+        return Collections.unmodifiableList(extractor.getTypeArgumentList());
+    }
+
+    /*
+     * Keyed by the interned signature, so the cache does not hold a copy of a signature already held by entities.
+     */
+    private static <T> T get(Cache<String, T> cache, String signature, Function<String, T> parser) {
+        if (Objects.isNull(cache)) {
+            return parser.apply(signature);
+        }
+
+        return cache.get(StringInterner.intern(signature), parser);
+    }
+
+}
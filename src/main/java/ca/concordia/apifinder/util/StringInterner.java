@@ -0,0 +1,29 @@
+package ca.concordia.apifinder.util;
+
+import ca.concordia.apifinder.cache.CacheRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Objects;
+
+/**
+ * Canonical instances of qualified names and descriptors read from the database or extracted from signatures, so
+ * entities and type infos of the same class share one string. Unlike {@link String#intern()} the table is bounded,
+ * rarely used names are evicted and only cost a duplicate when read again.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 9:20 PM
+ */
+public class StringInterner {
+
+    private static final Cache<String, String> internedStringCache =
+            CacheRegistry.newOptionalCache("string.interner", 200000, 0);
+
+    public static String intern(String value) {
+        if (Objects.isNull(value) || Objects.isNull(internedStringCache)) {
+            return value;
+        }
+
+        return internedStringCache.get(value, v -> v);
+    }
+
+}
@@ -9,7 +9,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
@@ -55,6 +59,38 @@ public class Utility {
         return jarFiles;
     }
 
+    /*
+     * SHA-256 of the archive bytes, used to recognize identical jars published under different coordinates.
+     */
+    public static String getContentHash(JarFile jarFile) {
+        try (InputStream inputStream = Files.newInputStream(Path.of(jarFile.getName()))) {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int length;
+
+            while ((length = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, length);
+            }
+
+            return getHexString(messageDigest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.error("Error", e);
+        }
+
+        return null;
+    }
+
+    public static String getHexString(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder();
+
+        for (byte b : bytes) {
+            hexString.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return hexString.toString();
+    }
+
     public static Path getProjectPath(String projectName) {
         Path pathToCorpus = Path.of(getProperty("corpus.path"));
 
@@ -3,6 +3,7 @@ package ca.concordia.apifinder.util.signaturevisitor;
 import ca.concordia.apifinder.models.typeInfo.FormalTypeParameterInfo;
 import ca.concordia.apifinder.models.typeInfo.QualifiedTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.TypeInfo;
+import ca.concordia.apifinder.util.StringInterner;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.signature.SignatureVisitor;
 
@@ -78,7 +79,7 @@ public class ClassSignatureFormalTypeParameterExtractor extends SignatureVisitor
     }
 
     private void updateByBoundClassOrInterface(String typeParameter, String name) {
-        formalTypeParameterMap.put(typeParameter, new FormalTypeParameterInfo(typeParameter, new QualifiedTypeInfo(name.replaceAll("/", "."))));
+        formalTypeParameterMap.put(typeParameter, new FormalTypeParameterInfo(typeParameter, new QualifiedTypeInfo(StringInterner.intern(name.replaceAll("/", ".")))));
     }
 
 }
@@ -1,6 +1,7 @@
 package ca.concordia.apifinder.util.signaturevisitor;
 
 import ca.concordia.apifinder.models.typeInfo.*;
+import ca.concordia.apifinder.util.StringInterner;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.signature.SignatureVisitor;
 
@@ -30,8 +31,8 @@ public class FieldSignatureFormalTypeParameterExtractor extends SignatureVisitor
     public void visitClassType(final String name) {
         argumentStack *= 2;
         this.typeArgumentStack.push(
-                convertToArrayTypeIfRequired(new QualifiedTypeInfo(name.replaceAll("/", ".")
-                        .replaceAll("\\$", "."))));
+                convertToArrayTypeIfRequired(new QualifiedTypeInfo(StringInterner.intern(name.replaceAll("/", ".")
+                        .replaceAll("\\$", ".")))));
     }
 
     @Override
@@ -111,7 +112,7 @@ public class FieldSignatureFormalTypeParameterExtractor extends SignatureVisitor
 
     private void processInnerClassVisit(String name) {
         TypeInfo typeInfo = this.typeArgumentStack.pop();
-        String qualifiedName = typeInfo.getQualifiedClassName() + "." + name;
+        String qualifiedName = StringInterner.intern(typeInfo.getQualifiedClassName() + "." + name);
 
         if (typeInfo.isArrayTypeInfo()) {
             ArrayTypeInfo arrayTypeInfo = (ArrayTypeInfo) typeInfo;
@@ -1,6 +1,7 @@
 package ca.concordia.apifinder.util.signaturevisitor;
 
 import ca.concordia.apifinder.models.typeInfo.*;
+import ca.concordia.apifinder.util.StringInterner;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.signature.SignatureVisitor;
@@ -208,6 +209,10 @@ public class MethodArgumentExtractor extends SignatureVisitor {
         return new ArrayList<>(this.formalTypeParameterMap.values());
     }
 
+    TypeInfo getFormalTypeParameter(String name) {
+        return this.formalTypeParameterMap.get(name);
+    }
+
     /*
      * For inner class (Lcom/sun/beans/util/Cache<TK;TV;>.CacheEntry<TK;TV;>) we are currently replacing parent class
      * with inner class with full name including child class name. We are also removing type arguments of parent class
@@ -219,7 +224,7 @@ public class MethodArgumentExtractor extends SignatureVisitor {
         }
 
         TypeInfo typeInfo = this.methodArgumentTypeInfoStack.pop();
-        String qualifiedName = typeInfo.getQualifiedClassName() + "." + name;
+        String qualifiedName = StringInterner.intern(typeInfo.getQualifiedClassName() + "." + name);
 
         if (typeInfo.isArrayTypeInfo()) {
             ArrayTypeInfo arrayTypeInfo = (ArrayTypeInfo) typeInfo;
@@ -352,7 +357,7 @@ public class MethodArgumentExtractor extends SignatureVisitor {
     }
 
     private String getQualifiedName(String name) {
-        return name.replaceAll("/", ".").replaceAll("\\$", ".");
+        return StringInterner.intern(name.replaceAll("/", ".").replaceAll("\\$", "."));
     }
 
 }
@@ -1,6 +1,7 @@
 package ca.concordia.apifinder.util.signaturevisitor;
 
 import ca.concordia.apifinder.models.typeInfo.*;
+import ca.concordia.apifinder.util.StringInterner;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.signature.SignatureVisitor;
@@ -218,7 +219,7 @@ public class MethodReturnTypeExtractor extends SignatureVisitor {
         }
 
         TypeInfo typeInfo = this.methodReturnTypeInfoStack.pop();
-        String qualifiedName = typeInfo.getQualifiedClassName() + "." + name;
+        String qualifiedName = StringInterner.intern(typeInfo.getQualifiedClassName() + "." + name);
 
         if (typeInfo.isArrayTypeInfo()) {
             ArrayTypeInfo arrayTypeInfo = (ArrayTypeInfo) typeInfo;
@@ -351,7 +352,7 @@ public class MethodReturnTypeExtractor extends SignatureVisitor {
     }
 
     private String getQualifiedName(String name) {
-        return name.replaceAll("/", ".").replaceAll("\\$", ".");
+        return StringInterner.intern(name.replaceAll("/", ".").replaceAll("\\$", "."));
     }
 
 }
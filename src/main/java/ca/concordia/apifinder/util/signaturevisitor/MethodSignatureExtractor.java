@@ -0,0 +1,182 @@
+package ca.concordia.apifinder.util.signaturevisitor;
+
+import ca.concordia.apifinder.models.typeInfo.FormalTypeParameterInfo;
+import ca.concordia.apifinder.models.typeInfo.QualifiedTypeInfo;
+import ca.concordia.apifinder.models.typeInfo.TypeInfo;
+import ca.concordia.apifinder.util.StringInterner;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.signature.SignatureVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Extracts formal type parameters, arguments, return type and thrown types of a method signature in one visit of the
+ * signature. Arguments and formal type parameters are extracted as {@link MethodArgumentExtractor} does and the return
+ * type as {@link MethodReturnTypeExtractor} does, both are fed from the same visit.
+ *
+ * @author Diptopol
+ * @since 10/17/2026 10:30 PM
+ */
+public class MethodSignatureExtractor extends SignatureVisitor {
+
+    private final MethodArgumentExtractor methodArgumentExtractor;
+    private final MethodReturnTypeExtractor methodReturnTypeExtractor;
+
+    private boolean visitingExceptionType;
+    private List<TypeInfo> thrownTypeInfoList;
+
+    public MethodSignatureExtractor() {
+        super(Opcodes.ASM9);
+        this.methodArgumentExtractor = new MethodArgumentExtractor();
+        this.methodReturnTypeExtractor = new MethodReturnTypeExtractor();
+        this.thrownTypeInfoList = new ArrayList<>();
+    }
+
+    @Override
+    public void visitFormalTypeParameter(final String name) {
+        methodArgumentExtractor.visitFormalTypeParameter(name);
+        methodReturnTypeExtractor.visitFormalTypeParameter(name);
+    }
+
+    @Override
+    public SignatureVisitor visitClassBound() {
+        methodArgumentExtractor.visitClassBound();
+        methodReturnTypeExtractor.visitClassBound();
+
+        return this;
+    }
+
+    @Override
+    public SignatureVisitor visitInterfaceBound() {
+        methodArgumentExtractor.visitInterfaceBound();
+        methodReturnTypeExtractor.visitInterfaceBound();
+
+        return this;
+    }
+
+    @Override
+    public SignatureVisitor visitParameterType() {
+        methodArgumentExtractor.visitParameterType();
+        methodReturnTypeExtractor.visitParameterType();
+
+        return this;
+    }
+
+    @Override
+    public SignatureVisitor visitReturnType() {
+        methodArgumentExtractor.visitReturnType();
+        methodReturnTypeExtractor.visitReturnType();
+
+        return this;
+    }
+
+    @Override
+    public SignatureVisitor visitExceptionType() {
+        methodArgumentExtractor.visitExceptionType();
+        methodReturnTypeExtractor.visitExceptionType();
+        visitingExceptionType = true;
+
+        return this;
+    }
+
+    @Override
+    public void visitBaseType(char descriptor) {
+        methodArgumentExtractor.visitBaseType(descriptor);
+        methodReturnTypeExtractor.visitBaseType(descriptor);
+    }
+
+    @Override
+    public void visitTypeVariable(String name) {
+        methodArgumentExtractor.visitTypeVariable(name);
+        methodReturnTypeExtractor.visitTypeVariable(name);
+
+        if (visitingExceptionType) {
+            thrownTypeInfoList.add(getFormalTypeParameter(name));
+        }
+    }
+
+    @Override
+    public SignatureVisitor visitArrayType() {
+        methodArgumentExtractor.visitArrayType();
+        methodReturnTypeExtractor.visitArrayType();
+
+        return this;
+    }
+
+    /*
+     * Throwable classes cannot be generic, so a class type of an exception type is never a type argument.
+     */
+    @Override
+    public void visitClassType(String name) {
+        methodArgumentExtractor.visitClassType(name);
+        methodReturnTypeExtractor.visitClassType(name);
+
+        if (visitingExceptionType) {
+            thrownTypeInfoList.add(new QualifiedTypeInfo(getQualifiedName(name)));
+        }
+    }
+
+    @Override
+    public void visitInnerClassType(final String name) {
+        methodArgumentExtractor.visitInnerClassType(name);
+        methodReturnTypeExtractor.visitInnerClassType(name);
+
+        if (visitingExceptionType) {
+            int lastIndex = thrownTypeInfoList.size() - 1;
+            String qualifiedName = thrownTypeInfoList.get(lastIndex).getQualifiedClassName() + "." + name;
+
+            thrownTypeInfoList.set(lastIndex, new QualifiedTypeInfo(StringInterner.intern(qualifiedName)));
+        }
+    }
+
+    @Override
+    public void visitTypeArgument() {
+        methodArgumentExtractor.visitTypeArgument();
+        methodReturnTypeExtractor.visitTypeArgument();
+    }
+
+    @Override
+    public SignatureVisitor visitTypeArgument(char wildcard) {
+        methodArgumentExtractor.visitTypeArgument(wildcard);
+        methodReturnTypeExtractor.visitTypeArgument(wildcard);
+
+        return this;
+    }
+
+    @Override
+    public void visitEnd() {
+        methodArgumentExtractor.visitEnd();
+        methodReturnTypeExtractor.visitEnd();
+    }
+
+    public List<TypeInfo> getFormalTypeParameterList() {
+        return methodArgumentExtractor.getFormalTypeParameterList();
+    }
+
+    public List<TypeInfo> getArgumentList() {
+        return methodArgumentExtractor.getArgumentList();
+    }
+
+    public TypeInfo getReturnTypeInfo() {
+        return methodReturnTypeExtractor.getReturnTypeInfo();
+    }
+
+    public List<TypeInfo> getThrownTypeInfoList() {
+        return new ArrayList<>(thrownTypeInfoList);
+    }
+
+    private TypeInfo getFormalTypeParameter(String name) {
+        TypeInfo formalTypeParameter = methodArgumentExtractor.getFormalTypeParameter(name);
+
+        return Objects.nonNull(formalTypeParameter)
+                ? formalTypeParameter
+                : new FormalTypeParameterInfo(name, new QualifiedTypeInfo("java.lang.Object"));
+    }
+
+    private String getQualifiedName(String name) {
+        return StringInterner.intern(name.replaceAll("/", ".").replaceAll("\\$", "."));
+    }
+
+}
@@ -1,6 +1,7 @@
 package ca.concordia.apifinder.util.signaturevisitor;
 
 import ca.concordia.apifinder.models.typeInfo.*;
+import ca.concordia.apifinder.util.StringInterner;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.signature.SignatureVisitor;
 
@@ -176,7 +177,7 @@ public class ParameterizedSuperClassTypeInfoExtractor extends SignatureVisitor {
         }
 
         TypeInfo typeInfo = this.superClassTypeInfoStack.pop();
-        String qualifiedName = typeInfo.getQualifiedClassName() + "." + name;
+        String qualifiedName = StringInterner.intern(typeInfo.getQualifiedClassName() + "." + name);
 
         if (typeInfo.isArrayTypeInfo()) {
             ArrayTypeInfo arrayTypeInfo = (ArrayTypeInfo) typeInfo;
@@ -269,7 +270,7 @@ public class ParameterizedSuperClassTypeInfoExtractor extends SignatureVisitor {
     }
 
     private String getQualifiedName(String name) {
-        return name.replaceAll("/", ".").replaceAll("\\$", ".");
+        return StringInterner.intern(name.replaceAll("/", ".").replaceAll("\\$", "."));
     }
 
 }
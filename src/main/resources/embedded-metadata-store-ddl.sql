@@ -0,0 +1,166 @@
+-- schema of the embedded metadata store, it follows dbScripts/jar-analyzer-ddl.sql without the full text index
+
+CREATE TABLE maven_effective_pom (
+project_remote_url VARCHAR(300),
+commit_id VARCHAR(200),
+effective_pom mediumtext
+);
+
+create index idx_url_commit_id ON maven_effective_pom (project_remote_url, commit_id);
+
+CREATE TABLE jar (
+id INT NOT NULL AUTO_INCREMENT,
+group_id VARCHAR(100),
+artifact_id VARCHAR(100) NOT NULL,
+version VARCHAR(100) NOT NULL,
+content_hash CHAR(64),
+alias_of_jar_id INT,
+PRIMARY KEY (id),
+foreign key (alias_of_jar_id) REFERENCES jar (id)
+);
+
+create index idx_jar_g_a_v on jar (group_id, artifact_id, version);
+create index idx_jar_a_v on jar (artifact_id, version);
+create index idx_jar_content_hash on jar (content_hash);
+
+-- classpath is the resolved jars of a dependent artifact set and a java version, it is stored only when every jar of it
+-- is stored. classpath_hash identifies the artifact set and the java version
+CREATE TABLE classpath (
+id INT NOT NULL AUTO_INCREMENT,
+classpath_hash CHAR(64) NOT NULL,
+java_version VARCHAR(100),
+PRIMARY KEY (id)
+);
+
+create unique index idx_classpath_hash on classpath (classpath_hash);
+
+CREATE TABLE classpath_jar (
+classpath_id INT NOT NULL,
+jar_id INT NOT NULL,
+precedence INT NOT NULL,
+is_internal_dependency BOOL,
+PRIMARY KEY (classpath_id, jar_id),
+foreign key (classpath_id) REFERENCES classpath (id),
+foreign key (jar_id) REFERENCES jar (id)
+);
+
+-- parsed_signature of class, method and field holds the type infos of signature in the binary encoding of
+-- TypeInfoCodec. It is null without a signature and for rows stored before the column was added
+CREATE TABLE class (
+id INT NOT NULL AUTO_INCREMENT,
+name VARCHAR(255) NOT NULL,
+q_name VARCHAR(355) NOT NULL,
+package_name VARCHAR(120),
+is_abstract BOOL,
+is_interface BOOL,
+is_enum BOOL,
+is_public BOOL,
+is_private BOOL,
+is_protected BOOL,
+is_inner_class BOOL,
+is_anonymous_inner_class BOOL,
+type_descriptor VARCHAR(1500),
+signature VARCHAR(6000),
+parsed_signature BLOB,
+api_hash CHAR(64) NOT NULL,
+jar_id INT NOT NULL,
+primary key (id),
+foreign key (jar_id) REFERENCES jar (id)
+);
+
+create index idx_jar_id_qname on class (jar_id, q_name);
+create index idx_jar_id_packagename on class (jar_id, package_name);
+create index idx_qname on class (q_name);
+create index idx_packagename on class (package_name);
+create unique index idx_api_hash on class (api_hash);
+create index idx_class_name on class (name);
+
+CREATE TABLE jar_class (
+jar_id INT NOT NULL,
+class_id INT NOT NULL,
+PRIMARY KEY (jar_id, class_id),
+foreign key (jar_id) REFERENCES jar (id),
+foreign key (class_id) REFERENCES class (id)
+);
+
+create index idx_jar_class_class_id on jar_class (class_id, jar_id);
+
+CREATE TABLE super_class_relation (
+child_class_id INT NOT NULL,
+parent_class_q_name VARCHAR(1500) NOT NULL,
+type VARCHAR(100) NOT NULL,
+precedence INT NOT NULL,
+foreign key (child_class_id) REFERENCES class(id)
+);
+
+create index idx_super_class_relation_child_class_id on super_class_relation (child_class_id, precedence);
+
+CREATE TABLE method (
+id INT NOT NULL AUTO_INCREMENT,
+class_id INT NOT NULL,
+name VARCHAR(1000) NOT NULL,
+is_abstract BOOL,
+is_constructor BOOL,
+is_static BOOL,
+is_public BOOL,
+is_private BOOL,
+is_protected BOOL,
+is_synchronized BOOL,
+is_final BOOL,
+is_varargs BOOL,
+is_bridge_method BOOL,
+signature VARCHAR(4000),
+parsed_signature BLOB,
+internal_class_constructor_prefix VARCHAR(1000),
+return_type_descriptor VARCHAR(1000),
+argument_type_descriptors TEXT,
+thrown_class_names TEXT,
+arity INT,
+PRIMARY KEY (id),
+foreign key (class_id) REFERENCES class (id)
+);
+
+-- arity is the number of declared arguments, it is null for methods stored before the column was added
+create index idx_method_class_id_name_arity on method (class_id, name, arity);
+
+-- argument descriptors and thrown class names are packed into the method row, these tables only hold the ones of
+-- methods stored before the packed columns were added
+CREATE TABLE argument_type_descriptor (
+precedence_order INT NOT NULL,
+argument_type_descriptor VARCHAR(1000),
+method_id INT NOT NULL,
+foreign key (method_id) references method(id)
+);
+
+CREATE TABLE thrown_class_name (
+precedence_order INT NOT NULL,
+thrown_class_name VARCHAR(1000),
+method_id INT NOT NULL,
+foreign key (method_id) references method(id)
+);
+
+CREATE TABLE field (
+id INT NOT NULL AUTO_INCREMENT,
+class_id INT NOT NULL,
+name VARCHAR(1000) NOT NULL,
+is_public BOOL,
+is_private BOOL,
+is_protected BOOL,
+is_static BOOL,
+type_descriptor VARCHAR(1000),
+signature VARCHAR(2000),
+parsed_signature BLOB,
+PRIMARY KEY (id),
+foreign key (class_id) REFERENCES class (id)
+);
+
+-- inner classes of a shared class row can differ between jars, so the relation is kept for each jar
+CREATE TABLE inner_class_name (
+jar_id INT NOT NULL,
+parent_class_id INT NOT NULL,
+inner_class_q_name VARCHAR(1000) NOT NULL,
+foreign key (jar_id) REFERENCES jar (id),
+foreign key (parent_class_id) REFERENCES class (id)
+);
+
+create index idx_inner_class_name_jar_id on inner_class_name (jar_id, parent_class_id);
@@ -0,0 +1,54 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.cache.BloomFilter;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.stream.IntStream;
+
+/**
+ * @author Diptopol
+ * @since 10/18/2026 10:50 PM
+ */
+public class BloomFilterTest {
+
+    @Test
+    public void testBloomFilterHasNoFalseNegatives() {
+        BloomFilter bloomFilter = new BloomFilter(10000, 0.01);
+
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.put("java.util.Class" + i);
+        }
+
+        assert IntStream.range(0, 10000).allMatch(i -> bloomFilter.mightContain("java.util.Class" + i));
+
+        long falsePositiveCount = IntStream.range(0, 10000)
+                .filter(i -> bloomFilter.mightContain("com.example.Missing" + i))
+                .count();
+
+        assert falsePositiveCount < 200;
+    }
+
+    @Test
+    public void testBloomFilterIsReadAsWritten() throws Exception {
+        BloomFilter bloomFilter = new BloomFilter(100, 0.01);
+        bloomFilter.put("ArrayList");
+        bloomFilter.put("java.util.ArrayList");
+        bloomFilter.put("removeIf");
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        bloomFilter.write(new DataOutputStream(byteArrayOutputStream));
+
+        BloomFilter readBloomFilter = BloomFilter.read(
+                new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+
+        assert readBloomFilter.mightContain("ArrayList");
+        assert readBloomFilter.mightContain("java.util.ArrayList");
+        assert readBloomFilter.mightContain("removeIf");
+        assert readBloomFilter.getEstimatedSize() == bloomFilter.getEstimatedSize();
+    }
+
+}
@@ -0,0 +1,86 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.cache.CacheMetricsMXBean;
+import ca.concordia.apifinder.cache.CacheRegistry;
+import ca.concordia.apifinder.cache.ClasspathScopedCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * @author Diptopol
+ * @since 10/17/2026 11:55 PM
+ */
+public class CacheRegistryTest {
+
+    @Test
+    public void testCacheStatistics() throws Exception {
+        Cache<String, Integer> cache = CacheRegistry.newCache("test.statistics", 2, 0);
+
+        cache.get("one", String::length);
+        cache.get("one", String::length);
+        cache.get("three", String::length);
+        cache.getIfPresent("four");
+
+        CacheMetricsMXBean cacheMetrics = CacheRegistry.getCacheMetrics("test.statistics");
+
+        assert cacheMetrics.getMaximumSize() == 2;
+        assert cacheMetrics.getHitCount() == 1;
+        assert cacheMetrics.getMissCount() == 3;
+        assert cacheMetrics.getHitRate() == 0.25;
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName("ca.concordia.apifinder:type=Cache,name=\"test.statistics\"");
+
+        assert mBeanServer.isRegistered(objectName);
+        assert (long) mBeanServer.getAttribute(objectName, "HitCount") == 1;
+
+        String dump = (String) mBeanServer.invoke(new ObjectName("ca.concordia.apifinder:type=CacheRegistry"),
+                "dump", null, null);
+
+        assert dump.contains("test.statistics");
+    }
+
+    @Test
+    public void testClasspathScopedCacheSharesBudget() {
+        ClasspathScopedCache classpathScopedCache = new ClasspathScopedCache(64 * 1024, 0);
+        ClasspathScopedCache.Region<String, String> region = classpathScopedCache.region("test", String::length);
+
+        List<Integer> firstClasspath = Arrays.asList(1, 2);
+        List<Integer> secondClasspath = Arrays.asList(3);
+
+        String value = "x".repeat(1024);
+
+        for (int i = 0; i < 100; i++) {
+            region.put(firstClasspath, "first" + i, value);
+        }
+
+        assert classpathScopedCache.getActiveClasspathCount() == 1;
+        assert classpathScopedCache.getEstimatedWeight() <= 64 * 1024;
+
+        for (int i = 0; i < 100; i++) {
+            region.put(secondClasspath, "second" + i, value);
+        }
+
+        assert classpathScopedCache.getActiveClasspathCount() == 2;
+        assert classpathScopedCache.getSegmentMaximumWeight() == 32 * 1024;
+
+        long firstClasspathEntryCount = IntStream.range(0, 100)
+                .filter(i -> Objects.nonNull(region.getIfPresent(firstClasspath, "first" + i)))
+                .count();
+
+        long secondClasspathEntryCount = IntStream.range(0, 100)
+                .filter(i -> Objects.nonNull(region.getIfPresent(secondClasspath, "second" + i)))
+                .count();
+
+        assert firstClasspathEntryCount > 0 && secondClasspathEntryCount > 0;
+        assert Math.abs(firstClasspathEntryCount - secondClasspathEntryCount) <= 1;
+        assert Objects.isNull(region.getIfPresent(Arrays.asList(4), "first0"));
+    }
+
+}
@@ -0,0 +1,57 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static ca.concordia.apifinder.TestUtils.getClassInfo;
+
+/**
+ * @author Diptopol
+ * @since 10/17/2026 10:40 AM
+ */
+public class ClassInfoVisitorTest {
+
+    @Test
+    public void testInnerClassDeclaration() throws IOException {
+        ClassInfo classInfo = getClassInfo("java/util/AbstractMap$SimpleEntry.class");
+
+        assert "AbstractMap$SimpleEntry".equals(classInfo.getName())
+                && "java.util.AbstractMap.SimpleEntry".equals(classInfo.getQualifiedName())
+                && "java.util".equals(classInfo.getPackageName())
+                && classInfo.isInnerClass()
+                && classInfo.isPublic()
+                && "java.lang.Object".equals(classInfo.getSuperClassQName())
+                && classInfo.getInterfaceQNameList().contains("java.util.Map.Entry");
+
+        List<MethodInfo> constructorList = classInfo.getMethodInfoList().stream()
+                .filter(MethodInfo::isConstructor)
+                .collect(Collectors.toList());
+
+        assert !constructorList.isEmpty() && constructorList.stream()
+                .allMatch(methodInfo -> "SimpleEntry".equals(methodInfo.getName())
+                        && "AbstractMap$".equals(methodInfo.getInternalClassConstructorPrefix()));
+    }
+
+    @Test
+    public void testMethodAndFieldDeclaration() throws IOException {
+        ClassInfo classInfo = getClassInfo("java/util/ArrayList.class");
+
+        MethodInfo addAllMethodInfo = classInfo.getMethodInfoList().stream()
+                .filter(methodInfo -> "addAll".equals(methodInfo.getName()) && methodInfo.getArgumentTypes().length == 1)
+                .findFirst()
+                .orElse(null);
+
+        assert addAllMethodInfo != null
+                && addAllMethodInfo.isPublic()
+                && "(Ljava/util/Collection<+TE;>;)Z".equals(addAllMethodInfo.getSignature());
+
+        assert classInfo.getFieldInfoList().stream()
+                .anyMatch(fieldInfo -> "size".equals(fieldInfo.getName()) && fieldInfo.isPrivate());
+    }
+
+}
@@ -0,0 +1,69 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.index.ClasspathSymbolTable;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static ca.concordia.apifinder.TestUtils.getClassInfo;
+
+/**
+ * @author Diptopol
+ * @since 10/18/2026 10:05 PM
+ */
+public class ClasspathSymbolTableTest {
+
+    @Test
+    public void testClasspathSymbolTableLookup() throws IOException {
+        ClasspathSymbolTable classpathSymbolTable = getClasspathSymbolTable();
+
+        assert classpathSymbolTable.getClassCount() == 3;
+
+        List<ClassInfo> classInfoList = classpathSymbolTable.getClassInfoList("SimpleEntry");
+
+        assert classInfoList.size() == 1
+                && "java.util.AbstractMap.SimpleEntry".equals(classInfoList.get(0).getQualifiedName())
+                && classInfoList.get(0).isInnerClass()
+                && classInfoList.get(0).getJarId() == 7;
+
+        assert classpathSymbolTable.getClientIdMap(Set.of("java.util.ArrayList", "java.util.LinkedList"))
+                .equals(Map.of("java.util.ArrayList", 100));
+
+        assert classpathSymbolTable.getClassInfoIdList(Set.of("java.util.AbstractMap")).equals(List.of(101));
+
+        assert classpathSymbolTable.getClassInfoIdList(List.of("java.util")).size() == 3
+                && classpathSymbolTable.getClassQNameSet(List.of("java.util", "java.lang")).size() == 3;
+    }
+
+    @Test
+    public void testContainsClassName() throws IOException {
+        ClasspathSymbolTable classpathSymbolTable = getClasspathSymbolTable();
+
+        assert classpathSymbolTable.containsClassName("java.util.ArrayList")
+                && classpathSymbolTable.containsClassName("SimpleEntry")
+                && !classpathSymbolTable.containsClassName("LinkedList")
+                && !classpathSymbolTable.containsClassName("java.util.LinkedList");
+    }
+
+    private ClasspathSymbolTable getClasspathSymbolTable() throws IOException {
+        ClasspathSymbolTable.Builder classpathSymbolTableBuilder = new ClasspathSymbolTable.Builder();
+        int classId = 100;
+
+        for (String classFileName : List.of("java/util/ArrayList.class", "java/util/AbstractMap.class",
+                "java/util/AbstractMap$SimpleEntry.class")) {
+
+            ClassInfo classInfo = getClassInfo(classFileName);
+            classInfo.setId(classId++);
+            classInfo.setJarId(7);
+
+            classpathSymbolTableBuilder.addClassInfo(classInfo);
+        }
+
+        return classpathSymbolTableBuilder.build();
+    }
+
+}
@@ -1,8 +1,12 @@
 package ca.concordia.apifinder;
 
+import ca.concordia.apifinder.models.MethodSignature;
 import ca.concordia.apifinder.models.typeInfo.FormalTypeParameterInfo;
+import ca.concordia.apifinder.models.typeInfo.ParameterizedTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.QualifiedTypeInfo;
 import ca.concordia.apifinder.models.typeInfo.TypeInfo;
+import ca.concordia.apifinder.models.typeInfo.TypeInfoCodec;
+import ca.concordia.apifinder.util.SignatureParser;
 import ca.concordia.apifinder.util.signaturevisitor.*;
 import org.junit.Test;
 import org.objectweb.asm.Type;
@@ -203,6 +207,47 @@ public class GenericTypeConversionTest {
                 .equals(classSignatureFormalTypeParameterExtractor.getTypeArgumentList().toString());
     }
 
+    @Test
+    public void testCopyOfRecursiveFormalTypeParameterBound() {
+        String classSignature = "<K::Ljava/lang/Comparable<TK;>;>Ljava/lang/Object;";
+
+        SignatureReader signatureReader = new SignatureReader(classSignature);
+
+        ClassSignatureFormalTypeParameterExtractor classSignatureFormalTypeParameterExtractor =
+                new ClassSignatureFormalTypeParameterExtractor();
+
+        signatureReader.accept(classSignatureFormalTypeParameterExtractor);
+
+        FormalTypeParameterInfo formalTypeParameterInfo =
+                (FormalTypeParameterInfo) classSignatureFormalTypeParameterExtractor.getTypeArgumentList().get(0);
+
+        /* Bound Comparable<K> refers to K, which is shared by the bound and the copied list */
+        ParameterizedTypeInfo boundTypeInfo =
+                new ParameterizedTypeInfo((QualifiedTypeInfo) formalTypeParameterInfo.getBaseTypeInfo());
+        boundTypeInfo.setParameterized(true);
+        boundTypeInfo.setTypeArgumentList(List.of(formalTypeParameterInfo));
+        formalTypeParameterInfo.setBaseTypeInfo(boundTypeInfo);
+
+        Map<TypeInfo, TypeInfo> copiedTypeInfoMap = new IdentityHashMap<>();
+        List<TypeInfo> copiedTypeInfoList =
+                TypeInfo.copy(List.of(formalTypeParameterInfo, boundTypeInfo), copiedTypeInfoMap);
+
+        FormalTypeParameterInfo copiedFormalTypeParameterInfo = (FormalTypeParameterInfo) copiedTypeInfoList.get(0);
+        ParameterizedTypeInfo copiedBoundTypeInfo = (ParameterizedTypeInfo) copiedTypeInfoList.get(1);
+
+        assert copiedFormalTypeParameterInfo != formalTypeParameterInfo
+                && copiedBoundTypeInfo != boundTypeInfo
+                && copiedBoundTypeInfo.getTypeArgumentList() != boundTypeInfo.getTypeArgumentList();
+
+        assert copiedFormalTypeParameterInfo.getBaseTypeInfo() == copiedBoundTypeInfo
+                && copiedBoundTypeInfo.getTypeArgumentList().get(0) == copiedFormalTypeParameterInfo;
+
+        assert "K".equals(copiedFormalTypeParameterInfo.getTypeParameter())
+                && "java.lang.Comparable".equals(copiedBoundTypeInfo.getQualifiedClassName())
+                && copiedBoundTypeInfo.isParameterized()
+                && copiedTypeInfoMap.size() == 2;
+    }
+
     @Test
     public void testSuperClassTypeInfoExtractor() {
         String classSignature = "<E:Ljava/lang/Object;>Ljava/util/AbstractList<TE;>;Ljava/util/List<TE;>;Ljava/util/RandomAccess;Ljava/lang/Cloneable;Ljava/io/Serializable;";
@@ -619,4 +664,60 @@ public class GenericTypeConversionTest {
                 .equals(methodReturnTypeExtractor.getReturnTypeInfo().toString());
     }
 
+    @Test
+    public void testSinglePassMethodSignatureExtraction() {
+        String signature = "<K::Ljava/lang/Comparable<TK;>;X:Ljava/lang/Exception;>(Ljava/util/Map<TK;*>;[TK;)"
+                + "Ljava/util/List<TK;>;^TX;^Ljava/io/IOException;";
+
+        MethodArgumentExtractor methodArgumentExtractor = new MethodArgumentExtractor();
+        new SignatureReader(signature).accept(methodArgumentExtractor);
+
+        MethodReturnTypeExtractor methodReturnTypeExtractor = new MethodReturnTypeExtractor();
+        new SignatureReader(signature).accept(methodReturnTypeExtractor);
+
+        MethodSignatureExtractor methodSignatureExtractor = new MethodSignatureExtractor();
+        new SignatureReader(signature).accept(methodSignatureExtractor);
+
+        assert methodArgumentExtractor.getArgumentList().toString()
+                .equals(methodSignatureExtractor.getArgumentList().toString());
+        assert methodArgumentExtractor.getFormalTypeParameterList().toString()
+                .equals(methodSignatureExtractor.getFormalTypeParameterList().toString());
+        assert methodReturnTypeExtractor.getReturnTypeInfo().toString()
+                .equals(methodSignatureExtractor.getReturnTypeInfo().toString());
+
+        assert ("[FormalTypeParameterInfo{typeParameter='X', baseTypeInfo=QualifiedTypeInfo{qualifiedClassName='java.lang.Exception'}}," +
+                " QualifiedTypeInfo{qualifiedClassName='java.io.IOException'}]")
+                .equals(methodSignatureExtractor.getThrownTypeInfoList().toString());
+    }
+
+    @Test
+    public void testParsedSignatureEncoding() {
+        String signature = "<K::Ljava/lang/Comparable<TK;>;V:Ljava/lang/Object;>(Ljava/util/Map<TK;[TV;>;I[[J)"
+                + "Ljava/util/Map$Entry<TK;TV;>;^Ljava/io/IOException;";
+
+        MethodSignature methodSignature = SignatureParser.parseMethodSignature(signature);
+        MethodSignature decodedMethodSignature =
+                TypeInfoCodec.decodeMethodSignature(TypeInfoCodec.encodeMethodSignature(methodSignature));
+
+        assert methodSignature.getFormalTypeParameterList().toString()
+                .equals(decodedMethodSignature.getFormalTypeParameterList().toString());
+        assert methodSignature.getArgumentTypeInfoList().toString()
+                .equals(decodedMethodSignature.getArgumentTypeInfoList().toString());
+        assert methodSignature.getReturnTypeInfo().toString()
+                .equals(decodedMethodSignature.getReturnTypeInfo().toString());
+        assert methodSignature.getThrownTypeInfoList().toString()
+                .equals(decodedMethodSignature.getThrownTypeInfoList().toString());
+
+        TypeInfo decodedTypeArgument = ((ParameterizedTypeInfo) decodedMethodSignature.getArgumentTypeInfoList().get(0))
+                .getTypeArgumentList().get(0);
+
+        assert decodedTypeArgument == decodedMethodSignature.getFormalTypeParameterList().get(0);
+
+        String classSignature = "<T::Ljava/lang/Comparable<-TT;>;>Ljava/lang/Object;";
+        List<TypeInfo> formalTypeParameterList = SignatureParser.parseClassSignature(classSignature);
+
+        assert formalTypeParameterList.toString().equals(
+                TypeInfoCodec.decodeTypeInfoList(TypeInfoCodec.encodeTypeInfoList(formalTypeParameterList)).toString());
+    }
+
 }
@@ -0,0 +1,118 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entity.FieldInfo;
+import ca.concordia.apifinder.entity.MethodInfo;
+import ca.concordia.apifinder.index.JarIndex;
+import ca.concordia.apifinder.index.JarIndexWriter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static ca.concordia.apifinder.TestUtils.getClassInfo;
+
+/**
+ * @author Diptopol
+ * @since 10/17/2026 5:30 PM
+ */
+public class JarIndexTest {
+
+    @Test
+    public void testClassAndMemberLookup() throws IOException {
+        JarIndex jarIndex = getJarIndex();
+
+        assert jarIndex.getJarId() == 7 && jarIndex.getJarStamp() == 42L;
+
+        List<Integer> recordIndexList = jarIndex.findClassByQualifiedName("java.util.ArrayList");
+
+        assert recordIndexList.size() == 1;
+
+        int recordIndex = recordIndexList.get(0);
+        ClassInfo classInfo = jarIndex.getClassInfo(recordIndex);
+
+        assert "ArrayList".equals(classInfo.getName())
+                && "java.util".equals(classInfo.getPackageName())
+                && classInfo.isPublic()
+                && !classInfo.isInterface()
+                && classInfo.getJarId() == 7;
+
+        assert jarIndex.findClassById(classInfo.getId()) == recordIndex;
+
+        assert jarIndex.getSuperClassQNameList(recordIndex, "SUPER_CLASS").equals(List.of("java.util.AbstractList"))
+                && jarIndex.getSuperClassQNameList(recordIndex, "INTERFACE").contains("java.util.List");
+
+        List<MethodInfo> addAllMethodInfoList = jarIndex.getMethodInfoList(recordIndex, "addAll");
+
+        assert addAllMethodInfoList.size() == 2 && addAllMethodInfoList.stream()
+                .allMatch(methodInfo -> "addAll".equals(methodInfo.getName())
+                        && methodInfo.getClassInfoId() == classInfo.getId()
+                        && methodInfo.getArgumentTypes()[methodInfo.getArgumentTypes().length - 1].getDescriptor()
+                        .equals("Ljava/util/Collection;"));
+
+        List<FieldInfo> fieldInfoList = jarIndex.getFieldInfoList(recordIndex, "size");
+
+        assert fieldInfoList.size() == 1 && fieldInfoList.get(0).isPrivate();
+
+        assert jarIndex.findClassByQualifiedName("java.util.LinkedList").isEmpty()
+                && jarIndex.getMethodInfoList(recordIndex, "notAMethod").isEmpty();
+    }
+
+    @Test
+    public void testInnerClassLookup() throws IOException {
+        JarIndex jarIndex = getJarIndex();
+
+        List<Integer> recordIndexList = jarIndex.findClassByNameToken("SimpleEntry");
+
+        assert recordIndexList.size() == 1
+                && "java.util.AbstractMap.SimpleEntry".equals(jarIndex.getQualifiedName(recordIndexList.get(0)));
+
+        int outerClassRecordIndex = jarIndex.findClassByQualifiedName("java.util.AbstractMap").get(0);
+
+        assert jarIndex.getInnerClassQNameList(outerClassRecordIndex).equals(List.of("java.util.AbstractMap.SimpleEntry"));
+
+        assert jarIndex.findClassByPackageName("java.util").size() == 3;
+    }
+
+    private JarIndex getJarIndex() throws IOException {
+        Path indexFile = Files.createTempFile("jar-index", ".idx");
+        indexFile.toFile().deleteOnExit();
+
+        new JarIndexWriter().write(7, 42L, getClassInfoList(), indexFile);
+
+        return JarIndex.open(indexFile);
+    }
+
+    private List<ClassInfo> getClassInfoList() throws IOException {
+        List<ClassInfo> classInfoList = new ArrayList<>();
+        int classId = 100;
+        int memberId = 1000;
+
+        for (String classFileName : Arrays.asList("java/util/ArrayList.class", "java/util/AbstractMap.class",
+                "java/util/AbstractMap$SimpleEntry.class")) {
+
+            ClassInfo classInfo = getClassInfo(classFileName);
+            classInfo.setId(classId++);
+            classInfo.setJarId(7);
+
+            for (MethodInfo methodInfo : classInfo.getMethodInfoList()) {
+                methodInfo.setId(memberId++);
+            }
+
+            for (FieldInfo fieldInfo : classInfo.getFieldInfoList()) {
+                fieldInfo.setId(memberId++);
+            }
+
+            classInfoList.add(classInfo);
+        }
+
+        classInfoList.get(1).getInnerClassQNameList().add("java.util.AbstractMap.SimpleEntry");
+
+        return classInfoList;
+    }
+
+}
@@ -0,0 +1,38 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.cache.NegativeLookupCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * @author Diptopol
+ * @since 10/18/2026 9:40 PM
+ */
+public class NegativeLookupCacheTest {
+
+    @Test
+    public void testMissesAreDroppedForScopesOfTheJar() {
+        NegativeLookupCache negativeLookupCache = new NegativeLookupCache(Caffeine.newBuilder().build());
+
+        negativeLookupCache.putMissing("classpath-1", Arrays.asList(1, 2), "name:Foo");
+        negativeLookupCache.putMissing("classpath-2", Arrays.asList(3), "name:Foo");
+        negativeLookupCache.putMissing("class.method.info", Collections.emptyList(), "100:foo:null");
+        negativeLookupCache.putMissing("java.jar", "11");
+
+        negativeLookupCache.invalidateJar(2);
+
+        assert !negativeLookupCache.isMissing("classpath-1", "name:Foo");
+        assert negativeLookupCache.isMissing("classpath-2", "name:Foo")
+                && negativeLookupCache.isMissing("class.method.info", "100:foo:null")
+                && negativeLookupCache.isMissing("java.jar", "11");
+
+        negativeLookupCache.invalidate("java.jar");
+
+        assert !negativeLookupCache.isMissing("java.jar", "11")
+                && negativeLookupCache.isMissing("classpath-2", "name:Foo");
+    }
+
+}
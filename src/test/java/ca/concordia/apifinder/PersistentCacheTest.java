@@ -0,0 +1,62 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.cache.PersistentCache;
+import ca.concordia.apifinder.cache.PersistentCacheCodec;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * @author Diptopol
+ * @since 10/18/2026 10:40 PM
+ */
+public class PersistentCacheTest {
+
+    @Test
+    public void testPersistentCacheSurvivesReopen() throws Exception {
+        Path directory = Files.createTempDirectory("persistent-cache");
+
+        PersistentCache persistentCache = new PersistentCache(directory, 1024 * 1024);
+        PersistentCache.Region<Set<String>> region = persistentCache.region("test",
+                PersistentCacheCodec::encodeStringSet, PersistentCacheCodec::decodeStringSet);
+
+        region.put("classpath-1", Arrays.asList(1, 2), "java.util.ArrayList",
+                new LinkedHashSet<>(Arrays.asList("java.util.AbstractList", "java.util.List")));
+        region.put("classpath-2", Arrays.asList(3), "java.util.ArrayList", Set.of("java.lang.Object"));
+
+        /* A record not written completely is ignored */
+        try (var logFileStream = Files.list(directory)) {
+            for (Path logFile : logFileStream.toArray(Path[]::new)) {
+                Files.write(logFile, new byte[]{1, 0, 0, 1, 0}, StandardOpenOption.APPEND);
+            }
+        }
+
+        persistentCache = new PersistentCache(directory, 1024 * 1024);
+        region = persistentCache.region("test",
+                PersistentCacheCodec::encodeStringSet, PersistentCacheCodec::decodeStringSet);
+
+        assert region.getIfPresent("classpath-1", "java.util.ArrayList")
+                .equals(new LinkedHashSet<>(Arrays.asList("java.util.AbstractList", "java.util.List")));
+        assert Objects.isNull(region.getIfPresent("classpath-1", "java.util.LinkedList"));
+
+        region.put("classpath-1", Arrays.asList(1, 2), "java.util.LinkedList", Set.of("java.util.Deque"));
+
+        persistentCache = new PersistentCache(directory, 1024 * 1024);
+        region = persistentCache.region("test",
+                PersistentCacheCodec::encodeStringSet, PersistentCacheCodec::decodeStringSet);
+
+        assert region.getIfPresent("classpath-1", "java.util.LinkedList").equals(Set.of("java.util.Deque"));
+
+        persistentCache.invalidateJar(2);
+
+        assert Objects.isNull(region.getIfPresent("classpath-1", "java.util.ArrayList"));
+        assert region.getIfPresent("classpath-2", "java.util.ArrayList").equals(Set.of("java.lang.Object"));
+    }
+
+}
@@ -0,0 +1,41 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.index.SupertypeGraph;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author Diptopol
+ * @since 10/18/2026 10:20 PM
+ */
+public class SupertypeGraphTest {
+
+    @Test
+    public void testSupertypeGraphLevels() {
+        SupertypeGraph supertypeGraph = new SupertypeGraph.Builder()
+                .addSuperClassRelation("java.util.ArrayList", "java.util.AbstractList", "SUPER_CLASS", 0)
+                .addSuperClassRelation("java.util.ArrayList", "java.util.List", "INTERFACE", 1)
+                .addSuperClassRelation("java.util.AbstractList", "java.util.AbstractCollection", "SUPER_CLASS", 0)
+                .addSuperClassRelation("java.util.AbstractList", "java.util.List", "INTERFACE", 1)
+                .addSuperClassRelation("java.util.List", "java.util.Collection", "INTERFACE", 0)
+                .addSuperClassRelation("java.util.AbstractCollection", "java.lang.Object", "SUPER_CLASS", 0)
+                .build();
+
+        List<Set<String>> levelList = supertypeGraph.getSuperClassQNameLevelList(Set.of("java.util.ArrayList"), null);
+
+        assert levelList.size() == 3
+                && List.copyOf(levelList.get(0)).equals(List.of("java.util.AbstractList", "java.util.List"))
+                && List.copyOf(levelList.get(1)).equals(List.of("java.util.AbstractCollection", "java.util.Collection", "java.util.List"))
+                && levelList.get(2).equals(Set.of("java.lang.Object", "java.util.Collection"));
+
+        assert supertypeGraph.getSuperClassQNameLevelList(Set.of("java.util.ArrayList"), "SUPER_CLASS").get(0)
+                .equals(Set.of("java.util.AbstractList"));
+
+        assert supertypeGraph.getSuperClassQNameMap(Set.of("java.util.ArrayList", "java.lang.Object"))
+                .equals(Map.of("java.util.ArrayList", List.of("java.util.AbstractList", "java.util.List")));
+    }
+
+}
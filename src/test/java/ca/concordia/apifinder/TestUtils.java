@@ -1,13 +1,17 @@
 package ca.concordia.apifinder;
 
+import ca.concordia.apifinder.entity.ClassInfo;
+import ca.concordia.apifinder.entityExtractor.ClassInfoVisitor;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.slf4j.Logger;
+import org.objectweb.asm.ClassReader;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Map;
@@ -52,4 +56,19 @@ public class TestUtils {
         return new String(encoded);
     }
 
+    /*
+     * Declarations of a class file of the running JDK, e.g., "java/util/ArrayList.class".
+     */
+    public static ClassInfo getClassInfo(String classFileName) throws IOException {
+        try (InputStream inputStream = ClassLoader.getSystemResourceAsStream(classFileName)) {
+            assert inputStream != null;
+
+            ClassInfoVisitor classInfoVisitor = new ClassInfoVisitor();
+            new ClassReader(inputStream)
+                    .accept(classInfoVisitor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+            return classInfoVisitor.getClassInfo();
+        }
+    }
+
 }
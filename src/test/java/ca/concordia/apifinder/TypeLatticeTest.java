@@ -0,0 +1,36 @@
+package ca.concordia.apifinder;
+
+import ca.concordia.apifinder.index.SupertypeGraph;
+import ca.concordia.apifinder.index.TypeLattice;
+import org.junit.Test;
+
+/**
+ * @author Diptopol
+ * @since 10/18/2026 10:30 PM
+ */
+public class TypeLatticeTest {
+
+    @Test
+    public void testSubtypeDistance() {
+        TypeLattice typeLattice = new SupertypeGraph.Builder()
+                .addSuperClassRelation("java.util.ArrayList", "java.util.AbstractList", "SUPER_CLASS", 0)
+                .addSuperClassRelation("java.util.ArrayList", "java.util.List", "INTERFACE", 1)
+                .addSuperClassRelation("java.util.AbstractList", "java.util.AbstractCollection", "SUPER_CLASS", 0)
+                .addSuperClassRelation("java.util.AbstractList", "java.util.List", "INTERFACE", 1)
+                .addSuperClassRelation("java.util.List", "java.util.Collection", "INTERFACE", 0)
+                .addSuperClassRelation("java.util.AbstractCollection", "java.lang.Object", "SUPER_CLASS", 0)
+                .build()
+                .getTypeLattice();
+
+        assert typeLattice.getDistance("java.util.ArrayList", "java.util.ArrayList") == 0
+                && typeLattice.getDistance("java.util.ArrayList", "java.util.List") == 1
+                && typeLattice.getDistance("java.util.ArrayList", "java.util.Collection") == 2
+                && typeLattice.getDistance("java.util.ArrayList", "java.lang.Object") == 3
+                && typeLattice.getDistance("java.util.List", "java.util.ArrayList") == -1;
+
+        assert typeLattice.isSubtype("java.util.AbstractList", "java.util.Collection")
+                && !typeLattice.isSubtype("java.util.Collection", "java.lang.String")
+                && !typeLattice.isSubtype("com.example.Unknown", "java.lang.Object");
+    }
+
+}